@@ -1,15 +1,27 @@
 package com.stay.config;
 
+import com.stay.config.datasource.JdbcMetricsDataSource;
+import com.stay.config.datasource.JdbcStatementMetrics;
+import com.stay.config.datasource.ReadYourWritesPins;
+import com.stay.config.datasource.ReplicaLagMonitor;
+import com.stay.config.datasource.ReplicaRoutingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * DataSource 수동 설정
@@ -17,6 +29,8 @@ import javax.sql.DataSource;
  * - HikariCP: 현업에서 가장 많이 쓰는 커넥션 풀
  * - @Primary: 여러 DataSource가 있을 때 기본으로 사용할 것 지정
  * - @Profile("!test"): 테스트 프로필에서는 이 설정을 비활성화 (H2 등으로 대체)
+ * - 모든 SQL은 JdbcMetricsDataSource를 거쳐 지연/건수 메트릭과 느린 쿼리 로그를 남김
+ * - DB_REPLICA_URLS가 있으면 읽기 전용 트랜잭션은 replica로 (ReplicaRoutingDataSource)
  */
 @Slf4j
 @Configuration
@@ -33,9 +47,48 @@ public class DataSourceConfig {
     @Value("${DB_PASSWORD}")
     private String dbPassword;
 
-    @Bean
-    @Primary
-    public DataSource dataSource() {
+    /**
+     * 읽기 replica JDBC URL 목록 (쉼표 구분, 비어 있으면 모두 primary로)
+     */
+    @Value("${DB_REPLICA_URLS:}")
+    private String replicaUrls;
+
+    /**
+     * 커넥션 풀 설정 (/actuator/metrics의 hikaricp.connections.* 를 보고 조정)
+     */
+    @Value("${datasource.pool.max-size:10}")
+    private int poolMaxSize;
+
+    @Value("${datasource.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${datasource.pool.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    @Value("${datasource.pool.idle-timeout:600000}")
+    private long idleTimeout;
+
+    @Value("${datasource.pool.max-lifetime:1800000}")
+    private long maxLifetime;
+
+    @Value("${datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    /**
+     * 허용 최대 복제 지연 (ms) - 넘는 replica는 읽기에서 빼고, 쓰기 후 이 시간만큼 primary에서 읽음
+     */
+    @Value("${datasource.replica.max-lag:3000}")
+    private long replicaMaxLag;
+
+    /**
+     * primary + replica 라우팅
+     *
+     * - 라우팅은 커넥션을 실제로 얻을 때 결정되므로, 트랜잭션의 readOnly 여부가 정해진 뒤에
+     *   커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싼 것을 기본 DataSource로 사용
+     * - destroyMethod로 종료 시 모든 풀 정리
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource routingDataSource(MeterRegistry meterRegistry) {
         log.info("=".repeat(50));
         log.info("DataSource 수동 생성 시작...");
 
@@ -44,27 +97,24 @@ public class DataSourceConfig {
                 throw new IllegalArgumentException("DB_URL이 비어 있습니다. 환경 변수를 확인하세요.");
             }
 
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(dbUrl);
-            config.setUsername(dbUsername);
-            config.setPassword(dbPassword);
-            config.setDriverClassName("com.mysql.cj.jdbc.Driver");
-
-            // 커넥션 풀 설정
-            config.setMaximumPoolSize(10);
-            config.setMinimumIdle(2);
-            config.setConnectionTimeout(30000);
-            config.setIdleTimeout(600000);
-            config.setMaxLifetime(1800000);
-            config.setConnectionTestQuery("SELECT 1");
+            HikariDataSource primary = hikari("primary", dbUrl, poolMaxSize, poolMinIdle, meterRegistry);
 
-            HikariDataSource dataSource = new HikariDataSource(config);
+            Map<String, DataSource> replicas = new LinkedHashMap<>();
+            List<String> urls = Arrays.stream(replicaUrls.split(","))
+                    .map(String::trim)
+                    .filter(url -> !url.isEmpty())
+                    .toList();
+            for (int i = 0; i < urls.size(); i++) {
+                String name = "replica-" + (i + 1);
+                replicas.put(name, hikari(name, urls.get(i), replicaPoolSize, 1, meterRegistry));
+            }
 
             log.info("DataSource 생성 성공!");
-            log.info("JDBC URL: {}", config.getJdbcUrl());
+            log.info("JDBC URL: {}", dbUrl);
+            log.info("읽기 replica: {}개, 허용 지연: {}ms", replicas.size(), replicaMaxLag);
             log.info("=".repeat(50));
 
-            return dataSource;
+            return new ReplicaRoutingDataSource(primary, replicas, new ReadYourWritesPins(replicaMaxLag), replicaMaxLag);
 
         } catch (Exception e) {
             log.info("=".repeat(50));
@@ -74,4 +124,54 @@ public class DataSourceConfig {
             throw new RuntimeException("DataSource 생성 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 기본 DataSource = 지연 커넥션(라우팅 결정 시점) → SQL 측정 → 라우팅
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource, JdbcStatementMetrics jdbcStatementMetrics) {
+        return new LazyConnectionDataSourceProxy(new JdbcMetricsDataSource(routingDataSource, jdbcStatementMetrics));
+    }
+
+    /**
+     * SQL 지연/건수 메트릭 + 느린 쿼리 로그 기준 (ms)
+     */
+    @Bean
+    public JdbcStatementMetrics jdbcStatementMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${datasource.slow-query.warn:200}") long warnMillis,
+            @Value("${datasource.slow-query.error:1000}") long errorMillis) {
+        return new JdbcStatementMetrics(meterRegistry, warnMillis, errorMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource routingDataSource) {
+        return new ReplicaLagMonitor(routingDataSource);
+    }
+
+    private HikariDataSource hikari(String name, String url, int maxPoolSize, int minIdle, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(dbUsername);
+        config.setPassword(dbPassword);
+        config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+
+        // 커넥션 풀 설정
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(minIdle);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setIdleTimeout(idleTimeout);
+        config.setMaxLifetime(maxLifetime);
+        // 테스트 쿼리 없음 → JDBC4 Connection.isValid() (MySQL은 ping, 쿼리 파싱 없음)
+
+        // 풀 메트릭: hikaricp.connections.active/idle/pending/acquire/usage (pool 태그 = name)
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        // JDBC 배치를 한 번의 왕복으로 전송 (lastLoginAt 배치 UPDATE 등)
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        return new HikariDataSource(config);
+    }
+}
@@ -32,4 +32,61 @@ public class JwtProperties {
      * 기본값: 7일 (604800000ms)
      */
     private Long refreshTokenValidity;
-}
\ No newline at end of file
+
+    /**
+     * 검증된 Access Token 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Access Token 폐기 목록 설정
+     */
+    private Revocation revocation = new Revocation();
+
+    /**
+     * 검증된 JWT 캐시 설정
+     *
+     * 같은 accessToken 쿠키가 세션 동안 수백 번 들어오므로
+     * 서명 검증 결과를 토큰 다이제스트 기준으로 잠시 재사용
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * 캐시 사용 여부 (false면 매 요청마다 서명 검증)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 보관 토큰 수 (초과 시 오래 안 쓴 것부터 제거)
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * 항목 최대 보관 시간 (밀리초)
+         * 토큰 자체의 만료 시각이 더 빠르면 그 시각에 제거
+         */
+        private long maxTtl = 300_000;
+    }
+
+    /**
+     * Access Token 폐기 목록 설정
+     *
+     * 폐기된 토큰은 만료 전까지만 의미가 있으므로 보통 수백~수천 건 수준
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+
+        /**
+         * Bloom 필터 예상 항목 수 (초과하면 오탐률이 올라감 → 정확 비교로 걸러짐)
+         */
+        private int expectedInsertions = 100_000;
+
+        /**
+         * Bloom 필터 오탐률 (오탐이면 정확 집합까지 확인하므로 정확성에는 영향 없음)
+         */
+        private double falsePositiveRate = 0.001;
+    }
+}
@@ -29,6 +29,16 @@ public class OAuthProperties {
     private Provider naver;
     private Provider kakao;
 
+    /**
+     * 소셜 제공자 HTTP 호출 설정 (타임아웃, 커넥션 풀)
+     */
+    private Http http = new Http();
+
+    /**
+     * 소셜 제공자별 장애 격리 설정 (벌크헤드, 서킷 브레이커, 헤지 요청)
+     */
+    private Resilience resilience = new Resilience();
+
     /**
      * 특정 소셜 제공자의 설정 조회
      *
@@ -61,4 +71,115 @@ public class OAuthProperties {
         private String tokenUri;      // access_token 발급 URL
         private String userInfoUri;   // 사용자 정보 조회 URL
     }
-}
\ No newline at end of file
+
+    /**
+     * 소셜 제공자 HTTP 호출 설정
+     *
+     * 왜 필요한가?
+     * - 타임아웃이 없으면 카카오/네이버가 느려질 때 요청이 끝없이 대기함
+     * - 커넥션 풀 상한이 없으면 로그인 폭주 시 외부 연결이 무한정 늘어남
+     */
+    @Getter
+    @Setter
+    public static class Http {
+
+        /**
+         * TCP 연결 타임아웃 (밀리초)
+         */
+        private int connectTimeout = 2_000;
+
+        /**
+         * 응답 타임아웃 (요청 전송 후 응답 헤더까지, 밀리초)
+         */
+        private long responseTimeout = 5_000;
+
+        /**
+         * 읽기/쓰기 타임아웃 (소켓이 이 시간 동안 조용하면 끊음, 밀리초)
+         */
+        private int readTimeout = 5_000;
+
+        /**
+         * 로그인 전체 타임아웃 (토큰 발급 + 사용자 정보 조회, 밀리초)
+         */
+        private long loginTimeout = 10_000;
+
+        /**
+         * 제공자 호스트당 최대 커넥션 수
+         */
+        private int maxConnectionsPerHost = 50;
+
+        /**
+         * 커넥션을 기다리는 요청 최대 수 (초과 시 즉시 실패)
+         */
+        private int pendingAcquireMaxCount = 200;
+
+        /**
+         * 커넥션을 기다리는 최대 시간 (밀리초)
+         */
+        private long pendingAcquireTimeout = 2_000;
+
+        /**
+         * 유휴 커넥션 유지 시간 (keep-alive 재사용, 밀리초)
+         * 제공자 쪽에서 먼저 끊기 전에 정리되도록 짧게 설정
+         */
+        private long maxIdleTime = 30_000;
+
+        /**
+         * 커넥션 최대 수명 (DNS 변경 반영, 밀리초)
+         */
+        private long maxLifeTime = 300_000;
+    }
+
+    /**
+     * 소셜 제공자별 장애 격리 설정
+     *
+     * 왜 필요한가?
+     * - 카카오 하나가 느려지면 그 요청들이 커넥션/대기열을 다 차지해서 구글/네이버 로그인까지 밀림
+     * - 제공자마다 동시 호출 수를 따로 제한하고, 계속 실패하는 제공자는 잠시 호출을 끊음
+     */
+    @Getter
+    @Setter
+    public static class Resilience {
+
+        /**
+         * 제공자당 동시 호출 수 (초과 시 대기 없이 즉시 실패)
+         */
+        private int maxConcurrentCalls = 20;
+
+        /**
+         * 서킷을 열 실패율 (%)
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 실패율 계산에 쓰는 최근 호출 수
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율을 판단하기 위한 최소 호출 수 (이보다 적으면 서킷을 열지 않음)
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * 서킷이 열린 뒤 시험 호출을 허용하기까지 기다리는 시간 (밀리초)
+         */
+        private long openDuration = 30_000;
+
+        /**
+         * 반열림 상태에서 허용하는 시험 호출 수 (모두 성공하면 서킷을 닫음)
+         */
+        private int halfOpenCalls = 3;
+
+        /**
+         * 사용자 정보 조회(GET, 멱등) 헤지 요청 사용 여부
+         */
+        private boolean hedgeEnabled = false;
+
+        /**
+         * 첫 요청이 이 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보냄 (밀리초)
+         * 보통 사용자 정보 조회 p95 근처로 설정
+         */
+        private long hedgeDelay = 300;
+    }
+}
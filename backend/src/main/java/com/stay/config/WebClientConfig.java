@@ -1,10 +1,20 @@
 package com.stay.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient 설정
@@ -17,23 +27,62 @@ import org.springframework.web.reactive.function.client.WebClient;
  * RestTemplate vs WebClient:
  * - RestTemplate: 옛날 방식, Blocking I/O
  * - WebClient: 최신 방식, Non-blocking I/O (성능 우수)
+ *
+ * Reactor Netty 설정:
+ * - 연결/응답/읽기/쓰기 타임아웃 명시 (느린 제공자 때문에 무한 대기 방지)
+ * - 커넥션 풀은 원격 호스트마다 따로 생기므로 maxConnections가 곧 제공자 호스트당 상한
+ * - keep-alive로 커넥션 재사용 (로그인마다 TLS 핸드셰이크 반복 방지)
+ * - 풀이 가득 차면 대기 수/대기 시간 상한을 넘는 요청은 바로 실패
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final OAuthProperties oauthProperties;
+
+    /**
+     * 소셜 제공자 호출용 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider oauthConnectionProvider() {
+        OAuthProperties.Http http = oauthProperties.getHttp();
+
+        return ConnectionProvider.builder("oauth")
+                .maxConnections(http.getMaxConnectionsPerHost())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(http.getPendingAcquireTimeout()))
+                .maxIdleTime(Duration.ofMillis(http.getMaxIdleTime()))
+                .maxLifeTime(Duration.ofMillis(http.getMaxLifeTime()))
+                .evictInBackground(Duration.ofSeconds(30))  // 끊긴 유휴 커넥션 주기적 정리
+                .metrics(true)
+                .build();
+    }
+
     /**
      * 기본 WebClient 빈 등록
      *
      * 설정:
      * - Content-Type: application/json
      * - Accept: application/json
-     * - 타임아웃 등 추가 설정 가능
+     * - 타임아웃 + 커넥션 풀 (oauth.http.*)
      */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider oauthConnectionProvider) {
+        OAuthProperties.Http http = oauthProperties.getHttp();
+
+        HttpClient httpClient = HttpClient.create(oauthConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, http.getConnectTimeout())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(http.getResponseTimeout()))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(http.getReadTimeout(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(http.getReadTimeout(), TimeUnit.MILLISECONDS)));
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+package com.stay.config.datasource;
+
+import com.stay.global.querybudget.StatementScope;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * SQL 실행을 측정하는 DataSource (JDBC 프록시)
+ *
+ * 왜 필요한가?
+ * - JPA(Hibernate)와 JdbcTemplate이 섞여 있어서 한쪽 기능으로는 전체 쿼리를 볼 수 없음
+ * - JDBC 드라이버 바로 위에서 재면 어느 경로로 실행한 SQL이든 같은 기준으로 기록됨
+ *
+ * 동작:
+ * - Connection → Statement/PreparedStatement/CallableStatement → ResultSet을 JDK 프록시로 감쌈
+ * - execute* 호출 시간을 재서 JdbcStatementMetrics로 기록 (바뀐 행 수는 반환값에서)
+ * - select는 ResultSet.next()가 true인 횟수를 세서 close할 때 읽은 행 수로 기록
+ * - 요청별 SQL 문 수도 셈 (StatementScope → @QueryBudget 검사)
+ *
+ * unwrap()은 실제 드라이버 객체를 그대로 돌려줌 (드라이버 전용 기능 사용 가능, 측정은 안 됨)
+ */
+public class JdbcMetricsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final JdbcStatementMetrics metrics;
+
+    public JdbcMetricsDataSource(DataSource target, JdbcStatementMetrics metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcMetricsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * 나머지 메서드는 실제 객체로 위임, equals/hashCode는 프록시 자신 기준
+     * (Hibernate가 Statement/ResultSet을 Map 키로 씀)
+     */
+    abstract static class DelegatingHandler implements InvocationHandler {
+
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(method, args);
+            };
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * Statement를 만드는 메서드만 가로챔
+     */
+    private final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, result, new StatementHandler((Statement) result, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, result,
+                        new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, result,
+                        new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    /**
+     * execute* 시간과 바뀐 행 수 기록, 결과 ResultSet 감싸기
+     */
+    private final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private String lastSql;
+        private String lastCaller;
+
+        StatementHandler(Statement target, String preparedSql) {
+            super(target);
+            this.preparedSql = preparedSql;
+            this.lastSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1 && preparedSql == null) {
+                lastSql = (String) args[0];
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                Object result = delegate(method, args);
+                if (result instanceof ResultSet resultSet && name.equals("getResultSet")) {
+                    // execute()로 실행한 select
+                    return wrapResultSet(resultSet, lastCaller != null ? lastCaller : JdbcStatementMetrics.caller(), lastSql);
+                }
+                return result;
+            }
+
+            String sql = sql(args);
+            String caller = JdbcStatementMetrics.caller();
+            lastSql = sql;
+            lastCaller = caller;
+            StatementScope.increment();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = delegate(method, args);
+            } catch (Throwable e) {
+                metrics.recordExecution(caller, sql, System.nanoTime() - start, false, -1);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                metrics.recordExecution(caller, sql, elapsed, true, -1);
+                return wrapResultSet(resultSet, caller, sql);
+            }
+            metrics.recordExecution(caller, sql, elapsed, true, affectedRows(result));
+            return result;
+        }
+
+        private String sql(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                return sql;
+            }
+            return lastSql;
+        }
+
+        private long affectedRows(Object result) throws SQLException {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                long sum = 0;
+                for (int count : counts) {
+                    sum += Math.max(count, 0);  // SUCCESS_NO_INFO(-2)는 0으로
+                }
+                return sum;
+            }
+            if (result instanceof long[] counts) {
+                long sum = 0;
+                for (long count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            if (Boolean.FALSE.equals(result)) {
+                return Math.max(((Statement) target).getUpdateCount(), 0);
+            }
+            return -1;  // execute()가 ResultSet을 만든 경우 → getResultSet()에서 센다
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet, String caller, String sql) {
+            return proxy(ResultSet.class, resultSet, new ResultSetHandler(resultSet, caller, JdbcStatementMetrics.kind(sql)));
+        }
+    }
+
+    /**
+     * next()가 true인 횟수를 세고 close할 때 한 번 기록
+     */
+    private final class ResultSetHandler extends DelegatingHandler {
+
+        private final String caller;
+        private final String kind;
+        private long rows;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet target, String caller, String kind) {
+            super(target);
+            this.caller = caller;
+            this.kind = kind;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close") && !recorded) {
+                recorded = true;
+                metrics.recordRows(caller, kind, rows);
+            }
+            Object result = delegate(method, args);
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.stay.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * SQL 실행 지연/건수 기록 + 느린 쿼리 로그
+ *
+ * 왜 필요한가?
+ * - 지금까지는 show-sql과 바인딩 값 TRACE 로그가 전부라 "어느 쿼리가 느린지, 몇 건을 읽는지" 알 수 없음
+ * - 커넥션 풀 크기도 실제 쿼리 시간 분포를 봐야 정할 수 있음
+ *
+ * 메트릭 (/actuator/metrics):
+ * - jdbc.statement (Timer): caller, kind(select/insert/update/delete/other), outcome(success/error)
+ * - jdbc.statement.rows (DistributionSummary): 읽은 행 수(select) / 바뀐 행 수(그 외)
+ * - jdbc.statement.slow (Counter): 느린 쿼리 수 (level = warn/error)
+ *
+ * caller = SQL을 실행시킨 리포지토리 메서드 (Spring Data 리포지토리면 인터페이스.메서드,
+ * JdbcTemplate을 직접 쓰는 곳이면 그 클래스.메서드) → 스택에서 가장 가까운 com.stay 프레임
+ *
+ * 느린 쿼리 로그에는 SQL만 남기고 바인딩 값은 남기지 않음 (개인정보)
+ */
+@Slf4j
+public class JdbcStatementMetrics {
+
+    static final String METRIC_STATEMENT = "jdbc.statement";
+    static final String METRIC_ROWS = "jdbc.statement.rows";
+    static final String METRIC_SLOW = "jdbc.statement.slow";
+
+    private static final String APP_PACKAGE = "com.stay.";
+    private static final int MAX_LOGGED_SQL = 500;
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final MeterRegistry meterRegistry;
+    private final long warnNanos;
+    private final long errorNanos;
+
+    /**
+     * @param warnMillis  이 시간 이상이면 WARN 로그
+     * @param errorMillis 이 시간 이상이면 ERROR 로그
+     */
+    public JdbcStatementMetrics(MeterRegistry meterRegistry, long warnMillis, long errorMillis) {
+        if (warnMillis <= 0 || errorMillis < warnMillis) {
+            throw new IllegalArgumentException("느린 쿼리 기준은 0 < warn <= error 여야 합니다.");
+        }
+        this.meterRegistry = meterRegistry;
+        this.warnNanos = TimeUnit.MILLISECONDS.toNanos(warnMillis);
+        this.errorNanos = TimeUnit.MILLISECONDS.toNanos(errorMillis);
+    }
+
+    /**
+     * 실행 한 번 기록
+     *
+     * @param rows 바뀐 행 수 (select는 결과를 다 읽은 뒤 recordRows로 따로 기록, 모르면 -1)
+     */
+    void recordExecution(String caller, String sql, long elapsedNanos, boolean success, long rows) {
+        String kind = kind(sql);
+        Timer.builder(METRIC_STATEMENT)
+                .description("SQL 실행 시간 (결과 읽기 제외)")
+                .tag("caller", caller)
+                .tag("kind", kind)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (rows >= 0) {
+            recordRows(caller, kind, rows);
+        }
+
+        if (elapsedNanos >= warnNanos) {
+            boolean error = elapsedNanos >= errorNanos;
+            Counter.builder(METRIC_SLOW)
+                    .tag("caller", caller)
+                    .tag("level", error ? "error" : "warn")
+                    .register(meterRegistry)
+                    .increment();
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (error) {
+                log.error("느린 쿼리 - caller: {}, {}ms, rows: {}, sql: {}", caller, millis, rows, abbreviate(sql));
+            } else {
+                log.warn("느린 쿼리 - caller: {}, {}ms, rows: {}, sql: {}", caller, millis, rows, abbreviate(sql));
+            }
+        }
+    }
+
+    void recordRows(String caller, String kind, long rows) {
+        DistributionSummary.builder(METRIC_ROWS)
+                .description("SQL 한 번에 읽거나 바꾼 행 수")
+                .tag("caller", caller)
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    /**
+     * 지금 스택에서 SQL을 실행시킨 애플리케이션 메서드
+     */
+    static String caller() {
+        return WALKER.walk(JdbcStatementMetrics::caller);
+    }
+
+    static String caller(Stream<StackWalker.StackFrame> frames) {
+        return frames
+                .map(frame -> describe(frame.getDeclaringClass(), frame.getMethodName()))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    /**
+     * 스택 프레임 하나를 caller 이름으로 (애플리케이션 코드가 아니면 empty)
+     */
+    static Optional<String> describe(Class<?> type, String method) {
+        if (type == JdbcStatementMetrics.class || type.getNestHost() == JdbcMetricsDataSource.class) {
+            return Optional.empty();
+        }
+        // Spring Data 리포지토리 (JDK 프록시) → 리포지토리 인터페이스
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> contract : type.getInterfaces()) {
+                if (contract.getName().startsWith(APP_PACKAGE)) {
+                    return Optional.of(contract.getSimpleName() + "." + method);
+                }
+            }
+            return Optional.empty();
+        }
+        if (!type.getName().startsWith(APP_PACKAGE)) {
+            return Optional.empty();
+        }
+        return Optional.of(simpleName(type) + "." + methodName(method));
+    }
+
+    /**
+     * MemberService$$SpringCGLIB$$0 → MemberService, Outer$Inner → Outer
+     */
+    private static String simpleName(Class<?> type) {
+        String name = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+        int inner = name.indexOf('$');
+        return inner < 0 ? name : name.substring(0, inner);
+    }
+
+    /**
+     * lambda$addLot$3 → addLot
+     */
+    private static String methodName(String method) {
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            return end < 0 ? method.substring(7) : method.substring(7, end);
+        }
+        return method;
+    }
+
+    static String kind(String sql) {
+        if (sql == null) {
+            return "other";
+        }
+        String head = sql.stripLeading();
+        int end = 0;
+        while (end < head.length() && Character.isLetter(head.charAt(end))) {
+            end++;
+        }
+        return switch (head.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert", "replace" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() <= MAX_LOGGED_SQL ? flat : flat.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+}
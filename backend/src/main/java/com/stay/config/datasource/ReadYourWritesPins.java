@@ -0,0 +1,88 @@
+package com.stay.config.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 직후 읽기를 primary로 고정 (read-your-writes)
+ *
+ * 왜 필요한가?
+ * - replica는 primary보다 조금 늦게 반영됨 (복제 지연)
+ * - 닉네임을 바꾸자마자 내 정보를 조회하면 replica에서 예전 닉네임이 보일 수 있음
+ *
+ * 동작:
+ * - 실제로 행을 바꾼 쓰기 트랜잭션이 커밋되면 고정
+ *   - 회원: window 동안 (다음 요청)
+ *   - 요청: 그 요청이 끝날 때까지 (로그인 전 요청처럼 회원을 모르는 같은 요청 안의 읽기)
+ * - window = 허용 최대 복제 지연 → 지연이 그보다 큰 replica는 아예 읽기 대상에서 빠지므로
+ *   고정이 풀린 뒤 읽는 replica에는 그 쓰기가 이미 반영돼 있다
+ *
+ * 요청 고정은 요청 속성에 둔다 (스레드에 두면 풀의 같은 스레드를 쓰는 다음 요청까지 고정됨).
+ * 요청 밖(배치, 비동기 스레드)에서는 회원 고정만 적용된다.
+ * 회원 고정은 서버 메모리라 다른 서버로 간 요청에는 적용되지 않는다.
+ */
+public class ReadYourWritesPins {
+
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesPins.class.getName() + ".pinned";
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * memberId → 고정 만료 시각 (nanoTime)
+     */
+    private final Map<Long, Long> members = new ConcurrentHashMap<>();
+
+    public ReadYourWritesPins(long windowMillis) {
+        this(windowMillis, System::nanoTime);
+    }
+
+    ReadYourWritesPins(long windowMillis, LongSupplier nanoClock) {
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 쓰기 커밋 후 호출 (memberId는 모르면 null)
+     */
+    public void pin(Long memberId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        if (memberId != null) {
+            members.merge(memberId, nanoClock.getAsLong() + windowNanos, Math::max);
+        }
+    }
+
+    /**
+     * 이 회원/요청의 읽기를 primary로 보내야 하는지
+     */
+    public boolean isPinned(Long memberId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        if (memberId == null) {
+            return false;
+        }
+        Long memberUntil = members.get(memberId);
+        return memberUntil != null && nanoClock.getAsLong() - memberUntil < 0;
+    }
+
+    /**
+     * 만료된 회원 고정 정리
+     */
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        members.entrySet().removeIf(entry -> now - entry.getValue() >= 0);
+    }
+
+    int pinnedMembers() {
+        return members.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.stay.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 복제 지연 측정 (하트비트 테이블)
+ *
+ * 왜 필요한가?
+ * - 지연이 큰 replica에서 읽으면 방금 바뀐 값이 한참 동안 예전 값으로 보임
+ * - SHOW REPLICA STATUS의 Seconds_Behind_Source는 초 단위이고 REPLICATION CLIENT 권한이 필요함
+ *
+ * 동작:
+ * - primary의 replication_heartbeat.beat_at을 현재 시각(마이크로초)으로 갱신
+ * - 각 replica에서 NOW(6) - beat_at = 복제 지연 (갱신이 아직 안 넘어왔으면 그만큼 커짐)
+ *   → 측정 주기만큼은 과대 측정되므로 max-lag는 측정 주기보다 충분히 크게
+ * - 측정 실패(replica 장애)도 읽기 대상에서 뺌 → 다음 측정에서 회복되면 다시 사용
+ *
+ * 서버 시계가 아니라 DB 시계끼리 비교하므로 primary/replica 시계는 NTP로 맞춰져 있어야 함.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String BEAT_SQL = "UPDATE replication_heartbeat SET beat_at = NOW(6) WHERE id = 1";
+    private static final String LAG_SQL =
+            "SELECT TIMESTAMPDIFF(MICROSECOND, beat_at, NOW(6)) DIV 1000 FROM replication_heartbeat WHERE id = 1";
+
+    private final ReplicaRoutingDataSource routing;
+    private final JdbcTemplate primary;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routing) {
+        this.routing = routing;
+        this.primary = new JdbcTemplate(routing.primary());
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void check() {
+        if (routing.replicas().isEmpty()) {
+            return;
+        }
+
+        try {
+            primary.update(BEAT_SQL);
+        } catch (Exception e) {
+            // primary 장애면 replica 값도 갱신되지 않음 → 아래 측정에서 지연으로 잡힘
+            log.warn("복제 하트비트 갱신 실패 - reason: {}", e.getMessage());
+        }
+
+        for (ReplicaRoutingDataSource.Replica replica : routing.replicas()) {
+            routing.markLag(replica.name, measure(replica));
+        }
+        routing.pins().evictExpired();
+    }
+
+    private Long measure(ReplicaRoutingDataSource.Replica replica) {
+        try {
+            return new JdbcTemplate(replica.dataSource).queryForObject(LAG_SQL, Long.class);
+        } catch (Exception e) {
+            log.debug("복제 지연 측정 실패 - name: {}, reason: {}", replica.name, e.getMessage());
+            return null;
+        }
+    }
+}
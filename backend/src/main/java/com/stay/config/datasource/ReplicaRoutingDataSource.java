@@ -0,0 +1,266 @@
+package com.stay.config.datasource;
+
+import com.stay.config.datasource.JdbcMetricsDataSource.DelegatingHandler;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * 왜 필요한가?
+ * - 서비스 대부분이 @Transactional(readOnly = true)인데 모든 쿼리가 primary 커넥션 10개를 나눠 씀
+ * - 읽기를 replica로 보내면 replica를 늘리는 만큼 읽기 처리량이 늘어남
+ *
+ * 라우팅 규칙 (커넥션을 실제로 얻는 시점에 결정 → LazyConnectionDataSourceProxy로 감싸서 사용):
+ * - 읽기 전용 트랜잭션 → 복제 지연이 허용 범위 안인 replica 중 하나 (라운드 로빈)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음) → primary
+ * - 쓰기 직후인 회원/요청(ReadYourWritesPins) → 읽기도 primary
+ * - 쓸 수 있는 replica가 없으면(전부 지연/장애) → primary
+ *
+ * 쓰기 고정은 primary 쓰기 커넥션의 문장이 실제로 행을 바꿨을 때만 커밋 후에 건다
+ * (조회만 한 쓰기 트랜잭션, 0건 UPDATE는 고정하지 않음).
+ *
+ * 복제 지연은 ReplicaLagMonitor가 주기적으로 측정해서 markLag()로 알려 준다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesPins pins;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * replica 하나의 상태 (측정 전에는 사용하지 않음)
+     */
+    static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile long lagMillis = -1;
+        volatile boolean healthy;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * @param replicas     이름 → replica DataSource (비어 있으면 모두 primary)
+     * @param maxLagMillis 허용 최대 복제 지연 (= 쓰기 후 primary 고정 시간)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWritesPins pins, long maxLagMillis) {
+        this.primary = primary;
+        this.pins = pins;
+        this.maxLagMillis = maxLagMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            list.add(new Replica(name, dataSource));
+        });
+        this.replicas = List.copyOf(list);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (replicas.isEmpty() || pins.isPinned(currentMemberId())) {
+            return PRIMARY;
+        }
+
+        // 라운드 로빈으로 시작 위치만 돌리고, 지연된 replica는 건너뜀
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    /**
+     * 쓰기 커넥션이면 행을 바꾼 문장이 있었는지 기록해서 커밋 후 고정
+     */
+    private Connection trackWrites(Connection connection) {
+        if (replicas.isEmpty() || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+        WriteTracker tracker = new WriteTracker(currentMemberId(),
+                TransactionSynchronizationManager.isSynchronizationActive());
+        if (tracker.inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(tracker);
+        }
+        return JdbcMetricsDataSource.proxy(Connection.class, connection, new DelegatingHandler(connection) {
+            @Override
+            Object handle(Method method, Object[] args) throws Throwable {
+                Object result = delegate(method, args);
+                return switch (method.getName()) {
+                    case "createStatement" -> tracker.wrap(Statement.class, (Statement) result);
+                    case "prepareStatement" -> tracker.wrap(PreparedStatement.class, (Statement) result);
+                    case "prepareCall" -> tracker.wrap(CallableStatement.class, (Statement) result);
+                    default -> result;
+                };
+            }
+        });
+    }
+
+    /**
+     * 쓰기 커넥션 하나에서 행이 바뀌었는지 (트랜잭션이면 커밋 후, 자동 커밋이면 바로 고정)
+     */
+    private final class WriteTracker implements TransactionSynchronization {
+        private final Long memberId;
+        private final boolean inTransaction;
+        private volatile boolean wrote;
+
+        WriteTracker(Long memberId, boolean inTransaction) {
+            this.memberId = memberId;
+            this.inTransaction = inTransaction;
+        }
+
+        Statement wrap(Class<? extends Statement> type, Statement statement) {
+            return JdbcMetricsDataSource.proxy(type, statement, new DelegatingHandler(statement) {
+                @Override
+                Object handle(Method method, Object[] args) throws Throwable {
+                    Object result = delegate(method, args);
+                    if (!wrote && changedRows(statement, method.getName(), result)) {
+                        wrote = true;
+                        if (!inTransaction) {
+                            pins.pin(memberId);
+                        }
+                    }
+                    return result;
+                }
+            });
+        }
+
+        @Override
+        public void afterCommit() {
+            if (wrote) {
+                pins.pin(memberId);
+            }
+        }
+    }
+
+    private static boolean changedRows(Statement statement, String method, Object result) throws SQLException {
+        return switch (method) {
+            case "executeUpdate", "executeLargeUpdate" -> ((Number) result).longValue() > 0;
+            case "executeBatch" -> Arrays.stream((int[]) result).anyMatch(count -> count > 0 || count == Statement.SUCCESS_NO_INFO);
+            case "executeLargeBatch" -> Arrays.stream((long[]) result).anyMatch(count -> count > 0 || count == Statement.SUCCESS_NO_INFO);
+            // execute()가 false면 결과가 바뀐 행 수 (true면 조회 결과)
+            case "execute" -> Boolean.FALSE.equals(result) && statement.getUpdateCount() > 0;
+            default -> false;
+        };
+    }
+
+    /**
+     * 복제 지연 측정 결과 반영 (측정 실패는 null → 사용 안 함)
+     */
+    void markLag(String name, Long lagMillis) {
+        for (Replica replica : replicas) {
+            if (!replica.name.equals(name)) {
+                continue;
+            }
+            boolean healthy = lagMillis != null && lagMillis <= maxLagMillis;
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("replica 읽기 재개 - name: {}, lag: {}ms", name, lagMillis);
+                } else {
+                    log.warn("replica 읽기 중단 (지연/장애) - name: {}, lag: {}ms, max: {}ms", name, lagMillis, maxLagMillis);
+                }
+            }
+            replica.lagMillis = lagMillis == null ? -1 : lagMillis;
+            replica.healthy = healthy;
+        }
+    }
+
+    DataSource primary() {
+        return primary;
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    ReadYourWritesPins pins() {
+        return pins;
+    }
+
+    /**
+     * replica별 마지막 측정 지연 (ms, 측정 실패는 -1)
+     */
+    public Map<String, Long> replicaLags() {
+        Map<String, Long> lags = new HashMap<>();
+        replicas.forEach(replica -> lags.put(replica.name, replica.lagMillis));
+        return lags;
+    }
+
+    /**
+     * JWT 필터가 넣은 회원 ID (인증 전 요청/배치는 null)
+     */
+    private static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long memberId) {
+            return memberId;
+        }
+        return null;
+    }
+
+    /**
+     * 종료 시 커넥션 풀 정리
+     */
+    @Override
+    public void close() {
+        closePool(primary);
+        replicas.forEach(replica -> closePool(replica.dataSource));
+    }
+
+    private static void closePool(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+}
@@ -1,21 +1,23 @@
 package com.stay.config.security;
 
-import com.stay.domain.auth.util.JwtUtil;
+import com.stay.domain.auth.service.AccessTokenRevocationList;
+import com.stay.domain.auth.service.AuthVersionRegistry;
+import com.stay.domain.auth.util.VerifiedToken;
+import com.stay.domain.auth.util.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JWT 인증 필터
@@ -24,17 +26,36 @@ import java.util.List;
  * - 모든 HTTP 요청에서 Authorization 헤더의 JWT 토큰 검증
  * - 유효한 토큰이면 Spring Security 인증 정보 등록
  * - 인증된 사용자 정보를 SecurityContext에 저장
+ * - 토큰의 역할/등급 클레임으로 권한을 만듦 (DB 조회 없음)
  *
  * 왜 OncePerRequestFilter를 상속하는가?
  * - 요청당 한 번만 실행되도록 보장
  * - 비동기 요청에서도 정상 동작
+ *
+ * 공개 URL(SecurityRoutes의 PUBLIC)은 shouldNotFilter()로 아예 건너뜀 (쿠키 탐색/토큰 검증 없음)
+ *
+ * 인증 실패는 요청마다 로그를 남기지 않고 auth.token.rejected 카운터(reason 태그)로 집계,
+ * 상세 로그는 DEBUG에서 일부만 남긴다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private static final String METRIC_REJECTED = "auth.token.rejected";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthVersionRegistry authVersionRegistry;
+    private final AccessTokenRevocationList revocationList;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 공개 URL은 인증 작업 없이 통과
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return SecurityRoutes.isPublic(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -47,23 +68,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Authorization 헤더에서 토큰 추출
             String token = extractToken(request);
 
-            // 2. 토큰이 있고 유효한지 검증
-            if (token != null && jwtUtil.validateToken(token)) {
+            // 2. 토큰이 있으면 한 번만 검증하고 클레임을 함께 꺼냄
+            //    (이미 검증한 토큰은 캐시에서 바로 꺼냄, Refresh Token으로 API 접근은 막음)
+            VerifiedToken verified = token != null
+                    ? verifiedTokenCache.getOrVerify(token).orElse(null)
+                    : null;
+
+            // 3. 비활성 회원 토큰, 권한이 바뀌기 전에 발급된 토큰, 폐기된 토큰은 인증하지 않음
+            //    (401 → 프론트엔드가 /refresh로 최신 클레임이 담긴 토큰을 다시 받음)
+            if (verified != null && !verified.isAccessToken()) {
+                verified = rejected("refresh_token", verified);
+            } else if (verified != null && !verified.active()) {
+                verified = rejected("inactive", verified);
+            } else if (verified != null && !authVersionRegistry.isCurrent(verified)) {
+                verified = rejected("stale_version", verified);
+            } else if (verified != null && revocationList.isRevoked(verified)) {
+                // 로그아웃/탈취 감지로 폐기된 토큰 (메모리에서만 확인)
+                verified = rejected("revoked", verified);
+            }
+
+            if (verified != null) {
 
-                // 3. 토큰에서 사용자 정보 추출
-                Long memberId = jwtUtil.getMemberIdFromToken(token);
-                String email = jwtUtil.getEmailFromToken(token);
+                // 4. 토큰에서 사용자 정보 추출
+                Long memberId = verified.memberId();
+                String email = verified.email();
 
-                // 4. Spring Security 인증 객체 생성
-                // 권한은 일단 ROLE_USER로 설정 (나중에 DB에서 가져오도록 개선 가능)
+                // 5. Spring Security 인증 객체 생성
+                // 권한은 토큰의 역할/등급 클레임으로 결정 (미리 만들어 둔 목록 재사용)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 memberId,  // principal (주체)
                                 null,      // credentials (비밀번호, JWT에서는 불필요)
-                                List.of(new SimpleGrantedAuthority("ROLE_USER"))  // 권한
+                                MemberAuthorities.of(verified.role(), verified.grade())  // 권한
                         );
 
-                // 5. SecurityContext에 인증 정보 저장
+                // 컨트롤러가 역할/등급이 필요하면 details(VerifiedToken)에서 꺼내 씀
+                authentication.setDetails(verified);
+
+                // 6. SecurityContext에 인증 정보 저장
                 // 이후 컨트롤러에서 @AuthenticationPrincipal로 사용자 정보 접근 가능
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -71,14 +113,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
         } catch (Exception e) {
-            log.error("JWT 인증 실패", e);
-            // 인증 실패해도 요청은 계속 진행 (SecurityConfig에서 처리)
+            // 예상 못 한 오류만 로그를 남김 (인증 실패해도 요청은 계속 진행, SecurityConfig에서 처리)
+            meterRegistry.counter(METRIC_REJECTED, "reason", "error").increment();
+            log.warn("JWT 인증 처리 중 오류 - uri: {}, reason: {}", request.getRequestURI(), e.toString());
         }
 
-        // 6. 다음 필터로 진행
+        // 7. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증 거절 집계 (카운터 + DEBUG 로그)
+     */
+    private VerifiedToken rejected(String reason, VerifiedToken verified) {
+        meterRegistry.counter(METRIC_REJECTED, "reason", reason).increment();
+        log.debug("JWT 인증 거절 - reason: {}, memberId: {}, ver: {}",
+                reason, verified.memberId(), verified.authVersion());
+        return null;
+    }
+
     /**
      * Authorization 헤더에서 Bearer 토큰 추출
      *
@@ -0,0 +1,67 @@
+package com.stay.config.security;
+
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역할/등급 조합별 GrantedAuthority 목록 (미리 만들어 둔 불변 객체)
+ *
+ * 왜 필요한가?
+ * - 필터가 요청마다 SimpleGrantedAuthority와 List를 새로 만들 필요가 없음
+ * - 조합이 역할 3 × 등급 3 = 9개뿐이라 기동 시 한 번 만들어 재사용
+ *
+ * 권한 구성:
+ * - ROLE_USER: 로그인한 모든 회원 (기존 코드 호환)
+ * - ROLE_{역할}: 자기 역할 + 레벨이 더 낮은 역할 (ADMIN은 BUSINESS_OWNER, CUSTOMER 권한 포함)
+ * - GRADE_{등급}: 회원 등급 (등급별 혜택 API용)
+ */
+public final class MemberAuthorities {
+
+    private static final List<GrantedAuthority> USER_ONLY =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private static final Map<MemberRole, Map<MemberGrade, List<GrantedAuthority>>> TABLE = build();
+
+    private MemberAuthorities() {
+    }
+
+    /**
+     * 역할/등급에 해당하는 권한 목록
+     * 클레임이 없는 예전 토큰(role/grade가 null)은 ROLE_USER만 부여
+     */
+    public static List<GrantedAuthority> of(MemberRole role, MemberGrade grade) {
+        if (role == null || grade == null) {
+            return USER_ONLY;
+        }
+        return TABLE.get(role).get(grade);
+    }
+
+    private static Map<MemberRole, Map<MemberGrade, List<GrantedAuthority>>> build() {
+        Map<MemberRole, Map<MemberGrade, List<GrantedAuthority>>> table = new EnumMap<>(MemberRole.class);
+
+        for (MemberRole role : MemberRole.values()) {
+            Map<MemberGrade, List<GrantedAuthority>> byGrade = new EnumMap<>(MemberGrade.class);
+
+            for (MemberGrade grade : MemberGrade.values()) {
+                List<GrantedAuthority> authorities = new ArrayList<>(USER_ONLY);
+                for (MemberRole granted : MemberRole.values()) {
+                    if (granted.getLevel() <= role.getLevel()) {
+                        authorities.add(new SimpleGrantedAuthority("ROLE_" + granted.name()));
+                    }
+                }
+                authorities.add(new SimpleGrantedAuthority("GRADE_" + grade.name()));
+                byGrade.put(grade, List.copyOf(authorities));
+            }
+
+            table.put(role, byGrade);
+        }
+        return table;
+    }
+}
@@ -51,19 +51,12 @@ public class SecurityConfig {
 
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        // 인증 없이 접근 가능한 URL (Public)
-                        .requestMatchers(
-                                "/api/auth/**", // 로그인, OAuth 등
-                                "/api/business/**", // 비즈니스 회원가입
-                                "/api/test/**", // 테스트 API
-                                "/api/members/check-nickname", // 닉네임 중복 체크
-                                "/api/email-verification/**", // 이메일 인증 API
-                                "/health",
-                                "/error"
-                        ).permitAll()
+                        // 인증 없이 접근 가능한 URL (Public) - 목록은 SecurityRoutes
+                        // (JWT 필터도 같은 표를 보고 공개 URL은 건너뜀)
+                        .requestMatchers(SecurityRoutes.patterns(SecurityRoutes.Access.PUBLIC)).permitAll()
 
                         // 관리자만 접근 가능
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(SecurityRoutes.patterns(SecurityRoutes.Access.ADMIN)).hasRole("ADMIN")
 
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
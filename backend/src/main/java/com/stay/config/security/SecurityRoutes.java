@@ -0,0 +1,118 @@
+package com.stay.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL별 접근 권한 표 (SecurityConfig와 JwtAuthenticationFilter가 함께 사용)
+ *
+ * 왜 필요한가?
+ * - 공개 URL 목록이 SecurityConfig에만 있어서 JWT 필터는 공개 URL에도 쿠키 탐색 + 토큰 검증을 했음
+ * - 닉네임 중복 체크처럼 호출이 많은 공개 API가 쓸데없이 인증 비용을 냄
+ * - 표를 한 곳에 두고 필터는 shouldNotFilter()에서 공개 URL을 건너뜀
+ *
+ * 구조:
+ * - 와일드카드 없는 경로: HashMap으로 바로 찾음
+ * - 와일드카드 경로: 시작할 때 PathPattern으로 한 번만 컴파일 (Spring Security와 같은 매칭 규칙)
+ * - 표에 없으면 AUTHENTICATED
+ */
+public final class SecurityRoutes {
+
+    /**
+     * 접근 권한 종류
+     */
+    public enum Access {
+        PUBLIC,         // 인증 없이 접근 (JWT 필터 건너뜀)
+        ADMIN,          // 관리자만
+        AUTHENTICATED   // 로그인 필요 (기본값)
+    }
+
+    /**
+     * 경로 → 권한 (정확한 경로 먼저, 와일드카드는 선언 순서대로 매칭)
+     */
+    private static final List<Route> ROUTES = List.of(
+            new Route("/api/auth/**", Access.PUBLIC),                 // 로그인, OAuth 등
+            new Route("/api/business/**", Access.PUBLIC),             // 비즈니스 회원가입
+            new Route("/api/test/**", Access.PUBLIC),                 // 테스트 API
+            new Route("/api/members/check-nickname", Access.PUBLIC),  // 닉네임 중복 체크
+            new Route("/api/email-verification/**", Access.PUBLIC),   // 이메일 인증 API
+            new Route("/oauth-stub/**", Access.PUBLIC),               // 소셜 제공자 스텁 (oauth-stub 프로필에서만 존재)
+            new Route("/health", Access.PUBLIC),
+            new Route("/error", Access.PUBLIC),
+            new Route("/api/admin/**", Access.ADMIN),                 // 관리자 API
+            new Route("/actuator/**", Access.ADMIN)                   // 메트릭 (커넥션 풀, SQL 지연 등)
+    );
+
+    private static final Map<String, Access> EXACT = new HashMap<>();
+    private static final List<CompiledRoute> PATTERNS = new ArrayList<>();
+
+    static {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (Route route : ROUTES) {
+            PathPattern pattern = parser.parse(route.pattern());
+            if (pattern.hasPatternSyntax()) {
+                PATTERNS.add(new CompiledRoute(pattern, route.access()));
+            } else {
+                EXACT.putIfAbsent(route.pattern(), route.access());
+            }
+        }
+    }
+
+    private SecurityRoutes() {
+    }
+
+    /**
+     * 권한별 경로 패턴 (SecurityConfig의 requestMatchers에 사용)
+     */
+    public static String[] patterns(Access access) {
+        return ROUTES.stream()
+                .filter(route -> route.access() == access)
+                .map(Route::pattern)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 경로의 접근 권한 판단
+     *
+     * @param path 컨텍스트 경로를 뺀 요청 경로 (예: /api/members/me)
+     */
+    public static Access classify(String path) {
+        Access exact = EXACT.get(path);
+        if (exact != null) {
+            return exact;
+        }
+
+        PathContainer container = PathContainer.parsePath(path);
+        for (CompiledRoute route : PATTERNS) {
+            if (route.pattern().matches(container)) {
+                return route.access();
+            }
+        }
+        return Access.AUTHENTICATED;
+    }
+
+    /**
+     * 인증 없이 접근하는 요청인지 (JWT 필터 건너뛰기 판단)
+     */
+    public static boolean isPublic(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+        return classify(path) == Access.PUBLIC;
+    }
+
+    private record Route(String pattern, Access access) {
+    }
+
+    private record CompiledRoute(PathPattern pattern, Access access) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.stay.controller;
 
+import com.stay.domain.member.dto.PointTransaction;
 import com.stay.domain.member.dto.SocialLoginRequest;
 import com.stay.domain.member.dto.SocialLoginResult;
 import com.stay.domain.member.entity.Member;
@@ -119,12 +120,12 @@ public class MemberTestController {
             @RequestParam Integer points
     ) {
         try {
-            Member member = memberService.earnPoints(id, points);
+            PointTransaction transaction = memberService.earnPoints(id, points, null);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", points + "P 적립 완료!");
-            response.put("totalPoints", member.getPoints());
+            response.put("totalPoints", transaction.balanceAfter());
 
             return ResponseEntity.ok(response);
 
@@ -3,6 +3,7 @@ package com.stay.domain.auth.controller;
 import com.stay.domain.auth.dto.LoginRequest;
 import com.stay.domain.auth.dto.LoginResponse;
 import com.stay.domain.auth.service.AuthService;
+import com.stay.global.querybudget.QueryBudget;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class AuthController {
      * @return 로그인 성공 정보
      */
     @PostMapping("/login")
+    @QueryBudget(0)  // DB 연동 전 (하드코딩 계정)
     public ResponseEntity<LoginResponse> login(
             @RequestBody LoginRequest request,
             HttpServletResponse response
@@ -78,6 +80,7 @@ public class AuthController {
      * @return 로그아웃 성공 메시지
      */
     @PostMapping("/logout")
+    @QueryBudget(0)
     public ResponseEntity<String> logout(HttpServletResponse response) {
         // 쿠키 삭제 (MaxAge를 0으로 설정)
         Cookie cookie = new Cookie("token", null);
@@ -2,19 +2,28 @@ package com.stay.domain.auth.controller;
 
 import com.stay.domain.auth.dto.JwtTokenResponse;
 import com.stay.domain.auth.dto.OAuthLoginRequest;
+import com.stay.domain.auth.exception.OAuthProviderUnavailableException;
 import com.stay.domain.auth.service.AuthService;
-import com.stay.domain.auth.util.JwtUtil;
 import com.stay.domain.member.dto.SocialLoginRequest;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.global.querybudget.QueryBudget;
+import com.stay.global.ratelimit.RateLimit;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * OAuth 컨트롤러 (HttpOnly 쿠키 방식)
@@ -25,7 +34,7 @@ import java.util.Map;
  *    - 기존 회원: JWT 토큰을 HttpOnly 쿠키로 발급
  *
  * 2. 로그아웃 (POST /api/auth/oauth/logout)
- *    - HttpOnly 쿠키 삭제
+ *    - 서버의 Refresh 세션 폐기 + HttpOnly 쿠키 삭제
  *
  * 3. Access Token 갱신 (POST /api/auth/refresh)
  *    - Refresh Token으로 새 Access Token 발급
@@ -43,10 +52,9 @@ import java.util.Map;
 public class OAuthController {
 
     private final AuthService authService;
-    private final JwtUtil jwtUtil;
 
     /**
-     * OAuth 로그인 엔드포인트 (HttpOnly 쿠키 방식)
+     * OAuth 로그인 엔드포인트 (HttpOnly 쿠키 방식, 비동기)
      *
      * 흐름:
      * 1. 프론트엔드가 소셜 제공자에서 받은 code 전달
@@ -58,77 +66,78 @@ public class OAuthController {
      * - localStorage는 JavaScript로 접근 가능 → XSS 공격에 취약
      * - HttpOnly 쿠키는 JavaScript 접근 차단 → 보안 강화
      *
+     * 왜 CompletableFuture를 반환하나?
+     * - 소셜 제공자 호출 2번(토큰 + 사용자 정보)을 기다리는 동안 Tomcat 스레드를 반납
+     * - 카카오/네이버가 느려져도 로그인 요청이 Tomcat 스레드 풀을 다 잡아먹지 않음
+     * - 응답이 비동기로 완성되므로 쿠키는 Set-Cookie 헤더(ResponseCookie)로 설정
+     *
      * @param request OAuth 로그인 요청 (provider, code)
-     * @param response HttpServletResponse (쿠키 설정용)
      * @return 로그인 결과 (신규 회원 여부, 이메일)
      */
     @PostMapping("/login")
-    public ResponseEntity<?> oauthLogin(
-            @RequestBody OAuthLoginRequest request,
-            HttpServletResponse response
-    ) {
-        try {
-            log.info("========================================");
-            log.info("OAuth 로그인 요청 시작");
-            log.info("Provider: {}", request.provider());
-            log.info("Code: {}...", request.code().substring(0, Math.min(20, request.code().length())));
-            log.info("========================================");
-
-            // AuthService에 OAuth 로그인 처리 위임
-            JwtTokenResponse tokenResponse = authService.oauthLogin(request);
-
-            // 신규 회원이 아닌 경우에만 쿠키 설정
-            if (!tokenResponse.isNewMember()) {
-                // Access Token을 HttpOnly 쿠키로 설정
-                Cookie accessTokenCookie = new Cookie("accessToken", tokenResponse.accessToken());
-                accessTokenCookie.setHttpOnly(true);  // JavaScript 접근 차단
-                accessTokenCookie.setSecure(false);   // 개발 환경 (배포 시 true)
-                accessTokenCookie.setPath("/");       // 모든 경로에서 쿠키 전송
-                accessTokenCookie.setMaxAge(7 * 24 * 60 * 60); // 7일
-                response.addCookie(accessTokenCookie);
-
-                // Refresh Token을 HttpOnly 쿠키로 설정
-                Cookie refreshTokenCookie = new Cookie("refreshToken", tokenResponse.refreshToken());
-                refreshTokenCookie.setHttpOnly(true);
-                refreshTokenCookie.setSecure(false);
-                refreshTokenCookie.setPath("/");
-                refreshTokenCookie.setMaxAge(30 * 24 * 60 * 60); // 30일
-                response.addCookie(refreshTokenCookie);
-
-                log.info("기존 회원 로그인 - HttpOnly 쿠키로 토큰 발급");
-            } else {
-                log.info("신규 회원 가입 필요 - 쿠키 발급하지 않음");
-            }
+    @QueryBudget(3)  // 소셜 계정 fetch join + (연동 없으면) 이메일 확인, 탈퇴 회원 재활성화면 UPDATE + 통계 카운터 배치
+    @RateLimit(name = "oauth-login", key = RateLimit.Key.IP, capacity = 20, period = 1, unit = TimeUnit.MINUTES)
+    @RateLimit(name = "oauth-login", key = RateLimit.Key.ENDPOINT, capacity = 100, period = 1, unit = TimeUnit.SECONDS)
+    public CompletableFuture<ResponseEntity<?>> oauthLogin(@RequestBody OAuthLoginRequest request) {
+        log.info("========================================");
+        log.info("OAuth 로그인 요청 시작");
+        log.info("Provider: {}", request.provider());
+        log.info("Code: {}...", request.code().substring(0, Math.min(20, request.code().length())));
+        log.info("========================================");
+
+        // AuthService에 OAuth 로그인 처리 위임
+        return authService.oauthLogin(request)
+                .<ResponseEntity<?>>thenApply(this::toLoginResponse)
+                .exceptionally(this::toLoginErrorResponse);
+    }
 
-            log.info("========================================");
+    /**
+     * 로그인 성공 응답 생성
+     */
+    private ResponseEntity<?> toLoginResponse(JwtTokenResponse tokenResponse) {
+        // 프론트엔드에 응답 반환
+        if (tokenResponse.isNewMember()) {
+            // 신규 회원: OAuth 정보 포함 (쿠키 X)
+            log.info("신규 회원 가입 필요 - 쿠키 발급하지 않음");
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "신규 회원입니다. 닉네임을 입력해주세요",
+                    "isNewMember", true,
+                    "oauthData", Map.of(
+                            "provider", tokenResponse.provider(),
+                            "providerId", tokenResponse.providerId(),
+                            "email", tokenResponse.email(),
+                            "name", tokenResponse.name(),
+                            "profileImageUrl", tokenResponse.profileImageUrl() != null
+                                    ? tokenResponse.profileImageUrl() : ""
+                    )
+            ));
+        }
 
-            // 프론트엔드에 응답 반환
-            if (tokenResponse.isNewMember()) {
-                // 신규 회원: OAuth 정보 포함
-                return ResponseEntity.ok(Map.of(
-                        "success", true,
-                        "message", "신규 회원입니다. 닉네임을 입력해주세요",
-                        "isNewMember", true,
-                        "oauthData", Map.of(
-                                "provider", tokenResponse.provider(),
-                                "providerId", tokenResponse.providerId(),
-                                "email", tokenResponse.email(),
-                                "name", tokenResponse.name(),
-                                "profileImageUrl", tokenResponse.profileImageUrl() != null
-                                        ? tokenResponse.profileImageUrl() : ""
-                        )
-                ));
-            } else {
-                // 기존 회원: 기존 응답
-                return ResponseEntity.ok(Map.of(
+        // 기존 회원: Access/Refresh Token을 HttpOnly 쿠키로 설정
+        log.info("기존 회원 로그인 - HttpOnly 쿠키로 토큰 발급");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE,
+                        tokenCookie("accessToken", tokenResponse.accessToken(), Duration.ofDays(7)).toString())
+                .header(HttpHeaders.SET_COOKIE,
+                        tokenCookie("refreshToken", tokenResponse.refreshToken(), Duration.ofDays(30)).toString())
+                .body(Map.of(
                         "success", true,
                         "message", "로그인 성공",
                         "isNewMember", false,
                         "email", tokenResponse.email()
                 ));
-            }
+    }
 
-        } catch (IllegalArgumentException e) {
+    /**
+     * 로그인 실패 응답 생성 (비동기 예외는 CompletionException으로 감싸져 옴)
+     */
+    private ResponseEntity<?> toLoginErrorResponse(Throwable throwable) {
+        Throwable e = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        if (e instanceof IllegalArgumentException) {
             log.error("========================================");
             log.error("잘못된 OAuth 요청");
             log.error("에러: {}", e.getMessage());
@@ -140,34 +149,61 @@ public class OAuthController {
                             "error", "INVALID_REQUEST",
                             "message", e.getMessage()
                     ));
+        }
 
-        } catch (IllegalStateException e) {
-            log.error("========================================");
-            log.error("OAuth 처리 실패");
-            log.error("에러: {}", e.getMessage(), e);
-            log.error("========================================");
+        if (e instanceof OAuthProviderUnavailableException unavailable) {
+            // 벌크헤드 초과/서킷 열림: 제공자 호출 없이 바로 거부됨 → 잠시 후 재시도 안내
+            log.warn("OAuth 제공자 호출 거부 - provider: {}, reason: {}",
+                    unavailable.getProvider(), unavailable.getMessage());
 
             return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER,
+                            String.valueOf(Math.max(1, unavailable.getRetryAfter().toSeconds())))
                     .body(Map.of(
-                            "error", "OAUTH_FAILED",
-                            "message", e.getMessage()
+                            "error", "OAUTH_PROVIDER_UNAVAILABLE",
+                            "message", unavailable.getMessage()
                     ));
+        }
 
-        } catch (Exception e) {
+        if (e instanceof IllegalStateException) {
             log.error("========================================");
-            log.error("OAuth 로그인 중 예상치 못한 오류 발생");
+            log.error("OAuth 처리 실패");
             log.error("에러: {}", e.getMessage(), e);
             log.error("========================================");
 
             return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .status(HttpStatus.BAD_REQUEST)
                     .body(Map.of(
-                            "error", "SERVER_ERROR",
-                            "message", "OAuth 로그인 처리 중 오류가 발생했습니다.",
-                            "detail", e.getMessage()
+                            "error", "OAUTH_FAILED",
+                            "message", e.getMessage()
                     ));
         }
+
+        log.error("========================================");
+        log.error("OAuth 로그인 중 예상치 못한 오류 발생");
+        log.error("에러: {}", e.getMessage(), e);
+        log.error("========================================");
+
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of(
+                        "error", "SERVER_ERROR",
+                        "message", "OAuth 로그인 처리 중 오류가 발생했습니다.",
+                        "detail", String.valueOf(e.getMessage())
+                ));
+    }
+
+    /**
+     * HttpOnly 토큰 쿠키 생성 (Set-Cookie 헤더용)
+     */
+    private ResponseCookie tokenCookie(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)   // JavaScript 접근 차단
+                .secure(false)    // 개발 환경 (배포 시 true)
+                .path("/")        // 모든 경로에서 쿠키 전송
+                .maxAge(maxAge)
+                .build();
     }
 
 
@@ -191,6 +227,7 @@ public class OAuthController {
      * @return 회원가입 성공 응답
      */
     @PostMapping("/register")
+    @QueryBudget(5)  // 이메일/닉네임 확인 + INSERT 2 (회원, 소셜 계정) + 통계 카운터 배치
     public ResponseEntity<?> registerWithOAuth(
             @RequestBody SocialLoginRequest request,
             HttpServletResponse response
@@ -256,17 +293,33 @@ public class OAuthController {
     /**
      * 로그아웃 API
      *
+     * 서버 세션 폐기:
+     * - Refresh Token의 세션 패밀리를 Redis에서 삭제 (탈취된 토큰으로도 재발급 불가)
+     * - 현재 Access Token을 폐기 목록에 추가 (만료 전이라도 즉시 사용 불가)
+     *
      * HttpOnly 쿠키 삭제:
      * - Access Token 쿠키 삭제
      * - Refresh Token 쿠키 삭제
      *
+     * @param request HttpServletRequest (쿠키 읽기용)
      * @param response HttpServletResponse (쿠키 삭제용)
      * @return 로그아웃 성공 메시지
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
+    @QueryBudget(0)  // Redis만
+    public ResponseEntity<?> logout(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
         log.info("로그아웃 요청");
 
+        // 세션 폐기에 실패해도 쿠키는 반드시 지움
+        try {
+            authService.logout(extractRefreshToken(request), extractCookie(request, "accessToken"));
+        } catch (Exception e) {
+            log.warn("Refresh 세션 폐기 실패 - reason: {}", e.getMessage());
+        }
+
         // Access Token 쿠키 삭제 (MaxAge를 0으로 설정)
         Cookie accessTokenCookie = new Cookie("accessToken", null);
         accessTokenCookie.setHttpOnly(true);
@@ -296,9 +349,9 @@ public class OAuthController {
      *
      * 흐름:
      * 1. 쿠키에서 Refresh Token 추출
-     * 2. Refresh Token 검증
-     * 3. 유효하면 새로운 Access Token 발급
-     * 4. 새 Access Token을 쿠키로 설정
+     * 2. Refresh Token 검증 (AuthService에 위임)
+     * 3. 유효하면 회원의 최신 역할/등급으로 새로운 Access Token 발급
+     * 4. 새 Access Token + 교체된 Refresh Token을 쿠키로 설정
      *
      * 왜 필요한가?
      * - Access Token은 짧은 유효기간 (7일)
@@ -308,7 +361,7 @@ public class OAuthController {
      *
      * 실무 팁:
      * - 실제 서비스에서는 Access Token을 더 짧게 (15분~1시간)
-     * - Refresh Token도 DB에 저장해서 관리
+     * - Refresh Token은 Redis 세션 패밀리로 관리 (재발급마다 교체, 재사용 시 폐기)
      * - Refresh Token도 만료되면 다시 로그인 필요
      *
      * @param request HttpServletRequest (쿠키 읽기용)
@@ -316,6 +369,7 @@ public class OAuthController {
      * @return 갱신 결과
      */
     @PostMapping("/refresh")
+    @QueryBudget(1)  // 세션 스냅샷이 stale일 때만 회원 조회
     public ResponseEntity<?> refresh(
             HttpServletRequest request,
             HttpServletResponse response
@@ -331,28 +385,34 @@ public class OAuthController {
                 throw new IllegalStateException("Refresh Token이 없습니다. 다시 로그인해주세요.");
             }
 
-            // 2. Refresh Token 검증
-            if (!jwtUtil.validateToken(refreshToken)) {
-                log.warn("유효하지 않은 Refresh Token");
+            // 2~3. Refresh Token 검증 + 최신 회원 정보로 새 Access Token 발급
+            //      (역할/등급이 바뀌어 이전 토큰이 거부된 경우에도 여기서 복구됨)
+            JwtTokenResponse tokenResponse;
+            try {
+                tokenResponse = authService.refreshAccessToken(refreshToken);
+            } catch (IllegalArgumentException | MemberException e) {
+                log.warn("유효하지 않은 Refresh Token - reason: {}", e.getMessage());
                 throw new IllegalStateException("유효하지 않은 Refresh Token입니다. 다시 로그인해주세요.");
             }
 
-            // 3. Refresh Token에서 사용자 정보 추출
-            Long memberId = jwtUtil.getMemberIdFromToken(refreshToken);
-            String email = jwtUtil.getEmailFromToken(refreshToken);
-
-            // 4. 새로운 Access Token 발급
-            String newAccessToken = jwtUtil.generateAccessToken(memberId, email);
-
-            // 5. 새 Access Token을 쿠키로 설정
-            Cookie accessTokenCookie = new Cookie("accessToken", newAccessToken);
+            // 4. 새 Access Token을 쿠키로 설정
+            Cookie accessTokenCookie = new Cookie("accessToken", tokenResponse.accessToken());
             accessTokenCookie.setHttpOnly(true);
             accessTokenCookie.setSecure(false);
             accessTokenCookie.setPath("/");
             accessTokenCookie.setMaxAge(7 * 24 * 60 * 60); // 7일
             response.addCookie(accessTokenCookie);
 
-            log.info("Access Token 갱신 성공 - memberId: {}", memberId);
+            // 5. 교체된 Refresh Token도 쿠키로 설정
+            //    (예전 Refresh Token을 다시 보내면 재사용으로 간주되어 세션이 폐기됨)
+            Cookie refreshTokenCookie = new Cookie("refreshToken", tokenResponse.refreshToken());
+            refreshTokenCookie.setHttpOnly(true);
+            refreshTokenCookie.setSecure(false);
+            refreshTokenCookie.setPath("/");
+            refreshTokenCookie.setMaxAge(30 * 24 * 60 * 60); // 30일
+            response.addCookie(refreshTokenCookie);
+
+            log.info("Access Token 갱신 성공");
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -386,11 +446,22 @@ public class OAuthController {
      * @return Refresh Token (없으면 null)
      */
     private String extractRefreshToken(HttpServletRequest request) {
+        return extractCookie(request, "refreshToken");
+    }
+
+    /**
+     * 쿠키 값 추출 (Private 헬퍼 메서드)
+     *
+     * @param request HttpServletRequest
+     * @param name 쿠키 이름
+     * @return 쿠키 값 (없으면 null)
+     */
+    private String extractCookie(HttpServletRequest request, String name) {
         Cookie[] cookies = request.getCookies();
 
         if (cookies != null) {
             for (Cookie cookie : cookies) {
-                if ("refreshToken".equals(cookie.getName())) {
+                if (name.equals(cookie.getName())) {
                     return cookie.getValue();
                 }
             }
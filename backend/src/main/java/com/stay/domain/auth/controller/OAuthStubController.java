@@ -0,0 +1,136 @@
+package com.stay.domain.auth.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 소셜 제공자 스텁 서버 (oauth-stub 프로필 전용)
+ *
+ * 왜 필요한가?
+ * - 실제 구글/네이버/카카오로는 부하 테스트를 할 수 없음 (약관, 호출 제한, 진짜 code 필요)
+ * - 제공자와 같은 모양의 응답을 지연/실패율을 조절해서 돌려주므로
+ *   벌크헤드, 서킷 브레이커, 헤지 요청을 오프라인에서 확인할 수 있음
+ *
+ * 사용법:
+ * - SPRING_PROFILES_ACTIVE=dev,oauth-stub 로 실행 (application-oauth-stub.yml이 제공자 URI를 여기로 바꿈)
+ * - POST /api/auth/login { "provider": "kakao", "code": "아무값" } 으로 부하 발생
+ * - 제공자별 지연/실패율: oauth.stub.{google|naver|kakao}.latency-ms / failure-rate
+ *
+ * 응답은 Mono.delay로 지연시켜서 스텁이 Tomcat 스레드를 잡고 있지 않게 한다.
+ */
+@Slf4j
+@Profile("oauth-stub")
+@RestController
+@RequestMapping("/oauth-stub")
+public class OAuthStubController {
+
+    private final Map<String, StubBehavior> behaviors;
+
+    public OAuthStubController(
+            @Value("${oauth.stub.google.latency-ms:50}") long googleLatency,
+            @Value("${oauth.stub.google.failure-rate:0.0}") double googleFailureRate,
+            @Value("${oauth.stub.naver.latency-ms:50}") long naverLatency,
+            @Value("${oauth.stub.naver.failure-rate:0.0}") double naverFailureRate,
+            @Value("${oauth.stub.kakao.latency-ms:50}") long kakaoLatency,
+            @Value("${oauth.stub.kakao.failure-rate:0.0}") double kakaoFailureRate,
+            @Value("${oauth.stub.jitter-ms:20}") long jitter
+    ) {
+        this.behaviors = Map.of(
+                "google", new StubBehavior(googleLatency, jitter, googleFailureRate),
+                "naver", new StubBehavior(naverLatency, jitter, naverFailureRate),
+                "kakao", new StubBehavior(kakaoLatency, jitter, kakaoFailureRate)
+        );
+        log.warn("OAuth 스텁 서버 활성화 - 실제 소셜 제공자를 호출하지 않습니다");
+    }
+
+    /**
+     * 토큰 발급 (code → access_token)
+     */
+    @PostMapping("/{provider}/token")
+    public Mono<ResponseEntity<Map<String, Object>>> token(
+            @PathVariable String provider,
+            @RequestParam Map<String, String> params
+    ) {
+        String code = params.getOrDefault("code", "stub");
+        return respond(provider, Map.of(
+                "access_token", "stub-" + provider + "-" + code,
+                "token_type", "bearer",
+                "expires_in", 3600
+        ));
+    }
+
+    /**
+     * 사용자 정보 조회 (제공자별 응답 모양 그대로)
+     *
+     * 같은 access_token이면 항상 같은 사용자 → 반복 로그인 부하를 재현할 수 있음
+     */
+    @GetMapping("/{provider}/userinfo")
+    public Mono<ResponseEntity<Map<String, Object>>> userInfo(
+            @PathVariable String provider,
+            @RequestHeader(value = "Authorization", defaultValue = "Bearer stub") String authorization
+    ) {
+        String token = authorization.replaceFirst("(?i)^Bearer ", "");
+        long id = Math.abs((long) token.hashCode());
+        String email = "stub" + id + "@" + provider + ".test";
+        String name = "스텁사용자" + (id % 10_000);
+
+        Map<String, Object> body = switch (provider) {
+            case "google" -> Map.of(
+                    "id", String.valueOf(id),
+                    "email", email,
+                    "name", name,
+                    "picture", ""
+            );
+            case "naver" -> Map.of(
+                    "resultcode", "00",
+                    "message", "success",
+                    "response", Map.of(
+                            "id", String.valueOf(id),
+                            "email", email,
+                            "name", name,
+                            "profile_image", ""
+                    )
+            );
+            case "kakao" -> Map.of(
+                    "id", id,
+                    "kakao_account", Map.of(
+                            "email", email,
+                            "profile", Map.of(
+                                    "nickname", name,
+                                    "profile_image_url", ""
+                            )
+                    )
+            );
+            default -> null;
+        };
+        return respond(provider, body);
+    }
+
+    private Mono<ResponseEntity<Map<String, Object>>> respond(String provider, Map<String, Object> body) {
+        StubBehavior behavior = behaviors.get(provider);
+        if (behavior == null || body == null) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = behavior.latencyMillis() + (behavior.jitterMillis() > 0 ? random.nextLong(behavior.jitterMillis()) : 0);
+        boolean fail = random.nextDouble() < behavior.failureRate();
+
+        ResponseEntity<Map<String, Object>> response = fail
+                ? ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "stub_failure"))
+                : ResponseEntity.ok(body);
+        return Mono.delay(Duration.ofMillis(delay)).thenReturn(response);
+    }
+
+    private record StubBehavior(long latencyMillis, long jitterMillis, double failureRate) {
+    }
+}
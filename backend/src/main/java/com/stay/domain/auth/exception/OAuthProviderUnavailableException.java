@@ -0,0 +1,37 @@
+package com.stay.domain.auth.exception;
+
+import com.stay.domain.member.entity.SocialProvider;
+
+import java.time.Duration;
+
+/**
+ * 소셜 제공자 호출 거부 예외 (벌크헤드 초과, 서킷 열림)
+ *
+ * 왜 따로 두나?
+ * - 제공자가 응답하지 않아서 실패한 게 아니라 우리 쪽에서 호출을 막은 것
+ * - 컨트롤러가 400이 아니라 503 + Retry-After로 응답해서 클라이언트가 잠시 뒤 재시도하도록 함
+ *
+ * IllegalStateException을 상속하므로 기존 OAuth 실패 처리 흐름도 그대로 탄다.
+ */
+public class OAuthProviderUnavailableException extends IllegalStateException {
+
+    private final SocialProvider provider;
+    private final Duration retryAfter;
+
+    public OAuthProviderUnavailableException(SocialProvider provider, String message, Duration retryAfter) {
+        super(message);
+        this.provider = provider;
+        this.retryAfter = retryAfter;
+    }
+
+    public SocialProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * 다시 시도해볼 만한 시간
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
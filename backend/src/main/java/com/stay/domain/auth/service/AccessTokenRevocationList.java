@@ -0,0 +1,246 @@
+package com.stay.domain.auth.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.stay.config.JwtProperties;
+import com.stay.domain.auth.util.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기 목록 (서버마다 메모리에 복제)
+ *
+ * 왜 필요한가?
+ * - JWT는 서버가 상태를 안 가지므로 로그아웃/탈취가 확인돼도 만료 전까지 유효함
+ * - 매 요청마다 Redis를 조회하면 모든 API에 네트워크 왕복이 하나씩 추가됨
+ * - 폐기 목록을 각 서버 메모리에 두고 필터가 로컬에서 바로 판단 (수십 ns)
+ *
+ * 구조:
+ * - Bloom 필터: 폐기된 jti 집합 (대부분의 정상 토큰은 여기서 바로 "아님"으로 끝남)
+ * - 정확 집합: jti → 만료 시각 (Bloom 필터 오탐 제거)
+ * - 회원별 기준 시각: memberId → 이 시각 이전에 발급된 토큰 전부 폐기 (토큰 탈취 감지 시)
+ *
+ * 동기화:
+ * - Redis ZSET(auth:revoked:jti, auth:revoked:member): 기동 시 스냅샷 로드
+ * - Redis Pub/Sub(auth:revoked): 다른 서버에 실시간 전파
+ *
+ * 토큰이 만료되면 폐기 항목도 필요 없으므로 주기적으로 정리하고 Bloom 필터를 다시 만든다.
+ * (역할/등급 변경, 비활성화는 AuthVersionRegistry가 담당)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRevocationList implements MessageListener {
+
+    private static final String TOKENS_KEY = "auth:revoked:jti";
+    private static final String MEMBERS_KEY = "auth:revoked:member";
+    private static final String CHANNEL = "auth:revoked";
+
+    // 메시지 형식: "t|{jti}|{만료 ms}" / "m|{memberId}|{기준 ms}"
+    private static final String TYPE_TOKEN = "t";
+    private static final String TYPE_MEMBER = "m";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 폐기된 jti → 토큰 만료 시각(ms)
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * memberId → 이 시각(ms) 이전에 발급된 Access Token 폐기
+     */
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * 폐기된 jti Bloom 필터 (정리 시 새로 만들어 교체)
+     */
+    private volatile BloomFilter<CharSequence> bloomFilter;
+
+    @PostConstruct
+    void init() {
+        bloomFilter = newBloomFilter();
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // ==================== 조회 (필터에서 매 요청 호출) ====================
+
+    /**
+     * 폐기된 토큰인지 확인 (메모리만 사용)
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!revokedBefore.isEmpty()) {
+            Long cutoff = revokedBefore.get(token.memberId());
+            // iat는 초 단위라서 같은 초에 발급된 토큰도 폐기 쪽으로 판단
+            if (cutoff != null && token.issuedAt() != null && token.issuedAt().toEpochMilli() <= cutoff) {
+                return true;
+            }
+        }
+
+        String tokenId = token.tokenId();
+        if (tokenId == null || revokedTokens.isEmpty()) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    // ==================== 폐기 ====================
+
+    /**
+     * Access Token 하나 폐기 (로그아웃)
+     *
+     * @param tokenId   jti
+     * @param expiresAt 토큰 만료 시각 (이후에는 항목 삭제)
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        addToken(tokenId, expiresAtMillis);
+
+        try {
+            redisTemplate.opsForZSet().add(TOKENS_KEY, tokenId, expiresAtMillis);
+            redisTemplate.convertAndSend(CHANNEL, TYPE_TOKEN + "|" + tokenId + "|" + expiresAtMillis);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 전파 실패 - jti: {}, reason: {}", tokenId, e.getMessage());
+        }
+    }
+
+    /**
+     * 회원의 현재 시각 이전 발급 Access Token 전부 폐기 (토큰 탈취 감지 등)
+     */
+    public void revokeMember(Long memberId) {
+        long cutoff = System.currentTimeMillis();
+        addMember(memberId, cutoff);
+
+        try {
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, String.valueOf(memberId), cutoff);
+            redisTemplate.convertAndSend(CHANNEL, TYPE_MEMBER + "|" + memberId + "|" + cutoff);
+        } catch (Exception e) {
+            log.warn("회원 토큰 폐기 전파 실패 - memberId: {}, reason: {}", memberId, e.getMessage());
+        }
+
+        log.info("회원 Access Token 전체 폐기 - memberId: {}", memberId);
+    }
+
+    // ==================== 동기화 ====================
+
+    /**
+     * 다른 서버에서 발행한 폐기 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|");
+        try {
+            if (TYPE_TOKEN.equals(parts[0])) {
+                addToken(parts[1], Long.parseLong(parts[2]));
+            } else if (TYPE_MEMBER.equals(parts[0])) {
+                addMember(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 메시지 - body: {}", body);
+        }
+    }
+
+    /**
+     * 서버 시작 시 아직 만료되지 않은 폐기 항목 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        long now = System.currentTimeMillis();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tokens =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(TOKENS_KEY, now, Double.MAX_VALUE);
+            if (tokens != null) {
+                tokens.forEach(t -> addToken(t.getValue(), t.getScore().longValue()));
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(MEMBERS_KEY, now - jwtProperties.getAccessTokenValidity(), Double.MAX_VALUE);
+            if (members != null) {
+                members.forEach(m -> addMember(Long.valueOf(m.getValue()), m.getScore().longValue()));
+            }
+
+            log.info("토큰 폐기 목록 로드 완료 - jti: {}건, 회원: {}건", revokedTokens.size(), revokedBefore.size());
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 로드 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 + Bloom 필터 재생성 (Bloom 필터는 삭제가 안 되므로)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void prune() {
+        long now = System.currentTimeMillis();
+        long memberCutoffLimit = now - jwtProperties.getAccessTokenValidity();
+
+        // 기준 시각 이후 Access Token 유효기간이 지나면 그 전에 발급된 토큰은 모두 만료됨
+        revokedBefore.values().removeIf(cutoff -> cutoff < memberCutoffLimit);
+
+        if (revokedTokens.values().removeIf(expiresAt -> expiresAt < now)) {
+            rebuildBloomFilter();
+        }
+
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(TOKENS_KEY, 0, now);
+            redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, memberCutoffLimit);
+        } catch (Exception e) {
+            log.debug("Redis 폐기 목록 정리 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 정확 집합과 Bloom 필터에 함께 추가
+     * (재생성과 겹치면 새 필터에서 빠질 수 있으므로 같은 락 사용, 추가는 드물게 일어남)
+     */
+    private synchronized void addToken(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis < System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenId);
+    }
+
+    private void addMember(Long memberId, long cutoff) {
+        revokedBefore.merge(memberId, cutoff, Math::max);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter<CharSequence> rebuilt = newBloomFilter();
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter() {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        return BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8),
+                revocation.getExpectedInsertions(),
+                revocation.getFalsePositiveRate()
+        );
+    }
+}
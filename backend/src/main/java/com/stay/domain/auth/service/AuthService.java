@@ -3,23 +3,36 @@ package com.stay.domain.auth.service;
 import com.stay.config.JwtProperties;
 import com.stay.domain.auth.dto.JwtTokenResponse;
 import com.stay.domain.auth.dto.OAuthLoginRequest;
+import com.stay.domain.auth.util.AccessTokenSubject;
 import com.stay.domain.auth.util.JwtUtil;
+import com.stay.domain.auth.util.VerifiedToken;
 import com.stay.domain.member.dto.SocialLoginRequest;
 import com.stay.domain.member.dto.SocialLoginResult;
 import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.domain.member.service.MemberActivityTracker;
 import com.stay.domain.member.service.MemberService;
+import com.stay.global.querybudget.StatementScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 서비스
  *
  * 책임:
  * - OAuth 로그인 처리 (OAuthService에 위임)
  * - JWT 토큰 발급
- * - 토큰 재발급
+ * - 토큰 재발급 (RefreshSessionStore로 Redis에서 처리)
+ * - 로그아웃 (세션 패밀리 폐기)
  */
 @Slf4j
 @Service
@@ -30,6 +43,9 @@ public class AuthService {
     private final OAuthService oauthService;
     private final JwtUtil jwtUtil;
     private final JwtProperties jwtProperties;
+    private final RefreshSessionStore refreshSessionStore;
+    private final AccessTokenRevocationList revocationList;
+    private final MemberActivityTracker memberActivityTracker;
 
     /**
      * OAuth 로그인 처리
@@ -39,52 +55,71 @@ public class AuthService {
      * - 신규: 기존 회원은 로그인, 신규 회원은 OAuth 정보만 반환
      *
      * 흐름:
-     * 1. OAuth 처리: code → 사용자 정보
+     * 1. OAuth 처리: code → 사용자 정보 (논블로킹, 요청 스레드 점유 X)
      * 2. 이메일로 기존 회원 확인
      *    - 기존 회원: 로그인 처리 (토큰 발급)
      *    - 신규 회원: OAuth 정보만 반환 (DB 저장 X)
      *
+     * 스레드:
+     * - 1번은 Netty 이벤트 루프에서 진행 (제공자 응답 대기 중 스레드 없음)
+     * - 2번은 DB/Redis 블로킹 호출이므로 boundedElastic 스케줄러로 넘김
+     *   (이벤트 루프를 막으면 다른 로그인의 외부 호출까지 멈춤)
+     *
      * @param request OAuth 로그인 요청 (provider, code)
      * @return JWT 토큰 (기존 회원) 또는 OAuth 정보 (신규 회원)
      */
-    public JwtTokenResponse oauthLogin(OAuthLoginRequest request) {
+    public CompletableFuture<JwtTokenResponse> oauthLogin(OAuthLoginRequest request) {
         log.info("OAuth 로그인 처리 시작 - provider: {}", request.provider());
 
+        // 요청의 SQL 문 수 세기를 boundedElastic 스레드까지 이어감 (@QueryBudget)
+        StatementScope statementScope = StatementScope.current();
+
         // 1. OAuth 처리: code → 사용자 정보
-        SocialLoginRequest socialLoginRequest = oauthService.processOAuthLogin(
-                request.provider(),
-                request.code()
-        );
+        return oauthService.processOAuthLogin(request.provider(), request.code())
+                .publishOn(Schedulers.boundedElastic())
+                .map(socialLoginRequest -> StatementScope.callWithin(statementScope,
+                        () -> completeOAuthLogin(socialLoginRequest)))
+                .toFuture();
+    }
 
-        log.info("OAuth 사용자 정보 조회 완료 - email: {}", socialLoginRequest.email());
+    /**
+     * 기존 회원 로그인 마무리 (JWT 발급)
+     */
+    private JwtTokenResponse completeMemberLogin(Member member) {
+        // JWT 토큰 발급 (새 세션 패밀리 생성)
+        IssuedTokens tokens = issueTokens(member);
 
-        // 2. 이메일로 기존 회원인지 확인
-        boolean alreadyExists = memberService.existsByEmail(socialLoginRequest.email());
+        log.info("OAuth 로그인 완료 - memberId: {}, email: {}", member.getId(), member.getEmail());
 
-        if (alreadyExists) {
-            // 기존 회원: 로그인 처리
-            log.info("기존 회원 로그인 - email: {}", socialLoginRequest.email());
+        return JwtTokenResponse.of(
+                tokens.accessToken(),
+                tokens.refreshToken(),
+                jwtProperties.getAccessTokenValidity(),
+                false,  // 기존 회원
+                member.getEmail()
+        );
+    }
 
-            SocialLoginResult result = memberService.socialLogin(socialLoginRequest);
+    /**
+     * OAuth 사용자 정보로 로그인 마무리 (DB/Redis 작업)
+     */
+    private JwtTokenResponse completeOAuthLogin(SocialLoginRequest socialLoginRequest) {
+        log.info("OAuth 사용자 정보 조회 완료 - email: {}", socialLoginRequest.email());
 
-            // JWT 토큰 발급
-            String accessToken = jwtUtil.generateAccessToken(
-                    result.getMember().getId(),
-                    result.getMember().getEmail()
-            );
-            String refreshToken = jwtUtil.generateRefreshToken(result.getMember().getId());
+        // 2. 연동된 소셜 계정으로 바로 로그인 (소셜 계정 + 회원 fetch join, SELECT 1번)
+        Optional<Member> returningMember = memberService.loginSocialMember(socialLoginRequest);
+        if (returningMember.isPresent()) {
+            return completeMemberLogin(returningMember.get());
+        }
 
-            log.info("OAuth 로그인 완료 - memberId: {}, email: {}",
-                    result.getMember().getId(),
-                    result.getMember().getEmail());
+        // 3. 연동된 소셜 계정이 없으면 이메일로 기존 회원인지 확인
+        boolean alreadyExists = memberService.existsByEmail(socialLoginRequest.email());
 
-            return JwtTokenResponse.of(
-                    accessToken,
-                    refreshToken,
-                    jwtProperties.getAccessTokenValidity(),
-                    false,  // 기존 회원
-                    result.getMember().getEmail()
-            );
+        if (alreadyExists) {
+            // 같은 이메일로 다른 방법으로 가입한 회원: 연동된 계정이 없으니 가입도 로그인도 불가
+            // (소셜 계정 재조회 + 이메일 재확인을 거쳐 같은 예외로 끝나던 것을 바로 거절)
+            log.warn("다른 방법으로 가입된 이메일 - email: {}", socialLoginRequest.email());
+            throw new MemberException(MemberErrorCode.DUPLICATE_EMAIL);
 
         } else {
             // 신규 회원: OAuth 정보만 반환 (DB 저장 X)
@@ -122,27 +157,21 @@ public class AuthService {
                 request.email(),
                 request.nickname());
 
-        // 1. 닉네임 중복 체크
-        if (memberService.existsByNickname(request.nickname())) {  // ← MemberService 사용!
-            log.warn("닉네임 중복 - nickname: {}", request.nickname());
-            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다");
-        }
-
-        // 2. 이메일로 이미 가입된 회원인지 확인
-        if (memberService.existsByEmail(request.email())) {  // ← MemberService 사용!
-            log.warn("이미 가입된 이메일 - email: {}", request.email());
-            throw new IllegalArgumentException("이미 가입된 계정입니다");
+        // 1. 회원 가입 처리 (이메일/닉네임 중복 확인은 registerSocialMember에서 한 번만)
+        Member savedMember;
+        try {
+            savedMember = memberService.registerSocialMember(request);
+        } catch (MemberException e) {
+            switch (e.getErrorCode()) {
+                case DUPLICATE_NICKNAME -> throw new IllegalArgumentException("이미 사용 중인 닉네임입니다");
+                case DUPLICATE_EMAIL -> throw new IllegalArgumentException("이미 가입된 계정입니다");
+                default -> throw e;
+            }
         }
+        memberActivityTracker.recordSignup(savedMember.getId());
 
-        // 3. 회원 가입 처리
-        Member savedMember = memberService.registerSocialMember(request);
-
-        // 4. JWT 토큰 발급
-        String accessToken = jwtUtil.generateAccessToken(
-                savedMember.getId(),
-                savedMember.getEmail()
-        );
-        String refreshToken = jwtUtil.generateRefreshToken(savedMember.getId());
+        // 2. JWT 토큰 발급 (새 세션 패밀리 생성)
+        IssuedTokens tokens = issueTokens(savedMember);
 
         log.info("OAuth 최종 회원가입 완료 - memberId: {}, email: {}, nickname: {}",
                 savedMember.getId(),
@@ -150,8 +179,8 @@ public class AuthService {
                 savedMember.getNickname());
 
         return JwtTokenResponse.of(
-                accessToken,
-                refreshToken,
+                tokens.accessToken(),
+                tokens.refreshToken(),
                 jwtProperties.getAccessTokenValidity(),
                 false,
                 savedMember.getEmail()
@@ -169,12 +198,11 @@ public class AuthService {
                 request.provider(), request.email());
 
         SocialLoginResult result = memberService.socialLogin(request);
+        if (result.isNewMember()) {
+            memberActivityTracker.recordSignup(result.getMember().getId());
+        }
 
-        String accessToken = jwtUtil.generateAccessToken(
-                result.getMember().getId(),
-                result.getMember().getEmail()
-        );
-        String refreshToken = jwtUtil.generateRefreshToken(result.getMember().getId());
+        IssuedTokens tokens = issueTokens(result.getMember());
 
         log.info("JWT 토큰 발급 완료 - memberId: {}, email: {}",
                 result.getMember().getId(),
@@ -182,8 +210,8 @@ public class AuthService {
         );
 
         return JwtTokenResponse.of(
-                accessToken,
-                refreshToken,
+                tokens.accessToken(),
+                tokens.refreshToken(),
                 jwtProperties.getAccessTokenValidity(),
                 result.isNewMember(),
                 result.getMember().getEmail()
@@ -192,25 +220,66 @@ public class AuthService {
 
     /**
      * Access Token 재발급
+     *
+     * 흐름:
+     * 1. Refresh Token 서명/만료 검증 (JWT)
+     * 2. Redis 세션 패밀리에서 jti 확인 + 새 jti로 교체 (Lua 1회)
+     *    - 이미 교체된 토큰이면 탈취로 보고 패밀리 폐기
+     * 3. 패밀리에 저장된 회원 스냅샷으로 새 Access Token 발급
+     *    - 역할/등급이 바뀌어 스냅샷이 stale이면 그때만 DB 조회
+     *
+     * 세션 도입 전에 발급된 Refresh Token(fam 클레임 없음)은
+     * DB에서 회원을 확인한 뒤 새 패밀리를 만들어 준다.
      */
-    @Transactional(readOnly = true)
     public JwtTokenResponse refreshAccessToken(String refreshToken) {
         log.info("Access Token 재발급 요청");
 
-        // 1. Refresh Token 유효성 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+        // 1. Refresh Token 유효성 검증 (검증 한 번으로 회원 ID까지 추출)
+        VerifiedToken verified = jwtUtil.tryVerify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token입니다."));
+
+        Long memberId = verified.memberId();
+
+        if (isLegacy(verified)) {
+            // 세션 도입 전 토큰: 한 번만 새 세션으로 전환 (다시 오면 재사용)
+            if (!refreshSessionStore.consumeLegacy(memberId, verified.issuedAt(), verified.expiresAt())) {
+                throw new IllegalArgumentException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+            }
+            log.info("세션 없는 Refresh Token - 새 세션으로 전환 - memberId: {}", memberId);
+            IssuedTokens tokens = issueTokens(memberService.findActiveById(memberId));
+            return JwtTokenResponse.of(
+                    tokens.accessToken(),
+                    tokens.refreshToken(),
+                    jwtProperties.getAccessTokenValidity()
+            );
         }
 
-        // 2. Refresh Token에서 회원 ID 추출
-        Long memberId = jwtUtil.getMemberIdFromToken(refreshToken);
+        // 2. 세션 패밀리에서 교체
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshSessionStore.Rotation rotation =
+                refreshSessionStore.rotate(verified.familyId(), verified.tokenId(), newTokenId);
+
+        switch (rotation.status()) {
+            case MISSING -> throw new IllegalArgumentException("만료되었거나 로그아웃된 세션입니다.");
+            case REUSED -> {
+                // 탈취 의심: 이 회원에게 지금까지 발급된 Access Token도 모두 폐기
+                revocationList.revokeMember(memberId);
+                throw new IllegalArgumentException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+            }
+            default -> { }
+        }
 
-        // 3. 회원 존재 여부 확인
-        Member member = memberService.findById(memberId);
+        // 3. 스냅샷으로 새 토큰 발급 (stale이면 DB에서 최신 값 반영)
+        AccessTokenSubject subject = rotation.subject();
+        if (rotation.stale()) {
+            subject = AccessTokenSubject.from(memberService.findActiveById(memberId));
+            refreshSessionStore.updateSnapshot(verified.familyId(), subject);
+        }
 
-        // 4. 새로운 토큰 발급
-        String newAccessToken = jwtUtil.generateAccessToken(member.getId(), member.getEmail());
-        String newRefreshToken = jwtUtil.generateRefreshToken(member.getId());
+        String newAccessToken = jwtUtil.generateAccessToken(subject);
+        String newRefreshToken = jwtUtil.generateRefreshToken(memberId, verified.familyId(), rotation.tokenId());
+        memberActivityTracker.recordActive(memberId);
 
         log.info("토큰 재발급 완료 - memberId: {}", memberId);
 
@@ -221,4 +290,60 @@ public class AuthService {
                 jwtProperties.getAccessTokenValidity()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃 - Refresh Token의 세션 패밀리 + 현재 Access Token 폐기
+     *
+     * 쿠키만 지우면 탈취된 토큰으로 계속 접근/재발급할 수 있으므로
+     * 서버 쪽 세션과 Access Token도 같이 폐기한다. 토큰이 이미 만료/위조된 경우는 지울 것이 없음.
+     *
+     * @param refreshToken 쿠키의 Refresh Token (없으면 null)
+     * @param accessToken  쿠키의 Access Token (없으면 null)
+     */
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null) {
+            jwtUtil.tryVerify(refreshToken)
+                    .filter(VerifiedToken::isRefreshToken)
+                    .ifPresent(verified -> {
+                        if (isLegacy(verified)) {
+                            refreshSessionStore.consumeLegacy(verified.memberId(), verified.issuedAt(), verified.expiresAt());
+                        } else {
+                            refreshSessionStore.revoke(verified.memberId(), verified.familyId());
+                        }
+                    });
+        }
+
+        if (accessToken != null) {
+            jwtUtil.tryVerify(accessToken)
+                    .filter(VerifiedToken::isAccessToken)
+                    .filter(verified -> verified.tokenId() != null)
+                    .ifPresent(verified -> revocationList.revokeToken(verified.tokenId(), verified.expiresAt()));
+        }
+    }
+
+    /**
+     * 세션 도입 전 Refresh Token (fam/jti 클레임 없음)
+     */
+    private static boolean isLegacy(VerifiedToken verified) {
+        return verified.familyId() == null || verified.tokenId() == null;
+    }
+
+    /**
+     * Access/Refresh Token 발급 + 새 세션 패밀리 생성
+     * - 로그인/가입/세션 전환 공통이라 여기서 활성 회원 기록 (메모리만, 로그인 지연 없음)
+     */
+    private IssuedTokens issueTokens(Member member) {
+        memberActivityTracker.recordActive(member.getId());
+        AccessTokenSubject subject = AccessTokenSubject.from(member);
+        String tokenId = UUID.randomUUID().toString();
+        String familyId = refreshSessionStore.create(subject, tokenId);
+
+        return new IssuedTokens(
+                jwtUtil.generateAccessToken(subject),
+                jwtUtil.generateRefreshToken(member.getId(), familyId, tokenId)
+        );
+    }
+
+    private record IssuedTokens(String accessToken, String refreshToken) {
+    }
+}
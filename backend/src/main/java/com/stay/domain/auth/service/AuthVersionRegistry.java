@@ -0,0 +1,159 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.auth.util.VerifiedToken;
+import com.stay.domain.member.event.MemberChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 최신 권한 버전 저장소
+ *
+ * 왜 필요한가?
+ * - Access Token에 역할/등급/상태를 넣으면 DB 조회 없이 인가할 수 있지만
+ *   토큰 만료 전에 역할이 바뀌면 예전 권한으로 계속 접근할 수 있음
+ * - 권한이 바뀐 회원의 최신 버전만 메모리에 들고 있다가
+ *   토큰의 ver 클레임이 더 낮으면 거부 → 클라이언트가 /refresh로 새 토큰을 받음
+ *
+ * 저장 전략:
+ * - 메모리(ConcurrentHashMap): 필터가 매 요청 조회 (네트워크 왕복 없음)
+ * - Redis(auth:version:{memberId}): 재시작한 서버가 startup 시 다시 채움
+ * - Redis Pub/Sub(auth:version): 다른 서버에 변경 사항 전파
+ *
+ * 항목은 Access Token 유효기간이 지나면 의미가 없으므로
+ * (그 전에 발급된 토큰이 전부 만료됨) 같은 기간이 지나면 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthVersionRegistry implements MessageListener {
+
+    private static final String KEY_PREFIX = "auth:version:";
+    private static final String CHANNEL = "auth:version";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * memberId → 최신 권한 버전 (권한이 바뀐 회원만 보관)
+     */
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    private record Entry(int version, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 토큰이 발급된 뒤로 권한이 바뀌지 않았는지 확인
+     *
+     * @param token 검증된 Access Token
+     * @return 최신 버전 이상이면 true
+     */
+    public boolean isCurrent(VerifiedToken token) {
+        Entry entry = versions.get(token.memberId());
+        if (entry == null) {
+            return true;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            versions.remove(token.memberId(), entry);
+            return true;
+        }
+        return token.authVersion() >= entry.version();
+    }
+
+    /**
+     * 회원 권한 변경 이벤트 처리
+     *
+     * 트랜잭션 커밋 후에만 반영 (롤백된 변경으로 토큰을 끊지 않도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        record(event.memberId(), event.authVersion());
+
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + event.memberId(),
+                    String.valueOf(event.authVersion()),
+                    Duration.ofMillis(jwtProperties.getAccessTokenValidity())
+            );
+            redisTemplate.convertAndSend(CHANNEL, event.memberId() + ":" + event.authVersion());
+        } catch (Exception e) {
+            // Redis 장애 시에도 이 서버에서는 이미 반영됨
+            log.warn("권한 버전 전파 실패 - memberId: {}, version: {}, reason: {}",
+                    event.memberId(), event.authVersion(), e.getMessage());
+        }
+
+        log.info("권한 버전 갱신 - memberId: {}, type: {}, version: {}",
+                event.memberId(), event.type(), event.authVersion());
+    }
+
+    /**
+     * 다른 서버에서 발행한 권한 변경 수신
+     * 메시지 형식: "{memberId}:{version}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            record(Long.parseLong(body.substring(0, separator)),
+                    Integer.parseInt(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 권한 버전 메시지 - body: {}", body);
+        }
+    }
+
+    /**
+     * 서버 시작 시 Redis에 남아 있는 권한 변경 내역 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        int loaded = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = redisTemplate.opsForValue().get(key);
+                if (value != null) {
+                    record(Long.parseLong(key.substring(KEY_PREFIX.length())), Integer.parseInt(value));
+                    loaded++;
+                }
+            }
+            log.info("권한 버전 스냅샷 로드 완료 - {}건", loaded);
+        } catch (Exception e) {
+            log.warn("권한 버전 스냅샷 로드 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 더 높은 버전만 반영 (이벤트/메시지 순서가 뒤바뀌어도 안전)
+     */
+    void record(Long memberId, int version) {
+        long expiresAt = System.currentTimeMillis() + jwtProperties.getAccessTokenValidity();
+        versions.merge(memberId, new Entry(version, expiresAt),
+                (current, incoming) -> incoming.version() >= current.version() ? incoming : current);
+    }
+}
@@ -0,0 +1,203 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.OAuthProperties;
+import com.stay.domain.auth.exception.OAuthProviderUnavailableException;
+import com.stay.domain.member.entity.SocialProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 제공자 호출 보호막 (제공자별 벌크헤드 + 서킷 브레이커 + 헤지 요청 + 지연 히스토그램)
+ *
+ * 왜 필요한가?
+ * - 구글/네이버/카카오가 WebClient 하나와 커넥션 풀을 같이 씀
+ * - 한 제공자가 느려지면 그쪽 요청이 자리를 다 차지해서 다른 제공자 로그인까지 같이 밀림
+ *
+ * 동작:
+ * - 벌크헤드: 제공자마다 동시 호출 수 제한, 꽉 차면 기다리지 않고 바로 503
+ * - 서킷 브레이커: 최근 호출 실패율이 높으면 잠시 호출을 끊고 바로 503 (느린 타임아웃 대기 X)
+ * - 헤지 요청: 멱등한 GET(사용자 정보 조회)이 hedgeDelay 안에 안 끝나면 같은 요청을 한 번 더 보내고
+ *   먼저 온 응답 사용 (느린 커넥션 하나 때문에 꼬리 지연이 길어지는 것 방지)
+ * - 메트릭: oauth.provider.requests (provider, phase, attempt, outcome 태그, 히스토그램)
+ *
+ * 사용자의 잘못된 code 등 4xx 응답은 제공자 장애가 아니므로 서킷 실패로 세지 않는다.
+ */
+@Slf4j
+@Component
+public class OAuthCallGuard {
+
+    private static final String METRIC_REQUESTS = "oauth.provider.requests";
+    private static final String METRIC_REJECTED = "oauth.provider.rejected";
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    /**
+     * 호출 단계 (메트릭 태그)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+        TOKEN("token"),
+        USER_INFO("user_info");
+
+        private final String tag;
+    }
+
+    private final OAuthProperties.Resilience config;
+    private final MeterRegistry meterRegistry;
+    private final Map<SocialProvider, Lane> lanes = new EnumMap<>(SocialProvider.class);
+
+    public OAuthCallGuard(OAuthProperties oauthProperties, MeterRegistry meterRegistry) {
+        this.config = oauthProperties.getResilience();
+        this.meterRegistry = meterRegistry;
+
+        for (SocialProvider provider : SocialProvider.values()) {
+            Lane lane = new Lane(provider, new Semaphore(config.getMaxConcurrentCalls()),
+                    new ProviderCircuitBreaker(config));
+            lanes.put(provider, lane);
+
+            Gauge.builder("oauth.provider.bulkhead.available", lane.bulkhead(), Semaphore::availablePermits)
+                    .tag("provider", provider.getProviderKey())
+                    .register(meterRegistry);
+            Gauge.builder("oauth.provider.circuit.state", lane.breaker(), b -> b.getState().ordinal())
+                    .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                    .tag("provider", provider.getProviderKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 보호막 안에서 한 번 호출
+     *
+     * @param call 구독할 때마다 새 요청을 보내는 Mono 공급자
+     * @throws OAuthProviderUnavailableException (Mono 에러) 벌크헤드 초과 또는 서킷 열림
+     */
+    public <T> Mono<T> execute(SocialProvider provider, Phase phase, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> attempt(lanes.get(provider), phase, call, false));
+    }
+
+    /**
+     * 헤지 요청과 함께 호출 (멱등한 요청에만 사용)
+     *
+     * - 첫 요청이 hedgeDelay 안에 끝나지 않으면 두 번째 요청을 보내고 먼저 끝난 쪽 결과 사용 (진 쪽은 취소)
+     * - 첫 요청이 먼저 실패하면 두 번째 요청 없이 바로 실패 (재시도 폭주 방지)
+     * - 두 번째 요청은 자리가 있을 때만 보내고, 실패하면 첫 요청 결과를 기다림
+     */
+    public <T> Mono<T> executeHedged(SocialProvider provider, Phase phase, Supplier<Mono<T>> call) {
+        if (!config.isHedgeEnabled()) {
+            return execute(provider, phase, call);
+        }
+
+        Mono<T> primary = execute(provider, phase, call);
+        Mono<T> hedge = Mono.delay(Duration.ofMillis(config.getHedgeDelay()))
+                .then(Mono.defer(() -> attempt(lanes.get(provider), phase, call, true)))
+                .onErrorResume(e -> Mono.never());
+
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    /**
+     * 서킷 상태 조회 (모니터링/테스트용)
+     */
+    ProviderCircuitBreaker.State circuitState(SocialProvider provider) {
+        return lanes.get(provider).breaker().getState();
+    }
+
+    private <T> Mono<T> attempt(Lane lane, Phase phase, Supplier<Mono<T>> call, boolean hedge) {
+        SocialProvider provider = lane.provider();
+
+        if (!lane.breaker().tryAcquirePermission()) {
+            if (hedge) {
+                return Mono.never();
+            }
+            rejected(provider, "circuit_open").increment();
+            return Mono.error(new OAuthProviderUnavailableException(provider,
+                    provider.getDisplayName() + " 로그인이 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.",
+                    Duration.ofMillis(Math.max(1_000, lane.breaker().remainingOpenMillis()))));
+        }
+
+        if (!lane.bulkhead().tryAcquire()) {
+            lane.breaker().onIgnored();
+            if (hedge) {
+                return Mono.never();
+            }
+            rejected(provider, "bulkhead").increment();
+            log.warn("소셜 제공자 동시 호출 한도 초과 - provider: {}, phase: {}", provider, phase.getTag());
+            return Mono.error(new OAuthProviderUnavailableException(provider,
+                    provider.getDisplayName() + " 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                    BULKHEAD_RETRY_AFTER));
+        }
+
+        String attempt = hedge ? "hedge" : "primary";
+        long start = System.nanoTime();
+
+        return Mono.defer(call)
+                .doOnSuccess(value -> {
+                    lane.breaker().onSuccess();
+                    record(provider, phase, attempt, "success", start);
+                })
+                .doOnError(e -> {
+                    if (isProviderFailure(e)) {
+                        lane.breaker().onFailure();
+                        record(provider, phase, attempt, "failure", start);
+                    } else {
+                        lane.breaker().onSuccess();
+                        record(provider, phase, attempt, "client_error", start);
+                    }
+                })
+                .doOnCancel(() -> {
+                    lane.breaker().onIgnored();
+                    record(provider, phase, attempt, "cancelled", start);
+                })
+                .doFinally(signal -> lane.bulkhead().release());
+    }
+
+    /**
+     * 제공자 장애로 볼 실패인지 (5xx, 429, 타임아웃, 연결 실패)
+     */
+    private boolean isProviderFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    private void record(SocialProvider provider, Phase phase, String attempt, String outcome, long startNanos) {
+        Timer.builder(METRIC_REQUESTS)
+                .description("소셜 제공자 호출 지연")
+                .tag("provider", provider.getProviderKey())
+                .tag("phase", phase.getTag())
+                .tag("attempt", attempt)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter rejected(SocialProvider provider, String reason) {
+        return Counter.builder(METRIC_REJECTED)
+                .tag("provider", provider.getProviderKey())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제공자 하나의 격리 구역
+     */
+    private record Lane(SocialProvider provider, Semaphore bulkhead, ProviderCircuitBreaker breaker) {
+    }
+}
@@ -2,6 +2,7 @@ package com.stay.domain.auth.service;
 
 import com.stay.config.OAuthProperties;
 import com.stay.domain.auth.dto.*;
+import com.stay.domain.auth.exception.OAuthProviderUnavailableException;
 import com.stay.domain.member.dto.SocialLoginRequest;
 import com.stay.domain.member.entity.SocialProvider;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 /**
  * OAuth 서비스
@@ -22,6 +27,16 @@ import org.springframework.web.reactive.function.client.WebClient;
  * 책임 분리:
  * - OAuthService: 소셜 제공자와 통신 (외부 API 호출)
  * - AuthService: 인증 비즈니스 로직 (JWT 발급 등)
+ *
+ * 논블로킹:
+ * - 모든 호출은 Mono로 반환 (.block() 없음)
+ * - 제공자 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않음
+ * - 타임아웃/커넥션 풀은 WebClientConfig, oauth.http.* 설정 참고
+ *
+ * 장애 격리:
+ * - 모든 호출은 OAuthCallGuard를 거침 (제공자별 벌크헤드, 서킷 브레이커, 지연 히스토그램)
+ * - 사용자 정보 조회는 멱등한 GET이라 헤지 요청 허용 (oauth.resilience.hedge-enabled)
+ * - 호출 거부는 OAuthProviderUnavailableException 그대로 전달 (컨트롤러가 503 응답)
  */
 @Slf4j
 @Service
@@ -30,32 +45,35 @@ public class OAuthService {
 
     private final OAuthProperties oauthProperties;
     private final WebClient webClient;
+    private final OAuthCallGuard callGuard;
 
     /**
      * OAuth 로그인 처리 (code → 사용자 정보)
      *
      * @param provider 소셜 제공자 (GOOGLE, NAVER, KAKAO)
      * @param code OAuth authorization code
-     * @return 사용자 정보를 담은 SocialLoginRequest
+     * @return 사용자 정보를 담은 SocialLoginRequest (비동기)
      *
      * 흐름:
      * 1. code로 access_token 받기
      * 2. access_token으로 사용자 정보 받기
      * 3. SocialLoginRequest로 변환 (MemberService에서 사용)
+     *
+     * 두 호출 전체에 oauth.http.login-timeout 적용 (초과 시 IllegalStateException)
      */
-    public SocialLoginRequest processOAuthLogin(String provider, String code) {
+    public Mono<SocialLoginRequest> processOAuthLogin(String provider, String code) {
         log.info("OAuth 로그인 처리 시작 - provider: {}", provider);
 
-        // 1. access_token 발급
-        String accessToken = getAccessToken(provider, code);
-        log.info("Access Token 발급 완료 - provider: {}", provider);
-
-        // 2. 사용자 정보 조회
-        SocialLoginRequest userInfo = getUserInfo(provider, accessToken);
-        log.info("사용자 정보 조회 완료 - provider: {}, email: {}",
-                provider, userInfo.email());
-
-        return userInfo;
+        return Mono.defer(() -> getAccessToken(provider, code))
+                // 1. access_token 발급
+                .doOnNext(token -> log.info("Access Token 발급 완료 - provider: {}", provider))
+                // 2. 사용자 정보 조회
+                .flatMap(accessToken -> getUserInfo(provider, accessToken))
+                .doOnNext(userInfo -> log.info("사용자 정보 조회 완료 - provider: {}, email: {}",
+                        provider, userInfo.email()))
+                .timeout(Duration.ofMillis(oauthProperties.getHttp().getLoginTimeout()))
+                .onErrorMap(TimeoutException.class,
+                        e -> new IllegalStateException("소셜 로그인 응답 시간이 초과되었습니다: " + provider));
     }
 
     /**
@@ -63,9 +81,9 @@ public class OAuthService {
      *
      * @param provider 소셜 제공자
      * @param code authorization code
-     * @return access_token
+     * @return access_token (비동기)
      */
-    private String getAccessToken(String provider, String code) {
+    private Mono<String> getAccessToken(String provider, String code) {
         OAuthProperties.Provider config = oauthProperties.getProvider(provider);
 
         // 요청 파라미터 구성
@@ -95,7 +113,7 @@ public class OAuthService {
             log.info("========================================");
 
             // 핵심 수정: Content-Type을 application/x-www-form-urlencoded로 명시
-            OAuthTokenResponse response = webClient.post()
+            return callGuard.execute(SocialProvider.fromKey(provider), OAuthCallGuard.Phase.TOKEN, () -> webClient.post()
                     .uri(config.getTokenUri())
                     .contentType(org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED)
                     .bodyValue(params)
@@ -111,23 +129,25 @@ public class OAuthService {
                                     })
                                     .then(clientResponse.createException())
                     )
-                    .bodyToMono(OAuthTokenResponse.class)
-                    .block();
-
-            if (response == null || response.access_token() == null) {
-                throw new IllegalStateException("토큰 발급 실패: 응답이 null입니다.");
-            }
-
-            log.info("토큰 발급 성공!");
-            return response.access_token();
+                    .bodyToMono(OAuthTokenResponse.class))
+                    .filter(response -> response.access_token() != null)
+                    .switchIfEmpty(Mono.error(new IllegalStateException("토큰 발급 실패: 응답이 null입니다.")))
+                    .map(response -> {
+                        log.info("토큰 발급 성공!");
+                        return response.access_token();
+                    })
+                    .onErrorMap(e -> !(e instanceof OAuthProviderUnavailableException), e -> {
+                        log.error("========================================");
+                        log.error("Access Token 발급 실패");
+                        log.error("Provider: {}", provider);
+                        log.error("Error: {}", e.getMessage(), e);
+                        log.error("========================================");
+                        return new IllegalStateException("OAuth 토큰 발급 실패: " + e.getMessage());
+                    });
 
-        } catch (Exception e) {
-            log.error("========================================");
-            log.error("Access Token 발급 실패");
-            log.error("Provider: {}", provider);
-            log.error("Error: {}", e.getMessage(), e);
-            log.error("========================================");
-            throw new IllegalStateException("OAuth 토큰 발급 실패: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            // 설정 오류 (Client Secret 누락 등)
+            return Mono.error(e);
         }
     }
     /**
@@ -135,43 +155,41 @@ public class OAuthService {
      *
      * @param provider 소셜 제공자
      * @param accessToken OAuth access token
-     * @return SocialLoginRequest (사용자 정보)
+     * @return SocialLoginRequest (사용자 정보, 비동기)
      */
-    private SocialLoginRequest getUserInfo(String provider, String accessToken) {
+    private Mono<SocialLoginRequest> getUserInfo(String provider, String accessToken) {
         OAuthProperties.Provider config = oauthProperties.getProvider(provider);
 
-        try {
-            return switch (provider.toUpperCase()) {
-                case "GOOGLE" -> getGoogleUserInfo(config, accessToken);
-                case "NAVER" -> getNaverUserInfo(config, accessToken);
-                case "KAKAO" -> getKakaoUserInfo(config, accessToken);
-                default -> throw new IllegalArgumentException("지원하지 않는 제공자: " + provider);
-            };
-
-        } catch (Exception e) {
+        Mono<SocialLoginRequest> userInfo = switch (provider.toUpperCase()) {
+            case "GOOGLE" -> getGoogleUserInfo(config, accessToken);
+            case "NAVER" -> getNaverUserInfo(config, accessToken);
+            case "KAKAO" -> getKakaoUserInfo(config, accessToken);
+            default -> Mono.error(new IllegalArgumentException("지원하지 않는 제공자: " + provider));
+        };
+
+        return userInfo.onErrorMap(e -> !(e instanceof OAuthProviderUnavailableException), e -> {
             log.error("사용자 정보 조회 실패 - provider: {}", provider, e);
-            throw new IllegalStateException("사용자 정보 조회 실패: " + e.getMessage());
-        }
+            return new IllegalStateException("사용자 정보 조회 실패: " + e.getMessage());
+        });
     }
 
     /**
      * 구글 사용자 정보 조회
      */
-    private SocialLoginRequest getGoogleUserInfo(
+    private Mono<SocialLoginRequest> getGoogleUserInfo(
             OAuthProperties.Provider config,
             String accessToken
     ) {
-        GoogleUserInfo userInfo = webClient.get()
-                .uri(config.getUserInfoUri())
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .bodyToMono(GoogleUserInfo.class)
-                .block();
-
-        if (userInfo == null) {
-            throw new IllegalStateException("구글 사용자 정보 조회 실패");
-        }
+        return callGuard.executeHedged(SocialProvider.GOOGLE, OAuthCallGuard.Phase.USER_INFO, () -> webClient.get()
+                        .uri(config.getUserInfoUri())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .bodyToMono(GoogleUserInfo.class))
+                .switchIfEmpty(Mono.error(new IllegalStateException("구글 사용자 정보 조회 실패")))
+                .map(this::toSocialLoginRequest);
+    }
 
+    private SocialLoginRequest toSocialLoginRequest(GoogleUserInfo userInfo) {
         return new SocialLoginRequest(
                 SocialProvider.GOOGLE,  // enum 직접 전달
                 userInfo.id(),
@@ -186,22 +204,21 @@ public class OAuthService {
     /**
      * 네이버 사용자 정보 조회
      */
-    private SocialLoginRequest getNaverUserInfo(
+    private Mono<SocialLoginRequest> getNaverUserInfo(
             OAuthProperties.Provider config,
             String accessToken
     ) {
-        NaverUserInfoResponse response = webClient.get()
-                .uri(config.getUserInfoUri())
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .bodyToMono(NaverUserInfoResponse.class)
-                .block();
-
-        if (response == null || response.response() == null) {
-            throw new IllegalStateException("네이버 사용자 정보 조회 실패");
-        }
+        return callGuard.executeHedged(SocialProvider.NAVER, OAuthCallGuard.Phase.USER_INFO, () -> webClient.get()
+                        .uri(config.getUserInfoUri())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .bodyToMono(NaverUserInfoResponse.class))
+                .filter(response -> response.response() != null)
+                .switchIfEmpty(Mono.error(new IllegalStateException("네이버 사용자 정보 조회 실패")))
+                .map(response -> toSocialLoginRequest(response.response()));
+    }
 
-        NaverUserInfo userInfo = response.response();
+    private SocialLoginRequest toSocialLoginRequest(NaverUserInfo userInfo) {
         return new SocialLoginRequest(
                 SocialProvider.NAVER,  // enum 직접 전달
                 userInfo.id(),
@@ -216,21 +233,21 @@ public class OAuthService {
     /**
      * 카카오 사용자 정보 조회
      */
-    private SocialLoginRequest getKakaoUserInfo(
+    private Mono<SocialLoginRequest> getKakaoUserInfo(
             OAuthProperties.Provider config,
             String accessToken
     ) {
-        KakaoUserInfo userInfo = webClient.get()
-                .uri(config.getUserInfoUri())
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .bodyToMono(KakaoUserInfo.class)
-                .block();
-
-        if (userInfo == null || userInfo.kakao_account() == null) {
-            throw new IllegalStateException("카카오 사용자 정보 조회 실패");
-        }
+        return callGuard.executeHedged(SocialProvider.KAKAO, OAuthCallGuard.Phase.USER_INFO, () -> webClient.get()
+                        .uri(config.getUserInfoUri())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .bodyToMono(KakaoUserInfo.class))
+                .filter(userInfo -> userInfo.kakao_account() != null)
+                .switchIfEmpty(Mono.error(new IllegalStateException("카카오 사용자 정보 조회 실패")))
+                .map(this::toSocialLoginRequest);
+    }
 
+    private SocialLoginRequest toSocialLoginRequest(KakaoUserInfo userInfo) {
         String email = userInfo.kakao_account().email();
         String name = userInfo.kakao_account().profile().nickname();
         String profileImage = userInfo.kakao_account().profile().profile_image_url();
@@ -0,0 +1,141 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.OAuthProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 소셜 제공자 하나의 서킷 브레이커 (최근 N회 호출 기준)
+ *
+ * 상태:
+ * - CLOSED: 정상 호출, 최근 호출의 실패율이 기준을 넘으면 OPEN
+ * - OPEN: 호출 즉시 거부, openDuration이 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 몇 번만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 로그인 한 번에 호출이 두 번뿐이라 상태 변경은 synchronized로 충분하다.
+ */
+class ProviderCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final OAuthProperties.Resilience config;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openUntilMillis;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    ProviderCircuitBreaker(OAuthProperties.Resilience config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    ProviderCircuitBreaker(OAuthProperties.Resilience config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.window = new boolean[Math.max(1, config.getSlidingWindowSize())];
+    }
+
+    /**
+     * 호출해도 되는지 확인 (HALF_OPEN이면 시험 호출 허용량을 하나 사용)
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() < openUntilMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = config.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= config.getMinimumCalls()
+                    && windowFailures * 100 >= config.getFailureRateThreshold() * windowCount) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출 (헤지 요청에서 진 쪽 취소 등) → 시험 호출 허용량 반환
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간 (밀리초, OPEN이 아니면 0)
+     */
+    synchronized long remainingOpenMillis() {
+        return state == State.OPEN ? Math.max(0, openUntilMillis - clock.getAsLong()) : 0;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntilMillis = clock.getAsLong() + config.getOpenDuration();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
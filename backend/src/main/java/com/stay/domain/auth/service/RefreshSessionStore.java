@@ -0,0 +1,418 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.auth.util.AccessTokenSubject;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Refresh Token 세션 저장소 (Redis)
+ *
+ * 왜 필요한가?
+ * - 기존에는 Refresh Token을 서버가 기억하지 않아서
+ *   로그아웃해도, 탈취돼도 만료 전까지 계속 재발급 받을 수 있었음
+ * - 재발급마다 members 테이블을 트랜잭션으로 조회했음
+ *
+ * 세션 패밀리(family):
+ * - 로그인 1회 = 패밀리 1개 (기기/브라우저 단위)
+ * - 재발급할 때마다 Refresh Token(jti)을 새것으로 교체 (rotation)
+ * - 이미 교체된 예전 토큰이 다시 오면 탈취로 보고 패밀리 전체를 폐기 (reuse detection)
+ *   단, 방금 교체된 토큰은 잠시(GRACE_MILLIS) 허용 → 여러 탭이 동시에 재발급해도 로그아웃되지 않음
+ * - Access Token 발급에 필요한 회원 정보(역할/등급/권한 버전)를 스냅샷으로 같이 저장
+ *   → 재발급은 Redis 왕복 1번 (Lua 스크립트로 검증 + 교체 + 조회를 원자적으로 처리)
+ *
+ * Redis 키:
+ * - auth:refresh:{familyId}        (Hash) 현재 jti + 회원 스냅샷, TTL = Refresh Token 유효기간
+ * - auth:refresh:member:{memberId} (Set)  회원의 패밀리 목록 (전체 로그아웃/스냅샷 무효화용)
+ * - auth:refresh:legacy:{memberId}:{iat} (String) 이미 쓴 세션 도입 전 토큰, TTL = 그 토큰의 남은 유효기간
+ *
+ * 스크립트가 건드리는 키는 모두 KEYS로 넘긴다 (Lua 안에서 키 이름을 만들지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionStore {
+
+    private static final String FAMILY_PREFIX = "auth:refresh:";
+    private static final String MEMBER_PREFIX = "auth:refresh:member:";
+    private static final String LEGACY_PREFIX = "auth:refresh:legacy:";
+
+    // 해시 필드 (매 재발급마다 전부 내려오므로 짧게)
+    private static final String F_CURRENT = "cur";
+    private static final String F_MEMBER_ID = "mid";
+    private static final String F_EMAIL = "email";
+    private static final String F_ROLE = "role";
+    private static final String F_GRADE = "grade";
+    private static final String F_ACTIVE = "act";
+    private static final String F_AUTH_VERSION = "ver";
+    private static final String F_STALE = "stale";
+
+    /**
+     * 직전 Refresh Token 허용 시간 (동시 재발급 대비)
+     */
+    private static final long GRACE_MILLIS = 10_000;
+
+    /**
+     * 패밀리 생성
+     * KEYS[1] = 패밀리 키, KEYS[2] = 회원 인덱스 키
+     * ARGV[1] = TTL(ms), ARGV[2] = 패밀리 ID, ARGV[3..] = 필드/값 쌍
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 회전 (검증 + 교체 + 스냅샷 조회)
+     * KEYS[1] = 패밀리 키
+     * ARGV[1] = 제시된 jti, ARGV[2] = 새 jti, ARGV[3] = TTL(ms), ARGV[4] = 현재 시각(ms), ARGV[5] = 유예(ms)
+     *
+     * 반환: {"OK", 필드, 값, ...} / {"GRACE", 필드, 값, ...} / {"MISSING"} / {"REUSED"}
+     * - GRACE: 방금 교체된 직전 토큰 → 교체하지 않고 현재 jti(cur)를 그대로 돌려줌
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            local session = redis.call('HMGET', KEYS[1], 'cur', 'prev', 'rat')
+            local current, previous, rotatedAt = session[1], session[2], session[3]
+            local status = 'OK'
+            if current ~= ARGV[1] then
+                if previous == ARGV[1] and tonumber(ARGV[4]) - tonumber(rotatedAt) < tonumber(ARGV[5]) then
+                    status = 'GRACE'
+                else
+                    redis.call('DEL', KEYS[1])
+                    return {'REUSED'}
+                end
+            else
+                redis.call('HSET', KEYS[1], 'cur', ARGV[2], 'prev', current, 'rat', ARGV[4])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            local data = redis.call('HGETALL', KEYS[1])
+            table.insert(data, 1, status)
+            return data
+            """, List.class);
+
+    /**
+     * 회원의 패밀리들에 stale 표시 (다음 재발급 때 DB에서 스냅샷 갱신)
+     * KEYS[1] = 회원 인덱스 키, KEYS[2..] = 패밀리 키
+     * ARGV[1] = 변경 후 권한 버전, ARGV[2..] = 패밀리 ID (KEYS[2..]와 같은 순서)
+     *
+     * stale 값 = 스냅샷이 따라잡아야 할 권한 버전 (이미 더 높은 값이면 유지)
+     */
+    private static final RedisScript<Long> MARK_STALE_SCRIPT = new DefaultRedisScript<>("""
+            local version = tonumber(ARGV[1])
+            local marked = 0
+            for i = 2, #ARGV do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    local stale = tonumber(redis.call('HGET', KEYS[i], 'stale') or '')
+                    if stale == nil or stale < version then
+                        redis.call('HSET', KEYS[i], 'stale', ARGV[1])
+                    end
+                    marked = marked + 1
+                else
+                    redis.call('SREM', KEYS[1], ARGV[i])
+                end
+            end
+            return marked
+            """, Long.class);
+
+    /**
+     * 스냅샷 갱신 (재발급 중 DB에서 다시 읽은 회원 정보)
+     * KEYS[1] = 패밀리 키
+     * ARGV[1] = 스냅샷의 권한 버전, ARGV[2..] = 필드/값 쌍
+     *
+     * 반환: 0 = 패밀리 없음(그 사이 로그아웃/폐기 → 다시 만들지 않음), 1 = 갱신, 2 = 아직 stale
+     * - 저장된 스냅샷보다 오래된 버전이면 쓰지 않음 (동시 재발급이 먼저 최신 값을 씀)
+     * - stale은 스냅샷 버전이 표시된 버전 이상일 때만 해제
+     *   (읽은 뒤 다시 바뀌었으면 다음 재발급이 한 번 더 DB에서 읽음)
+     */
+    private static final RedisScript<Long> UPDATE_SNAPSHOT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local version = tonumber(ARGV[1])
+            local stored = tonumber(redis.call('HGET', KEYS[1], 'ver') or '')
+            if stored == nil or stored <= version then
+                redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            end
+            local stale = tonumber(redis.call('HGET', KEYS[1], 'stale') or '')
+            if stale ~= nil and stale > version then
+                return 2
+            end
+            redis.call('HDEL', KEYS[1], 'stale')
+            return 1
+            """, Long.class);
+
+    /**
+     * 회원의 패밀리들 폐기
+     * KEYS[1] = 회원 인덱스 키, KEYS[2..] = 패밀리 키
+     * ARGV[1..] = 패밀리 ID (KEYS[2..]와 같은 순서)
+     *
+     * 반환: {폐기된 패밀리 수, 인덱스에 남은 패밀리 수(그 사이 새로 로그인한 것)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local revoked = 0
+            for i, family in ipairs(ARGV) do
+                revoked = revoked + redis.call('DEL', KEYS[i + 1])
+                redis.call('SREM', KEYS[1], family)
+            end
+            local remaining = redis.call('SCARD', KEYS[1])
+            if remaining == 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return {revoked, remaining}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 회전 결과
+     */
+    public enum Status {
+        /** 정상 교체 */
+        ROTATED,
+        /** 패밀리 없음 (만료/로그아웃/폐기) */
+        MISSING,
+        /** 이미 교체된 토큰 재사용 → 패밀리 폐기됨 */
+        REUSED
+    }
+
+    /**
+     * @param status  회전 결과
+     * @param tokenId 새 Refresh Token에 넣을 jti (ROTATED일 때만, 유예 구간이면 이미 교체된 현재 jti)
+     * @param subject Access Token 발급용 회원 스냅샷 (ROTATED일 때만)
+     * @param stale   스냅샷이 오래됐는지 (true면 DB에서 다시 읽어야 함)
+     */
+    public record Rotation(Status status, String tokenId, AccessTokenSubject subject, boolean stale) {
+
+        static Rotation of(Status status) {
+            return new Rotation(status, null, null, false);
+        }
+    }
+
+    /**
+     * 새 세션 패밀리 생성 (로그인/회원가입 시)
+     *
+     * @param subject 회원 스냅샷
+     * @param tokenId 첫 Refresh Token의 jti
+     * @return 패밀리 ID
+     */
+    public String create(AccessTokenSubject subject, String tokenId) {
+        String familyId = UUID.randomUUID().toString();
+
+        Map<String, String> fields = toFields(subject);
+        fields.put(F_CURRENT, tokenId);
+
+        Object[] args = new Object[2 + fields.size() * 2];
+        args[0] = String.valueOf(jwtProperties.getRefreshTokenValidity());
+        args[1] = familyId;
+        int i = 2;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+
+        redisTemplate.execute(CREATE_SCRIPT,
+                List.of(FAMILY_PREFIX + familyId, MEMBER_PREFIX + subject.memberId()), args);
+
+        log.debug("Refresh 세션 생성 - memberId: {}, family: {}", subject.memberId(), familyId);
+        return familyId;
+    }
+
+    /**
+     * Refresh Token 회전
+     *
+     * @param familyId     패밀리 ID (토큰의 fam 클레임)
+     * @param tokenId      제시된 Refresh Token의 jti
+     * @param newTokenId   새로 발급할 Refresh Token의 jti
+     */
+    @SuppressWarnings("unchecked")
+    public Rotation rotate(String familyId, String tokenId, String newTokenId) {
+        List<String> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_PREFIX + familyId),
+                tokenId, newTokenId,
+                String.valueOf(jwtProperties.getRefreshTokenValidity()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(GRACE_MILLIS));
+
+        if (result == null || result.isEmpty() || "MISSING".equals(result.get(0))) {
+            return Rotation.of(Status.MISSING);
+        }
+        if ("REUSED".equals(result.get(0))) {
+            log.warn("Refresh Token 재사용 감지 - 세션 패밀리 폐기: {}", familyId);
+            return Rotation.of(Status.REUSED);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            fields.put(result.get(i), result.get(i + 1));
+        }
+        if ("GRACE".equals(result.get(0))) {
+            log.debug("직전 Refresh Token 유예 허용 - family: {}", familyId);
+        }
+        return new Rotation(Status.ROTATED, fields.get(F_CURRENT), fromFields(fields), fields.containsKey(F_STALE));
+    }
+
+    /**
+     * 스냅샷 갱신 (stale 표시 해제, 원자적으로 처리)
+     * - 패밀리가 이미 없으면(로그아웃/폐기) 아무것도 쓰지 않음
+     * - 읽은 뒤 권한 버전이 또 바뀌었으면 stale 유지
+     */
+    public void updateSnapshot(String familyId, AccessTokenSubject subject) {
+        Map<String, String> fields = toFields(subject);
+        Object[] args = new Object[1 + fields.size() * 2];
+        args[0] = String.valueOf(subject.authVersion());
+        int i = 1;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+
+        Long result = redisTemplate.execute(UPDATE_SNAPSHOT_SCRIPT, List.of(FAMILY_PREFIX + familyId), args);
+        if (result != null && result == 2) {
+            log.debug("스냅샷 갱신 후에도 stale 유지 (그 사이 회원 정보 변경) - family: {}", familyId);
+        }
+    }
+
+    /**
+     * 패밀리 하나 폐기 (로그아웃)
+     */
+    public void revoke(Long memberId, String familyId) {
+        redisTemplate.delete(FAMILY_PREFIX + familyId);
+        redisTemplate.opsForSet().remove(MEMBER_PREFIX + memberId, familyId);
+        log.debug("Refresh 세션 폐기 - memberId: {}, family: {}", memberId, familyId);
+    }
+
+    /**
+     * 회원의 모든 패밀리 폐기 (탈퇴/비활성화)
+     * - 패밀리 목록을 읽고 폐기하는 사이에 새로 로그인한 패밀리가 있으면 그것까지 다시 폐기
+     *
+     * @return 폐기된 패밀리 수
+     */
+    @SuppressWarnings("unchecked")
+    public long revokeAll(Long memberId) {
+        String memberKey = MEMBER_PREFIX + memberId;
+        long revoked = 0;
+        List<String> families = familiesOf(memberKey);
+        while (!families.isEmpty()) {
+            List<Long> result = redisTemplate.execute(REVOKE_SCRIPT, keys(memberKey, families), families.toArray());
+            if (result == null) {
+                break;
+            }
+            revoked += result.get(0);
+            families = result.get(1) > 0 ? familiesOf(memberKey) : List.of();
+        }
+        return revoked;
+    }
+
+    /**
+     * 세션 도입 전(fam/jti 없는) Refresh Token을 사용 처리
+     * - 이런 토큰은 패밀리가 없어서 회전/재사용 감지/로그아웃 대상이 아님
+     * - 한 번만 새 세션으로 전환해 주고, 같은 토큰이 다시 오면 거절 (로그아웃도 사용 처리)
+     *
+     * @param issuedAt  토큰 발급 시각 (iat, 회원과 함께 토큰 식별에 사용)
+     * @param expiresAt 토큰 만료 시각 (표시는 그때까지만 유지)
+     * @return 처음 사용하는 토큰이면 true
+     */
+    public boolean consumeLegacy(Long memberId, Instant issuedAt, Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (issuedAt == null || remaining.isNegative() || remaining.isZero()) {
+            return false;
+        }
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(
+                LEGACY_PREFIX + memberId + ":" + issuedAt.getEpochSecond(), "1", remaining);
+        return Boolean.TRUE.equals(first);
+    }
+
+    /**
+     * 회원 정보 변경 시 세션 처리
+     * - 비활성화/탈퇴: 모든 세션 폐기 (재발급 불가 → 다시 로그인해야 함)
+     * - 역할/등급 변경 등: 스냅샷만 stale 표시 (다음 재발급 때 한 번만 DB 조회)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case DEACTIVATED, DELETED -> {
+                    long revoked = revokeAll(event.memberId());
+                    log.info("회원 세션 전체 폐기 - memberId: {}, {}건", event.memberId(), revoked);
+                }
+                default -> markStale(event.memberId(), event.authVersion());
+            }
+        } catch (Exception e) {
+            log.warn("Refresh 세션 갱신 실패 - memberId: {}, reason: {}", event.memberId(), e.getMessage());
+        }
+    }
+
+    private void markStale(Long memberId, int authVersion) {
+        String memberKey = MEMBER_PREFIX + memberId;
+        List<String> families = familiesOf(memberKey);
+        if (!families.isEmpty()) {
+            List<Object> args = new ArrayList<>(families.size() + 1);
+            args.add(String.valueOf(authVersion));
+            args.addAll(families);
+            redisTemplate.execute(MARK_STALE_SCRIPT, keys(memberKey, families), args.toArray());
+        }
+    }
+
+    private List<String> familiesOf(String memberKey) {
+        Set<String> families = redisTemplate.opsForSet().members(memberKey);
+        return families != null ? List.copyOf(families) : List.of();
+    }
+
+    /**
+     * 회원 인덱스 키 + 패밀리 키 (스크립트 KEYS)
+     */
+    private static List<String> keys(String memberKey, List<String> families) {
+        List<String> keys = new ArrayList<>(families.size() + 1);
+        keys.add(memberKey);
+        families.forEach(family -> keys.add(FAMILY_PREFIX + family));
+        return keys;
+    }
+
+    private static Map<String, String> toFields(AccessTokenSubject subject) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(F_MEMBER_ID, String.valueOf(subject.memberId()));
+        fields.put(F_EMAIL, subject.email());
+        fields.put(F_ROLE, subject.role().name());
+        fields.put(F_GRADE, subject.grade().name());
+        fields.put(F_ACTIVE, subject.active() ? "1" : "0");
+        fields.put(F_AUTH_VERSION, String.valueOf(subject.authVersion()));
+        return fields;
+    }
+
+    private static AccessTokenSubject fromFields(Map<String, String> fields) {
+        return new AccessTokenSubject(
+                Long.valueOf(fields.get(F_MEMBER_ID)),
+                fields.get(F_EMAIL),
+                MemberRole.valueOf(fields.get(F_ROLE)),
+                MemberGrade.valueOf(fields.get(F_GRADE)),
+                "1".equals(fields.get(F_ACTIVE)),
+                Integer.parseInt(fields.get(F_AUTH_VERSION))
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.stay.domain.auth.util;
+
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+
+/**
+ * Access Token에 담을 회원 정보
+ *
+ * 왜 필요한가?
+ * - 역할/등급/활성 상태를 토큰에 넣어 두면 인가 판단에 DB 조회가 필요 없음
+ * - JwtUtil이 Member 엔티티(영속성 컨텍스트)에 직접 의존하지 않도록 값만 복사해서 전달
+ *
+ * @param memberId    회원 ID
+ * @param email       회원 이메일
+ * @param role        회원 역할
+ * @param grade       회원 등급
+ * @param active      활성 회원 여부 (탈퇴/비활성이면 false)
+ * @param authVersion 발급 시점의 권한 버전
+ */
+public record AccessTokenSubject(
+        Long memberId,
+        String email,
+        MemberRole role,
+        MemberGrade grade,
+        boolean active,
+        int authVersion
+) {
+
+    /**
+     * 회원 엔티티에서 토큰 발급 정보 추출
+     */
+    public static AccessTokenSubject from(Member member) {
+        return new AccessTokenSubject(
+                member.getId(),
+                member.getEmail(),
+                member.getRole(),
+                member.getGrade(),
+                member.isActiveMember(),
+                member.getAuthVersion()
+        );
+    }
+}
@@ -1,21 +1,31 @@
 package com.stay.domain.auth.util;
 
 import com.stay.config.JwtProperties;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import io.jsonwebtoken.JwtException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -27,24 +37,71 @@ import java.util.Date;
  * JWT 구조:
  * Header.Payload.Signature
  * - Header: 토큰 타입, 알고리즘 정보
- * - Payload: 실제 데이터 (memberId, email 등)
+ * - Payload: 실제 데이터 (memberId, email, 역할/등급/상태 등)
  * - Signature: 위변조 방지용 서명
+ *
+ * 성능:
+ * - 서명 키(SecretKey)와 파서(JwtParser)는 생성 시점에 한 번만 만든다 (둘 다 불변/스레드 안전)
+ * - 요청 처리에서는 verify()로 한 번만 검증하고 VerifiedToken을 재사용
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
+    /**
+     * Access Token 클레임 이름
+     * - 매 요청마다 쿠키로 전송되므로 짧은 이름 사용
+     */
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_TYPE = "type";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_GRADE = "grade";
+    private static final String CLAIM_ACTIVE = "act";
+    private static final String CLAIM_AUTH_VERSION = "ver";
+    private static final String CLAIM_FAMILY = "fam";
+
+    /**
+     * 검증 실패 메트릭 (JwtAuthenticationFilter의 거절 사유와 같은 이름)
+     */
+    private static final String METRIC_REJECTED = "auth.token.rejected";
+    private static final int REJECT_LOG_SAMPLE_RATE = 100;
+
+    private enum RejectReason {
+        EXPIRED("expired"),
+        MALFORMED("malformed"),
+        UNSUPPORTED("unsupported"),
+        INVALID("invalid");
+
+        private final String tag;
+
+        RejectReason(String tag) {
+            this.tag = tag;
+        }
+    }
+
     private final JwtProperties jwtProperties;
 
     /**
-     * JWT 서명에 사용할 비밀키 생성
-     * HS256 알고리즘 사용
+     * JWT 서명에 사용할 비밀키 (HS256)
+     */
+    private final SecretKey signingKey;
+
+    /**
+     * 서명 검증용 파서 (재사용)
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(
+    private final JwtParser jwtParser;
+
+    private volatile Map<RejectReason, Counter> rejectCounters;
+    private final AtomicLong rejectSamples = new AtomicLong();
+
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)  // 서명 검증
+                .build();
     }
 
     // ==================== Access Token ====================
@@ -52,25 +109,32 @@ public class JwtUtil {
     /**
      * Access Token 생성
      *
-     * @param memberId 회원 ID
-     * @param email 회원 이메일
+     * @param subject 토큰에 담을 회원 정보
      * @return JWT Access Token
      *
-     * 왜 memberId와 email을 넣을까?
+     * 왜 역할/등급/상태까지 넣을까?
      * - memberId: DB 조회 시 사용 (성능)
      * - email: 사용자 식별용 (가독성)
+     * - role/grade/act: 필터가 DB 조회 없이 권한(GrantedAuthority)을 만들 수 있음
+     * - ver: 역할/등급이 바뀌면 회원의 권한 버전이 올라가서 이전 토큰을 거부할 수 있음
+     * - jti: 로그아웃 시 이 토큰 하나만 폐기할 수 있음 (AccessTokenRevocationList)
      */
-    public String generateAccessToken(Long memberId, String email) {
+    public String generateAccessToken(AccessTokenSubject subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenValidity());
 
         return Jwts.builder()
-                .subject(String.valueOf(memberId))           // 토큰 주체 (회원 ID)
-                .claim("email", email)                       // 추가 정보 (이메일)
-                .claim("type", "access")                     // 토큰 타입 구분
-                .issuedAt(now)                               // 발급 시간
-                .expiration(expiryDate)                      // 만료 시간
-                .signWith(getSigningKey())                   // 서명
+                .subject(String.valueOf(subject.memberId()))        // 토큰 주체 (회원 ID)
+                .id(UUID.randomUUID().toString())                   // 토큰 고유 ID (폐기용)
+                .claim(CLAIM_EMAIL, subject.email())                // 추가 정보 (이메일)
+                .claim(CLAIM_TYPE, VerifiedToken.TYPE_ACCESS)       // 토큰 타입 구분
+                .claim(CLAIM_ROLE, subject.role().name())           // 역할
+                .claim(CLAIM_GRADE, subject.grade().name())         // 등급
+                .claim(CLAIM_ACTIVE, subject.active())              // 활성 여부
+                .claim(CLAIM_AUTH_VERSION, subject.authVersion())   // 권한 버전
+                .issuedAt(now)                                      // 발급 시간
+                .expiration(expiryDate)                             // 만료 시간
+                .signWith(signingKey)                               // 서명
                 .compact();
     }
 
@@ -81,23 +145,124 @@ public class JwtUtil {
      * Access Token보다 유효기간이 길고, 최소한의 정보만 포함
      *
      * @param memberId 회원 ID
+     * @param familyId 세션 패밀리 ID (RefreshSessionStore)
+     * @param tokenId  토큰 고유 ID (jti, 재발급마다 교체)
      * @return JWT Refresh Token
      */
-    public String generateRefreshToken(Long memberId) {
+    public String generateRefreshToken(Long memberId, String familyId, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenValidity());
 
         return Jwts.builder()
                 .subject(String.valueOf(memberId))
-                .claim("type", "refresh")
+                .id(tokenId)
+                .claim(CLAIM_TYPE, VerifiedToken.TYPE_REFRESH)
+                .claim(CLAIM_FAMILY, familyId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     // ==================== 토큰 검증 ====================
 
+    /**
+     * 토큰을 한 번만 검증하고 필요한 클레임을 모두 꺼냄
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException 서명 오류, 만료, 형식 오류 등
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parseClaims(token);
+        Boolean active = claims.get(CLAIM_ACTIVE, Boolean.class);
+        Integer authVersion = claims.get(CLAIM_AUTH_VERSION, Integer.class);
+
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get(CLAIM_EMAIL, String.class),
+                claims.get(CLAIM_TYPE, String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                parseEnum(MemberRole.class, claims.get(CLAIM_ROLE, String.class)),
+                parseEnum(MemberGrade.class, claims.get(CLAIM_GRADE, String.class)),
+                active == null || active,
+                authVersion != null ? authVersion : 0,
+                claims.getId(),
+                claims.get(CLAIM_FAMILY, String.class)
+        );
+    }
+
+    /**
+     * 클레임 문자열 → Enum 변환
+     * 클레임이 없거나 모르는 값이면 null (권한 없이 인증만 된 것으로 처리)
+     */
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 검증 (예외 대신 Optional 반환)
+     *
+     * 필터처럼 "유효하지 않으면 그냥 넘어가는" 곳에서 사용
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 VerifiedToken, 아니면 Optional.empty()
+     */
+    public Optional<VerifiedToken> tryVerify(String token) {
+        try {
+            return Optional.of(verify(token));
+        } catch (ExpiredJwtException e) {
+            // 가장 흔한 실패 (프론트엔드가 /refresh로 갱신) → 카운터만
+            rejected(RejectReason.EXPIRED, e);
+        } catch (SecurityException | MalformedJwtException e) {
+            rejected(RejectReason.MALFORMED, e);
+        } catch (UnsupportedJwtException e) {
+            rejected(RejectReason.UNSUPPORTED, e);
+        } catch (IllegalArgumentException | JwtException e) {
+            rejected(RejectReason.INVALID, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 검증 실패 집계
+     *
+     * 왜 로그 대신 카운터인가?
+     * - 만료 토큰은 정상 흐름이라 요청마다 ERROR + 스택 트레이스를 남기면 로그가 묻힘
+     * - 실패 추세는 auth.token.rejected{reason} 카운터로 보고, 상세는 DEBUG에서 일부만 남김
+     */
+    private void rejected(RejectReason reason, Exception e) {
+        Map<RejectReason, Counter> counters = rejectCounters;
+        if (counters != null) {
+            counters.get(reason).increment();
+        }
+        if (log.isDebugEnabled() && rejectSamples.getAndIncrement() % REJECT_LOG_SAMPLE_RATE == 0) {
+            log.debug("JWT 검증 실패 - reason: {}, message: {} ({}건마다 1건 기록)",
+                    reason.tag, e.getMessage(), REJECT_LOG_SAMPLE_RATE);
+        }
+    }
+
+    /**
+     * 검증 실패 카운터 등록 (MeterRegistry가 없으면 집계 안 함)
+     */
+    @Autowired(required = false)
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        Map<RejectReason, Counter> counters = new EnumMap<>(RejectReason.class);
+        for (RejectReason reason : RejectReason.values()) {
+            counters.put(reason, meterRegistry.counter(METRIC_REJECTED, "reason", reason.tag));
+        }
+        this.rejectCounters = counters;
+    }
+
     /**
      * 토큰에서 회원 ID 추출
      *
@@ -115,7 +280,7 @@ public class JwtUtil {
      */
     public String getEmailFromToken(String token) {
         Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
+        return claims.get(CLAIM_EMAIL, String.class);
     }
 
     /**
@@ -128,21 +293,11 @@ public class JwtUtil {
      * - 서명이 올바른가? (위변조 체크)
      * - 만료되지 않았는가?
      * - 형식이 올바른가?
+     *
+     * 클레임까지 필요하면 tryVerify()를 사용 (검증 한 번으로 끝남)
      */
     public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.", e);
-        } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.", e);
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.", e);
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.", e);
-        }
-        return false;
+        return tryVerify(token).isPresent();
     }
 
     /**
@@ -150,9 +305,7 @@ public class JwtUtil {
      * JWT를 해석해서 Payload(Claims)를 가져옴
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())  // 서명 검증
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -162,6 +315,6 @@ public class JwtUtil {
      */
     public String getTokenType(String token) {
         Claims claims = parseClaims(token);
-        return claims.get("type", String.class);
+        return claims.get(CLAIM_TYPE, String.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.stay.domain.auth.util;
+
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 묶음
+ *
+ * 왜 필요한가?
+ * - 기존에는 validateToken / getMemberIdFromToken / getEmailFromToken 을 따로 호출해서
+ *   같은 토큰을 요청마다 세 번씩 HMAC 검증 + JSON 디코딩 했음
+ * - 한 번 검증한 결과를 이 객체에 담아서 필터/서비스가 그대로 사용
+ *
+ * @param memberId    회원 ID (subject)
+ * @param email       회원 이메일 (Refresh Token에는 없음 → null)
+ * @param type        토큰 타입 (access / refresh)
+ * @param issuedAt    발급 시각
+ * @param expiresAt   만료 시각
+ * @param role        회원 역할 (Refresh Token, 클레임 도입 전 토큰은 null)
+ * @param grade       회원 등급 (Refresh Token, 클레임 도입 전 토큰은 null)
+ * @param active      활성 회원 여부 (클레임이 없으면 true)
+ * @param authVersion 발급 시점의 권한 버전 (클레임이 없으면 0)
+ * @param tokenId     토큰 고유 ID (jti)
+ * @param familyId    Refresh 세션 패밀리 ID (Refresh Token만, 세션 도입 전 토큰은 null)
+ */
+public record VerifiedToken(
+        Long memberId,
+        String email,
+        String type,
+        Instant issuedAt,
+        Instant expiresAt,
+        MemberRole role,
+        MemberGrade grade,
+        boolean active,
+        int authVersion,
+        String tokenId,
+        String familyId
+) {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    /**
+     * Refresh Token 여부
+     */
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,158 @@
+package com.stay.domain.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stay.config.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증된 JWT 캐시 (프로세스 내부)
+ *
+ * 왜 필요한가?
+ * - SPA는 세션 동안 같은 accessToken 쿠키를 수백 번 보냄
+ * - 매번 HMAC 서명 검증을 다시 할 필요 없이, 한 번 검증한 결과를 재사용
+ *
+ * 안전장치:
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트 (토큰 원문을 메모리에 쌓지 않음)
+ * - 검증에 성공한 토큰만 저장 (실패 결과는 캐시하지 않음)
+ * - 항목은 토큰의 exp 또는 maxTtl 중 빠른 시각에 제거
+ * - 조회 시에도 만료 여부를 다시 확인 (exp 이후의 토큰은 절대 신뢰하지 않음)
+ * - 크기 상한 초과 시 오래 안 쓴 항목부터 제거
+ *
+ * jwt.cache.enabled=false 이면 매 요청마다 JwtUtil로 바로 검증
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String METRIC_NAME = "jwt.verified";
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;  // 비활성화 시 null
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, JwtProperties jwtProperties) {
+        this.jwtUtil = jwtUtil;
+
+        JwtProperties.Cache config = jwtProperties.getCache();
+        this.cache = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(config.getMaximumSize())
+                        .expireAfter(new TokenExpiry(Duration.ofMillis(config.getMaxTtl())))
+                        .recordStats()
+                        .build()
+                : null;
+
+        log.info("검증된 JWT 캐시 - enabled: {}, maximumSize: {}, maxTtl: {}ms",
+                config.isEnabled(), config.getMaximumSize(), config.getMaxTtl());
+    }
+
+    /**
+     * 캐시 적중률/제거 수를 메트릭으로 노출 (jwt.verified.*)
+     */
+    @Autowired(required = false)
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+        }
+    }
+
+    /**
+     * 캐시에서 찾고, 없으면 서명 검증 후 저장
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 VerifiedToken, 아니면 Optional.empty()
+     */
+    public Optional<VerifiedToken> getOrVerify(String token) {
+        if (cache == null) {
+            return jwtUtil.tryVerify(token);
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return Optional.of(cached);
+            }
+            // 만료 직후 아직 제거되지 않은 항목 → 즉시 제거하고 재검증 (실패하게 됨)
+            cache.invalidate(key);
+        }
+
+        Optional<VerifiedToken> verified = jwtUtil.tryVerify(token);
+        verified.ifPresent(v -> cache.put(key, v));
+        return verified;
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거 (로그아웃 등)
+     */
+    public void invalidate(String token) {
+        if (cache != null && token != null) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/미스/제거 수)
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (Base64 URL, 43자)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 항목별 만료 정책: min(토큰 exp까지 남은 시간, maxTtl)
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long ttl = maxTtl.toNanos();
+            if (value.expiresAt() != null) {
+                long untilExp = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+                ttl = Math.min(ttl, Math.max(0, untilExp));
+            }
+            return ttl;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;  // 읽기로 수명이 늘어나지 않음
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.stay.domain.member.controller;
+
+import com.stay.domain.member.dto.BusinessInfoResponse;
+import com.stay.domain.member.service.BusinessMemberService;
+import com.stay.global.pagination.CursorPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 관리자 사업자 API 컨트롤러
+ *
+ * 보안:
+ * - SecurityRoutes에서 /api/admin/** 는 ADMIN 권한만 접근
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/business")
+@RequiredArgsConstructor
+public class AdminBusinessController {
+
+    private final BusinessMemberService businessMemberService;
+
+    /**
+     * 승인 대기 사업자 목록 (최신 신청순 키셋 페이지)
+     *
+     * 요청 예시:
+     * GET /api/admin/business/pending?size=20&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping("/pending")
+    public ResponseEntity<CursorPage<BusinessInfoResponse>> getPendingBusinessList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(businessMemberService.getPendingBusinessList(cursor, size));
+    }
+
+    /**
+     * 잘못된 페이지 커서 → 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
@@ -0,0 +1,295 @@
+package com.stay.domain.member.controller;
+
+import com.stay.domain.member.dto.ActiveMemberStats;
+import com.stay.domain.member.dto.MemberDailyStats;
+import com.stay.domain.member.dto.MemberImportJob;
+import com.stay.domain.member.dto.MemberResponse;
+import com.stay.domain.member.dto.MemberStats;
+import com.stay.domain.member.dto.RetentionCohort;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.domain.member.service.GradeBatchEngine;
+import com.stay.domain.member.service.MemberActivityTracker;
+import com.stay.domain.member.service.MemberBulkCodec;
+import com.stay.domain.member.service.MemberExportService;
+import com.stay.domain.member.service.MemberImportService;
+import com.stay.domain.member.service.MemberSearchService;
+import com.stay.domain.member.service.MemberService;
+import com.stay.domain.member.service.MemberStatsService;
+import com.stay.domain.member.service.PointExpiryEngine;
+import com.stay.global.pagination.CursorPage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 회원 API 컨트롤러
+ *
+ * 목록 API는 모두 키셋 페이지 (전체 목록 대신 한 페이지 + nextCursor)
+ *
+ * 보안:
+ * - SecurityRoutes에서 /api/admin/** 는 ADMIN 권한만 접근
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+public class AdminMemberController {
+
+    private final MemberSearchService memberSearchService;
+    private final MemberService memberService;
+    private final GradeBatchEngine gradeBatchEngine;
+    private final PointExpiryEngine pointExpiryEngine;
+    private final MemberStatsService memberStatsService;
+    private final MemberActivityTracker memberActivityTracker;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+
+    /**
+     * 회원 검색 (이름 부분 일치 / 이메일 앞부분 일치, 키셋 페이지)
+     *
+     * 요청 예시:
+     * GET /api/admin/members/search?keyword=길동
+     * GET /api/admin/members/search?keyword=hong@&size=50
+     * GET /api/admin/members/search?keyword=hong&type=EMAIL&cursor={이전 응답의 nextCursor}
+     *
+     * @param keyword 검색어 (2자 이상)
+     * @param type    NAME 또는 EMAIL (생략하면 '@'가 있으면 EMAIL)
+     * @param cursor  다음 페이지 커서
+     * @param size    페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<MemberResponse>> searchMembers(
+            @RequestParam String keyword,
+            @RequestParam(required = false) MemberSearchService.SearchType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        log.info("관리자 회원 검색 - keyword: {}, type: {}, size: {}", keyword, type, size);
+
+        return ResponseEntity.ok(memberSearchService.search(keyword, type, cursor, size));
+    }
+
+    /**
+     * 등급 또는 역할별 회원 목록 (최신 가입순)
+     *
+     * 요청 예시:
+     * GET /api/admin/members?grade=ELITE
+     * GET /api/admin/members?role=CUSTOMER&size=50&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<MemberResponse>> getMembers(
+            @RequestParam(required = false) MemberGrade grade,
+            @RequestParam(required = false) MemberRole role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        if ((grade == null) == (role == null)) {
+            throw new IllegalArgumentException("grade와 role 중 하나만 지정해야 합니다.");
+        }
+        return ResponseEntity.ok(grade != null
+                ? memberService.findMembersByGrade(grade, cursor, size)
+                : memberService.findMembersByRole(role, cursor, size));
+    }
+
+    /**
+     * 활성 사업자 회원 목록 (최신 가입순)
+     * GET /api/admin/members/business-owners
+     */
+    @GetMapping("/business-owners")
+    public ResponseEntity<CursorPage<MemberResponse>> getBusinessOwners(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(memberService.findBusinessOwners(cursor, size));
+    }
+
+    /**
+     * 비활성 회원 목록 (최근 수정순)
+     * GET /api/admin/members/inactive
+     */
+    @GetMapping("/inactive")
+    public ResponseEntity<CursorPage<MemberResponse>> getInactiveMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(memberService.findInactiveMembers(cursor, size));
+    }
+
+    /**
+     * 보관 기간(기본 90일) 이내 탈퇴 회원 목록 (최근 탈퇴순)
+     * GET /api/admin/members/deleted?retentionDays=90
+     */
+    @GetMapping("/deleted")
+    public ResponseEntity<CursorPage<MemberResponse>> getDeletedMembers(
+            @RequestParam(defaultValue = "90") int retentionDays,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(memberService.findDeletedMembers(retentionDays, cursor, size));
+    }
+
+    /**
+     * 대시보드 회원 통계 (활성/역할별/등급별 + 오늘 가입·탈퇴 등)
+     * GET /api/admin/members/stats
+     *
+     * 카운터 키 몇 개만 읽음 (members 집계 없음)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<MemberStats> getStats() {
+        return ResponseEntity.ok(memberStatsService.current());
+    }
+
+    /**
+     * 날짜별 회원 통계 (최대 366일)
+     * GET /api/admin/members/stats/daily?from=2025-03-01&to=2025-03-31
+     */
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<MemberDailyStats>> getDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(memberStatsService.daily(from, to));
+    }
+
+    /**
+     * 통계 카운터 대사 수동 실행 (members 집계와 비교해서 보정)
+     * POST /api/admin/members/stats/reconcile
+     *
+     * @return 키별 보정량 (어긋난 키만)
+     */
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<Map<String, Long>> reconcileStats() {
+        log.info("회원 통계 대사 수동 실행");
+        return ResponseEntity.ok(memberStatsService.reconcile());
+    }
+
+    /**
+     * 활성 회원 수 추정치 (DAU / 최근 7일 / 최근 30일 / 이번 달)
+     * GET /api/admin/members/activity
+     * GET /api/admin/members/activity?date=2025-03-01
+     *
+     * HyperLogLog PFCOUNT만 사용 (회원 수와 무관하게 고정 메모리, 오차 약 1%)
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<ActiveMemberStats> getActivity(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(memberActivityTracker.activeMembers(date != null ? date : LocalDate.now()));
+    }
+
+    /**
+     * 가입 주 코호트 잔존율 추정치
+     * GET /api/admin/members/activity/retention?week=2025-03-03&weeks=8
+     *
+     * @param week  가입 주에 속한 아무 날짜
+     * @param weeks 몇 주차까지 볼지 (기본 8, 최대 12)
+     */
+    @GetMapping("/activity/retention")
+    public ResponseEntity<RetentionCohort> getRetention(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week,
+            @RequestParam(defaultValue = "8") int weeks) {
+        return ResponseEntity.ok(memberActivityTracker.retention(week, weeks));
+    }
+
+    /**
+     * 등급 재계산 배치 수동 실행 (중단된 실행 이어서 하기)
+     *
+     * 요청 예시:
+     * POST /api/admin/members/grade-batch?runKey=2025-03
+     *
+     * 같은 runKey로 다시 호출하면 남은 청크만 처리하고 누적 결과를 반환한다.
+     */
+    @PostMapping("/grade-batch")
+    public ResponseEntity<GradeBatchEngine.Report> runGradeBatch(@RequestParam String runKey) {
+        log.info("등급 배치 수동 실행 - runKey: {}", runKey);
+        return ResponseEntity.ok(gradeBatchEngine.run(runKey));
+    }
+
+    /**
+     * 포인트 소멸 수동 실행 (소멸일이 지난 가장 오래된 버킷 하나)
+     * POST /api/admin/members/point-expiry
+     *
+     * 소멸할 묶음이 없으면 204
+     */
+    @PostMapping("/point-expiry")
+    public ResponseEntity<PointExpiryEngine.Result> runPointExpiry() {
+        log.info("포인트 소멸 수동 실행");
+        return pointExpiryEngine.expireNextBucket(LocalDate.now())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 회원 대량 가져오기 (요청 본문을 스트리밍으로 읽음)
+     *
+     * 요청 예시:
+     * curl -X POST -H 'Content-Type: text/csv' --data-binary @members.csv \
+     *   '/api/admin/members/import?jobKey=legacy-2025-03&format=CSV'
+     *
+     * 중간에 끊기면 같은 파일을 같은 jobKey로 다시 보내면 됨 (커밋된 레코드는 건너뜀).
+     * 이미 끝난 jobKey면 아무것도 하지 않고 결과만 반환.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<MemberImportJob> importMembers(
+            @RequestParam String jobKey,
+            @RequestParam MemberBulkCodec.Format format,
+            HttpServletRequest request) throws IOException {
+        log.info("회원 가져오기 요청 - jobKey: {}, format: {}", jobKey, format);
+        return ResponseEntity.ok(memberImportService.importMembers(jobKey, format, request.getInputStream()));
+    }
+
+    /**
+     * 가져오기 진행 상황 (처리/가져옴/중복/거부 수 + 건너뛴 레코드 앞부분)
+     * GET /api/admin/members/import/{jobKey}
+     */
+    @GetMapping("/import/{jobKey}")
+    public ResponseEntity<MemberImportJob> getImportJob(@PathVariable String jobKey) {
+        return ResponseEntity.ok(memberImportService.job(jobKey));
+    }
+
+    /**
+     * 회원 대량 내보내기 (member_id 순서, 응답 본문으로 스트리밍)
+     *
+     * 요청 예시:
+     * GET /api/admin/members/export?format=NDJSON
+     * GET /api/admin/members/export?format=CSV&afterId={받은 마지막 memberId}  (끊긴 곳부터 이어받기)
+     *
+     * 비동기 응답 대신 요청 스레드에서 바로 씀 (async 타임아웃에 걸리지 않도록)
+     */
+    @GetMapping("/export")
+    public void exportMembers(
+            @RequestParam(defaultValue = "NDJSON") MemberBulkCodec.Format format,
+            @RequestParam(defaultValue = "0") long afterId,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"members-after-" + afterId + "." + format.fileExtension() + "\"");
+        memberExportService.export(format, afterId, response.getOutputStream());
+    }
+
+    /**
+     * 검색어 오류 → 400
+     */
+    @ExceptionHandler(MemberException.class)
+    public ResponseEntity<Map<String, String>> handleMemberException(MemberException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "code", e.getErrorCode().getCode(),
+                "message", e.getMessage()
+        ));
+    }
+
+    /**
+     * 잘못된 페이지 커서/파라미터 → 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
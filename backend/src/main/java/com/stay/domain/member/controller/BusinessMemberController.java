@@ -6,6 +6,8 @@ import com.stay.domain.member.entity.MemberRole;
 import com.stay.domain.member.service.BusinessMemberService;
 import com.stay.domain.member.service.EmailVerificationService;
 import com.stay.domain.member.service.MemberService;
+import com.stay.global.querybudget.QueryBudget;
+import com.stay.global.ratelimit.RateLimit;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 비즈니스 회원 API 컨트롤러
@@ -69,6 +72,7 @@ public class BusinessMemberController {
      * @return available: 사용 가능 여부 (true/false)
      */
     @GetMapping("/check-business-number")
+    @QueryBudget(1)  // Bloom 필터/Redis에서 못 끝낼 때만 존재 확인
     public ResponseEntity<Map<String, Object>> checkBusinessNumber(
             @RequestParam String businessNumber
     ) {
@@ -133,6 +137,7 @@ public class BusinessMemberController {
      * @return 회원가입 결과
      */
     @PostMapping("/register")
+    @QueryBudget(7)  // 이메일/사업자번호 확인 + INSERT 2 + 통계 + 인증 토큰 DELETE/INSERT
     public ResponseEntity<Map<String, Object>> registerBusinessMember(
             @Valid @RequestBody BusinessMemberRegisterRequest request
     ) {
@@ -185,6 +190,8 @@ public class BusinessMemberController {
      * @return available: 사용 가능 여부
      */
     @GetMapping("/check-email")
+    @QueryBudget(1)  // Bloom 필터/Redis에서 못 끝낼 때만 존재 확인
+    @RateLimit(name = "check-email", key = RateLimit.Key.IP, capacity = 30, period = 1, unit = TimeUnit.MINUTES)
     public ResponseEntity<Map<String, Object>> checkEmail(
             @RequestParam String email
     ) {
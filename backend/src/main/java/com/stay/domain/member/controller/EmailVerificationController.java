@@ -3,11 +3,15 @@ package com.stay.domain.member.controller;
 import com.stay.domain.member.dto.EmailVerificationDto;
 import com.stay.domain.member.service.EmailService;
 import com.stay.domain.member.service.EmailVerificationService;
+import com.stay.global.querybudget.QueryBudget;
+import com.stay.global.ratelimit.RateLimit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * 이메일 인증 Controller
  *
@@ -40,6 +44,7 @@ public class EmailVerificationController {
      * 주의: 운영 환경에서는 제거하거나 관리자 권한 필요!
      */
     @GetMapping("/test")
+    @QueryBudget(0)
     public ResponseEntity<String> testEmail(@RequestParam String email) {
         log.info("이메일 발송 테스트 요청 - email: {}", email);
 
@@ -60,6 +65,9 @@ public class EmailVerificationController {
      * Body: { "email": "user@example.com" }
      */
     @PostMapping("/send")
+    @QueryBudget(0)  // Redis 토큰
+    @RateLimit(name = "email-send", key = RateLimit.Key.EMAIL, capacity = 3, period = 10, unit = TimeUnit.MINUTES)
+    @RateLimit(name = "email-send", key = RateLimit.Key.IP, capacity = 20, period = 1, unit = TimeUnit.HOURS)
     public ResponseEntity<EmailVerificationDto.SendResponse> sendEmail(
             @RequestBody EmailVerificationDto.SendRequest request) {
 
@@ -88,6 +96,9 @@ public class EmailVerificationController {
      * Body: { "email": "user@example.com" }
      */
     @PostMapping("/resend")
+    @QueryBudget(3)  // 회원 조회 + 이전 토큰 DELETE + INSERT
+    @RateLimit(name = "email-send", key = RateLimit.Key.EMAIL, capacity = 3, period = 10, unit = TimeUnit.MINUTES)
+    @RateLimit(name = "email-send", key = RateLimit.Key.IP, capacity = 20, period = 1, unit = TimeUnit.HOURS)
     public ResponseEntity<EmailVerificationDto.SendResponse> resendEmail(
             @RequestBody EmailVerificationDto.ResendRequest request) {
 
@@ -118,6 +129,7 @@ public class EmailVerificationController {
      * 사용자가 이메일 링크 클릭 → 프론트엔드 페이지 이동 → 이 API 호출
      */
     @GetMapping("/verify")
+    @QueryBudget(4)  // 토큰 조회 + 회원 로딩 + UPDATE 2 (Redis 토큰이면 0)
     public ResponseEntity<EmailVerificationDto.VerifyResponse> verifyEmail(
             @RequestParam String token) {
 
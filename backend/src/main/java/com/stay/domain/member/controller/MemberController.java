@@ -1,10 +1,13 @@
 package com.stay.domain.member.controller;
 
 import com.stay.domain.member.dto.MemberResponse;
+import com.stay.domain.member.dto.MemberSnapshot;
 import com.stay.domain.member.dto.NicknameCheckResponse;
+import com.stay.domain.member.dto.PointExpiration;
 import com.stay.domain.member.dto.UpdateNicknameRequest;
 import com.stay.domain.member.entity.Member;
 import com.stay.domain.member.service.MemberService;
+import com.stay.global.querybudget.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +16,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -47,29 +51,30 @@ public class MemberController {
      * curl -H "Authorization: Bearer {token}" http://localhost:8080/api/members/me
      */
     @GetMapping("/me")
+    @QueryBudget(1)  // 스냅샷 캐시 미스 시 회원 조회
     public ResponseEntity<Map<String, Object>> getMyInfo(
             @AuthenticationPrincipal Long memberId
     ) {
         log.info("========================================");
         log.info("내 정보 조회 요청 - memberId: {}", memberId);
 
-        // 활성 회원만 조회 (탈퇴/비활성 회원 차단)
-        Member member = memberService.findActiveById(memberId);
+        // 활성 회원만 조회 (탈퇴/비활성 회원 차단, 캐시된 스냅샷 사용)
+        MemberSnapshot member = memberService.findActiveSnapshot(memberId);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("id", member.getId());
-        response.put("email", member.getEmail());
-        response.put("name", member.getName());
-        response.put("nickname", member.getNickname());
-        response.put("phoneNumber", member.getPhoneNumber());
-        response.put("role", member.getRole().name());
-        response.put("grade", member.getGrade().name());
-        response.put("points", member.getPoints());
-        response.put("reservationCount", member.getReservationCount());
-        response.put("profileImageUrl", member.getProfileImageUrl());
-        response.put("isActive", member.getIsActive());
-
-        log.info("회원 정보 - nickname: {}, grade: {}", member.getNickname(), member.getGrade());
+        response.put("id", member.id());
+        response.put("email", member.email());
+        response.put("name", member.name());
+        response.put("nickname", member.nickname());
+        response.put("phoneNumber", member.phoneNumber());
+        response.put("role", member.role().name());
+        response.put("grade", member.grade().name());
+        response.put("points", member.points());
+        response.put("reservationCount", member.reservationCount());
+        response.put("profileImageUrl", member.profileImageUrl());
+        response.put("isActive", member.active());
+
+        log.info("회원 정보 - nickname: {}, grade: {}", member.nickname(), member.grade());
         log.info("========================================");
 
         return ResponseEntity.ok(response);
@@ -78,22 +83,32 @@ public class MemberController {
     /**
      * 내 포인트 조회
      * GET /api/members/me/points
+     * GET /api/members/me/points?expiringWithinDays=7
      *
-     * @param memberId 현재 로그인한 사용자 ID
+     * 응답의 expiring: 소멸 예정 포인트 (날짜별, 가까운 날짜부터)
+     * 예시: "expiring": [{"expiresOn": "2025-04-01", "points": 500}], "expiringTotal": 500
+     *
+     * @param memberId           현재 로그인한 사용자 ID
+     * @param expiringWithinDays 소멸 예정 조회 기간 (기본 30일, 최대 365일)
      * @return 포인트 정보
      */
     @GetMapping("/me/points")
+    @QueryBudget(2)  // 회원 스냅샷 + 소멸 예정 묶음
     public ResponseEntity<Map<String, Object>> getMyPoints(
-            @AuthenticationPrincipal Long memberId
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(defaultValue = "30") int expiringWithinDays
     ) {
         log.info("내 포인트 조회 요청 - memberId: {}", memberId);
 
-        Member member = memberService.findActiveById(memberId);
+        MemberSnapshot member = memberService.findActiveSnapshot(memberId);
+        List<PointExpiration> expiring = memberService.findUpcomingPointExpirations(memberId, expiringWithinDays);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("points", member.getPoints());
-        response.put("grade", member.getGrade().name());
-        response.put("gradeDescription", getGradeDescription(member.getGrade().name()));
+        response.put("points", member.points());
+        response.put("expiring", expiring);
+        response.put("expiringTotal", expiring.stream().mapToInt(PointExpiration::points).sum());
+        response.put("grade", member.grade().name());
+        response.put("gradeDescription", getGradeDescription(member.grade().name()));
 
         return ResponseEntity.ok(response);
     }
@@ -110,16 +125,18 @@ public class MemberController {
      * 요청 예시:
      * GET /api/members/check-nickname?nickname=멋진닉네임
      *
-     * 응답 예시:
+     * 응답 예시 (중복이면 suggestions에 사용 가능한 닉네임 추천):
      * {
-     *   "available": true,
-     *   "message": "사용 가능한 닉네임입니다."
+     *   "available": false,
+     *   "message": "이미 사용 중인 닉네임입니다.",
+     *   "suggestions": ["멋진닉네임짱", "멋진닉네임님", "멋진닉네임1"]
      * }
      *
      * @param nickname 확인할 닉네임
      * @return 사용 가능 여부와 메시지
      */
     @GetMapping("/check-nickname")
+    @QueryBudget(1)  // Bloom 필터/Redis에서 못 끝낼 때만 존재 확인
     public ResponseEntity<NicknameCheckResponse> checkNickname(
             @RequestParam String nickname) {
 
@@ -128,12 +145,9 @@ public class MemberController {
         // 닉네임 중복 여부 확인
         boolean available = memberService.isNicknameAvailable(nickname);
 
-        // 응답 메시지 생성
-        String message = available
-                ? "사용 가능한 닉네임입니다."
-                : "이미 사용 중인 닉네임입니다.";
-
-        NicknameCheckResponse response = new NicknameCheckResponse(available, message);
+        NicknameCheckResponse response = available
+                ? NicknameCheckResponse.available()
+                : NicknameCheckResponse.duplicate(memberService.suggestNicknames(nickname));
 
         return ResponseEntity.ok(response);
     }
@@ -164,6 +178,7 @@ public class MemberController {
      * @return 업데이트된 회원 정보
      */
     @PatchMapping("/{memberId}/nickname")
+    @QueryBudget(3)  // 회원 조회 + 중복 확인 + UPDATE
     public ResponseEntity<MemberResponse> updateNickname(
             @PathVariable Long memberId,
             @RequestBody @Valid UpdateNicknameRequest request) {
@@ -204,10 +219,11 @@ public class MemberController {
      * @return 회원 정보
      */
     @GetMapping("/{memberId}")
+    @QueryBudget(1)  // 스냅샷 캐시 미스 시 회원 조회
     public ResponseEntity<MemberResponse> getMember(@PathVariable Long memberId) {
         log.info("회원 조회 요청 - memberId: {}", memberId);
 
-        Member member = memberService.findActiveById(memberId);
+        MemberSnapshot member = memberService.findActiveSnapshot(memberId);
         MemberResponse response = MemberResponse.from(member);
 
         return ResponseEntity.ok(response);
@@ -223,6 +239,7 @@ public class MemberController {
      * @return 승급 결과
      */
     @PostMapping("/upgrade")
+    @QueryBudget(3)  // 회원 조회 + UPDATE + 통계 카운터 배치
     public ResponseEntity<Map<String, Object>> upgradeToBusinessOwner(
             @AuthenticationPrincipal Long memberId
     ) {
@@ -252,6 +269,7 @@ public class MemberController {
      * @return 탈퇴 결과
      */
     @DeleteMapping("/me")
+    @QueryBudget(3)  // 회원 조회 + UPDATE + 통계 카운터 배치
     public ResponseEntity<Map<String, Object>> deactivateMember(
             @AuthenticationPrincipal Long memberId
     ) {
@@ -280,6 +298,7 @@ public class MemberController {
      * @return 삭제 결과
      */
     @DeleteMapping("/me/permanent")
+    @QueryBudget(7)  // 회원 조회 + 포인트 소멸(잠금, 묶음 삭제, 잔액 UPDATE, 원장) + UPDATE + 통계 카운터 배치
     public ResponseEntity<Map<String, Object>> deleteMember(
             @AuthenticationPrincipal Long memberId
     ) {
@@ -0,0 +1,23 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 활성 회원 수 추정치 (HyperLogLog, 오차 약 1%)
+ *
+ * @param date       기준일
+ * @param daily      기준일 활성 회원 (DAU)
+ * @param weekly     기준일까지 7일 활성 회원 (WAU)
+ * @param monthly    기준일까지 30일 활성 회원 (MAU)
+ * @param thisMonth  기준일이 속한 달 1일부터 활성 회원
+ * @param stickiness DAU / MAU (0~1, MAU가 0이면 0)
+ */
+public record ActiveMemberStats(
+        LocalDate date,
+        long daily,
+        long weekly,
+        long monthly,
+        long thisMonth,
+        double stickiness
+) {
+}
@@ -0,0 +1,23 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 회원 통계
+ *
+ * @param date          날짜
+ * @param signups       가입
+ * @param deactivations 비활성화
+ * @param reactivations 재활성화
+ * @param deletions     탈퇴
+ * @param activeMembers 그날 롤업 시점 활성 회원 수 (오늘/롤업 전 날짜는 null)
+ */
+public record MemberDailyStats(
+        LocalDate date,
+        long signups,
+        long deactivations,
+        long reactivations,
+        long deletions,
+        Long activeMembers
+) {
+}
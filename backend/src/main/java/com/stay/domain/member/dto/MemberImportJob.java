@@ -0,0 +1,40 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 가져오기 작업 진행 상황
+ *
+ * @param jobKey     작업 키
+ * @param format     입력 형식 (CSV, NDJSON)
+ * @param processed  처리한 레코드 수 (같은 작업 키로 다시 보내면 이 다음 레코드부터)
+ * @param imported   가져온 회원 수
+ * @param duplicates 이미 있는 회원이라 건너뛴 수
+ * @param rejected   검증 실패로 건너뛴 수
+ * @param completed  입력 끝까지 처리했는지
+ * @param updatedAt  마지막 진행 시각
+ * @param skips      건너뛴 레코드 (레코드 번호순 앞에서 최대 100건)
+ */
+public record MemberImportJob(
+        String jobKey,
+        String format,
+        long processed,
+        long imported,
+        long duplicates,
+        long rejected,
+        boolean completed,
+        LocalDateTime updatedAt,
+        List<Skip> skips
+) {
+
+    /**
+     * 건너뛴 레코드
+     *
+     * @param recordNo  레코드 번호 (1부터, CSV 헤더 제외)
+     * @param duplicate true면 중복, false면 검증 실패
+     * @param reason    사유
+     */
+    public record Skip(long recordNo, boolean duplicate, String reason) {
+    }
+}
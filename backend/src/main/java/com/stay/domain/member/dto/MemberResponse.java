@@ -58,6 +58,21 @@ public record MemberResponse(
         );
     }
 
+    /**
+     * 캐시된 스냅샷 → DTO 변환 (조회 API용)
+     */
+    public static MemberResponse from(MemberSnapshot snapshot) {
+        return new MemberResponse(
+                snapshot.id(),
+                snapshot.email(),
+                snapshot.nickname(),
+                snapshot.name(),
+                snapshot.points(),
+                snapshot.grade().name(),
+                snapshot.role().name()
+        );
+    }
+
     /**
      * 닉네임이 없는 경우 기본값 처리
      *
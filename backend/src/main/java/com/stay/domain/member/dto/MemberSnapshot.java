@@ -0,0 +1,53 @@
+package com.stay.domain.member.dto;
+
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+
+/**
+ * 회원 조회용 스냅샷 (불변)
+ *
+ * 왜 필요한가?
+ * - /me, /me/points 같은 조회 API는 엔티티 전체(영속성 컨텍스트, 지연 로딩 연관관계)가 필요 없음
+ * - 불변 객체라서 로컬/Redis 캐시에 그대로 넣고 여러 요청이 공유해도 안전
+ *
+ * 변경이 필요하면 MemberService의 변경 메서드(엔티티)를 사용하고,
+ * 변경 후에는 MemberSnapshotCache가 스냅샷을 무효화한다.
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        String phoneNumber,
+        MemberRole role,
+        MemberGrade grade,
+        int points,
+        int reservationCount,
+        String profileImageUrl,
+        boolean active,
+        boolean deleted,
+        int authVersion
+) {
+
+    /**
+     * Member 엔티티 → 스냅샷 변환
+     */
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getNickname(),
+                member.getPhoneNumber(),
+                member.getRole(),
+                member.getGrade(),
+                member.getPoints(),
+                member.getReservationCount(),
+                member.getProfileImageUrl(),
+                Boolean.TRUE.equals(member.getIsActive()),
+                member.getDeletedAt() != null,
+                member.getAuthVersion()
+        );
+    }
+}
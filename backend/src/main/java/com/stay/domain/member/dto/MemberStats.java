@@ -0,0 +1,22 @@
+package com.stay.domain.member.dto;
+
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+
+import java.util.Map;
+
+/**
+ * 현재 회원 통계 (관리자 대시보드)
+ *
+ * @param activeMembers 활성 회원 수
+ * @param byRole        역할별 활성 회원 수
+ * @param byGrade       등급별 활성 회원 수
+ * @param today         오늘 가입/비활성화/재활성화/탈퇴 수
+ */
+public record MemberStats(
+        long activeMembers,
+        Map<MemberRole, Long> byRole,
+        Map<MemberGrade, Long> byGrade,
+        MemberDailyStats today
+) {
+}
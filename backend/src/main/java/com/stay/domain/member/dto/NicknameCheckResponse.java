@@ -3,6 +3,8 @@ package com.stay.domain.member.dto;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 /**
  * 닉네임 중복 체크 응답 DTO
  */
@@ -10,27 +12,35 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NicknameCheckResponse {
 
-    private final boolean available;  // true: 사용 가능, false: 중복
-    private final String message;     // 사용자에게 보여줄 메시지
+    private final boolean available;          // true: 사용 가능, false: 중복
+    private final String message;             // 사용자에게 보여줄 메시지
+    private final List<String> suggestions;   // 중복일 때 추천 닉네임 (가까운 순서, 사용 가능하면 빈 목록)
 
     /**
      * 사용 가능한 경우 응답 생성
      */
     public static NicknameCheckResponse available() {
-        return new NicknameCheckResponse(true, "사용 가능한 닉네임입니다.");
+        return new NicknameCheckResponse(true, "사용 가능한 닉네임입니다.", List.of());
     }
 
     /**
      * 중복인 경우 응답 생성
      */
     public static NicknameCheckResponse duplicate() {
-        return new NicknameCheckResponse(false, "이미 사용 중인 닉네임입니다.");
+        return duplicate(List.of());
+    }
+
+    /**
+     * 중복인 경우 추천 닉네임과 함께 응답 생성
+     */
+    public static NicknameCheckResponse duplicate(List<String> suggestions) {
+        return new NicknameCheckResponse(false, "이미 사용 중인 닉네임입니다.", suggestions);
     }
 
     /**
      * 커스텀 메시지로 응답 생성
      */
     public static NicknameCheckResponse of(boolean available, String message) {
-        return new NicknameCheckResponse(available, message);
+        return new NicknameCheckResponse(available, message, List.of());
     }
-}
\ No newline at end of file
+}
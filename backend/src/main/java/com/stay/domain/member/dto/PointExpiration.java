@@ -0,0 +1,15 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 소멸 예정 포인트 (날짜별 합계)
+ *
+ * @param expiresOn 소멸일
+ * @param points    그날 소멸하는 포인트
+ */
+public record PointExpiration(
+        LocalDate expiresOn,
+        int points
+) {
+}
@@ -0,0 +1,37 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 한 줄
+ *
+ * @param id             원장 ID
+ * @param memberId       회원 ID
+ * @param type           종류
+ * @param amount         변동량 (적립 +, 사용 -)
+ * @param balanceAfter   반영 후 잔액
+ * @param idempotencyKey 중복 요청 방지 키
+ * @param reason         사유
+ * @param createdAt      생성 일시
+ */
+public record PointTransaction(
+        Long id,
+        Long memberId,
+        Type type,
+        int amount,
+        int balanceAfter,
+        String idempotencyKey,
+        String reason,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 원장 종류
+     */
+    public enum Type {
+        EARN,       // 적립
+        USE,        // 사용
+        EXPIRE,     // 소멸
+        ADJUST      // 관리자 조정 / 시작 잔액
+    }
+}
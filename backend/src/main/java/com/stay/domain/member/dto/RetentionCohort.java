@@ -0,0 +1,26 @@
+package com.stay.domain.member.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 가입 주 코호트 잔존율 추정치
+ *
+ * @param weekStart 가입 주 시작일 (월요일)
+ * @param signups   그 주 가입자 수
+ * @param weeks     가입 후 N주차 잔존 (0주차 = 가입 주)
+ */
+public record RetentionCohort(
+        LocalDate weekStart,
+        long signups,
+        List<Week> weeks
+) {
+
+    /**
+     * @param offset   가입 후 몇 주차인지
+     * @param retained 그 주에 활동한 코호트 회원 수 (추정)
+     * @param rate     retained / signups
+     */
+    public record Week(int offset, long retained, double rate) {
+    }
+}
@@ -3,6 +3,7 @@ package com.stay.domain.member.entity;
 import com.stay.domain.common.BaseEntity;
 import com.stay.domain.member.exception.MemberErrorCode;
 import com.stay.domain.member.exception.MemberException;
+import com.stay.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -36,7 +37,7 @@ import java.time.LocalDateTime;
 public class BusinessInfo extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "business_info_id")
     private Long id;
 
@@ -1,6 +1,7 @@
 package com.stay.domain.member.entity;
 
 import com.stay.domain.common.BaseEntity;
+import com.stay.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -28,7 +29,7 @@ import java.time.LocalDateTime;
 public class EmailVerificationToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "token_id")
     private Long id;
 
@@ -3,11 +3,14 @@ package com.stay.domain.member.entity;
 import com.stay.domain.common.BaseEntity;
 import com.stay.domain.member.exception.MemberErrorCode;
 import com.stay.domain.member.exception.MemberException;
+import com.stay.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,8 +18,13 @@ import java.util.List;
 
 /**
  * 회원 엔티티
+ *
+ * 바뀐 컬럼만 UPDATE (@DynamicUpdate)
+ * - points, auth_version, grade, last_login_at은 JDBC로도 바뀜 (포인트 원장, 등급 배치, 로그인 시간 버퍼)
+ * - 전체 컬럼을 쓰면 엔티티를 읽은 뒤 다른 쪽이 바꾼 값을 읽었던 값으로 되돌림 (lost update)
  */
 @Entity
+@DynamicUpdate
 @Table(name = "members",
         indexes = {
                 @Index(name = "idx_email", columnList = "email"),
@@ -28,8 +36,15 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
 
+    /**
+     * 닉네임 규칙 (닉네임 추천 후보 검증에도 같은 규칙 사용)
+     */
+    public static final int NICKNAME_MIN_LENGTH = 2;
+    public static final int NICKNAME_MAX_LENGTH = 8;
+    public static final String NICKNAME_PATTERN = "^[가-힣a-zA-Z0-9_]+$";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "member_id")
     private Long id;
 
@@ -70,8 +85,8 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private int reservationCount = 0;
 
-    @Column(nullable = false)
-    private int points = 0;
+    @Column(nullable = false, updatable = false)
+    private int points = 0;  // 포인트 원장 합계의 캐시 (변경은 PointLedgerService의 원자적 UPDATE로만)
 
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
@@ -99,6 +114,14 @@ public class Member extends BaseEntity {
     @Column(name = "email_verified_at")
     private LocalDateTime emailVerifiedAt;
 
+    /**
+     * 권한 버전
+     * - 역할/등급/활성 상태가 바뀔 때마다 1씩 증가
+     * - Access Token의 ver 클레임과 비교해서 이전에 발급된 토큰을 무효화
+     */
+    @Column(name = "auth_version", nullable = false)
+    private int authVersion = 0;
+
     @OneToMany(mappedBy = "member",
             cascade = {CascadeType.PERSIST, CascadeType.MERGE},
             orphanRemoval = false)
@@ -140,7 +163,7 @@ public class Member extends BaseEntity {
 
     /**
      * 닉네임 검증
-     * - 2~30자
+     * - 2~8자
      * - 한글, 영문, 숫자, 언더스코어만 허용
      * - 공백 불가
      */
@@ -149,12 +172,12 @@ public class Member extends BaseEntity {
             throw new MemberException(MemberErrorCode.MEMBER_NICKNAME_REQUIRED);
         }
 
-        if (nickname.length() < 2 || nickname.length() > 8) {
+        if (nickname.length() < NICKNAME_MIN_LENGTH || nickname.length() > NICKNAME_MAX_LENGTH) {
             throw new MemberException(MemberErrorCode.MEMBER_NICKNAME_INVALID_LENGTH);
         }
 
         // 한글, 영문, 숫자, 언더스코어만 허용
-        if (!nickname.matches("^[가-힣a-zA-Z0-9_]+$")) {
+        if (!nickname.matches(NICKNAME_PATTERN)) {
             throw new MemberException(MemberErrorCode.MEMBER_NICKNAME_INVALID_FORMAT);
         }
     }
@@ -168,33 +191,6 @@ public class Member extends BaseEntity {
         this.lastLoginAt = LocalDateTime.now();
     }
 
-    // ==================== 포인트 관리 ====================
-
-    /**
-     * 포인트 적립
-     * @param points 적립할 포인트
-     */
-    public void earnPoints(int points) {
-        if (points < 0) {
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
-        this.points += points;
-    }
-
-    /**
-     * 포인트 사용
-     * @param points 사용할 포인트
-     */
-    public void usePoints(int points) {
-        if (points < 0) {
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
-        if (this.points < points) {
-            throw new MemberException(MemberErrorCode.INSUFFICIENT_POINTS);
-        }
-        this.points -= points;
-    }
-
     // ==================== 예약 카운트 & 등급 관리 ====================
 
     /**
@@ -218,6 +214,7 @@ public class Member extends BaseEntity {
         if (this.grade != newGrade) {
             this.grade = newGrade;
             this.lastGradeUpdatedAt = LocalDateTime.now();
+            bumpAuthVersion();
         }
     }
 
@@ -229,6 +226,7 @@ public class Member extends BaseEntity {
             throw new MemberException(MemberErrorCode.ALREADY_BUSINESS_OWNER);
         }
         this.role = MemberRole.BUSINESS_OWNER;
+        bumpAuthVersion();
     }
 
     // ==================== 이메일 인증 ====================
@@ -266,6 +264,7 @@ public class Member extends BaseEntity {
      */
     public void deactivate() {
         this.isActive = false;
+        bumpAuthVersion();
     }
 
     /**
@@ -276,16 +275,18 @@ public class Member extends BaseEntity {
             throw new MemberException(MemberErrorCode.MEMBER_DELETED);
         }
         this.isActive = true;
+        bumpAuthVersion();
     }
 
     /**
      * 회원 탈퇴 (소프트 삭제)
+     * - 남은 포인트는 여기서 바꾸지 않음 → MemberService가 PointLedgerService.forfeitAll()로 소멸
      */
     public void delete() {
         this.isActive = false;
         this.deletedAt = LocalDateTime.now();
-        this.points = 0;
         this.grade = MemberGrade.BASIC;
+        bumpAuthVersion();
     }
 
     /**
@@ -297,6 +298,15 @@ public class Member extends BaseEntity {
         }
         this.deletedAt = null;
         this.isActive = true;
+        bumpAuthVersion();
+    }
+
+    /**
+     * 권한 버전 증가
+     * - 토큰에 담긴 역할/등급/상태가 더 이상 사실이 아니게 될 때 호출
+     */
+    private void bumpAuthVersion() {
+        this.authVersion++;
     }
 
     // ==================== 프로필 관리 ====================
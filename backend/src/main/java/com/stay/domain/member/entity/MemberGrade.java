@@ -3,6 +3,10 @@ package com.stay.domain.member.entity;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * 회원 등급 Enum
  *
@@ -24,17 +28,31 @@ public enum MemberGrade {
     private final double discountRate;      // 할인율 (0.03 = 3%)
     private final int maxReviewPoints;      // 리뷰 작성 시 최대 포인트
 
+    /**
+     * 최소 예약 횟수가 높은 등급부터 (등급 결정/배치 CASE 조건 순서)
+     */
+    private static final List<MemberGrade> BY_THRESHOLD_DESC = Arrays.stream(values())
+            .sorted(Comparator.comparingInt(MemberGrade::getMinReservations).reversed())
+            .toList();
+
     /**
      * 예약 횟수에 따른 등급 결정
      */
     public static MemberGrade determineGrade(int reservationCount) {
-        if (reservationCount >= ELITE_PLUS.minReservations) {
-            return ELITE_PLUS;
-        } else if (reservationCount >= ELITE.minReservations) {
-            return ELITE;
-        } else {
-            return BASIC;
+        for (MemberGrade grade : BY_THRESHOLD_DESC) {
+            if (reservationCount >= grade.minReservations) {
+                return grade;
+            }
         }
+        return BASIC;
+    }
+
+    /**
+     * 최소 예약 횟수가 높은 등급부터 정렬한 목록
+     * - 등급 배치가 이 순서로 SQL CASE 조건을 만듦 (determineGrade와 같은 규칙)
+     */
+    public static List<MemberGrade> byThresholdDescending() {
+        return BY_THRESHOLD_DESC;
     }
 
     /**
@@ -3,6 +3,7 @@ package com.stay.domain.member.entity;
 import com.stay.domain.common.BaseEntity;
 import com.stay.domain.member.exception.MemberErrorCode;
 import com.stay.domain.member.exception.MemberException;
+import com.stay.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -35,7 +36,7 @@ import lombok.NoArgsConstructor;
 public class SocialLogin extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "social_login_id")
     private Long id;
 
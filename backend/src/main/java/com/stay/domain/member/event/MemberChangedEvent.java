@@ -0,0 +1,32 @@
+package com.stay.domain.member.event;
+
+/**
+ * 회원의 권한 관련 정보(역할/등급/활성 상태)가 바뀌었을 때 발행되는 이벤트
+ *
+ * 왜 필요한가?
+ * - Access Token에는 역할/등급/상태가 클레임으로 들어가 있어서
+ *   DB 값이 바뀌어도 토큰 만료 전까지는 예전 값으로 인가됨
+ * - 이 이벤트를 받은 쪽(AuthVersionRegistry 등)이 이전 버전 토큰을 거부하도록 함
+ * - member 도메인이 auth 도메인을 직접 알 필요가 없음
+ *
+ * @param memberId    회원 ID
+ * @param type        변경 종류
+ * @param authVersion 변경 후 권한 버전 (Member.authVersion)
+ */
+public record MemberChangedEvent(
+        Long memberId,
+        ChangeType type,
+        int authVersion
+) {
+
+    /**
+     * 변경 종류
+     */
+    public enum ChangeType {
+        ROLE_CHANGED,
+        GRADE_CHANGED,
+        DEACTIVATED,
+        ACTIVATED,
+        DELETED
+    }
+}
@@ -0,0 +1,61 @@
+package com.stay.domain.member.event;
+
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 가입/비활성화/활성화/탈퇴/등급·역할 변경 이벤트 (통계용)
+ *
+ * 왜 필요한가?
+ * - 관리자 대시보드가 열릴 때마다 members 전체를 COUNT/GROUP BY 하지 않도록
+ *   변경이 일어날 때 카운터를 증감 (MemberStatsService)
+ * - 변경 전/후의 집계 상태를 같이 담아서 받는 쪽은 "전 -1, 후 +1"만 하면 됨
+ *
+ * 트랜잭션 안에서 발행해야 함 (카운터도 같은 트랜잭션으로 커밋/롤백)
+ *
+ * @param memberId 회원 ID
+ * @param type     변경 종류
+ * @param before   변경 전 집계 상태 (활성 회원이 아니었으면 null)
+ * @param after    변경 후 집계 상태 (활성 회원이 아니면 null)
+ * @param date     일어난 날짜
+ */
+public record MemberLifecycleEvent(
+        Long memberId,
+        Type type,
+        Standing before,
+        Standing after,
+        LocalDate date
+) {
+
+    public MemberLifecycleEvent(Long memberId, Type type, Standing before, Standing after) {
+        this(memberId, type, before, after, LocalDate.now());
+    }
+
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        REGISTERED,
+        DEACTIVATED,
+        ACTIVATED,
+        DELETED,
+        GRADE_CHANGED,
+        ROLE_CHANGED
+    }
+
+    /**
+     * 활성 회원 통계에 잡히는 상태 (역할, 등급)
+     */
+    public record Standing(MemberRole role, MemberGrade grade) {
+
+        /**
+         * 활성 회원이면 현재 역할/등급, 아니면 null
+         */
+        public static Standing of(Member member) {
+            return member.isActiveMember() ? new Standing(member.getRole(), member.getGrade()) : null;
+        }
+    }
+}
@@ -42,6 +42,7 @@ public enum MemberErrorCode {
     // 포인트 관련 (301~399)
     INSUFFICIENT_POINTS("MEMBER_301", "포인트가 부족합니다."),
     INVALID_POINT_AMOUNT("MEMBER_302", "포인트는 0 이상이어야 합니다."),
+    POINT_IDEMPOTENCY_CONFLICT("MEMBER_303", "같은 요청 키로 다른 포인트 요청이 이미 처리되었습니다."),
 
     // 권한 관련 (401~499)
     FORBIDDEN_ROLE_CHANGE("MEMBER_401", "권한 변경이 불가능합니다."),
@@ -70,6 +71,9 @@ public enum MemberErrorCode {
     SOCIAL_PROVIDER_REQUIRED("MEMBER_622", "소셜 제공자 정보는 필수입니다."),
     SOCIAL_ID_REQUIRED("MEMBER_623", "소셜 ID는 필수입니다."),
 
+    // 관리자 검색
+    INVALID_SEARCH_KEYWORD("MEMBER_631", "검색어는 특수문자를 제외하고 2자 이상이어야 합니다."),
+
     // ==================== 사업자 관련 (701~799) ====================
 
     // 사업자 기본 (701~710)
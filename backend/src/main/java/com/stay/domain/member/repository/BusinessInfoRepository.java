@@ -2,12 +2,19 @@ package com.stay.domain.member.repository;
 
 import com.stay.domain.member.entity.BusinessInfo;
 import com.stay.domain.member.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * 사업자 정보 Repository
@@ -38,6 +45,13 @@ public interface BusinessInfoRepository extends JpaRepository<BusinessInfo, Long
      */
     boolean existsByBusinessNumber(String businessNumber);
 
+    /**
+     * 전체 사업자 등록번호 스트리밍 (중복 확인 Bloom 필터 재생성용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b.businessNumber FROM BusinessInfo b")
+    Stream<String> streamAllBusinessNumbers();
+
     /**
      * Member ID로 사업자 정보 조회
      *
@@ -50,13 +64,27 @@ public interface BusinessInfoRepository extends JpaRepository<BusinessInfo, Long
     // ==================== 승인 관련 ====================
 
     /**
-     * 승인 상태별 사업자 목록 조회
+     * 승인 상태별 사업자 조회 (최신 신청순 키셋 페이지, idx_business_status_created 사용)
      *
      * 사용 예시:
      * - 관리자 페이지에서 승인 대기 목록 보기
      * - 승인 완료된 사업자만 필터링
      */
-    List<BusinessInfo> findByApprovalStatus(BusinessInfo.ApprovalStatus approvalStatus);
+    @Query("SELECT b FROM BusinessInfo b " +
+            "WHERE b.approvalStatus = :status " +
+            "AND (b.createdAt < :cursorAt OR (b.createdAt = :cursorAt AND b.id < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BusinessInfo> findByApprovalStatusBefore(@Param("status") BusinessInfo.ApprovalStatus status,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+
+    /**
+     * 승인 상태별 사업자 스트리밍 (배치용, 트랜잭션 안에서 사용하고 다 쓰면 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b FROM BusinessInfo b WHERE b.approvalStatus = :status ORDER BY b.id")
+    Stream<BusinessInfo> streamByApprovalStatus(@Param("status") BusinessInfo.ApprovalStatus status);
 
     /**
      * 승인 상태별 사업자 수 카운트
@@ -3,13 +3,19 @@ package com.stay.domain.member.repository;
 import com.stay.domain.member.entity.Member;
 import com.stay.domain.member.entity.MemberGrade;
 import com.stay.domain.member.entity.MemberRole;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * 회원 리포지토리
@@ -69,94 +75,156 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
 
 
-    // ==================== 등급 관련 ====================
+    // ==================== 중복 확인 (UniquenessProbe) ====================
 
     /**
-     * 특정 등급의 회원 목록 조회
+     * 전체 이메일 스트리밍 (중복 확인 Bloom 필터 재생성용)
+     *
+     * - 엔티티 대신 값만 읽고, MySQL에서 한 행씩 받아서 전체를 메모리에 올리지 않음
+     * - Stream이므로 트랜잭션 안에서 사용하고 다 쓰면 닫아야 함
      */
-    List<Member> findByGrade(MemberGrade grade);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m.email FROM Member m")
+    Stream<String> streamAllEmails();
 
     /**
-     * 등급 갱신 대상 회원 조회
-     * - 마지막 등급 갱신일이 특정 기간 이전인 회원
-     * - 배치 작업에서 사용
+     * 전체 닉네임 스트리밍 (중복 확인 Bloom 필터 재생성용)
      */
-    @Query("SELECT m FROM Member m " +
-            "WHERE m.lastGradeUpdatedAt < :targetDate " +
-            "AND m.isActive = true " +
-            "AND m.deletedAt IS NULL")
-    List<Member> findMembersForGradeUpdate(@Param("targetDate") LocalDateTime targetDate);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m.nickname FROM Member m WHERE m.nickname IS NOT NULL")
+    Stream<String> streamAllNicknames();
 
-    // ==================== 역할 관련 ====================
+    // ==================== 등급 관련 ====================
 
     /**
-     * 특정 역할의 회원 목록 조회
+     * 특정 등급의 회원 조회 (최신 가입순 키셋 페이지)
+     *
+     * 키셋 조건: (createdAt, id)가 커서보다 앞인 행만 → idx_members_grade_created에서 바로 시작
+     */
+    @Query("SELECT m FROM Member m " +
+            "WHERE m.grade = :grade " +
+            "AND (m.createdAt < :cursorAt OR (m.createdAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Member> findByGradeBefore(@Param("grade") MemberGrade grade,
+                                   @Param("cursorAt") LocalDateTime cursorAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Limit limit);
+
+    /**
+     * 특정 등급의 회원 스트리밍 (배치용, 트랜잭션 안에서 사용하고 다 쓰면 닫아야 함)
+     *
+     * 엔티티가 영속성 컨텍스트에 계속 쌓이므로 일정 건수마다 EntityManager.clear() 필요
      */
-    List<Member> findByRole(MemberRole role);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m FROM Member m WHERE m.grade = :grade ORDER BY m.id")
+    Stream<Member> streamByGrade(@Param("grade") MemberGrade grade);
 
     /**
-     * 사업자 회원 목록 조회
+     * 등급 갱신 대상 회원 스트리밍 (배치용, 전체를 List로 올리지 않음)
      */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
     @Query("SELECT m FROM Member m " +
-            "WHERE m.role = 'BUSINESS_OWNER' " +
+            "WHERE m.lastGradeUpdatedAt < :targetDate " +
             "AND m.isActive = true " +
-            "ORDER BY m.createdAt DESC")
-    List<Member> findBusinessOwners();
+            "AND m.deletedAt IS NULL " +
+            "ORDER BY m.id")
+    Stream<Member> streamMembersForGradeUpdate(@Param("targetDate") LocalDateTime targetDate);
 
-    // ==================== 통계 관련 ====================
+    // ==================== 역할 관련 ====================
 
     /**
-     * 활성 회원 수 조회
+     * 특정 역할의 회원 조회 (최신 가입순 키셋 페이지, idx_members_role_created 사용)
      */
-    @Query("SELECT COUNT(m) FROM Member m " +
-            "WHERE m.isActive = true AND m.deletedAt IS NULL")
-    long countActiveMembers();
+    @Query("SELECT m FROM Member m " +
+            "WHERE m.role = :role " +
+            "AND (m.createdAt < :cursorAt OR (m.createdAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Member> findByRoleBefore(@Param("role") MemberRole role,
+                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Limit limit);
 
     /**
-     * 등급별 회원 수 조회
+     * 특정 역할의 회원 스트리밍 (배치용, 트랜잭션 안에서 사용하고 다 쓰면 닫아야 함)
      */
-    @Query("SELECT m.grade, COUNT(m) FROM Member m " +
-            "WHERE m.isActive = true AND m.deletedAt IS NULL " +
-            "GROUP BY m.grade")
-    List<Object[]> countMembersByGrade();
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m FROM Member m WHERE m.role = :role ORDER BY m.id")
+    Stream<Member> streamByRole(@Param("role") MemberRole role);
 
     /**
-     * 기간별 신규 가입자 수
+     * 활성 사업자 회원 조회 (최신 가입순 키셋 페이지)
      */
-    @Query("SELECT COUNT(m) FROM Member m " +
-            "WHERE m.createdAt BETWEEN :startDate AND :endDate")
-    long countNewMembersBetween(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
+    @Query("SELECT m FROM Member m " +
+            "WHERE m.role = 'BUSINESS_OWNER' " +
+            "AND m.isActive = true " +
+            "AND (m.createdAt < :cursorAt OR (m.createdAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Member> findBusinessOwnersBefore(@Param("cursorAt") LocalDateTime cursorAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Limit limit);
 
     // ==================== 관리자 기능 ====================
 
     /**
-     * 키워드로 회원 검색 (이름, 이메일)
+     * 이름으로 회원 검색 (ngram FULLTEXT, 최신 가입순 키셋 페이지)
+     *
+     * - ft_members_name 인덱스 사용 (LIKE '%키워드%' 전체 스캔 대신)
+     * - phrase: 큰따옴표로 감싼 검색어 (ngram이 순서대로 모두 있어야 일치)
+     * - (cursorAt, cursorId) 다음 회원만 조회 (첫 페이지는 KeysetCursor.FIRST)
+     */
+    @Query(value = "SELECT * FROM members m " +
+            "WHERE MATCH(m.name) AGAINST(:phrase IN BOOLEAN MODE) " +
+            "AND m.deleted_at IS NULL " +
+            "AND (m.created_at < :cursorAt OR (m.created_at = :cursorAt AND m.member_id < :cursorId)) " +
+            "ORDER BY m.created_at DESC, m.member_id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Member> searchByName(@Param("phrase") String phrase,
+                              @Param("cursorAt") LocalDateTime cursorAt,
+                              @Param("cursorId") long cursorId,
+                              @Param("limit") int limit);
+
+    /**
+     * 이메일 앞부분으로 회원 검색 (이메일 순 키셋 페이지)
+     *
+     * - prefix: LIKE 특수문자를 이스케이프하고 끝에 %를 붙인 값 (idx_email 범위 검색)
+     * - cursorId 회원의 이메일보다 뒤의 이메일만 조회 (PK로 한 행 찾는 서브쿼리, 첫 페이지는 null)
      */
     @Query("SELECT m FROM Member m " +
-            "WHERE (m.name LIKE %:keyword% OR m.email LIKE %:keyword%) " +
+            "WHERE m.email LIKE :prefix ESCAPE '!' " +
+            "AND (:cursorId IS NULL OR m.email > (SELECT c.email FROM Member c WHERE c.id = :cursorId)) " +
             "AND m.deletedAt IS NULL " +
-            "ORDER BY m.createdAt DESC")
-    List<Member> searchMembers(@Param("keyword") String keyword);
+            "ORDER BY m.email")
+    List<Member> searchByEmailPrefix(@Param("prefix") String prefix,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
 
     /**
-     * 비활성 회원 목록 조회
+     * 비활성 회원 조회 (최근 수정순 키셋 페이지, idx_members_active_updated 사용)
      */
     @Query("SELECT m FROM Member m " +
             "WHERE m.isActive = false AND m.deletedAt IS NULL " +
-            "ORDER BY m.updatedAt DESC")
-    List<Member> findInactiveMembers();
+            "AND (m.updatedAt < :cursorAt OR (m.updatedAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.updatedAt DESC, m.id DESC")
+    List<Member> findInactiveMembersBefore(@Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
 
     /**
-     * 탈퇴 회원 목록 조회 (90일 이내)
+     * 탈퇴 회원 조회 (보관 기간 이내, 최근 탈퇴순 키셋 페이지, idx_members_deleted_at 사용)
      */
     @Query("SELECT m FROM Member m " +
-            "WHERE m.deletedAt IS NOT NULL " +
-            "AND m.deletedAt > :retentionDate " +
-            "ORDER BY m.deletedAt DESC")
-    List<Member> findDeletedMembersWithinRetention(
-            @Param("retentionDate") LocalDateTime retentionDate
-    );
+            "WHERE m.deletedAt > :retentionDate " +
+            "AND (m.deletedAt < :cursorAt OR (m.deletedAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.deletedAt DESC, m.id DESC")
+    List<Member> findDeletedMembersWithinRetentionBefore(@Param("retentionDate") LocalDateTime retentionDate,
+                                                         @Param("cursorAt") LocalDateTime cursorAt,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Limit limit);
+
+    /**
+     * 보관 기간 이내 탈퇴 회원 스트리밍 (배치용, 트랜잭션 안에서 사용하고 다 쓰면 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m FROM Member m WHERE m.deletedAt > :retentionDate ORDER BY m.id")
+    Stream<Member> streamDeletedMembersWithinRetention(@Param("retentionDate") LocalDateTime retentionDate);
 }
\ No newline at end of file
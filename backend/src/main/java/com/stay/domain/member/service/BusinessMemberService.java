@@ -1,14 +1,21 @@
 package com.stay.domain.member.service;
 
+import com.stay.domain.member.dto.BusinessInfoResponse;
 import com.stay.domain.member.entity.BusinessInfo;
 import com.stay.domain.member.entity.Member;
 import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
 import com.stay.domain.member.exception.MemberErrorCode;
 import com.stay.domain.member.exception.MemberException;
 import com.stay.domain.member.repository.BusinessInfoRepository;
 import com.stay.domain.member.repository.MemberRepository;
+import com.stay.global.pagination.CursorPage;
+import com.stay.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +40,9 @@ public class BusinessMemberService {
     private final MemberRepository memberRepository;
     private final BusinessInfoRepository businessInfoRepository;
     private final EmailVerificationService emailVerificationService;
+    private final UniquenessProbe uniquenessProbe;
+    private final NicknameSuggester nicknameSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== 사업자 등록번호 검증 ====================
 
@@ -47,8 +57,9 @@ public class BusinessMemberService {
      * @return 사용 가능 여부
      */
     public boolean isBusinessNumberAvailable(String businessNumber) {
-
-        return !businessInfoRepository.existsByBusinessNumber(businessNumber);
+        // 대부분 메모리(Bloom 필터)에서 끝나고, 있을 수도 있는 값만 Redis/DB 확인
+        return !uniquenessProbe.exists(UniquenessProbe.Field.BUSINESS_NUMBER, businessNumber,
+                () -> businessInfoRepository.existsByBusinessNumber(businessNumber));
     }
 
     // ==================== 사업자 회원가입 ====================
@@ -102,6 +113,8 @@ public class BusinessMemberService {
 
         // 5. Member 저장
         Member savedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberLifecycleEvent(
+                savedMember.getId(), MemberLifecycleEvent.Type.REGISTERED, null, Standing.of(savedMember)));
 
         // 6. BusinessInfo 생성 및 저장
         BusinessInfo businessInfo = BusinessInfo.builder()
@@ -114,6 +127,12 @@ public class BusinessMemberService {
         // 7. BusinessInfo 저장
         businessInfoRepository.save(businessInfo);
 
+        // 8. 중복 확인 필터에 반영 (커밋 후)
+        uniquenessProbe.recordAdded(UniquenessProbe.Field.EMAIL, email);
+        uniquenessProbe.recordAdded(UniquenessProbe.Field.NICKNAME, nickname);
+        uniquenessProbe.recordAdded(UniquenessProbe.Field.BUSINESS_NUMBER, businessNumber);
+        nicknameSuggester.recordAdded(nickname);
+
         log.info("사업자 회원가입 완료 - memberId: {}", savedMember.getId());
         log.info("========================================");
 
@@ -207,12 +226,20 @@ public class BusinessMemberService {
     // ==================== 승인 관리 (관리자용) ====================
 
     /**
-     * 승인 대기 중인 사업자 목록 조회
+     * 승인 대기 중인 사업자 목록 조회 (최신 신청순 키셋 페이지)
      *
-     * @return 승인 대기 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (기본 20, 최대 100)
+     * @return 승인 대기 목록 한 페이지
      */
-    public List<BusinessInfo> getPendingBusinessList() {
-        return businessInfoRepository.findByApprovalStatus(BusinessInfo.ApprovalStatus.PENDING);
+    public CursorPage<BusinessInfoResponse> getPendingBusinessList(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        List<BusinessInfo> pending = businessInfoRepository.findByApprovalStatusBefore(
+                BusinessInfo.ApprovalStatus.PENDING, position.at(), position.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(pending, pageSize,
+                info -> new KeysetCursor(info.getCreatedAt(), info.getId()),
+                BusinessInfoResponse::from);
     }
 
     /**
@@ -0,0 +1,361 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberChangedEvent;
+import com.stay.domain.member.event.MemberChangedEvent.ChangeType;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 등급 재계산 배치 (매달 1일)
+ *
+ * 왜 필요한가?
+ * - 회원을 한 명씩 읽어서 recalculateMemberGrade() → 전체 회원을 메모리에 올리고 UPDATE를 회원 수만큼 실행
+ * - 천만 명이면 몇 시간 걸림
+ *
+ * 동작:
+ * - 회원 ID 범위를 회원 수가 비슷한 파티션으로 나누고 파티션마다 스레드 하나가 처리
+ * - 파티션 안에서는 회원 chunk-size(member.grade-batch.chunk-size)명씩 끊은 ID 범위 청크마다
+ *   CASE(reservation_count) 한 번의 UPDATE로 등급이 바뀌는 회원만 갱신
+ * - 경계는 ID 값이 아니라 행 개수로 정함 (Snowflake ID는 시각 기반이라 값 사이가 듬성듬성함
+ *   → ID 값으로 1만씩 자르면 회원 몇 명에도 빈 청크가 수십억 개)
+ * - CASE 조건은 MemberGrade의 최소 예약 횟수로 만듦 (등급 기준을 바꿔도 SQL 수정 불필요)
+ * - 청크 UPDATE + 체크포인트 + 이동 집계를 한 트랜잭션으로 커밋
+ *   → 중단되면 같은 실행 키(예: 2025-03)로 다시 실행해서 이어서 처리, 집계 중복 없음
+ *
+ * 등급이 바뀐 회원은 권한 버전을 올리고 MemberChangedEvent를 발행해서
+ * 예전 등급이 들어 있는 Access Token을 무효화한다 (recalculateMemberGrade와 같은 규칙).
+ *
+ * 파티션은 시작할 때의 최대 회원 ID까지만 나눈다. 그 뒤 가입한 회원은 BASIC으로 시작하므로 다음 실행에서 처리된다.
+ */
+@Slf4j
+@Component
+public class GradeBatchEngine {
+
+    private static final String LOCK_KEY = "member:grade-batch:lock";
+
+    /**
+     * reservation_count → 등급 (MemberGrade.determineGrade와 같은 규칙)
+     */
+    static final String GRADE_CASE = buildGradeCase();
+
+    private static final String ELIGIBLE =
+            "member_id >= ? AND member_id < ? AND is_active = TRUE AND deleted_at IS NULL AND grade <> " + GRADE_CASE;
+
+    private static final String SELECT_MOVERS_SQL =
+            "SELECT member_id, role, grade, " + GRADE_CASE + " AS new_grade, auth_version FROM members WHERE "
+                    + ELIGIBLE + " FOR UPDATE";
+
+    private static final String UPDATE_SQL =
+            "UPDATE members SET grade = " + GRADE_CASE + ", auth_version = auth_version + 1, "
+                    + "last_grade_updated_at = ? WHERE " + ELIGIBLE;
+
+    private static final String UPSERT_MOVES_SQL =
+            "INSERT INTO grade_batch_moves (run_key, partition_no, from_grade, to_grade, moved) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE moved = moved + VALUES(moved)";
+
+    /**
+     * fromId부터 offset번째 다음 회원 ID (PK 인덱스만 읽음)
+     */
+    private static final String BOUNDARY_SQL =
+            "SELECT member_id FROM members WHERE member_id >= ? AND member_id < ? ORDER BY member_id LIMIT 1 OFFSET ?";
+
+    static final String ADVANCE_CHECKPOINT_SQL =
+            "UPDATE grade_batch_checkpoints SET next_id = ?, updated_at = NOW() WHERE run_key = ? AND partition_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int parallelism;
+    private final int chunkSize;
+
+    public GradeBatchEngine(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            MemberSnapshotCache memberSnapshotCache,
+                            RedisTemplate<String, String> redisTemplate,
+                            @Value("${member.grade-batch.parallelism:4}") int parallelism,
+                            @Value("${member.grade-batch.chunk-size:10000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.redisTemplate = redisTemplate;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 배치 결과
+     *
+     * @param runKey      실행 키
+     * @param movedInto   등급별로 새로 들어온 회원 수
+     * @param transitions "이전>새" 등급 이동별 회원 수
+     * @param elapsed     이번 실행에 걸린 시간 (이어서 실행했으면 이어서 한 부분만)
+     */
+    public record Report(
+            String runKey,
+            Map<MemberGrade, Long> movedInto,
+            Map<String, Long> transitions,
+            Duration elapsed
+    ) {
+        public long totalMoved() {
+            return movedInto.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private record Partition(int number, long nextId, long endId) {
+    }
+
+    private record Mover(long memberId, String role, String fromGrade, String toGrade, int authVersion) {
+    }
+
+    /**
+     * 매달 1일 실행 (서버 여러 대 중 락을 잡은 한 대만)
+     */
+    @Scheduled(cron = "${member.grade-batch.cron:0 0 3 1 * *}")
+    public void runMonthly() {
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofHours(6));
+        } catch (Exception e) {
+            log.warn("등급 배치 락 획득 실패, 이번 주기 건너뜀 - reason: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 서버에서 등급 배치 실행 중 - 건너뜀");
+            return;
+        }
+        try {
+            run(YearMonth.now().toString());
+        } finally {
+            try {
+                redisTemplate.delete(LOCK_KEY);
+            } catch (Exception e) {
+                log.debug("등급 배치 락 해제 실패 - reason: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 등급 재계산 실행 (같은 실행 키로 다시 부르면 남은 청크만 처리)
+     *
+     * @param runKey 실행 키 (예: 2025-03)
+     */
+    public Report run(String runKey) {
+        if (runKey == null || runKey.isBlank() || runKey.length() > 20) {
+            throw new IllegalArgumentException("실행 키는 1~20자여야 합니다.");
+        }
+        long start = System.currentTimeMillis();
+        List<Partition> partitions = planPartitions(runKey);
+        log.info("등급 배치 시작 - runKey: {}, 남은 파티션: {}개, 청크: {}건", runKey, partitions.size(), chunkSize);
+
+        if (!partitions.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()));
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (Partition partition : partitions) {
+                    futures.add(executor.submit(() -> processPartition(runKey, partition)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("등급 배치가 중단되었습니다. 같은 실행 키로 다시 실행하면 이어서 처리합니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("등급 배치 파티션 실패 - runKey: " + runKey, e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        Report report = report(runKey, Duration.ofMillis(System.currentTimeMillis() - start));
+        log.info("등급 배치 완료 - runKey: {}, 이동: {}명 {}, {}ms",
+                runKey, report.totalMoved(), report.transitions(), report.elapsed().toMillis());
+        return report;
+    }
+
+    // ==================== 파티션 ====================
+
+    /**
+     * 처음 실행이면 회원 수 기준으로 ID 범위를 나눠 체크포인트 생성, 아니면 남은 파티션 반환
+     */
+    private List<Partition> planPartitions(String runKey) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM grade_batch_checkpoints WHERE run_key = ?", Integer.class, runKey);
+
+        if (existing == null || existing == 0) {
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT COUNT(*) AS members, MIN(member_id) AS min_id, MAX(member_id) AS max_id FROM members");
+            if (range.get("min_id") == null) {
+                return List.of();
+            }
+            long members = ((Number) range.get("members")).longValue();
+            long minId = ((Number) range.get("min_id")).longValue();
+            long endId = ((Number) range.get("max_id")).longValue() + 1;
+
+            // 파티션 경계 = 회원 수의 1/n, 2/n, ... 번째 회원 ID
+            List<Long> bounds = new ArrayList<>();
+            bounds.add(minId);
+            for (long offset : partitionOffsets(members, parallelism)) {
+                Long boundary = boundaryAfter(minId, endId, offset);
+                // 세는 사이 탈퇴(영구 삭제)가 있으면 경계가 겹칠 수 있음 → 빈 파티션은 만들지 않음
+                if (boundary != null && boundary > bounds.get(bounds.size() - 1)) {
+                    bounds.add(boundary);
+                }
+            }
+            bounds.add(endId);
+
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < bounds.size() - 1; i++) {
+                rows.add(new Object[]{runKey, i, bounds.get(i), bounds.get(i + 1), bounds.get(i)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO grade_batch_checkpoints "
+                    + "(run_key, partition_no, start_id, end_id, next_id, updated_at) VALUES (?, ?, ?, ?, ?, NOW())", rows);
+        }
+
+        return jdbcTemplate.query(
+                "SELECT partition_no, next_id, end_id FROM grade_batch_checkpoints "
+                        + "WHERE run_key = ? AND completed_at IS NULL ORDER BY partition_no",
+                (rs, rowNum) -> new Partition(rs.getInt("partition_no"), rs.getLong("next_id"), rs.getLong("end_id")),
+                runKey);
+    }
+
+    /**
+     * 회원 members명을 최대 count개 파티션으로 나눌 때 두 번째 파티션부터의 시작 위치 (0부터)
+     */
+    static List<Long> partitionOffsets(long members, int count) {
+        int parts = (int) Math.max(1, Math.min(count, members));
+        List<Long> offsets = new ArrayList<>(parts - 1);
+        for (int i = 1; i < parts; i++) {
+            offsets.add(members * i / parts);
+        }
+        return offsets;
+    }
+
+    /**
+     * [fromId, toId)에서 offset번째 회원 ID (없으면 null)
+     */
+    private Long boundaryAfter(long fromId, long toId, long offset) {
+        List<Long> ids = jdbcTemplate.queryForList(BOUNDARY_SQL, Long.class, fromId, toId, offset);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private void processPartition(String runKey, Partition partition) {
+        long chunkStart = partition.nextId();
+        while (chunkStart < partition.endId()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            // 회원 chunkSize명 다음 ID까지 (남은 회원이 그보다 적으면 파티션 끝까지)
+            Long boundary = boundaryAfter(chunkStart, partition.endId(), chunkSize);
+            long chunkEnd = boundary != null ? boundary : partition.endId();
+            processChunk(runKey, partition.number(), chunkStart, chunkEnd);
+            chunkStart = chunkEnd;
+        }
+        jdbcTemplate.update("UPDATE grade_batch_checkpoints SET completed_at = NOW(), updated_at = NOW() "
+                + "WHERE run_key = ? AND partition_no = ?", runKey, partition.number());
+        log.info("등급 배치 파티션 완료 - runKey: {}, partition: {}", runKey, partition.number());
+    }
+
+    /**
+     * 청크 하나 처리 (UPDATE + 이동 집계 + 체크포인트를 한 트랜잭션으로)
+     */
+    private void processChunk(String runKey, int partitionNo, long fromId, long toId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 바뀔 회원을 잠그고 읽음 → 아래 UPDATE 대상과 정확히 같은 행
+            List<Mover> movers = jdbcTemplate.query(SELECT_MOVERS_SQL,
+                    (rs, rowNum) -> new Mover(rs.getLong("member_id"), rs.getString("role"), rs.getString("grade"),
+                            rs.getString("new_grade"), rs.getInt("auth_version")),
+                    fromId, toId);
+
+            if (!movers.isEmpty()) {
+                jdbcTemplate.update(UPDATE_SQL, Timestamp.valueOf(LocalDateTime.now()), fromId, toId);
+
+                Map<String, Long> transitions = movers.stream().collect(Collectors.groupingBy(
+                        mover -> mover.fromGrade() + ">" + mover.toGrade(), Collectors.counting()));
+                List<Object[]> moveRows = new ArrayList<>(transitions.size());
+                transitions.forEach((transition, count) -> {
+                    String[] grades = transition.split(">");
+                    moveRows.add(new Object[]{runKey, partitionNo, grades[0], grades[1], count});
+                });
+                jdbcTemplate.batchUpdate(UPSERT_MOVES_SQL, moveRows);
+
+                // 커밋 후 토큰 무효화 + 스냅샷 캐시 제거, 통계 카운터는 청크 커밋 직전에 한 번에 증감
+                for (Mover mover : movers) {
+                    eventPublisher.publishEvent(new MemberChangedEvent(
+                            mover.memberId(), ChangeType.GRADE_CHANGED, mover.authVersion() + 1));
+                    MemberRole role = MemberRole.valueOf(mover.role());
+                    eventPublisher.publishEvent(new MemberLifecycleEvent(mover.memberId(),
+                            MemberLifecycleEvent.Type.GRADE_CHANGED,
+                            new Standing(role, MemberGrade.valueOf(mover.fromGrade())),
+                            new Standing(role, MemberGrade.valueOf(mover.toGrade()))));
+                    memberSnapshotCache.evict(mover.memberId());
+                }
+            }
+
+            jdbcTemplate.update(ADVANCE_CHECKPOINT_SQL, toId, runKey, partitionNo);
+        });
+    }
+
+    // ==================== 결과 ====================
+
+    private Report report(String runKey, Duration elapsed) {
+        Map<MemberGrade, Long> movedInto = new EnumMap<>(MemberGrade.class);
+        for (MemberGrade grade : MemberGrade.values()) {
+            movedInto.put(grade, 0L);
+        }
+        Map<String, Long> transitions = new LinkedHashMap<>();
+
+        jdbcTemplate.query("SELECT from_grade, to_grade, SUM(moved) AS moved FROM grade_batch_moves "
+                        + "WHERE run_key = ? GROUP BY from_grade, to_grade ORDER BY from_grade, to_grade",
+                rs -> {
+                    long moved = rs.getLong("moved");
+                    movedInto.merge(MemberGrade.valueOf(rs.getString("to_grade")), moved, Long::sum);
+                    transitions.put(rs.getString("from_grade") + ">" + rs.getString("to_grade"), moved);
+                },
+                runKey);
+
+        return new Report(runKey, movedInto, transitions, elapsed);
+    }
+
+    /**
+     * CASE WHEN reservation_count >= 7 THEN 'ELITE_PLUS' WHEN reservation_count >= 3 THEN 'ELITE' ELSE 'BASIC' END
+     */
+    private static String buildGradeCase() {
+        StringBuilder sql = new StringBuilder("(CASE");
+        List<MemberGrade> grades = MemberGrade.byThresholdDescending();
+        for (MemberGrade grade : grades.subList(0, grades.size() - 1)) {
+            sql.append(" WHEN reservation_count >= ").append(grade.getMinReservations())
+                    .append(" THEN '").append(grade.name()).append('\'');
+        }
+        return sql.append(" ELSE '").append(grades.get(grades.size() - 1).name()).append("' END)").toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.stay.domain.member.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시간 지연 쓰기 버퍼 (write-behind)
+ *
+ * 왜 필요한가?
+ * - 로그인할 때마다 members 행에 UPDATE → 로그인 요청마다 쓰기 1번 + 행 잠금
+ * - lastLoginAt은 몇 초 늦게 반영돼도 문제없는 값
+ * - 메모리에 모아뒀다가 주기적으로 한 번의 배치 UPDATE로 반영
+ *
+ * 동작:
+ * - record(): 회원별 최신 시각만 남김 (같은 회원이 여러 번 로그인해도 UPDATE 1건)
+ * - flush(): member.last-login.flush-interval(기본 5초)마다 JDBC 배치로 반영
+ * - 종료 시 남은 항목 반영, 반영 실패 시 다음 주기에 재시도
+ *
+ * 서버가 비정상 종료되면 마지막 몇 초의 로그인 시간은 유실될 수 있다 (통계성 값이라 허용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriteBuffer {
+
+    // 더 늦은 시각으로 덮어쓰지 않도록 조건 추가 (재시도/다른 서버와 순서가 바뀌어도 안전)
+    private static final String UPDATE_SQL =
+            "UPDATE members SET last_login_at = ? WHERE member_id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * memberId → 아직 반영되지 않은 마지막 로그인 시각
+     */
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인 시각 기록 (메모리만 사용)
+     */
+    public void record(Long memberId, LocalDateTime loginAt) {
+        pending.merge(memberId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * 쌓인 로그인 시각을 배치 UPDATE로 반영
+     *
+     * @return 반영한 회원 수
+     */
+    @Scheduled(fixedDelayString = "${member.last-login.flush-interval:5000}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 꺼내는 사이 들어온 기록은 다음 주기에 반영
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Long memberId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(memberId);
+            if (loginAt != null) {
+                Timestamp timestamp = Timestamp.valueOf(loginAt);
+                batch.add(new Object[]{timestamp, memberId, timestamp});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            log.debug("마지막 로그인 시간 반영 - {}건", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            batch.forEach(row -> record((Long) row[1], ((Timestamp) row[0]).toLocalDateTime()));
+            log.warn("마지막 로그인 시간 반영 실패 - {}건, reason: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 전에 남은 기록 반영
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 반영 대기 중인 회원 수 (모니터링/테스트용)
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+}
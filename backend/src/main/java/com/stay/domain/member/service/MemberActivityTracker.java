@@ -0,0 +1,290 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.ActiveMemberStats;
+import com.stay.domain.member.dto.RetentionCohort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 회원 추적 (Redis HyperLogLog, DAU/WAU/MAU + 가입 주 코호트 잔존율)
+ *
+ * 왜 필요한가?
+ * - 활동 신호는 members.last_login_at 하나뿐인데 로그인할 때마다 덮어써서 "어제 몇 명이 왔나"를 알 수 없음
+ * - 회원 ID 집합을 그대로 저장하면 회원 수에 비례한 메모리 필요
+ * - HyperLogLog는 키 하나에 최대 12KB로 고유 회원 수를 오차 약 1%로 추정
+ *
+ * 동작:
+ * - 로그인/토큰 재발급 시 record*()는 메모리 집합에 넣기만 함 (Redis 호출 없음, 로그인 지연 없음)
+ * - member.activity.flush-interval(기본 2초)마다 파이프라인 한 번으로 PFADD
+ *   → 일/주/월 키에 동시에 넣어서 달력 주/월 조회는 키 하나 PFCOUNT
+ * - 최근 7일/30일처럼 움직이는 기간은 PFCOUNT 여러 키 (Redis가 합집합을 즉석 계산, 저장 안 함)
+ * - 코호트: 가입 주 HLL S와 N주차 활동 HLL A로 |S ∩ A| = |S| + |A| - |S ∪ A| 추정
+ *   (교집합 오차는 합집합 크기 기준이라 코호트가 작으면 상대 오차가 커짐)
+ *
+ * 대기 중인 기록이 member.activity.max-pending을 넘으면 버림 (Redis 장애 시 메모리 보호, 통계성 값이라 허용).
+ */
+@Slf4j
+@Component
+public class MemberActivityTracker {
+
+    private static final String KEY_PREFIX = "member:activity:";
+    private static final Duration DAY_TTL = Duration.ofDays(120);
+    private static final Duration LONG_TTL = Duration.ofDays(800);
+    private static final int MAX_COHORT_WEEKS = 12;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxPending;
+
+    /**
+     * 아직 Redis에 반영하지 않은 기록 (같은 날 같은 회원은 한 번만)
+     */
+    private final Set<Pending> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public MemberActivityTracker(RedisTemplate<String, String> redisTemplate,
+                                 @Value("${member.activity.max-pending:200000}") int maxPending) {
+        this.redisTemplate = redisTemplate;
+        this.maxPending = maxPending;
+    }
+
+    private enum Kind {
+        ACTIVE,
+        SIGNUP
+    }
+
+    private record Pending(Kind kind, LocalDate date, long memberId) {
+    }
+
+    // ==================== 기록 (메모리만) ====================
+
+    /**
+     * 활동 기록 (로그인, 토큰 재발급)
+     */
+    public void recordActive(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        enqueue(new Pending(Kind.ACTIVE, LocalDate.now(), memberId));
+    }
+
+    /**
+     * 가입 기록 (코호트 기준, 가입도 그날 활동으로 셈)
+     *
+     * 가입 트랜잭션 안에서 부르면 커밋된 뒤에 기록 (롤백된 가입은 세지 않음)
+     */
+    public void recordSignup(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            LocalDate today = LocalDate.now();
+            enqueue(new Pending(Kind.SIGNUP, today, memberId));
+            enqueue(new Pending(Kind.ACTIVE, today, memberId));
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void enqueue(Pending record) {
+        if (pendingCount.get() >= maxPending) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (pending.add(record)) {
+            pendingCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 쌓인 기록을 파이프라인 한 번으로 PFADD
+     *
+     * @return 반영한 기록 수
+     */
+    @Scheduled(fixedDelayString = "${member.activity.flush-interval:2000}")
+    public int flush() {
+        long droppedSinceLast = dropped.getAndSet(0);
+        if (droppedSinceLast > 0) {
+            log.warn("활성 회원 기록 버림 (대기 초과) - {}건", droppedSinceLast);
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 꺼내는 사이 들어온 기록은 다음 주기에 반영
+        List<Pending> batch = new ArrayList<>();
+        for (Pending record : pending) {
+            if (pending.remove(record)) {
+                pendingCount.decrementAndGet();
+                batch.add(record);
+            }
+        }
+
+        Map<String, List<String>> byKey = new HashMap<>();
+        for (Pending record : batch) {
+            String id = String.valueOf(record.memberId());
+            for (String key : keysFor(record)) {
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    byKey.forEach((key, ids) -> {
+                        ops.opsForHyperLogLog().add(key, ids.toArray(String[]::new));
+                        ops.expire(key, key.startsWith(KEY_PREFIX + "day:") ? DAY_TTL : LONG_TTL);
+                    });
+                    return null;
+                }
+            });
+            log.debug("활성 회원 기록 반영 - {}건, 키 {}개", batch.size(), byKey.size());
+            return batch.size();
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (대기 한도 안에서)
+            batch.forEach(this::enqueue);
+            log.warn("활성 회원 기록 반영 실패 - {}건, reason: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 전에 남은 기록 반영
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    // ==================== 조회 (PFCOUNT, 회원 수와 무관한 메모리) ====================
+
+    /**
+     * 기준일의 DAU / 최근 7일 / 최근 30일 / 이번 달 활성 회원 수
+     */
+    public ActiveMemberStats activeMembers(LocalDate date) {
+        long daily = count(List.of(dayKey(date)));
+        long weekly = count(dayKeys(date.minusDays(6), date));
+        long monthly = count(dayKeys(date.minusDays(29), date));
+        long thisMonth = count(List.of(monthKey(YearMonth.from(date))));
+        double stickiness = monthly == 0 ? 0 : Math.min(1.0, (double) daily / monthly);
+        return new ActiveMemberStats(date, daily, weekly, monthly, thisMonth, stickiness);
+    }
+
+    /**
+     * 가입 주 코호트의 주차별 잔존율
+     *
+     * @param anyDayInWeek 가입 주에 속한 아무 날짜
+     * @param weeks        몇 주차까지 볼지 (0~12, 아직 오지 않은 주는 제외)
+     */
+    public RetentionCohort retention(LocalDate anyDayInWeek, int weeks) {
+        if (weeks < 0 || weeks > MAX_COHORT_WEEKS) {
+            throw new IllegalArgumentException("코호트 주차는 0~" + MAX_COHORT_WEEKS + "주여야 합니다.");
+        }
+        LocalDate weekStart = anyDayInWeek.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        String signupKey = signupWeekKey(weekStart);
+        long signups = count(List.of(signupKey));
+
+        List<RetentionCohort.Week> result = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int offset = 0; offset <= weeks; offset++) {
+            LocalDate activeWeek = weekStart.plusWeeks(offset);
+            if (activeWeek.isAfter(today)) {
+                break;
+            }
+            String activeKey = weekKey(activeWeek);
+            long retained = intersection(signups, count(List.of(activeKey)), count(List.of(signupKey, activeKey)));
+            result.add(new RetentionCohort.Week(offset, retained, signups == 0 ? 0 : (double) retained / signups));
+        }
+        return new RetentionCohort(weekStart, signups, result);
+    }
+
+    /**
+     * |A ∩ B| = |A| + |B| - |A ∪ B| (추정 오차로 범위를 벗어나면 0 ~ min(|A|, |B|)로 자름)
+     */
+    static long intersection(long a, long b, long union) {
+        return Math.max(0, Math.min(a + b - union, Math.min(a, b)));
+    }
+
+    private long count(List<String> keys) {
+        Long size = redisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+        return size == null ? 0 : size;
+    }
+
+    // ==================== 키 ====================
+
+    private static List<String> keysFor(Pending record) {
+        LocalDate date = record.date();
+        if (record.kind() == Kind.SIGNUP) {
+            return List.of(signupWeekKey(date));
+        }
+        return List.of(dayKey(date), weekKey(date), monthKey(YearMonth.from(date)));
+    }
+
+    private static List<String> dayKeys(LocalDate from, LocalDate to) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(dayKey(date));
+        }
+        return keys;
+    }
+
+    static String dayKey(LocalDate date) {
+        return KEY_PREFIX + "day:" + date;
+    }
+
+    static String weekKey(LocalDate date) {
+        return KEY_PREFIX + "week:" + isoWeek(date);
+    }
+
+    static String monthKey(YearMonth month) {
+        return KEY_PREFIX + "month:" + month;
+    }
+
+    static String signupWeekKey(LocalDate date) {
+        return KEY_PREFIX + "signup-week:" + isoWeek(date);
+    }
+
+    /**
+     * 2025-W09 형식 (ISO 주, 월요일 시작)
+     */
+    private static String isoWeek(LocalDate date) {
+        return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
@@ -0,0 +1,381 @@
+package com.stay.domain.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 회원 대량 가져오기/내보내기 형식 (CSV, NDJSON)
+ *
+ * 둘 다 레코드 하나씩 읽고 씀 → 파일 크기와 무관하게 메모리는 레코드 하나 분량
+ * - CSV: 첫 줄이 헤더 (필드 이름), RFC 4180 따옴표 규칙, UTF-8 (BOM 허용)
+ * - NDJSON: 한 줄에 JSON 객체 하나
+ *
+ * 값이 빈 문자열이면 null로 읽음.
+ * 레코드가 MAX_RECORD_CHARS를 넘으면 나머지는 버리고 오류 레코드로 돌려줌 (한 줄에 메모리를 다 쓰지 않도록).
+ */
+public final class MemberBulkCodec {
+
+    static final int MAX_RECORD_CHARS = 16 * 1024;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MemberBulkCodec() {
+    }
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String fileExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 읽은 레코드 하나
+     *
+     * @param number 레코드 번호 (1부터, CSV 헤더와 빈 줄 제외)
+     * @param fields 필드 이름 → 값 (error가 있으면 빈 맵)
+     * @param error  형식 오류 (정상이면 null)
+     */
+    record ParsedRecord(long number, Map<String, String> fields, String error) {
+    }
+
+    interface RecordReader extends Closeable {
+
+        /**
+         * 다음 레코드 (끝이면 null)
+         */
+        ParsedRecord next() throws IOException;
+    }
+
+    interface RecordWriter extends Closeable {
+
+        void write(Map<String, ?> record) throws IOException;
+    }
+
+    static RecordReader reader(Format format, InputStream in) {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        return format == Format.CSV ? new CsvReader(reader) : new NdjsonReader(reader);
+    }
+
+    /**
+     * close()는 버퍼만 비우고 out은 닫지 않음 (HTTP 응답 스트림은 컨테이너가 닫음)
+     */
+    static RecordWriter writer(Format format, OutputStream out, List<String> fields) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        return format == Format.CSV ? new CsvWriter(writer, fields) : new NdjsonWriter(writer, fields);
+    }
+
+    // ==================== CSV ====================
+
+    private static final class CsvReader implements RecordReader {
+
+        private final Reader reader;
+        private List<String> header;
+        private long number;
+        private boolean firstChar = true;
+
+        private CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            if (header == null) {
+                RawRecord headerRecord = readRecord();
+                if (headerRecord == null) {
+                    return null;
+                }
+                if (headerRecord.error() != null) {
+                    throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다: " + headerRecord.error());
+                }
+                header = headerRecord.values().stream().map(String::trim).toList();
+            }
+
+            RawRecord raw;
+            do {
+                raw = readRecord();
+                if (raw == null) {
+                    return null;
+                }
+            } while (raw.error() == null && raw.values().size() == 1 && raw.values().get(0).isEmpty());  // 빈 줄
+
+            number++;
+            if (raw.error() != null) {
+                return new ParsedRecord(number, Map.of(), raw.error());
+            }
+            if (raw.values().size() != header.size()) {
+                return new ParsedRecord(number, Map.of(),
+                        "MALFORMED 열 개수가 헤더와 다릅니다 (" + raw.values().size() + "/" + header.size() + ")");
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = raw.values().get(i);
+                fields.put(header.get(i), value.isEmpty() ? null : value);
+            }
+            return new ParsedRecord(number, fields, null);
+        }
+
+        private record RawRecord(List<String> values, String error) {
+        }
+
+        /**
+         * 레코드 하나 (따옴표 안의 줄바꿈은 값의 일부)
+         */
+        private RawRecord readRecord() throws IOException {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int length = 0;
+
+            while (true) {
+                int c = reader.read();
+                if (firstChar) {
+                    firstChar = false;
+                    if (c == '\uFEFF') {
+                        c = reader.read();
+                    }
+                }
+                if (c == -1) {
+                    if (!any) {
+                        return null;
+                    }
+                    if (quoted) {
+                        return new RawRecord(List.of(), "MALFORMED 따옴표가 닫히지 않았습니다");
+                    }
+                    values.add(value.toString());
+                    return finish(values, length);
+                }
+                any = true;
+
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int nextChar = reader.read();
+                        if (nextChar == '"') {
+                            length = append(value, '"', length);
+                        } else {
+                            quoted = false;
+                            if (nextChar != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        length = append(value, (char) c, length);
+                    }
+                } else if (c == '"' && value.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    if (length++ < MAX_RECORD_CHARS) {
+                        values.add(value.toString());
+                    }
+                    value.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    values.add(value.toString());
+                    return finish(values, length);
+                } else {
+                    length = append(value, (char) c, length);
+                }
+            }
+        }
+
+        private static int append(StringBuilder value, char c, int length) {
+            if (length < MAX_RECORD_CHARS) {
+                value.append(c);
+            }
+            return length + 1;
+        }
+
+        private static RawRecord finish(List<String> values, int length) {
+            if (length > MAX_RECORD_CHARS) {
+                return new RawRecord(List.of(), "MALFORMED 레코드가 너무 깁니다");
+            }
+            return new RawRecord(values, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class CsvWriter implements RecordWriter {
+
+        private final Writer writer;
+        private final List<String> fields;
+
+        private CsvWriter(Writer writer, List<String> fields) throws IOException {
+            this.writer = writer;
+            this.fields = fields;
+            writeLine(fields);
+        }
+
+        @Override
+        public void write(Map<String, ?> record) throws IOException {
+            List<String> values = new ArrayList<>(fields.size());
+            for (String field : fields) {
+                Object value = record.get(field);
+                values.add(value == null ? "" : value.toString());
+            }
+            writeLine(values);
+        }
+
+        private void writeLine(List<String> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // ==================== NDJSON ====================
+
+    private static final class NdjsonReader implements RecordReader {
+
+        private final Reader reader;
+        private final StringBuilder line = new StringBuilder();
+        private long number;
+
+        private NdjsonReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            int length;
+            do {
+                length = readLine();
+                if (length < 0) {
+                    return null;
+                }
+            } while (line.toString().isBlank());
+
+            number++;
+            if (length > MAX_RECORD_CHARS) {
+                return new ParsedRecord(number, Map.of(), "MALFORMED 레코드가 너무 깁니다");
+            }
+            try {
+                JsonNode node = OBJECT_MAPPER.readTree(line.toString());
+                if (node == null || !node.isObject()) {
+                    return new ParsedRecord(number, Map.of(), "MALFORMED JSON 객체가 아닙니다");
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (Map.Entry<String, JsonNode> entry : node.properties()) {
+                    JsonNode value = entry.getValue();
+                    String text = value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString();
+                    fields.put(entry.getKey(), text == null || text.isEmpty() ? null : text);
+                }
+                return new ParsedRecord(number, fields, null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRecord(number, Map.of(), "MALFORMED JSON 형식 오류");
+            }
+        }
+
+        /**
+         * 한 줄을 line에 읽음 (MAX_RECORD_CHARS까지만 보관)
+         *
+         * @return 줄 전체 길이, 입력이 끝났으면 -1
+         */
+        private int readLine() throws IOException {
+            line.setLength(0);
+            int length = 0;
+            int c = reader.read();
+            if (c == -1) {
+                return -1;
+            }
+            while (c != -1 && c != '\n') {
+                if (c != '\r' && c != '\uFEFF') {
+                    if (length < MAX_RECORD_CHARS) {
+                        line.append((char) c);
+                    }
+                    length++;
+                }
+                c = reader.read();
+            }
+            return length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class NdjsonWriter implements RecordWriter {
+
+        private final Writer writer;
+        private final List<String> fields;
+
+        private NdjsonWriter(Writer writer, List<String> fields) {
+            this.writer = writer;
+            this.fields = fields;
+        }
+
+        @Override
+        public void write(Map<String, ?> record) throws IOException {
+            Map<String, Object> ordered = new LinkedHashMap<>();
+            for (String field : fields) {
+                ordered.put(field, record.get(field));
+            }
+            writer.write(OBJECT_MAPPER.writeValueAsString(ordered));
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.service.MemberBulkCodec.Format;
+import com.stay.domain.member.service.MemberBulkCodec.RecordWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 대량 내보내기 (마이그레이션/백필)
+ *
+ * 왜 필요한가?
+ * - 목록 API는 페이지 단위라 수백만 명을 옮기려면 요청을 수만 번 보내야 함
+ * - 전체를 List로 읽으면 회원 수만큼 메모리 필요
+ *
+ * 동작:
+ * - 읽기 전용 트랜잭션(→ 복제본)에서 member_id 순서로 한 번에 조회
+ * - fetchSize = Integer.MIN_VALUE → MySQL 드라이버가 행을 하나씩 스트리밍 (전방향 커서, 결과를 메모리에 올리지 않음)
+ * - 읽는 대로 CSV/NDJSON 한 줄씩 출력 스트림에 씀
+ * - 끊기면 받은 마지막 memberId를 afterId로 다시 요청해서 이어받음
+ *
+ * 소셜 계정은 회원의 첫 번째 것만 (가입 경로가 회원당 하나만 만듦), 내보낸 파일은 그대로 가져오기 입력으로 쓸 수 있음.
+ */
+@Slf4j
+@Service
+public class MemberExportService {
+
+    public static final List<String> FIELDS = List.of(
+            "memberId", "email", "name", "nickname", "phoneNumber", "birthDate", "gender",
+            "profileImageUrl", "provider", "socialId", "socialEmail",
+            "role", "grade", "points", "active", "emailVerified", "createdAt", "deletedAt");
+
+    // social_logins는 idx_member_id(member_id, PK)로 회원별 social_login_id 순서로 붙음
+    private static final String EXPORT_SQL = "SELECT m.member_id, m.email, m.name, m.nickname, m.phone_number, "
+            + "m.birth_date, m.gender, m.profile_image_url, s.provider, s.social_id, s.social_email, "
+            + "m.role, m.grade, m.points, m.is_active, m.email_verified, m.created_at, m.deleted_at "
+            + "FROM members m LEFT JOIN social_logins s ON s.member_id = m.member_id "
+            + "WHERE m.member_id > ? ORDER BY m.member_id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long progressInterval;
+
+    public MemberExportService(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member.bulk-export.progress-interval:100000}") long progressInterval) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * member_id가 afterId보다 큰 회원을 순서대로 출력
+     *
+     * @param format  출력 형식
+     * @param afterId 이 ID 다음부터 (처음이면 0)
+     * @param out     출력 스트림 (닫지 않음)
+     * @return 내보낸 회원 수
+     * @throws IOException 출력 실패 (클라이언트 연결 끊김 등)
+     */
+    public long export(Format format, long afterId, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        log.info("회원 내보내기 시작 - format: {}, afterId: {}", format, afterId);
+
+        RecordWriter writer = MemberBulkCodec.writer(format, out, FIELDS);
+        long[] exported = {0};
+        long[] lastMemberId = {afterId};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+                long memberId = rs.getLong("member_id");
+                if (memberId == lastMemberId[0]) {
+                    return;  // 같은 회원의 두 번째 이후 소셜 계정
+                }
+                lastMemberId[0] = memberId;
+                try {
+                    writer.write(toRecord(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++exported[0] % progressInterval == 0) {
+                    log.info("회원 내보내기 진행 - {}명, 마지막 memberId: {}", exported[0], memberId);
+                }
+            }, afterId));
+        } catch (UncheckedIOException e) {
+            log.warn("회원 내보내기 중단 - {}명, 마지막 memberId: {} (afterId로 이어받기)", exported[0], lastMemberId[0]);
+            throw e.getCause();
+        }
+        writer.close();
+
+        log.info("회원 내보내기 완료 - {}명, 마지막 memberId: {}, {}ms",
+                exported[0], lastMemberId[0], System.currentTimeMillis() - start);
+        return exported[0];
+    }
+
+    private static Map<String, Object> toRecord(ResultSet rs) throws SQLException {
+        Map<String, Object> record = new HashMap<>();
+        record.put("memberId", rs.getLong("member_id"));
+        record.put("email", rs.getString("email"));
+        record.put("name", rs.getString("name"));
+        record.put("nickname", rs.getString("nickname"));
+        record.put("phoneNumber", rs.getString("phone_number"));
+        Date birthDate = rs.getDate("birth_date");
+        record.put("birthDate", birthDate != null ? birthDate.toLocalDate().toString() : null);
+        record.put("gender", rs.getString("gender"));
+        record.put("profileImageUrl", rs.getString("profile_image_url"));
+        record.put("provider", rs.getString("provider"));
+        record.put("socialId", rs.getString("social_id"));
+        record.put("socialEmail", rs.getString("social_email"));
+        record.put("role", rs.getString("role"));
+        record.put("grade", rs.getString("grade"));
+        record.put("points", rs.getInt("points"));
+        record.put("active", rs.getBoolean("is_active"));
+        record.put("emailVerified", rs.getBoolean("email_verified"));
+        record.put("createdAt", timestamp(rs.getTimestamp("created_at")));
+        record.put("deletedAt", timestamp(rs.getTimestamp("deleted_at")));
+        return record;
+    }
+
+    private static String timestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
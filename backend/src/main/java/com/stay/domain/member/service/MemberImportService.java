@@ -0,0 +1,453 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.MemberImportJob;
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.entity.SocialLogin;
+import com.stay.domain.member.entity.SocialProvider;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.domain.member.service.MemberBulkCodec.Format;
+import com.stay.domain.member.service.MemberBulkCodec.ParsedRecord;
+import com.stay.domain.member.service.MemberBulkCodec.RecordReader;
+import com.stay.global.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 회원 대량 가져오기 (마이그레이션/백필)
+ *
+ * 왜 필요한가?
+ * - registerSocialMember()로 한 명씩 넣으면 회원마다 중복 확인 SELECT + INSERT 2번 + 커밋
+ * - 수백만 명이면 며칠 걸림
+ *
+ * 동작:
+ * - 입력(CSV/NDJSON)을 레코드 단위로 스트리밍, member.bulk-import.chunk-size(기본 1,000)개씩 처리
+ *   → 메모리는 청크 하나 분량
+ * - 검증: Member/SocialLogin 빌더를 그대로 통과시켜서 가입과 같은 규칙 (닉네임은 updateNickname 규칙)
+ * - 중복: 청크의 이메일/닉네임/소셜 ID를 IN 조회 세 번으로 DB와 비교 + 파일 안 중복도 확인
+ *   - 이메일/소셜 ID가 이미 있으면 "중복" (이미 옮긴 회원), 닉네임만 겹치면 "검증 실패"
+ * - 청크마다 members/social_logins JDBC 배치 INSERT + 건너뛴 레코드 + 진행 위치를 한 트랜잭션으로 커밋
+ *   → 중단되면 같은 작업 키로 같은 파일을 다시 보내면 남은 레코드부터 이어서 처리 (중복 INSERT 없음)
+ * - 가입과 같이 통계 카운터(REGISTERED 이벤트, 청크당 UPSERT 몇 번)와 중복 확인 필터/닉네임 추천에 반영
+ *
+ * 가져온 회원은 CUSTOMER/BASIC, 비밀번호 없음 (소셜 로그인으로만 로그인)
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    /**
+     * 읽는 필드 (CSV 헤더/NDJSON 키, 나머지 필드는 무시 → 내보내기 파일을 그대로 가져올 수 있음)
+     */
+    public static final List<String> FIELDS = List.of(
+            "email", "name", "nickname", "phoneNumber", "birthDate", "gender",
+            "profileImageUrl", "provider", "socialId", "socialEmail");
+
+    private static final String CREATED_BY = "bulk-import";
+    private static final int SKIP_PREVIEW = 100;
+    private static final int MAX_REASON_LENGTH = 200;
+
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO members (member_id, email, phone_number, name, nickname, "
+            + "role, grade, reservation_count, points, is_active, last_grade_updated_at, profile_image_url, birth_date, "
+            + "gender, email_verified, auth_version, created_at, updated_at, created_by, updated_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, TRUE, ?, ?, ?, ?, FALSE, 0, NOW(), NOW(), ?, ?)";
+
+    private static final String INSERT_SOCIAL_LOGIN_SQL = "INSERT INTO social_logins (social_login_id, member_id, "
+            + "provider, social_id, social_email, created_at, updated_at, created_by, updated_by) "
+            + "VALUES (?, ?, ?, ?, ?, NOW(), NOW(), ?, ?)";
+
+    private static final String INSERT_SKIP_SQL =
+            "INSERT INTO member_import_skips (job_key, record_no, duplicate, reason) VALUES (?, ?, ?, ?)";
+
+    private static final String ADVANCE_SQL = "UPDATE member_import_jobs SET processed = ?, imported = imported + ?, "
+            + "duplicates = duplicates + ?, rejected = rejected + ?, updated_at = NOW() WHERE job_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UniquenessProbe uniquenessProbe;
+    private final NicknameSuggester nicknameSuggester;
+    private final int chunkSize;
+
+    public MemberImportService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               SnowflakeIdGenerator idGenerator,
+                               ApplicationEventPublisher eventPublisher,
+                               UniquenessProbe uniquenessProbe,
+                               NicknameSuggester nicknameSuggester,
+                               @Value("${member.bulk-import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.uniquenessProbe = uniquenessProbe;
+        this.nicknameSuggester = nicknameSuggester;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 검증을 통과한 레코드 (엔티티는 검증용, 저장은 JDBC 배치)
+     */
+    private record Accepted(long recordNo, Member member, SocialLogin socialLogin) {
+    }
+
+    private record Skip(long recordNo, boolean duplicate, String reason) {
+    }
+
+    /**
+     * 가져오기 실행 (같은 작업 키로 다시 부르면 처리한 레코드는 읽고 넘김, 끝난 작업이면 읽지 않고 결과만 반환)
+     *
+     * @param jobKey 작업 키 (1~50자)
+     * @param format 입력 형식
+     * @param in     입력 (닫지 않음)
+     * @throws IllegalArgumentException 작업 키가 잘못됐거나 처음과 다른 형식으로 이어서 하려는 경우
+     * @throws IllegalStateException    같은 작업 키로 다른 가져오기가 동시에 진행 중인 경우
+     */
+    public MemberImportJob importMembers(String jobKey, Format format, InputStream in) throws IOException {
+        if (jobKey == null || jobKey.isBlank() || jobKey.length() > 50) {
+            throw new IllegalArgumentException("작업 키는 1~50자여야 합니다.");
+        }
+        long processed = startJob(jobKey, format);
+        if (processed < 0) {
+            log.info("이미 끝난 가져오기 작업 - jobKey: {}", jobKey);
+            return job(jobKey);
+        }
+
+        long start = System.currentTimeMillis();
+        log.info("회원 가져오기 시작 - jobKey: {}, format: {}, 이어서 할 위치: {}", jobKey, format, processed);
+
+        RecordReader reader = MemberBulkCodec.reader(format, in);
+        List<ParsedRecord> chunk = new ArrayList<>(chunkSize);
+        ParsedRecord record;
+        while ((record = reader.next()) != null) {
+            if (record.number() <= processed) {
+                continue;  // 이전 실행에서 커밋됨
+            }
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                processed = writeChunk(jobKey, processed, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(jobKey, processed, chunk);
+        }
+
+        jdbcTemplate.update("UPDATE member_import_jobs SET completed_at = NOW(), updated_at = NOW() WHERE job_key = ?",
+                jobKey);
+        MemberImportJob job = job(jobKey);
+        log.info("회원 가져오기 완료 - jobKey: {}, 처리: {}, 가져옴: {}, 중복: {}, 검증 실패: {}, {}ms",
+                jobKey, job.processed(), job.imported(), job.duplicates(), job.rejected(),
+                System.currentTimeMillis() - start);
+        return job;
+    }
+
+    /**
+     * 작업 진행 상황
+     *
+     * @throws IllegalArgumentException 없는 작업 키
+     */
+    public MemberImportJob job(String jobKey) {
+        List<MemberImportJob.Skip> skips = jdbcTemplate.query(
+                "SELECT record_no, duplicate, reason FROM member_import_skips WHERE job_key = ? "
+                        + "ORDER BY record_no LIMIT " + SKIP_PREVIEW,
+                (rs, rowNum) -> new MemberImportJob.Skip(
+                        rs.getLong("record_no"), rs.getBoolean("duplicate"), rs.getString("reason")),
+                jobKey);
+
+        return jdbcTemplate.query(
+                "SELECT job_key, format, processed, imported, duplicates, rejected, completed_at, updated_at "
+                        + "FROM member_import_jobs WHERE job_key = ?",
+                (rs, rowNum) -> new MemberImportJob(
+                        rs.getString("job_key"),
+                        rs.getString("format"),
+                        rs.getLong("processed"),
+                        rs.getLong("imported"),
+                        rs.getLong("duplicates"),
+                        rs.getLong("rejected"),
+                        rs.getTimestamp("completed_at") != null,
+                        rs.getTimestamp("updated_at").toLocalDateTime(),
+                        skips),
+                jobKey).stream().findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업이 없습니다: " + jobKey));
+    }
+
+    // ==================== 작업/청크 ====================
+
+    /**
+     * 작업 행을 만들거나 이어서 할 위치를 읽음
+     *
+     * @return 이미 처리한 레코드 수, 끝난 작업이면 -1
+     */
+    private long startJob(String jobKey, Format format) {
+        jdbcTemplate.update("INSERT INTO member_import_jobs (job_key, format, created_at, updated_at) "
+                + "VALUES (?, ?, NOW(), NOW()) ON DUPLICATE KEY UPDATE job_key = job_key", jobKey, format.name());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT format, processed, completed_at FROM member_import_jobs WHERE job_key = ?", jobKey);
+        if (!format.name().equals(row.get("format"))) {
+            throw new IllegalArgumentException("작업 " + jobKey + "는 " + row.get("format") + " 형식으로 시작했습니다.");
+        }
+        if (row.get("completed_at") != null) {
+            return -1;
+        }
+        return ((Number) row.get("processed")).longValue();
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 (검증 + 중복 확인 + 배치 INSERT + 진행 위치)
+     *
+     * @return 새 진행 위치 (청크 마지막 레코드 번호)
+     */
+    private long writeChunk(String jobKey, long expectedProcessed, List<ParsedRecord> chunk) {
+        long last = chunk.get(chunk.size() - 1).number();
+
+        Long result = transactionTemplate.execute(status -> {
+            // 작업 행을 잠가서 같은 작업 키의 동시 실행이 같은 청크를 두 번 넣지 않도록
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT processed FROM member_import_jobs WHERE job_key = ? FOR UPDATE", Long.class, jobKey);
+            if (current == null || current != expectedProcessed) {
+                throw new IllegalStateException("같은 작업 키로 다른 가져오기가 진행 중입니다: " + jobKey);
+            }
+
+            List<Accepted> accepted = new ArrayList<>();
+            List<Skip> skips = new ArrayList<>();
+            classify(chunk, accepted, skips);
+
+            insert(accepted);
+            if (!skips.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SKIP_SQL, skips.stream()
+                        .map(skip -> new Object[]{jobKey, skip.recordNo(), skip.duplicate(), truncate(skip.reason())})
+                        .toList());
+            }
+            long duplicates = skips.stream().filter(Skip::duplicate).count();
+            jdbcTemplate.update(ADVANCE_SQL, last, accepted.size(), duplicates, skips.size() - duplicates, jobKey);
+            return last;
+        });
+
+        log.debug("회원 가져오기 청크 커밋 - jobKey: {}, 진행: {}", jobKey, last);
+        return result != null ? result : last;
+    }
+
+    /**
+     * 검증 + 중복 확인 (파일 순서대로, 먼저 나온 레코드가 이김)
+     */
+    private void classify(List<ParsedRecord> chunk, List<Accepted> accepted, List<Skip> skips) {
+        List<Accepted> valid = new ArrayList<>(chunk.size());
+        for (ParsedRecord record : chunk) {
+            if (record.error() != null) {
+                skips.add(new Skip(record.number(), false, record.error()));
+                continue;
+            }
+            try {
+                valid.add(toAccepted(record));
+            } catch (MemberException e) {
+                skips.add(new Skip(record.number(), false, e.getErrorCode().getCode() + " " + e.getMessage()));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                skips.add(new Skip(record.number(), false,
+                        MemberErrorCode.INVALID_INPUT_VALUE.getCode() + " " + e.getMessage()));
+            }
+        }
+
+        Set<String> emails = existing("members", "email",
+                valid.stream().map(candidate -> candidate.member().getEmail()).toList());
+        Set<String> nicknames = existing("members", "nickname",
+                valid.stream().map(candidate -> candidate.member().getNickname()).toList());
+        Set<String> socialIds = existingSocialLogins(
+                valid.stream().map(Accepted::socialLogin).filter(Objects::nonNull).toList());
+
+        for (Accepted candidate : valid) {
+            Member member = candidate.member();
+            SocialLogin socialLogin = candidate.socialLogin();
+            if (!emails.add(normalize(member.getEmail()))) {
+                skips.add(duplicate(candidate.recordNo(), MemberErrorCode.DUPLICATE_EMAIL));
+            } else if (socialLogin != null && !socialIds.add(socialKey(socialLogin))) {
+                emails.remove(normalize(member.getEmail()));
+                skips.add(duplicate(candidate.recordNo(), MemberErrorCode.DUPLICATE_SOCIAL_LOGIN));
+            } else if (member.getNickname() != null && !nicknames.add(normalize(member.getNickname()))) {
+                emails.remove(normalize(member.getEmail()));
+                if (socialLogin != null) {
+                    socialIds.remove(socialKey(socialLogin));
+                }
+                skips.add(new Skip(candidate.recordNo(), false, MemberErrorCode.DUPLICATE_NICKNAME.getCode() + " "
+                        + MemberErrorCode.DUPLICATE_NICKNAME.getMessage()));
+            } else {
+                accepted.add(candidate);
+            }
+        }
+        skips.sort((a, b) -> Long.compare(a.recordNo(), b.recordNo()));
+    }
+
+    /**
+     * 레코드 → 엔티티 (빌더의 검증을 그대로 사용, DB에는 엔티티가 아니라 JDBC 배치로 씀)
+     */
+    private static Accepted toAccepted(ParsedRecord record) {
+        Map<String, String> fields = record.fields();
+        String nickname = trim(fields.get("nickname"));
+
+        Member member = Member.builder()
+                .email(trim(fields.get("email")))
+                .name(trim(fields.get("name")))
+                .phoneNumber(trim(fields.get("phoneNumber")))
+                .profileImageUrl(trim(fields.get("profileImageUrl")))
+                .birthDate(fields.get("birthDate") != null ? LocalDate.parse(fields.get("birthDate").trim()) : null)
+                .gender(fields.get("gender") != null
+                        ? Member.Gender.valueOf(fields.get("gender").trim().toUpperCase(Locale.ROOT)) : null)
+                .role(MemberRole.CUSTOMER)
+                .build();
+        if (nickname != null) {
+            member.updateNickname(nickname);
+        }
+        checkLength("email", member.getEmail(), 100);
+        checkLength("phoneNumber", member.getPhoneNumber(), 20);
+        checkLength("profileImageUrl", member.getProfileImageUrl(), 500);
+
+        String provider = trim(fields.get("provider"));
+        String socialId = trim(fields.get("socialId"));
+        SocialLogin socialLogin = null;
+        if (provider != null || socialId != null) {
+            socialLogin = SocialLogin.builder()
+                    .member(member)
+                    .provider(provider != null ? SocialProvider.valueOf(provider.toUpperCase(Locale.ROOT)) : null)
+                    .socialId(socialId)
+                    .socialEmail(trim(fields.get("socialEmail")))
+                    .build();
+            checkLength("socialId", socialLogin.getSocialId(), 100);
+            checkLength("socialEmail", socialLogin.getSocialEmail(), 100);
+        }
+        return new Accepted(record.number(), member, socialLogin);
+    }
+
+    private void insert(List<Accepted> accepted) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> memberRows = new ArrayList<>(accepted.size());
+        List<Object[]> socialRows = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>(accepted.size());
+
+        for (Accepted candidate : accepted) {
+            Member member = candidate.member();
+            long memberId = idGenerator.nextId();
+            memberIds.add(memberId);
+            memberRows.add(new Object[]{memberId, member.getEmail(), member.getPhoneNumber(), member.getName(),
+                    member.getNickname(), member.getRole().name(), member.getGrade().name(), now,
+                    member.getProfileImageUrl(),
+                    member.getBirthDate() != null ? Date.valueOf(member.getBirthDate()) : null,
+                    member.getGender() != null ? member.getGender().name() : null,
+                    CREATED_BY, CREATED_BY});
+
+            SocialLogin socialLogin = candidate.socialLogin();
+            if (socialLogin != null) {
+                socialRows.add(new Object[]{idGenerator.nextId(), memberId, socialLogin.getProvider().name(),
+                        socialLogin.getSocialId(), socialLogin.getSocialEmail(), CREATED_BY, CREATED_BY});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, memberRows);
+        if (!socialRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SOCIAL_LOGIN_SQL, socialRows);
+        }
+
+        // 가입과 같은 후처리: 통계 카운터는 커밋 직전 한 번에, 중복 확인/닉네임 추천은 커밋 후
+        for (int i = 0; i < accepted.size(); i++) {
+            Member member = accepted.get(i).member();
+            eventPublisher.publishEvent(new MemberLifecycleEvent(memberIds.get(i),
+                    MemberLifecycleEvent.Type.REGISTERED, null, new Standing(member.getRole(), member.getGrade())));
+            uniquenessProbe.recordAdded(UniquenessProbe.Field.EMAIL, member.getEmail());
+            uniquenessProbe.recordAdded(UniquenessProbe.Field.NICKNAME, member.getNickname());
+            nicknameSuggester.recordAdded(member.getNickname());
+        }
+    }
+
+    // ==================== 중복 조회 ====================
+
+    /**
+     * DB에 이미 있는 값 (소문자, MySQL 기본 정렬 규칙처럼 대소문자 무시)
+     */
+    private Set<String> existing(String table, String column, Collection<String> values) {
+        List<String> present = values.stream().filter(Objects::nonNull).distinct().toList();
+        if (present.isEmpty()) {
+            return new HashSet<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(present.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT " + column + " FROM " + table + " WHERE " + column
+                        + " IN (" + placeholders + ")", String.class, present.toArray())
+                .stream()
+                .map(MemberImportService::normalize)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Set<String> existingSocialLogins(List<SocialLogin> socialLogins) {
+        if (socialLogins.isEmpty()) {
+            return new HashSet<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(socialLogins.size(), "(?, ?)"));
+        Object[] params = socialLogins.stream()
+                .flatMap(socialLogin -> Stream.of(socialLogin.getProvider().name(), socialLogin.getSocialId()))
+                .toArray();
+        return new HashSet<>(jdbcTemplate.query("SELECT provider, social_id FROM social_logins "
+                        + "WHERE (provider, social_id) IN (" + placeholders + ")",
+                (rs, rowNum) -> rs.getString("provider") + "|" + normalize(rs.getString("social_id")),
+                params));
+    }
+
+    private static String socialKey(SocialLogin socialLogin) {
+        return socialLogin.getProvider().name() + "|" + normalize(socialLogin.getSocialId());
+    }
+
+    // ==================== 내부 ====================
+
+    private static Skip duplicate(long recordNo, MemberErrorCode errorCode) {
+        return new Skip(recordNo, true, errorCode.getCode() + " " + errorCode.getMessage());
+    }
+
+    private static void checkLength(String field, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new MemberException(MemberErrorCode.INVALID_INPUT_VALUE, field + "는 " + max + "자를 넘을 수 없습니다.");
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String truncate(String reason) {
+        return reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH);
+    }
+}
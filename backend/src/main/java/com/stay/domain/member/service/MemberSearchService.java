@@ -0,0 +1,113 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.MemberResponse;
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.domain.member.repository.MemberRepository;
+import com.stay.global.pagination.CursorPage;
+import com.stay.global.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 검색
+ *
+ * 왜 필요한가?
+ * - 기존 검색은 name/email LIKE '%키워드%' + 결과 전체를 List로 반환
+ * - 인덱스를 못 타서 전체 테이블 스캔, 일치하는 회원을 모두 메모리에 올림
+ *
+ * 검색 방식:
+ * - 이름: ngram FULLTEXT 인덱스 (한글 이름 부분 검색), 최근 가입 순
+ * - 이메일: 앞부분 일치 (이메일 인덱스 범위 검색), 이메일 순
+ * - 둘 다 키셋 페이지 (OFFSET 없이 마지막 값 다음부터) + 페이지 크기 상한
+ * - 응답/커서는 다른 관리자 목록과 같은 CursorPage/KeysetCursor
+ *
+ * ngram 토큰이 2글자라 검색어는 2자 이상이어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSearchService {
+
+    static final int MIN_KEYWORD_LENGTH = 2;
+
+    // FULLTEXT BOOLEAN MODE 연산자 (검색어에서 제거)
+    private static final String FULLTEXT_OPERATORS = "[\"+\\-<>()~*@]";
+
+    /**
+     * 검색 대상
+     */
+    public enum SearchType {
+        NAME,   // 이름 부분 일치
+        EMAIL   // 이메일 앞부분 일치
+    }
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 회원 검색
+     *
+     * @param keyword 검색어
+     * @param type    검색 대상 (null이면 '@'가 있으면 EMAIL, 아니면 NAME)
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기 (기본 20, 최대 100)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<MemberResponse> search(String keyword, SearchType type, String cursor, Integer size) {
+        if (keyword == null) {
+            throw new MemberException(MemberErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+        SearchType searchType = type != null ? type
+                : keyword.contains("@") ? SearchType.EMAIL : SearchType.NAME;
+        int pageSize = CursorPage.clampSize(size);
+
+        return searchType == SearchType.EMAIL
+                ? searchByEmail(keyword.trim(), cursor, pageSize)
+                : searchByName(keyword, cursor, pageSize);
+    }
+
+    private CursorPage<MemberResponse> searchByName(String keyword, String cursor, int pageSize) {
+        String term = keyword.replaceAll(FULLTEXT_OPERATORS, "").trim();
+        requireMinLength(term);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<Member> members = memberRepository.searchByName(
+                "\"" + term + "\"", position.at(), position.id(), pageSize + 1);
+
+        return toPage(members, pageSize);
+    }
+
+    /**
+     * 이메일 순으로 읽지만 커서는 다른 목록과 같은 (가입 시각, ID) → 다음 페이지는 그 회원의 이메일 다음부터
+     */
+    private CursorPage<MemberResponse> searchByEmail(String keyword, String cursor, int pageSize) {
+        requireMinLength(keyword);
+
+        String prefix = keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Long cursorId = position.equals(KeysetCursor.FIRST) ? null : position.id();
+        List<Member> members = memberRepository.searchByEmailPrefix(prefix, cursorId, Limit.of(pageSize + 1));
+
+        return toPage(members, pageSize);
+    }
+
+    private static CursorPage<MemberResponse> toPage(List<Member> members, int pageSize) {
+        return CursorPage.of(members, pageSize,
+                member -> new KeysetCursor(member.getCreatedAt(), member.getId()),
+                MemberResponse::from);
+    }
+
+    private static void requireMinLength(String term) {
+        if (term.codePointCount(0, term.length()) < MIN_KEYWORD_LENGTH) {
+            throw new MemberException(MemberErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.stay.domain.member.service;
 
+import com.stay.domain.member.dto.MemberResponse;
+import com.stay.domain.member.dto.MemberSnapshot;
+import com.stay.domain.member.dto.PointExpiration;
+import com.stay.domain.member.dto.PointTransaction;
 import com.stay.domain.member.dto.SocialLoginRequest;
 import com.stay.domain.member.dto.SocialLoginResult;
 import com.stay.domain.member.entity.*;
+import com.stay.domain.member.event.MemberChangedEvent;
+import com.stay.domain.member.event.MemberChangedEvent.ChangeType;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
 import com.stay.domain.member.exception.MemberErrorCode;
 import com.stay.domain.member.exception.MemberException;
 import com.stay.domain.member.repository.MemberRepository;
 import com.stay.domain.member.repository.SocialLoginRepository;
+import com.stay.global.pagination.CursorPage;
+import com.stay.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 회원 서비스
@@ -29,6 +43,13 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final SocialLoginRepository socialLoginRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final LastLoginWriteBuffer lastLoginWriteBuffer;
+    private final UniquenessProbe uniquenessProbe;
+    private final NicknameSuggester nicknameSuggester;
+    private final PointLedgerService pointLedgerService;
+    private final MemberStatsService memberStatsService;
 
     // ==================== 소셜 로그인 ====================
 
@@ -50,26 +71,7 @@ public class MemberService {
             final boolean[] isNewMember = {false}; // 신규 회원 플래그
 
             // ========== 1. 소셜 계정으로 회원 조회 ==========
-            Member member = socialLoginRepository
-                    .findByProviderAndSocialId(request.provider(), request.socialId())
-                    .map(socialLogin -> {
-                        Member existingMember = socialLogin.getMember();
-
-                        // 탈퇴 회원 재활성화
-                        if (!existingMember.getIsActive() && existingMember.getDeletedAt() != null) {
-                            log.info("탈퇴 회원 재활성화 - memberId: {}", existingMember.getId());
-                            existingMember.reactivate();
-                        }
-
-                        if (!existingMember.getIsActive()) {
-                            throw new MemberException(MemberErrorCode.MEMBER_NOT_ACTIVE);
-                        }
-
-                        existingMember.updateLastLoginAt();
-                        log.info("기존 회원 로그인 - memberId: {}", existingMember.getId());
-
-                        return existingMember;
-                    })
+            Member member = loginSocialMember(request)
                     .orElseGet(() -> {
                         log.info("신규 회원 가입 진행 - email: {}", request.email());
                         isNewMember[0] = true; // 신규 회원 플래그 설정
@@ -88,6 +90,50 @@ public class MemberService {
         }
     }
 
+    /**
+     * 기존 소셜 회원 로그인 (연동된 소셜 계정이 없으면 empty)
+     *
+     * 왜 따로 두나?
+     * - 기존: 이메일 존재 확인 SELECT + 소셜 계정 SELECT + 회원 지연 로딩 SELECT + lastLoginAt UPDATE
+     * - 변경: 소셜 계정 + 회원을 fetch join으로 한 번에 조회 (SELECT 1번)
+     * - lastLoginAt은 LastLoginWriteBuffer에 모아서 주기적으로 배치 반영 (로그인 시 UPDATE/행 잠금 없음)
+     *
+     * 탈퇴 회원 재활성화처럼 드문 경우에만 엔티티를 변경한다.
+     *
+     * @param request 소셜 로그인 정보
+     * @return 로그인한 회원 (연동된 소셜 계정이 없으면 empty)
+     * @throws MemberException 비활성 회원
+     */
+    @Transactional
+    public Optional<Member> loginSocialMember(SocialLoginRequest request) {
+        return socialLoginRepository
+                .findByProviderAndSocialIdWithMember(request.provider(), request.socialId())
+                .map(socialLogin -> {
+                    Member existingMember = socialLogin.getMember();
+
+                    // 탈퇴 회원 재활성화
+                    if (!existingMember.getIsActive() && existingMember.getDeletedAt() != null) {
+                        log.info("탈퇴 회원 재활성화 - memberId: {}", existingMember.getId());
+                        Standing before = Standing.of(existingMember);
+                        existingMember.reactivate();
+                        existingMember.updateLastLoginAt();
+                        publishChanged(existingMember, ChangeType.ACTIVATED);
+                        publishLifecycle(existingMember, MemberLifecycleEvent.Type.ACTIVATED, before);
+                        memberSnapshotCache.evict(existingMember.getId());
+                        return existingMember;
+                    }
+
+                    if (!existingMember.getIsActive()) {
+                        throw new MemberException(MemberErrorCode.MEMBER_NOT_ACTIVE);
+                    }
+
+                    lastLoginWriteBuffer.record(existingMember.getId(), LocalDateTime.now());
+                    log.info("기존 회원 로그인 - memberId: {}", existingMember.getId());
+
+                    return existingMember;
+                });
+    }
+
     /**
      * 신규 소셜 회원 가입
      * - 이메일 중복 체크 필수 (다른 소셜로 이미 가입했을 수 있음)
@@ -116,6 +162,10 @@ public class MemberService {
                 .build();
 
         Member savedMember = memberRepository.save(newMember);
+        publishLifecycle(savedMember, MemberLifecycleEvent.Type.REGISTERED, null);
+        uniquenessProbe.recordAdded(UniquenessProbe.Field.EMAIL, savedMember.getEmail());
+        uniquenessProbe.recordAdded(UniquenessProbe.Field.NICKNAME, savedMember.getNickname());
+        nicknameSuggester.recordAdded(savedMember.getNickname());
         log.info("신규 회원 생성 완료 - memberId: {}, nickname: {}",
                 savedMember.getId(),
                 savedMember.getNickname());  // ← 로그에 닉네임 추가
@@ -163,6 +213,27 @@ public class MemberService {
         return member;
     }
 
+    /**
+     * 활성 회원 스냅샷 조회 (조회 전용 API용)
+     * - 로컬 캐시 → Redis → DB 순으로 조회 (캐시 적중 시 MySQL 접근 없음)
+     * - 캐시 적중 시 커넥션도 잡지 않도록 트랜잭션 없이 실행
+     * - 변경이 필요하면 findActiveById(엔티티)를 사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberSnapshot findActiveSnapshot(Long memberId) {
+        MemberSnapshot snapshot = memberSnapshotCache.get(memberId, id -> MemberSnapshot.from(findById(id)));
+
+        if (snapshot.deleted()) {
+            throw new MemberException(MemberErrorCode.MEMBER_DELETED);
+        }
+
+        if (!snapshot.active()) {
+            throw new MemberException(MemberErrorCode.MEMBER_NOT_ACTIVE);
+        }
+
+        return snapshot;
+    }
+
     /**
      * 이메일로 회원 조회
      */
@@ -190,7 +261,9 @@ public class MemberService {
      * @return true: 사용 가능, false: 이미 사용 중
      */
     public boolean isEmailAvailable(String email) {
-        boolean exists = memberRepository.existsByEmail(email);
+        // 대부분 메모리(Bloom 필터)에서 끝나고, 있을 수도 있는 값만 Redis/DB 확인
+        boolean exists = uniquenessProbe.exists(UniquenessProbe.Field.EMAIL, email,
+                () -> memberRepository.existsByEmail(email));
         log.info("이메일 중복 체크 - email: {}, available: {}", email, !exists);
         return !exists;
     }
@@ -241,7 +314,15 @@ public class MemberService {
         if (nickname == null || nickname.trim().isEmpty()) {
             return false;
         }
-        return !memberRepository.existsByNickname(nickname);
+        return !uniquenessProbe.exists(UniquenessProbe.Field.NICKNAME, nickname,
+                () -> memberRepository.existsByNickname(nickname));
+    }
+
+    /**
+     * 사용 중인 닉네임 대신 쓸 수 있는 닉네임 추천 (DB 조회 없음)
+     */
+    public List<String> suggestNicknames(String nickname) {
+        return nicknameSuggester.suggest(nickname);
     }
 
     /**
@@ -277,7 +358,14 @@ public class MemberService {
 
         // 3. 닉네임 설정 (엔티티 내부 검증 로직 실행)
         try {
+            String previousNickname = member.getNickname();
             member.updateNickname(nickname);
+            memberSnapshotCache.evict(memberId);
+            if (!nickname.equals(previousNickname)) {
+                uniquenessProbe.recordRemoved(UniquenessProbe.Field.NICKNAME, previousNickname);
+                uniquenessProbe.recordAdded(UniquenessProbe.Field.NICKNAME, nickname);
+                nicknameSuggester.recordChanged(previousNickname, nickname);
+            }
             log.info("닉네임 설정 완료 - memberId: {}, nickname: {}", memberId, nickname);
             return member;
         } catch (MemberException e) {
@@ -312,7 +400,11 @@ public class MemberService {
         Member member = findActiveById(memberId);
 
         try {
+            Standing before = Standing.of(member);
             member.upgradeToBusinessOwner();
+            publishChanged(member, ChangeType.ROLE_CHANGED);
+            publishLifecycle(member, MemberLifecycleEvent.Type.ROLE_CHANGED, before);
+            memberSnapshotCache.evict(memberId);
             log.info("사업자 회원 승급 완료 - memberId: {}", memberId);
             return member;
         } catch (IllegalStateException e) {
@@ -327,7 +419,11 @@ public class MemberService {
     @Transactional
     public void deactivateMember(Long memberId) {
         Member member = findById(memberId);
+        Standing before = Standing.of(member);
         member.deactivate();
+        publishChanged(member, ChangeType.DEACTIVATED);
+        publishLifecycle(member, MemberLifecycleEvent.Type.DEACTIVATED, before);
+        memberSnapshotCache.evict(memberId);
         log.info("회원 비활성화 완료 - memberId: {}", memberId);
     }
 
@@ -337,17 +433,32 @@ public class MemberService {
     @Transactional
     public void activateMember(Long memberId) {
         Member member = findById(memberId);
+        Standing before = Standing.of(member);
         member.activate();
+        publishChanged(member, ChangeType.ACTIVATED);
+        publishLifecycle(member, MemberLifecycleEvent.Type.ACTIVATED, before);
+        memberSnapshotCache.evict(memberId);
         log.info("회원 활성화 완료 - memberId: {}", memberId);
     }
 
     /**
      * 회원 탈퇴 (하드 삭제)
+     * - 남은 포인트는 원장으로 소멸 (같은 트랜잭션, 이미 탈퇴한 회원은 잔액이 없어 생략)
      */
     @Transactional
     public void deleteMember(Long memberId) {
         Member member = findById(memberId);
+        Standing before = Standing.of(member);
+        boolean alreadyDeleted = member.getDeletedAt() != null;
+        if (!alreadyDeleted) {
+            pointLedgerService.forfeitAll(memberId, "회원 탈퇴");
+        }
         member.delete();
+        publishChanged(member, ChangeType.DELETED);
+        if (!alreadyDeleted) {
+            publishLifecycle(member, MemberLifecycleEvent.Type.DELETED, before);
+        }
+        memberSnapshotCache.evict(memberId);
 
         // 연동된 소셜 계정 정보도 삭제
 //        socialLoginRepository.deleteByMember(member);
@@ -358,58 +469,47 @@ public class MemberService {
     // ==================== 포인트 관리 ====================
 
     /**
-     * 포인트 적립
+     * 포인트 적립 (원장 기록 + 원자적 잔액 UPDATE)
+     *
+     * 트랜잭션은 PointLedgerService가 짧게 직접 관리 (읽기 전용 트랜잭션에 참여하지 않도록)
+     *
+     * @param idempotencyKey 요청 키 (같은 키로 재시도하면 처음 결과 반환, null이면 매번 새 요청)
      */
-    @Transactional
-    public Member earnPoints(Long memberId, int points) {
-        if (points <= 0) {  // null 체크 불필요
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
-
-        Member member = findActiveById(memberId);
-
-        try {
-            member.earnPoints(points);
-            log.info("포인트 적립 완료 - memberId: {}, points: +{}, total: {}",
-                    memberId, points, member.getPoints());
-            return member;
-        } catch (IllegalArgumentException e) {
-            log.error("포인트 적립 실패 - memberId: {}, points: {}", memberId, points, e);
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PointTransaction earnPoints(Long memberId, int points, String idempotencyKey) {
+        PointTransaction transaction = pointLedgerService.earn(memberId, points, idempotencyKey, null);
+        log.info("포인트 적립 완료 - memberId: {}, points: +{}, total: {}",
+                memberId, points, transaction.balanceAfter());
+        return transaction;
     }
 
     /**
-     * 포인트 사용
+     * 포인트 사용 (잔액이 충분할 때만 차감하는 원자적 UPDATE)
+     *
+     * @throws MemberException 잔액 부족 시 INSUFFICIENT_POINTS
      */
-    @Transactional
-    public Member usePoints(Long memberId, int points) {
-        if (points <= 0) {
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
-
-        Member member = findActiveById(memberId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PointTransaction usePoints(Long memberId, int points, String idempotencyKey) {
+        PointTransaction transaction = pointLedgerService.use(memberId, points, idempotencyKey, null);
+        log.info("포인트 사용 완료 - memberId: {}, points: -{}, remaining: {}",
+                memberId, points, transaction.balanceAfter());
+        return transaction;
+    }
 
-        try {
-            member.usePoints(points);
-            log.info("포인트 사용 완료 - memberId: {}, points: -{}, remaining: {}",
-                    memberId, points, member.getPoints());
-            return member;
-        } catch (IllegalStateException e) {
-            log.warn("포인트 부족 - memberId: {}, requested: {}, current: {}",
-                    memberId, points, member.getPoints());
-            throw new MemberException(MemberErrorCode.INSUFFICIENT_POINTS);
-        } catch (IllegalArgumentException e) {
-            log.error("포인트 사용 실패 - memberId: {}, points: {}", memberId, points, e);
-            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
-        }
+    /**
+     * 소멸 예정 포인트 (오늘부터 days일 안, 날짜별 합계)
+     *
+     * @param days 조회 기간 (1~365일로 제한)
+     */
+    public List<PointExpiration> findUpcomingPointExpirations(Long memberId, int days) {
+        return pointLedgerService.findUpcomingExpirations(memberId, Math.max(1, Math.min(days, 365)));
     }
 
     // ==================== 등급 관리 ====================
 
     /**
-     * 회원 등급 재계산
-     * - 배치 작업에서 호출 예정
+     * 회원 등급 재계산 (한 명)
+     * - 매달 전체 재계산은 GradeBatchEngine이 집합 UPDATE로 처리
      * - Member가 자신의 예약 횟수로 등급을 재계산
      * - MemberGrade.determineGrade()가 비즈니스 로직 담당
      */
@@ -418,8 +518,17 @@ public class MemberService {
         Member member = findActiveById(memberId);
 
         // Member가 스스로 등급 재계산 (캡슐화)
+        int versionBefore = member.getAuthVersion();
+        Standing before = Standing.of(member);
         member.recalculateGrade();
 
+        // 등급이 실제로 바뀐 경우에만 기존 토큰 무효화
+        if (member.getAuthVersion() != versionBefore) {
+            publishChanged(member, ChangeType.GRADE_CHANGED);
+            publishLifecycle(member, MemberLifecycleEvent.Type.GRADE_CHANGED, before);
+            memberSnapshotCache.evict(memberId);
+        }
+
         log.info("회원 등급 갱신 완료 - memberId: {}, grade: {} (예약 {}회, 할인율: {}%)",
                 memberId,
                 member.getGrade().getDisplayName(),
@@ -429,29 +538,103 @@ public class MemberService {
         return member;
     }
 
+    // ==================== 통계 ====================
+
     /**
-     * 등급 갱신 대상 회원 목록 조회
-     * - 스케줄러에서 매달 1일 실행 예정
-     * - 마지막 갱신일이 30일 이전인 회원 대상
+     * 활성 회원 수 조회 (통계 카운터, members 전체 COUNT 없음)
      */
-    public List<Member> findMembersForGradeUpdate(int daysAgo) {
-        LocalDateTime targetDate = LocalDateTime.now().minusDays(daysAgo);
-        return memberRepository.findMembersForGradeUpdate(targetDate);
+    public long countActiveMembers() {
+        return memberStatsService.countActiveMembers();
     }
 
-    // ==================== 통계 ====================
+    // ==================== 관리자 목록 (키셋 페이지) ====================
 
     /**
-     * 활성 회원 수 조회
+     * 활성 사업자 회원 목록 (최신 가입순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (기본 20, 최대 100)
      */
-    public long countActiveMembers() {
-        return memberRepository.countActiveMembers();
+    public CursorPage<MemberResponse> findBusinessOwners(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        return toCreatedPage(memberRepository.findBusinessOwnersBefore(
+                position.at(), position.id(), Limit.of(pageSize + 1)), pageSize);
     }
 
     /**
-     * 사업자 회원 목록 조회
+     * 등급별 회원 목록 (최신 가입순)
+     */
+    public CursorPage<MemberResponse> findMembersByGrade(MemberGrade grade, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        return toCreatedPage(memberRepository.findByGradeBefore(
+                grade, position.at(), position.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * 역할별 회원 목록 (최신 가입순)
+     */
+    public CursorPage<MemberResponse> findMembersByRole(MemberRole role, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        return toCreatedPage(memberRepository.findByRoleBefore(
+                role, position.at(), position.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * 비활성 회원 목록 (최근 수정순)
+     */
+    public CursorPage<MemberResponse> findInactiveMembers(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        return CursorPage.of(memberRepository.findInactiveMembersBefore(
+                        position.at(), position.id(), Limit.of(pageSize + 1)), pageSize,
+                member -> new KeysetCursor(member.getUpdatedAt(), member.getId()),
+                MemberResponse::from);
+    }
+
+    /**
+     * 보관 기간 이내 탈퇴 회원 목록 (최근 탈퇴순)
+     *
+     * @param retentionDays 보관 기간 (일)
+     */
+    public CursorPage<MemberResponse> findDeletedMembers(int retentionDays, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        LocalDateTime retentionDate = LocalDateTime.now().minusDays(retentionDays);
+        return CursorPage.of(memberRepository.findDeletedMembersWithinRetentionBefore(
+                        retentionDate, position.at(), position.id(), Limit.of(pageSize + 1)), pageSize,
+                member -> new KeysetCursor(member.getDeletedAt(), member.getId()),
+                MemberResponse::from);
+    }
+
+    private CursorPage<MemberResponse> toCreatedPage(List<Member> members, int pageSize) {
+        return CursorPage.of(members, pageSize,
+                member -> new KeysetCursor(member.getCreatedAt(), member.getId()),
+                MemberResponse::from);
+    }
+
+    // ==================== 이벤트 ====================
+
+    /**
+     * 권한 관련 정보 변경 이벤트 발행
+     * - 리스너는 트랜잭션 커밋 후에 실행되므로 롤백된 변경은 전파되지 않음
+     */
+    private void publishChanged(Member member, ChangeType type) {
+        eventPublisher.publishEvent(
+                new MemberChangedEvent(member.getId(), type, member.getAuthVersion())
+        );
+    }
+
+    /**
+     * 통계용 가입/상태 변경 이벤트 발행 (MemberStatsService가 같은 트랜잭션에서 카운터 증감)
+     *
+     * @param before 변경 전 집계 상태 (Standing.of로 변경 전에 구해 둠)
      */
-    public List<Member> findBusinessOwners() {
-        return memberRepository.findBusinessOwners();
+    private void publishLifecycle(Member member, MemberLifecycleEvent.Type type, Standing before) {
+        eventPublisher.publishEvent(
+                new MemberLifecycleEvent(member.getId(), type, before, Standing.of(member))
+        );
     }
-}
\ No newline at end of file
+}
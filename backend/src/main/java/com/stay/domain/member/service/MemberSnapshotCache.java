@@ -0,0 +1,166 @@
+package com.stay.domain.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stay.domain.member.dto.MemberSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원 스냅샷 2단계 캐시
+ *
+ * 왜 필요한가?
+ * - 거의 모든 회원 API가 findActiveById로 회원 엔티티 전체를 DB에서 읽음
+ * - 조회 API는 불변 스냅샷으로 충분하므로 캐시해서 MySQL 접근을 없앰
+ *
+ * 구조:
+ * - L1: 서버 메모리 (Caffeine, 짧은 TTL) → 네트워크 왕복 없음
+ * - L2: Redis (member:snapshot:{id}, JSON) → 서버끼리 공유, 재시작해도 유지
+ * - 둘 다 없으면 DB에서 읽어 L2, L1 순으로 채움 (같은 회원 동시 요청은 한 번만 로드)
+ *
+ * 무효화:
+ * - MemberService의 변경 메서드가 evict() 호출 (write-through 무효화)
+ * - 트랜잭션 안이면 커밋 직후에 한 번 더 무효화
+ *   (커밋 전에 다른 요청이 예전 값을 다시 캐시하는 경우 방지)
+ * - Redis Pub/Sub(member:snapshot:evict)로 다른 서버의 L1도 무효화
+ * - 메시지를 놓쳐도 L1 TTL이 지나면 L2/DB에서 다시 읽음
+ */
+@Slf4j
+@Component
+public class MemberSnapshotCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "member:snapshot:";
+    private static final String CHANNEL = "member:snapshot:evict";
+    private static final String METRIC_NAME = "member.snapshot";
+
+    private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(60);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, MemberSnapshot> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .recordStats()
+            .build();
+
+    public MemberSnapshotCache(RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 캐시 적중률을 메트릭으로 노출 (member.snapshot.*)
+     */
+    @Autowired(required = false)
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, METRIC_NAME);
+    }
+
+    /**
+     * L1 → L2 → DB 순으로 조회
+     *
+     * @param memberId 회원 ID
+     * @param loader   캐시에 없을 때 DB에서 스냅샷을 만드는 함수 (예외는 그대로 전파, 캐시 안 함)
+     */
+    public MemberSnapshot get(Long memberId, Function<Long, MemberSnapshot> loader) {
+        return localCache.get(memberId, id -> {
+            MemberSnapshot cached = readRedis(id);
+            if (cached != null) {
+                return cached;
+            }
+            MemberSnapshot loaded = loader.apply(id);
+            writeRedis(loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 스냅샷 무효화 (회원 정보 변경 시)
+     */
+    public void evict(Long memberId) {
+        evictNow(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(memberId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 수신 (L1만 지움, L2는 발행한 쪽이 이미 지움)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 스냅샷 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void evictNow(Long memberId) {
+        localCache.invalidate(memberId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + memberId);
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("회원 스냅샷 무효화 전파 실패 - memberId: {}, reason: {}", memberId, e.getMessage());
+        }
+    }
+
+    private MemberSnapshot readRedis(Long memberId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            return json != null ? objectMapper.readValue(json, MemberSnapshot.class) : null;
+        } catch (Exception e) {
+            // Redis 장애/형식 변경 시 DB에서 읽음
+            log.debug("회원 스냅샷 L2 조회 실패 - memberId: {}, reason: {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(MemberSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + snapshot.id(), objectMapper.writeValueAsString(snapshot), REDIS_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("회원 스냅샷 직렬화 실패 - memberId: {}", snapshot.id(), e);
+        } catch (Exception e) {
+            log.debug("회원 스냅샷 L2 저장 실패 - memberId: {}, reason: {}", snapshot.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.MemberDailyStats;
+import com.stay.domain.member.dto.MemberStats;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회원 통계 (카운터를 변경 시점에 증감)
+ *
+ * 왜 필요한가?
+ * - 기존: 대시보드가 열릴 때마다 members 전체 COUNT / GROUP BY (회원 수에 비례)
+ * - 카운터를 미리 맞춰 두면 대시보드 조회는 고정된 키 몇 개만 읽음
+ *
+ * 동작:
+ * - MemberLifecycleEvent를 받아서 트랜잭션 커밋 직전에 카운터 증감 (회원 변경과 같이 커밋/롤백)
+ * - 키마다 슬롯 SLOTS개 중 하나에 더함 → 가입이 몰려도 한 행에 잠금 대기가 줄을 서지 않음
+ * - 날짜별 이벤트 수는 day:{날짜}:{종류} 키로 쌓고, 매일 전날 것을 member_daily_stats로 롤업
+ * - 정기 대사(reconcile)로 members 실제 값과 비교해서 어긋난 만큼 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    static final int SLOTS = 16;
+
+    static final String ACTIVE = "active";
+    private static final String DAY_PREFIX = "day:";
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private static final String ROLLUP_LOCK_KEY = "member:stats:rollup:lock";
+    private static final String RECONCILE_LOCK_KEY = "member:stats:reconcile:lock";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO member_stat_counters (stat_key, slot, value) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE value = value + VALUES(value)";
+
+    private static final String UPSERT_DAILY_SQL =
+            "INSERT INTO member_daily_stats "
+                    + "(stat_date, signups, deactivations, reactivations, deletions, active_members, rolled_up_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE signups = signups + VALUES(signups), "
+                    + "deactivations = deactivations + VALUES(deactivations), "
+                    + "reactivations = reactivations + VALUES(reactivations), "
+                    + "deletions = deletions + VALUES(deletions), "
+                    + "active_members = COALESCE(VALUES(active_members), active_members), "
+                    + "rolled_up_at = VALUES(rolled_up_at)";
+
+    /**
+     * 날짜별 이벤트 종류 (키 접미사)
+     */
+    private static final List<String> DAILY_KINDS = List.of("signups", "deactivations", "reactivations", "deletions");
+
+    /**
+     * 현재 값 카운터 키 (active, role:*, grade:*)
+     */
+    private static final List<String> GAUGE_KEYS = gaugeKeys();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ==================== 이벤트 → 카운터 ====================
+
+    /**
+     * 회원 변경 이벤트 반영
+     *
+     * 트랜잭션 안이면 커밋 직전에 한 번에 씀 (등급 배치처럼 한 트랜잭션에 이벤트가 많아도 UPSERT는 키 수만큼)
+     */
+    @EventListener
+    public void onLifecycle(MemberLifecycleEvent event) {
+        Map<String, Long> deltas = deltas(event);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(deltas);
+            return;
+        }
+        PendingCounters pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingCounters.class::isInstance)
+                .map(PendingCounters.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingCounters created = new PendingCounters();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        deltas.forEach((key, delta) -> pending.deltas.merge(key, delta, Long::sum));
+    }
+
+    /**
+     * 트랜잭션 하나에서 모은 증감 (트랜잭션마다 따로 등록되므로 REQUIRES_NEW와 섞이지 않음)
+     */
+    private final class PendingCounters implements TransactionSynchronization {
+
+        // 키 순서로 쓰기 → 트랜잭션끼리 같은 순서로 잠가서 교착 상태 없음
+        private final Map<String, Long> deltas = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(deltas);
+        }
+    }
+
+    /**
+     * 이벤트 하나의 카운터 증감 (변경 전 상태 -1, 변경 후 상태 +1, 날짜별 이벤트 +1)
+     */
+    static Map<String, Long> deltas(MemberLifecycleEvent event) {
+        Map<String, Long> deltas = new TreeMap<>();
+        Standing before = event.before();
+        Standing after = event.after();
+
+        if (!Objects.equals(before, after)) {
+            if (before != null) {
+                addStanding(deltas, before, -1);
+            }
+            if (after != null) {
+                addStanding(deltas, after, 1);
+            }
+            deltas.values().removeIf(delta -> delta == 0);
+        }
+
+        // 실제로 상태가 바뀐 경우만 날짜별 이벤트로 셈 (이미 비활성인 회원 비활성화 등은 제외)
+        String kind = switch (event.type()) {
+            case REGISTERED -> "signups";
+            case DELETED -> "deletions";
+            case DEACTIVATED -> before != null && after == null ? "deactivations" : null;
+            case ACTIVATED -> before == null && after != null ? "reactivations" : null;
+            case GRADE_CHANGED, ROLE_CHANGED -> null;
+        };
+        if (kind != null) {
+            deltas.put(dayKey(event.date(), kind), 1L);
+        }
+        return deltas;
+    }
+
+    private void write(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> rows.add(new Object[]{key, slot, delta}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 현재 통계 (고정된 키만 기본 키로 읽음 → 회원 수와 무관)
+     */
+    public MemberStats current() {
+        LocalDate today = LocalDate.now();
+        List<String> keys = new ArrayList<>(GAUGE_KEYS);
+        DAILY_KINDS.forEach(kind -> keys.add(dayKey(today, kind)));
+        Map<String, Long> values = sum(keys);
+
+        Map<MemberRole, Long> byRole = new EnumMap<>(MemberRole.class);
+        for (MemberRole role : MemberRole.values()) {
+            byRole.put(role, values.getOrDefault("role:" + role.name(), 0L));
+        }
+        Map<MemberGrade, Long> byGrade = new EnumMap<>(MemberGrade.class);
+        for (MemberGrade grade : MemberGrade.values()) {
+            byGrade.put(grade, values.getOrDefault("grade:" + grade.name(), 0L));
+        }
+        return new MemberStats(values.getOrDefault(ACTIVE, 0L), byRole, byGrade, dailyFrom(today, values, null));
+    }
+
+    /**
+     * 활성 회원 수
+     */
+    public long countActiveMembers() {
+        return sum(List.of(ACTIVE)).getOrDefault(ACTIVE, 0L);
+    }
+
+    /**
+     * 날짜별 통계 (롤업된 날짜 + 아직 롤업 전인 날짜, 빈 날짜는 0)
+     *
+     * @throws IllegalArgumentException 기간이 잘못됐거나 366일 초과
+     */
+    public List<MemberDailyStats> daily(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("통계 기간은 1~" + MAX_RANGE_DAYS + "일이어야 합니다.");
+        }
+
+        Map<LocalDate, MemberDailyStats> byDate = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT stat_date, signups, deactivations, reactivations, deletions, active_members "
+                        + "FROM member_daily_stats WHERE stat_date BETWEEN ? AND ?",
+                rs -> {
+                    LocalDate date = rs.getDate("stat_date").toLocalDate();
+                    long active = rs.getLong("active_members");
+                    byDate.put(date, new MemberDailyStats(date, rs.getLong("signups"), rs.getLong("deactivations"),
+                            rs.getLong("reactivations"), rs.getLong("deletions"), rs.wasNull() ? null : active));
+                },
+                Date.valueOf(from), Date.valueOf(to));
+
+        // 롤업 전 날짜 카운터 (기본 키 범위)
+        Map<String, Long> pending = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT stat_key, value FROM member_stat_counters WHERE stat_key >= ? AND stat_key < ?",
+                rs -> {
+                    pending.merge(rs.getString("stat_key"), rs.getLong("value"), Long::sum);
+                },
+                DAY_PREFIX + from, DAY_PREFIX + to.plusDays(1));
+
+        List<MemberDailyStats> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            result.add(dailyFrom(date, pending, byDate.get(date)));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 가입자 수 (양 끝 날짜 포함)
+     */
+    public long countSignupsBetween(LocalDate from, LocalDate to) {
+        return daily(from, to).stream().mapToLong(MemberDailyStats::signups).sum();
+    }
+
+    // ==================== 롤업 ====================
+
+    /**
+     * 매일 자정 직후 전날까지의 날짜별 카운터를 member_daily_stats로 롤업
+     */
+    @Scheduled(cron = "${member.stats.rollup-cron:0 5 0 * * *}")
+    public void rollupScheduled() {
+        runLocked(ROLLUP_LOCK_KEY, () -> rollup(LocalDate.now()));
+    }
+
+    /**
+     * today 이전 날짜의 카운터를 롤업하고 카운터 행 삭제
+     *
+     * @return 롤업한 날짜 수
+     */
+    public int rollup(LocalDate today) {
+        List<String> keys = jdbcTemplate.queryForList(
+                "SELECT DISTINCT stat_key FROM member_stat_counters WHERE stat_key >= ? AND stat_key < ?",
+                String.class, DAY_PREFIX, DAY_PREFIX + today);
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (String key : keys) {
+            dates.add(LocalDate.parse(key.substring(DAY_PREFIX.length(), DAY_PREFIX.length() + 10)));
+        }
+
+        LocalDate yesterday = today.minusDays(1);
+        for (LocalDate date : dates) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<String> dayKeys = DAILY_KINDS.stream().map(kind -> dayKey(date, kind)).toList();
+                Map<String, Long> values = new HashMap<>();
+                jdbcTemplate.query(
+                        "SELECT stat_key, value FROM member_stat_counters WHERE stat_key IN ("
+                                + placeholders(dayKeys.size()) + ") FOR UPDATE",
+                        rs -> {
+                            values.merge(rs.getString("stat_key"), rs.getLong("value"), Long::sum);
+                        },
+                        dayKeys.toArray());
+
+                // 활성 회원 수 스냅샷은 전날 것만 의미 있음 (밀린 날짜는 비워 둠)
+                Long active = date.equals(yesterday) ? countActiveMembers() : null;
+                jdbcTemplate.update(UPSERT_DAILY_SQL, Date.valueOf(date),
+                        values.getOrDefault(dayKeys.get(0), 0L), values.getOrDefault(dayKeys.get(1), 0L),
+                        values.getOrDefault(dayKeys.get(2), 0L), values.getOrDefault(dayKeys.get(3), 0L),
+                        active, Timestamp.valueOf(LocalDateTime.now()));
+                jdbcTemplate.update("DELETE FROM member_stat_counters WHERE stat_key IN ("
+                        + placeholders(dayKeys.size()) + ")", dayKeys.toArray());
+            });
+        }
+        if (!dates.isEmpty()) {
+            log.info("회원 통계 롤업 완료 - 날짜: {}", dates);
+        }
+        return dates.size();
+    }
+
+    // ==================== 대사 ====================
+
+    /**
+     * 매일 새벽 members 실제 값과 카운터 대사
+     */
+    @Scheduled(cron = "${member.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcileScheduled() {
+        runLocked(RECONCILE_LOCK_KEY, this::reconcile);
+    }
+
+    /**
+     * 활성/역할별/등급별 카운터를 members 집계와 비교해서 보정
+     *
+     * 카운터 행을 먼저 잠그고 집계 → 진행 중인 트랜잭션의 증감은 보정 뒤에 더해지고,
+     * 그 트랜잭션의 회원 변경은 집계에 보이지 않으므로 이중 반영이 없다.
+     * 집계하는 동안 가입/탈퇴 커밋이 잠시 대기하므로 한가한 시간에 실행한다.
+     *
+     * @return 키별 보정량 (실제 - 카운터, 어긋난 키만)
+     */
+    public Map<String, Long> reconcile() {
+        Map<String, Long> drift = transactionTemplate.execute(status -> {
+            Map<String, Long> cached = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT stat_key, value FROM member_stat_counters WHERE stat_key NOT LIKE 'day:%' FOR UPDATE",
+                    rs -> {
+                        cached.merge(rs.getString("stat_key"), rs.getLong("value"), Long::sum);
+                    });
+
+            Map<String, Long> actual = new TreeMap<>();
+            GAUGE_KEYS.forEach(key -> actual.put(key, 0L));
+            jdbcTemplate.query(
+                    "SELECT role, grade, COUNT(*) AS members FROM members "
+                            + "WHERE is_active = TRUE AND deleted_at IS NULL GROUP BY role, grade",
+                    rs -> {
+                        long count = rs.getLong("members");
+                        actual.merge(ACTIVE, count, Long::sum);
+                        actual.merge("role:" + rs.getString("role"), count, Long::sum);
+                        actual.merge("grade:" + rs.getString("grade"), count, Long::sum);
+                    });
+            cached.keySet().forEach(key -> actual.putIfAbsent(key, 0L));
+
+            Map<String, Long> differences = new TreeMap<>();
+            actual.forEach((key, value) -> {
+                long difference = value - cached.getOrDefault(key, 0L);
+                if (difference != 0) {
+                    differences.put(key, difference);
+                }
+            });
+            if (!differences.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>(differences.size());
+                differences.forEach((key, difference) -> rows.add(new Object[]{key, 0, difference}));
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            }
+            return differences;
+        });
+
+        if (drift == null || drift.isEmpty()) {
+            log.info("회원 통계 대사 완료 - 불일치 없음");
+            return Map.of();
+        }
+        log.warn("회원 통계 대사 보정 - {}", drift);
+        return drift;
+    }
+
+    // ==================== 내부 ====================
+
+    private Map<String, Long> sum(List<String> keys) {
+        Map<String, Long> values = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT stat_key, value FROM member_stat_counters WHERE stat_key IN (" + placeholders(keys.size()) + ")",
+                rs -> {
+                    values.merge(rs.getString("stat_key"), rs.getLong("value"), Long::sum);
+                },
+                keys.toArray());
+        return values;
+    }
+
+    /**
+     * 롤업된 값 + 아직 카운터에 남은 값
+     */
+    private static MemberDailyStats dailyFrom(LocalDate date, Map<String, Long> counters, MemberDailyStats rolledUp) {
+        long[] values = new long[DAILY_KINDS.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counters.getOrDefault(dayKey(date, DAILY_KINDS.get(i)), 0L);
+        }
+        if (rolledUp == null) {
+            return new MemberDailyStats(date, values[0], values[1], values[2], values[3], null);
+        }
+        return new MemberDailyStats(date,
+                rolledUp.signups() + values[0], rolledUp.deactivations() + values[1],
+                rolledUp.reactivations() + values[2], rolledUp.deletions() + values[3],
+                rolledUp.activeMembers());
+    }
+
+    private void runLocked(String lockKey, Runnable job) {
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(lockKey, "1", Duration.ofHours(1));
+        } catch (Exception e) {
+            log.warn("회원 통계 작업 락 획득 실패, 이번 주기 건너뜀 - key: {}, reason: {}", lockKey, e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("다른 서버에서 회원 통계 작업 실행 중 - key: {}", lockKey);
+            return;
+        }
+        try {
+            job.run();
+        } finally {
+            try {
+                redisTemplate.delete(lockKey);
+            } catch (Exception e) {
+                log.debug("회원 통계 작업 락 해제 실패 - key: {}, reason: {}", lockKey, e.getMessage());
+            }
+        }
+    }
+
+    private static void addStanding(Map<String, Long> deltas, Standing standing, long delta) {
+        deltas.merge(ACTIVE, delta, Long::sum);
+        deltas.merge("role:" + standing.role().name(), delta, Long::sum);
+        deltas.merge("grade:" + standing.grade().name(), delta, Long::sum);
+    }
+
+    static String dayKey(LocalDate date, String kind) {
+        return DAY_PREFIX + date + ":" + kind;
+    }
+
+    private static List<String> gaugeKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(ACTIVE);
+        for (MemberRole role : MemberRole.values()) {
+            keys.add("role:" + role.name());
+        }
+        for (MemberGrade grade : MemberGrade.values()) {
+            keys.add("grade:" + grade.name());
+        }
+        return List.copyOf(keys);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
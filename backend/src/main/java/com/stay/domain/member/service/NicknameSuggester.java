@@ -0,0 +1,382 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 닉네임 추천 (이미 사용 중인 닉네임일 때 비슷하면서 사용 가능한 닉네임 제안)
+ *
+ * 왜 필요한가?
+ * - 중복이면 "이미 사용 중인 닉네임입니다."만 보여줘서 사용자가 여러 번 다시 입력
+ * - 후보마다 DB exists를 날리면 추천 한 번에 쿼리 수십 번
+ * - 사용 중인 닉네임 전체를 서버 메모리 압축 트라이에 두고 후보를 DB 없이 걸러냄
+ *
+ * 후보 순서 (앞쪽일수록 원래 닉네임과 가까움):
+ * 1. 한글 글자 붙이기 (멋진닉네임 → 멋진닉네임짱)
+ * 2. 숫자 한 자리 붙이기 (멋진닉네임1)
+ * 3. 언더스코어 붙이기 (멋진닉네임_)
+ * 4. 영문 → 비슷한 숫자 바꾸기 (stay → st4y)
+ * 5. 마지막 글자 받침 바꾸기 (멋진닉네임 → 멋진닉네이)
+ * 6. 숫자 두세 자리 붙이기
+ * 8자를 넘으면 앞부분을 잘라 맞추고, 모든 후보는 Member의 닉네임 규칙으로 다시 검증한다.
+ *
+ * 유지:
+ * - 서버 시작 시, 그리고 member.nickname.suggestion.rebuild-interval마다 DB에서 다시 만듦
+ * - 가입/닉네임 변경은 커밋 후 반영하고 Redis Pub/Sub으로 다른 서버 트라이에도 반영
+ *
+ * 화면용 추천이다. 선택한 닉네임도 저장할 때 DB exists + UNIQUE 제약으로 다시 검증한다.
+ */
+@Slf4j
+@Component
+public class NicknameSuggester implements MessageListener {
+
+    private static final String CHANNEL = "nickname:changed";
+    private static final Pattern NICKNAME_PATTERN = Pattern.compile(Member.NICKNAME_PATTERN);
+    private static final Pattern INVALID_CHARS = Pattern.compile("[^가-힣a-zA-Z0-9_]");
+
+    private static final String[] HANGUL_SUFFIXES = {"짱", "님", "왕", "이"};
+    private static final String DIGIT_LOOKALIKES = "o0i1l1z2e3a4s5b8g9";
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int[] JONGSEONG_VARIANTS = {4, 8, 16, 21};  // ㄴ, ㄹ, ㅁ, ㅇ
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate transactionTemplate;
+    private final int suggestionCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 내가 보낸 변경 메시지를 다시 반영하지 않기 위한 서버 식별자
+     * (늦게 도착한 내 메시지가 그 사이 바뀐 닉네임을 되돌리지 않도록)
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 사용 중인 닉네임 (소문자, 재생성 시 통째로 교체, 아직 없으면 추천하지 않음)
+     */
+    private NicknameTrie trie;
+
+    /**
+     * 재생성 중에 들어온 변경 (새 트라이에 다시 반영)
+     */
+    private boolean rebuilding;
+    private final Queue<String[]> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    public NicknameSuggester(MemberRepository memberRepository,
+                             RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${member.nickname.suggestion.count:5}") int suggestionCount) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.transactionTemplate = transactionTemplate;
+        this.suggestionCount = suggestionCount;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // ==================== 추천 ====================
+
+    /**
+     * 사용 가능한 닉네임 추천
+     *
+     * @param nickname 사용자가 입력한 (이미 사용 중인) 닉네임
+     * @return 원래 닉네임과 가까운 순서의 사용 가능한 닉네임 (트라이가 아직 없으면 빈 목록)
+     */
+    public List<String> suggest(String nickname) {
+        if (nickname == null) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (trie == null) {
+                return List.of();
+            }
+            List<String> suggestions = new ArrayList<>(suggestionCount);
+            for (String candidate : candidates(nickname)) {
+                if (isValid(candidate) && !trie.contains(normalize(candidate))) {
+                    suggestions.add(candidate);
+                    if (suggestions.size() == suggestionCount) {
+                        break;
+                    }
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 추천 후보 생성 (순서가 곧 추천 순위, 사용 여부는 보지 않음)
+     */
+    static Set<String> candidates(String nickname) {
+        String base = INVALID_CHARS.matcher(nickname.trim()).replaceAll("");
+        Set<String> candidates = new LinkedHashSet<>();
+        if (base.isEmpty()) {
+            return candidates;
+        }
+
+        // 1. 한글 글자 붙이기 (한글 닉네임일 때만 자연스러움)
+        if (isHangul(base.charAt(base.length() - 1))) {
+            for (String suffix : HANGUL_SUFFIXES) {
+                candidates.add(fit(base, suffix));
+            }
+        }
+
+        // 2. 숫자 한 자리
+        for (int digit = 1; digit <= 9; digit++) {
+            candidates.add(fit(base, String.valueOf(digit)));
+        }
+
+        // 3. 언더스코어
+        candidates.add(fit(base, "_"));
+
+        // 4. 영문 → 비슷한 숫자 (한 글자씩)
+        String fitted = fit(base, "");
+        for (int i = 0; i < fitted.length(); i++) {
+            char replacement = lookalikeDigit(fitted.charAt(i));
+            if (replacement != 0) {
+                candidates.add(fitted.substring(0, i) + replacement + fitted.substring(i + 1));
+            }
+        }
+
+        // 5. 마지막 글자 받침 바꾸기
+        char last = fitted.charAt(fitted.length() - 1);
+        if (isHangul(last)) {
+            String head = fitted.substring(0, fitted.length() - 1);
+            int syllable = last - HANGUL_BASE;
+            int jongseong = syllable % JONGSEONG_COUNT;
+            int open = syllable - jongseong;  // 받침 없는 글자
+            if (jongseong != 0) {
+                candidates.add(head + (char) (HANGUL_BASE + open));
+            }
+            for (int variant : JONGSEONG_VARIANTS) {
+                if (variant != jongseong) {
+                    candidates.add(head + (char) (HANGUL_BASE + open + variant));
+                }
+            }
+        }
+
+        // 6. 숫자 두세 자리 (앞 후보가 모두 사용 중일 때 대비)
+        for (int number = 10; number <= 999; number++) {
+            candidates.add(fit(base, String.valueOf(number)));
+        }
+
+        candidates.remove(base);
+        return candidates;
+    }
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 닉네임 사용 시작 (가입) - 트랜잭션 안이면 커밋 후 반영
+     */
+    public void recordAdded(String nickname) {
+        recordChanged(null, nickname);
+    }
+
+    /**
+     * 닉네임 변경 (이전 닉네임 반환 + 새 닉네임 사용) - 트랜잭션 안이면 커밋 후 반영
+     */
+    public void recordChanged(String previous, String current) {
+        String removed = normalizeOrEmpty(previous);
+        String added = normalizeOrEmpty(current);
+        if (removed.equals(added)) {
+            return;
+        }
+        afterCommit(() -> {
+            apply(removed, added);
+            try {
+                // '|'는 닉네임에 쓸 수 없는 문자라 구분자로 안전
+                redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + removed + "|" + added);
+            } catch (Exception e) {
+                log.warn("닉네임 변경 전파 실패 - reason: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 다른 서버의 닉네임 변경 수신 ("{서버}|{이전}|{새}", 닉네임이 없으면 빈 문자열)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", -1);
+        if (parts.length != 3) {
+            log.warn("잘못된 닉네임 변경 메시지 - body: {}", body);
+            return;
+        }
+        if (!nodeId.equals(parts[0])) {
+            apply(parts[1], parts[2]);
+        }
+    }
+
+    // ==================== 재생성 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 트라이 재생성 (전파가 유실됐어도 주기적으로 맞춰짐)
+     */
+    @Scheduled(initialDelayString = "${member.nickname.suggestion.rebuild-interval:21600000}",
+            fixedDelayString = "${member.nickname.suggestion.rebuild-interval:21600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            NicknameTrie rebuilt = new NicknameTrie();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> nicknames = memberRepository.streamAllNicknames()) {
+                    nicknames.forEach(nickname -> rebuilt.add(normalize(nickname)));
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                // 재생성 중에 들어온 변경은 새 트라이에도 반영
+                for (String[] change : changedDuringRebuild) {
+                    applyTo(rebuilt, change[0], change[1]);
+                }
+                trie = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("닉네임 트라이 재생성 완료 - 닉네임: {}건, {}ms",
+                    rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 기존 트라이 유지 (처음이면 추천 없이 동작)
+            log.warn("닉네임 트라이 재생성 실패 - reason: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    void apply(String removed, String added) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(new String[]{removed, added});
+            }
+            if (trie != null) {
+                applyTo(trie, removed, added);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void applyTo(NicknameTrie target, String removed, String added) {
+        if (!removed.isEmpty()) {
+            target.remove(removed);
+        }
+        if (!added.isEmpty()) {
+            target.add(added);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 뒤에 붙일 글자가 들어가도록 앞부분을 잘라 최대 길이에 맞춤
+     */
+    private static String fit(String base, String suffix) {
+        int room = Member.NICKNAME_MAX_LENGTH - suffix.length();
+        return (base.length() > room ? base.substring(0, room) : base) + suffix;
+    }
+
+    private static char lookalikeDigit(char c) {
+        int index = DIGIT_LOOKALIKES.indexOf(Character.toLowerCase(c));
+        return index >= 0 && index % 2 == 0 ? DIGIT_LOOKALIKES.charAt(index + 1) : 0;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isValid(String candidate) {
+        return candidate.length() >= Member.NICKNAME_MIN_LENGTH
+                && candidate.length() <= Member.NICKNAME_MAX_LENGTH
+                && NICKNAME_PATTERN.matcher(candidate).matches();
+    }
+
+    /**
+     * MySQL 기본 정렬 규칙처럼 대소문자 무시
+     */
+    private static String normalize(String nickname) {
+        return nickname.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeOrEmpty(String nickname) {
+        return nickname == null ? "" : normalize(nickname);
+    }
+}
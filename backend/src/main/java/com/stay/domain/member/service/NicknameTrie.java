@@ -0,0 +1,146 @@
+package com.stay.domain.member.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용 중인 닉네임 압축 트라이 (radix tree)
+ *
+ * 왜 압축 트라이인가?
+ * - 추천 후보("멋진닉네임1", "멋진닉네임2" ...)는 대부분 같은 접두어를 공유
+ * - 공통 접두어를 간선 하나로 합쳐서 HashSet보다 적은 메모리로 저장
+ *
+ * 스레드 안전하지 않음 (NicknameSuggester가 읽기/쓰기 락으로 감쌈)
+ */
+class NicknameTrie {
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * 닉네임 추가
+     *
+     * @return 새로 추가됐으면 true
+     */
+    boolean add(String nickname) {
+        Node node = root;
+        String rest = nickname;
+
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                Node leaf = new Node(rest);
+                leaf.terminal = true;
+                node.children.put(rest.charAt(0), leaf);
+                size++;
+                return true;
+            }
+
+            int common = commonPrefixLength(child.label, rest);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라짐 → 간선 분할
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+
+            node = child;
+            rest = rest.substring(common);
+        }
+
+        if (node.terminal || node == root) {
+            return false;
+        }
+        node.terminal = true;
+        size++;
+        return true;
+    }
+
+    /**
+     * 닉네임 제거 (필요 없어진 간선은 합침)
+     *
+     * @return 있어서 제거했으면 true
+     */
+    boolean remove(String nickname) {
+        Node parent = null;
+        Node node = root;
+        String rest = nickname;
+
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return false;
+            }
+            parent = node;
+            node = child;
+            rest = rest.substring(child.label.length());
+        }
+
+        if (!node.terminal || parent == null) {
+            return false;
+        }
+        node.terminal = false;
+        size--;
+
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            // 부모가 자식 하나만 남은 중간 노드가 되면 합침
+            if (parent != root && !parent.terminal && parent.children.size() == 1) {
+                merge(parent);
+            }
+        } else if (node.children.size() == 1) {
+            merge(node);
+        }
+        return true;
+    }
+
+    boolean contains(String nickname) {
+        Node node = root;
+        String rest = nickname;
+
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return false;
+            }
+            node = child;
+            rest = rest.substring(child.label.length());
+        }
+        return node.terminal && node != root;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 자식 하나뿐인 중간 노드를 자식과 합침 (부모의 간선 맵 키는 첫 글자라 그대로 유효)
+     */
+    private void merge(Node node) {
+        Node only = node.children.values().iterator().next();
+        node.label = node.label + only.label;
+        node.terminal = only.terminal;
+        node.children = only.children;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private String label;
+        private boolean terminal;
+        private Map<Character, Node> children = new HashMap<>(4);
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.stay.domain.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 포인트 소멸 배치 (소멸일 버킷 단위)
+ *
+ * 왜 필요한가?
+ * - 적립 포인트는 유효기간(member.points.validity-days)이 지나면 소멸해야 함
+ * - 매일 밤 전체 회원을 훑으면 회원 수에 비례해서 느려짐
+ *
+ * 동작:
+ * - 적립 묶음(point_lots)은 소멸일(expires_on) 인덱스로 날짜 버킷이 나뉘어 있음
+ * - 한 번 실행에 소멸일이 지난 가장 오래된 버킷 하나만 처리 (MIN(expires_on)은 인덱스 한 번 조회)
+ * - 버킷 안에서는 묶음 ID 순 청크(member.point-expiry.chunk-size)마다 한 트랜잭션:
+ *   회원 행 잠금 → 묶음 잠금 → 회원 잔액 차감(배치) → EXPIRE 원장(배치) → 묶음 삭제
+ * - 처리한 묶음은 삭제되므로 중단돼도 다음 실행이 남은 묶음부터 이어서 처리
+ *
+ * 실행 주기(기본 10분)마다 버킷 하나씩 처리하므로 밀린 날짜가 있어도 차례로 따라잡는다.
+ * 잠금 순서(회원 → 묶음)는 PointLedgerService의 사용과 같아서 교착 상태가 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class PointExpiryEngine {
+
+    private static final String LOCK_KEY = "member:point-expiry:lock";
+
+    private static final String INSERT_EXPIRE_SQL =
+            "INSERT INTO point_transactions "
+                    + "(member_id, type, amount, balance_after, idempotency_key, reason, created_at) "
+                    + "VALUES (?, 'EXPIRE', ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int chunkSize;
+
+    public PointExpiryEngine(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             MemberSnapshotCache memberSnapshotCache,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Value("${member.point-expiry.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 버킷 처리 결과
+     *
+     * @param bucket  처리한 소멸일
+     * @param lots    소멸 처리한 묶음 수
+     * @param members 포인트가 소멸된 회원 수
+     * @param points  소멸된 포인트 합계
+     * @param elapsed 걸린 시간
+     */
+    public record Result(
+            LocalDate bucket,
+            int lots,
+            int members,
+            long points,
+            Duration elapsed
+    ) {
+    }
+
+    record ExpiringLot(long lotId, long memberId, int remaining) {
+    }
+
+    /**
+     * 주기적으로 버킷 하나 처리 (서버 여러 대 중 락을 잡은 한 대만)
+     */
+    @Scheduled(cron = "${member.point-expiry.cron:0 */10 * * * *}")
+    public void runScheduled() {
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofHours(1));
+        } catch (Exception e) {
+            log.warn("포인트 소멸 락 획득 실패, 이번 주기 건너뜀 - reason: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("다른 서버에서 포인트 소멸 실행 중 - 건너뜀");
+            return;
+        }
+        try {
+            expireNextBucket(LocalDate.now());
+        } finally {
+            try {
+                redisTemplate.delete(LOCK_KEY);
+            } catch (Exception e) {
+                log.debug("포인트 소멸 락 해제 실패 - reason: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 소멸일이 today 이하인 가장 오래된 버킷 하나 처리
+     *
+     * @return 처리한 버킷 결과 (소멸할 묶음이 없으면 empty)
+     */
+    public Optional<Result> expireNextBucket(LocalDate today) {
+        Date bucket = jdbcTemplate.queryForObject(
+                "SELECT MIN(expires_on) FROM point_lots WHERE expires_on <= ?", Date.class, Date.valueOf(today));
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        return Optional.of(expireBucket(bucket.toLocalDate()));
+    }
+
+    /**
+     * 버킷 하나를 청크 단위로 끝까지 처리
+     */
+    Result expireBucket(LocalDate bucket) {
+        long start = System.currentTimeMillis();
+        int lots = 0;
+        Set<Long> members = new LinkedHashSet<>();
+        long points = 0;
+
+        while (true) {
+            List<Long> lotIds = jdbcTemplate.queryForList(
+                    "SELECT point_lot_id FROM point_lots WHERE expires_on = ? ORDER BY point_lot_id LIMIT ?",
+                    Long.class, Date.valueOf(bucket), chunkSize);
+            if (lotIds.isEmpty()) {
+                break;
+            }
+            List<ExpiringLot> expired = expireChunk(bucket, lotIds);
+            lots += lotIds.size();
+            for (ExpiringLot lot : expired) {
+                members.add(lot.memberId());
+                points += lot.remaining();
+            }
+        }
+
+        Result result = new Result(bucket, lots, members.size(), points,
+                Duration.ofMillis(System.currentTimeMillis() - start));
+        log.info("포인트 소멸 완료 - bucket: {}, 묶음: {}개, 회원: {}명, 포인트: {}, {}ms",
+                bucket, result.lots(), result.members(), result.points(), result.elapsed().toMillis());
+        return result;
+    }
+
+    /**
+     * 청크 하나 처리 (회원 차감 + 원장 + 묶음 삭제를 한 트랜잭션으로)
+     *
+     * @return 실제로 포인트가 소멸된 묶음 (소멸량 기준)
+     */
+    private List<ExpiringLot> expireChunk(LocalDate bucket, List<Long> lotIds) {
+        return transactionTemplate.execute(status -> {
+            String lotPlaceholders = placeholders(lotIds.size());
+
+            // 잠그기 전에 읽은 묶음의 회원 → 회원 행부터 ID 순으로 잠금 (사용 요청과 같은 순서)
+            List<Long> memberIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT member_id FROM point_lots WHERE point_lot_id IN (" + lotPlaceholders + ")",
+                    Long.class, lotIds.toArray());
+            if (memberIds.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, Integer> balances = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT member_id, points FROM members WHERE member_id IN (" + placeholders(memberIds.size())
+                            + ") ORDER BY member_id FOR UPDATE",
+                    rs -> {
+                        balances.put(rs.getLong("member_id"), rs.getInt("points"));
+                    },
+                    memberIds.toArray());
+
+            // 그사이 사용으로 줄었거나 삭제된 묶음이 있으므로 잠근 뒤 다시 읽음
+            List<ExpiringLot> locked = jdbcTemplate.query(
+                    "SELECT point_lot_id, member_id, remaining FROM point_lots WHERE point_lot_id IN ("
+                            + lotPlaceholders + ") ORDER BY point_lot_id FOR UPDATE",
+                    (rs, rowNum) -> new ExpiringLot(rs.getLong("point_lot_id"), rs.getLong("member_id"),
+                            rs.getInt("remaining")),
+                    lotIds.toArray());
+
+            Map<Long, Integer> running = new HashMap<>(balances);
+            List<ExpiringLot> expired = settle(locked, balances);
+            LocalDateTime now = LocalDateTime.now();
+            String reason = "유효기간 만료 (" + bucket + ")";
+
+            List<Object[]> memberRows = new ArrayList<>();
+            Map<Long, Integer> deducted = new HashMap<>();
+            for (ExpiringLot lot : expired) {
+                deducted.merge(lot.memberId(), lot.remaining(), Integer::sum);
+            }
+            deducted.forEach((memberId, amount) -> memberRows.add(new Object[]{amount, memberId}));
+
+            List<Object[]> ledgerRows = new ArrayList<>(expired.size());
+            for (ExpiringLot lot : expired) {
+                int balance = running.merge(lot.memberId(), -lot.remaining(), Integer::sum);
+                ledgerRows.add(new Object[]{lot.memberId(), -lot.remaining(), balance,
+                        "expire-lot-" + lot.lotId(), reason, Timestamp.valueOf(now)});
+            }
+
+            if (!memberRows.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE members SET points = points - ? WHERE member_id = ?", memberRows);
+                jdbcTemplate.batchUpdate(INSERT_EXPIRE_SQL, ledgerRows);
+            }
+            if (!locked.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM point_lots WHERE point_lot_id = ?",
+                        locked.stream().map(lot -> new Object[]{lot.lotId()}).toList());
+            }
+
+            deducted.keySet().forEach(memberSnapshotCache::evict);
+            return expired;
+        });
+    }
+
+    /**
+     * 묶음별 소멸량 계산 (회원 잔액보다 많이 소멸시키지 않음, 소멸량 0인 묶음은 제외)
+     *
+     * @param lots     잠근 묶음 (묶음 ID 순)
+     * @param balances 잠근 회원 잔액 (계산하면서 차감됨)
+     * @return 소멸량을 remaining에 담은 묶음
+     */
+    static List<ExpiringLot> settle(List<ExpiringLot> lots, Map<Long, Integer> balances) {
+        List<ExpiringLot> expired = new ArrayList<>(lots.size());
+        for (ExpiringLot lot : lots) {
+            int balance = balances.getOrDefault(lot.memberId(), 0);
+            int amount = Math.min(lot.remaining(), Math.max(balance, 0));
+            if (amount > 0) {
+                balances.put(lot.memberId(), balance - amount);
+                expired.add(new ExpiringLot(lot.lotId(), lot.memberId(), amount));
+            }
+        }
+        return expired;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
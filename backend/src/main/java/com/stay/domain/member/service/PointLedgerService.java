@@ -0,0 +1,379 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.PointExpiration;
+import com.stay.domain.member.dto.PointTransaction;
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 포인트 원장 (적립/사용을 원장에 남기고 잔액은 원자적 UPDATE로 변경)
+ *
+ * 왜 필요한가?
+ * - 기존: Member 엔티티를 읽고 points를 바꾼 뒤 커밋 (읽기-수정-쓰기)
+ * - 같은 회원에게 적립/사용이 동시에 오면 한쪽 변경이 덮어써져 사라짐 (lost update)
+ * - 포인트가 왜 이 값인지 추적할 기록도 없음
+ *
+ * 동작:
+ * - 잔액 변경은 UPDATE 한 문장 (사용은 WHERE points >= ?로 부족하면 0건) → DB가 행 단위로 원자성 보장
+ * - 같은 트랜잭션에서 원장(point_transactions)에 변동량 + 반영 후 잔액 추가
+ * - 요청 키(idempotency key)가 회원별로 유일 → 재시도/중복 클릭은 처음 결과를 그대로 돌려줌
+ * - members.points는 원장 합계의 캐시, reconcile()로 원장 기준으로 다시 맞춤
+ *
+ * 유효기간:
+ * - 적립할 때마다 적립 묶음(point_lots)을 만들고 소멸일 = 적립일 + member.points.validity-days
+ * - 사용은 먼저 소멸할 묶음부터 차감 (FIFO), 다 쓴 묶음은 삭제
+ * - 소멸일이 지난 묶음은 PointExpiryEngine이 날짜 버킷 단위로 소멸 처리
+ * - 잠금 순서는 항상 회원 행 → 묶음 (소멸 배치도 같은 순서라 교착 상태 없음)
+ *
+ * 트랜잭션이 짧아서(UPDATE, SELECT, INSERT) 한 회원에게 요청이 몰려도 행 잠금 시간이 짧다.
+ */
+@Slf4j
+@Service
+public class PointLedgerService {
+
+    private static final String ACTIVE = "is_active = TRUE AND deleted_at IS NULL";
+
+    private static final String EARN_SQL =
+            "UPDATE members SET points = points + ? WHERE member_id = ? AND " + ACTIVE;
+
+    private static final String USE_SQL =
+            "UPDATE members SET points = points - ? WHERE member_id = ? AND points >= ? AND " + ACTIVE;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO point_transactions "
+                    + "(member_id, type, amount, balance_after, idempotency_key, reason, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT point_transaction_id, member_id, type, amount, balance_after, idempotency_key, reason, created_at "
+                    + "FROM point_transactions ";
+
+    private static final RowMapper<PointTransaction> ROW_MAPPER = (rs, rowNum) -> new PointTransaction(
+            rs.getLong("point_transaction_id"),
+            rs.getLong("member_id"),
+            PointTransaction.Type.valueOf(rs.getString("type")),
+            rs.getInt("amount"),
+            rs.getInt("balance_after"),
+            rs.getString("idempotency_key"),
+            rs.getString("reason"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private static final String INSERT_LOT_SQL =
+            "INSERT INTO point_lots (member_id, earn_transaction_id, amount, remaining, expires_on, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final int validityDays;
+
+    public PointLedgerService(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              MemberSnapshotCache memberSnapshotCache,
+                              @Value("${member.points.validity-days:365}") int validityDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.validityDays = validityDays;
+    }
+
+    /**
+     * 남은 포인트가 있는 적립 묶음
+     */
+    record Lot(long id, int remaining) {
+    }
+
+    // ==================== 적립/사용 ====================
+
+    /**
+     * 포인트 적립
+     *
+     * @param idempotencyKey 요청 키 (같은 키로 다시 호출하면 처음 결과 반환, null이면 매번 새 요청)
+     */
+    public PointTransaction earn(Long memberId, int amount, String idempotencyKey, String reason) {
+        requireNonNegative(amount);
+        return apply(memberId, PointTransaction.Type.EARN, amount, idempotencyKey, reason);
+    }
+
+    /**
+     * 포인트 사용 (먼저 소멸할 적립 묶음부터 차감)
+     *
+     * @throws MemberException 잔액 부족(INSUFFICIENT_POINTS), 비활성/없는 회원
+     */
+    public PointTransaction use(Long memberId, int amount, String idempotencyKey, String reason) {
+        requireNonNegative(amount);
+        return apply(memberId, PointTransaction.Type.USE, -amount, idempotencyKey, reason);
+    }
+
+    /**
+     * 잔액 변경 + 원장 기록
+     *
+     * @param delta 변동량 (적립 +, 사용/소멸 -)
+     */
+    PointTransaction apply(Long memberId, PointTransaction.Type type, int delta, String idempotencyKey, String reason) {
+        String key = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+
+        // 이미 처리된 요청이면 잔액을 건드리지 않고 처음 결과 반환 (키를 받지 않았으면 새로 만든 키라 조회 불필요)
+        if (idempotencyKey != null) {
+            Optional<PointTransaction> existing = findByKey(memberId, key);
+            if (existing.isPresent()) {
+                return replay(existing.get(), type, delta);
+            }
+        }
+
+        try {
+            PointTransaction transaction = transactionTemplate.execute(status -> {
+                int updated = delta >= 0
+                        ? jdbcTemplate.update(EARN_SQL, delta, memberId)
+                        : jdbcTemplate.update(USE_SQL, -delta, memberId, -delta);
+                if (updated == 0) {
+                    throw rejection(memberId, delta);
+                }
+
+                // UPDATE로 행을 잠근 상태라 다른 트랜잭션의 변경이 끼어들 수 없음
+                Integer balance = jdbcTemplate.queryForObject(
+                        "SELECT points FROM members WHERE member_id = ?", Integer.class, memberId);
+                PointTransaction inserted = insert(memberId, type, delta, balance, key, reason);
+                if (delta > 0) {
+                    addLot(memberId, inserted, delta);
+                } else if (delta < 0) {
+                    consumeLots(memberId, -delta);
+                }
+                return inserted;
+            });
+            memberSnapshotCache.evict(memberId);
+            return transaction;
+        } catch (DuplicateKeyException e) {
+            // 같은 키의 동시 요청: 먼저 커밋된 쪽이 이기고 이쪽은 롤백됨
+            return findByKey(memberId, key)
+                    .map(winner -> replay(winner, type, delta))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // ==================== 조회/대사 ====================
+
+    /**
+     * 오늘부터 days일 안에 소멸하는 포인트 (날짜별 합계, 가까운 날짜부터)
+     *
+     * (member_id, expires_on) 인덱스 범위만 읽음 → 남은 묶음 수에 비례
+     */
+    public List<PointExpiration> findUpcomingExpirations(Long memberId, int days) {
+        LocalDate today = LocalDate.now();
+        return jdbcTemplate.query(
+                "SELECT expires_on, SUM(remaining) AS points FROM point_lots "
+                        + "WHERE member_id = ? AND expires_on >= ? AND expires_on <= ? "
+                        + "GROUP BY expires_on ORDER BY expires_on",
+                (rs, rowNum) -> new PointExpiration(rs.getDate("expires_on").toLocalDate(), rs.getInt("points")),
+                memberId, Date.valueOf(today), Date.valueOf(today.plusDays(days)));
+    }
+
+    /**
+     * 최근 원장 (최신순)
+     */
+    public List<PointTransaction> findRecent(Long memberId, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE member_id = ? ORDER BY point_transaction_id DESC LIMIT ?",
+                ROW_MAPPER, memberId, limit);
+    }
+
+    /**
+     * 캐시된 잔액(members.points)을 원장 합계로 다시 맞춤
+     *
+     * @return 맞추기 전 차이 (캐시 - 원장, 0이면 일치)
+     */
+    public int reconcile(Long memberId) {
+        Integer drift = transactionTemplate.execute(status -> {
+            // 회원 행을 먼저 잠가서 적립/사용과 겹치지 않게 함 (이후 합계는 최신 커밋 기준)
+            Integer cached = jdbcTemplate.queryForObject(
+                    "SELECT points FROM members WHERE member_id = ? FOR UPDATE", Integer.class, memberId);
+            if (cached == null) {
+                throw new MemberException(MemberErrorCode.MEMBER_NOT_FOUND);
+            }
+            Integer ledger = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(amount), 0) FROM point_transactions WHERE member_id = ?",
+                    Integer.class, memberId);
+            int difference = cached - ledger;
+            if (difference != 0) {
+                jdbcTemplate.update("UPDATE members SET points = ? WHERE member_id = ?", ledger, memberId);
+                log.warn("포인트 잔액 불일치 보정 - memberId: {}, cached: {}, ledger: {}", memberId, cached, ledger);
+            }
+            return difference;
+        });
+        if (drift != null && drift != 0) {
+            memberSnapshotCache.evict(memberId);
+        }
+        return drift == null ? 0 : drift;
+    }
+
+    // ==================== 탈퇴 ====================
+
+    /**
+     * 남은 포인트 전부 소멸 (회원 탈퇴)
+     *
+     * 호출한 쪽 트랜잭션에 참여 → 탈퇴 처리와 같이 커밋/롤백
+     * - 회원 행 잠금 → 묶음 삭제 → 잔액 0 + EXPIRE 원장 (잠금 순서는 적립/사용과 같음)
+     * - 원장 합계도 0이 되므로 reconcile()이 잔액을 되살리지 않고, 소멸 배치가 처리할 묶음도 남지 않음
+     *
+     * @return 소멸한 포인트 (0이면 원장 기록 없음)
+     */
+    public int forfeitAll(Long memberId, String reason) {
+        Integer forfeited = transactionTemplate.execute(status -> {
+            List<Integer> balance = jdbcTemplate.query(
+                    "SELECT points FROM members WHERE member_id = ? FOR UPDATE",
+                    (rs, rowNum) -> rs.getInt("points"), memberId);
+            if (balance.isEmpty()) {
+                throw new MemberException(MemberErrorCode.MEMBER_NOT_FOUND);
+            }
+            jdbcTemplate.update("DELETE FROM point_lots WHERE member_id = ?", memberId);
+
+            int points = balance.get(0);
+            if (points > 0) {
+                jdbcTemplate.update("UPDATE members SET points = 0 WHERE member_id = ?", memberId);
+                insert(memberId, PointTransaction.Type.EXPIRE, -points, 0, UUID.randomUUID().toString(), reason);
+            }
+            return points;
+        });
+        memberSnapshotCache.evict(memberId);
+        return forfeited == null ? 0 : forfeited;
+    }
+
+    // ==================== 내부 ====================
+
+    private void addLot(Long memberId, PointTransaction earned, int amount) {
+        jdbcTemplate.update(INSERT_LOT_SQL, memberId, earned.id(), amount, amount,
+                Date.valueOf(earned.createdAt().toLocalDate().plusDays(validityDays)),
+                Timestamp.valueOf(earned.createdAt()));
+    }
+
+    /**
+     * 먼저 소멸할 묶음부터 amount만큼 차감 (회원 행은 UPDATE로 이미 잠금)
+     */
+    private void consumeLots(Long memberId, int amount) {
+        List<Lot> lots = jdbcTemplate.query(
+                "SELECT point_lot_id, remaining FROM point_lots WHERE member_id = ? "
+                        + "ORDER BY expires_on, point_lot_id FOR UPDATE",
+                (rs, rowNum) -> new Lot(rs.getLong("point_lot_id"), rs.getInt("remaining")),
+                memberId);
+
+        List<Lot> changed = consumeFifo(lots, amount);
+        List<Object[]> partial = new ArrayList<>();
+        List<Object[]> exhausted = new ArrayList<>();
+        for (Lot lot : changed) {
+            if (lot.remaining() == 0) {
+                exhausted.add(new Object[]{lot.id()});
+            } else {
+                partial.add(new Object[]{lot.remaining(), lot.id()});
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM point_lots WHERE point_lot_id = ?", exhausted);
+        }
+        if (!partial.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE point_lots SET remaining = ? WHERE point_lot_id = ?", partial);
+        }
+    }
+
+    /**
+     * 앞에서부터 amount만큼 차감한 뒤 바뀐 묶음만 반환 (남은 포인트 0이면 다 쓴 묶음)
+     *
+     * 묶음 합계가 모자라면(원장 도입 전 불일치 등) 있는 만큼만 차감
+     */
+    static List<Lot> consumeFifo(List<Lot> lots, int amount) {
+        List<Lot> changed = new ArrayList<>();
+        int left = amount;
+        for (Lot lot : lots) {
+            if (left == 0) {
+                break;
+            }
+            int taken = Math.min(lot.remaining(), left);
+            changed.add(new Lot(lot.id(), lot.remaining() - taken));
+            left -= taken;
+        }
+        if (left > 0) {
+            log.warn("적립 묶음 합계가 잔액보다 적음 - 묶음 없이 차감한 포인트: {}", left);
+        }
+        return changed;
+    }
+
+    private PointTransaction insert(Long memberId, PointTransaction.Type type, int delta, int balance,
+                                    String key, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setLong(1, memberId);
+            statement.setString(2, type.name());
+            statement.setInt(3, delta);
+            statement.setInt(4, balance);
+            statement.setString(5, key);
+            statement.setString(6, reason);
+            statement.setTimestamp(7, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+
+        Number id = keyHolder.getKey();
+        return new PointTransaction(id != null ? id.longValue() : null, memberId, type, delta, balance, key, reason, now);
+    }
+
+    private Optional<PointTransaction> findByKey(Long memberId, String key) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE member_id = ? AND idempotency_key = ?",
+                ROW_MAPPER, memberId, key).stream().findFirst();
+    }
+
+    /**
+     * 같은 키의 이전 결과 반환 (다른 요청에 같은 키를 쓴 경우는 거부)
+     */
+    private static PointTransaction replay(PointTransaction previous, PointTransaction.Type type, int delta) {
+        if (previous.type() != type || previous.amount() != delta) {
+            throw new MemberException(MemberErrorCode.POINT_IDEMPOTENCY_CONFLICT);
+        }
+        return previous;
+    }
+
+    /**
+     * UPDATE가 0건일 때 이유 판단 (없는 회원 / 비활성 / 잔액 부족)
+     */
+    private MemberException rejection(Long memberId, int delta) {
+        List<Boolean> active = jdbcTemplate.query(
+                "SELECT is_active = TRUE AND deleted_at IS NULL AS active FROM members WHERE member_id = ?",
+                (rs, rowNum) -> rs.getBoolean("active"), memberId);
+        if (active.isEmpty()) {
+            return new MemberException(MemberErrorCode.MEMBER_NOT_FOUND);
+        }
+        if (!active.get(0)) {
+            return new MemberException(MemberErrorCode.MEMBER_NOT_ACTIVE);
+        }
+        log.warn("포인트 부족 - memberId: {}, requested: {}", memberId, -delta);
+        return new MemberException(MemberErrorCode.INSUFFICIENT_POINTS);
+    }
+
+    /**
+     * 음수만 거부 (0 적립/사용은 기존 Member.earnPoints/usePoints처럼 허용, 잔액과 묶음은 그대로)
+     */
+    private static void requireNonNegative(int amount) {
+        if (amount < 0) {
+            throw new MemberException(MemberErrorCode.INVALID_POINT_AMOUNT);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.stay.domain.member.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hashing;
+import com.stay.domain.member.repository.BusinessInfoRepository;
+import com.stay.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 이메일/닉네임/사업자 등록번호 중복 확인 (Bloom 필터 → Redis → MySQL)
+ *
+ * 왜 필요한가?
+ * - 회원가입 폼이 키를 누를 때마다 check-nickname, check-email, check-business-number 호출
+ * - 매번 MySQL exists 쿼리 → 대부분은 "사용 가능" 답인데도 DB를 거침
+ *
+ * 판단 순서:
+ * 1. Bloom 필터(서버 메모리)가 "없음" → 사용 가능 (확정, 대부분 여기서 끝남)
+ * 2. Bloom 필터가 "있을 수도" → Redis 정확 집합(probe:{필드}) 확인
+ * 3. Redis 집합이 준비 안 됐거나 장애 → MySQL exists
+ *
+ * 유지:
+ * - 서버 시작 시, 그리고 member.uniqueness.rebuild-interval마다 DB에서 다시 만듦
+ * - 가입/닉네임 변경은 커밋 후 반영하고 Redis Pub/Sub으로 다른 서버 Bloom 필터에도 추가
+ * - 탈퇴는 소프트 삭제라 이메일/닉네임을 계속 점유하므로 제거하지 않음 (닉네임 변경 시 이전 닉네임만 제거)
+ *
+ * 화면용 안내 답변이다. 가입 처리 자체는 여전히 DB exists + UNIQUE 제약으로 검증한다.
+ * Redis 집합에는 평문 대신 해시를 저장한다.
+ */
+@Slf4j
+@Component
+public class UniquenessProbe implements MessageListener {
+
+    private static final String KEY_PREFIX = "probe:";
+    private static final String READY_SUFFIX = ":ready";
+    private static final String REBUILD_LOCK_KEY = "probe:rebuild:lock";
+    private static final String CHANNEL = "probe:added";
+    private static final String METRIC_NAME = "member.uniqueness.probe";
+    private static final int REDIS_CHUNK_SIZE = 1_000;
+
+    /**
+     * 중복 확인 대상 필드
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Field {
+        EMAIL("email"),
+        NICKNAME("nickname"),
+        BUSINESS_NUMBER("business-number");
+
+        private final String key;
+    }
+
+    private final MemberRepository memberRepository;
+    private final BusinessInfoRepository businessInfoRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    /**
+     * 필드별 Bloom 필터 (재생성 시 통째로 교체, 아직 없으면 DB로 판단)
+     */
+    private final Map<Field, BloomFilter<CharSequence>> filters = new ConcurrentHashMap<>();
+
+    /**
+     * 재생성 중에 추가/제거된 값 (새 필터/집합에 다시 반영)
+     */
+    private final Map<Field, Set<String>> addedDuringRebuild = new EnumMap<>(Field.class);
+    private final Map<Field, Set<String>> removedDuringRebuild = new EnumMap<>(Field.class);
+
+    public UniquenessProbe(MemberRepository memberRepository,
+                           BusinessInfoRepository businessInfoRepository,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${member.uniqueness.expected-insertions:1000000}") int expectedInsertions,
+                           @Value("${member.uniqueness.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.businessInfoRepository = businessInfoRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        for (Field field : Field.values()) {
+            addedDuringRebuild.put(field, ConcurrentHashMap.newKeySet());
+            removedDuringRebuild.put(field, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 이미 사용 중인 값인지 확인
+     *
+     * @param field    필드
+     * @param value    확인할 값
+     * @param database Bloom 필터/Redis로 판단할 수 없을 때 쓸 DB 조회
+     * @return true: 사용 중
+     */
+    public boolean exists(Field field, String value, Supplier<Boolean> database) {
+        String hashed = hash(field, value);
+
+        BloomFilter<CharSequence> filter = filters.get(field);
+        if (filter != null && !filter.mightContain(hashed)) {
+            count(field, "bloom_negative");
+            return false;
+        }
+
+        try {
+            if (filter != null && Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(field)))) {
+                boolean member = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(setKey(field), hashed));
+                count(field, member ? "redis_hit" : "redis_miss");
+                return member;
+            }
+        } catch (Exception e) {
+            log.debug("중복 확인 Redis 조회 실패, DB로 확인 - field: {}, reason: {}", field, e.getMessage());
+        }
+
+        count(field, "database");
+        return Boolean.TRUE.equals(database.get());
+    }
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 값 사용 시작 (가입, 닉네임 변경) - 트랜잭션 안이면 커밋 후 반영
+     */
+    public void recordAdded(Field field, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        afterCommit(() -> {
+            String hashed = hash(field, value);
+            addLocal(field, hashed);
+            try {
+                redisTemplate.opsForSet().add(setKey(field), hashed);
+                redisTemplate.convertAndSend(CHANNEL, field.name() + "|" + hashed);
+            } catch (Exception e) {
+                log.warn("중복 확인 값 추가 전파 실패 - field: {}, reason: {}", field, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 값 사용 종료 (닉네임 변경 시 이전 닉네임) - Bloom 필터는 삭제가 안 되므로 Redis 집합에서만 제거
+     */
+    public void recordRemoved(Field field, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        afterCommit(() -> {
+            String hashed = hash(field, value);
+            removedDuringRebuild.get(field).add(hashed);
+            try {
+                redisTemplate.opsForSet().remove(setKey(field), hashed);
+            } catch (Exception e) {
+                log.warn("중복 확인 값 제거 실패 - field: {}, reason: {}", field, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 추가된 값 수신 ("{필드}|{해시}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        try {
+            addLocal(Field.valueOf(body.substring(0, separator)), body.substring(separator + 1));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 중복 확인 메시지 - body: {}", body);
+        }
+    }
+
+    // ==================== 재생성 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAll();
+    }
+
+    /**
+     * 전체 재생성 (Bloom 필터는 서버마다, Redis 집합은 락을 잡은 서버 하나만)
+     */
+    @Scheduled(initialDelayString = "${member.uniqueness.rebuild-interval:21600000}",
+            fixedDelayString = "${member.uniqueness.rebuild-interval:21600000}")
+    public void rebuildAll() {
+        boolean rebuildRedis = tryLockRedisRebuild();
+        try {
+            rebuild(Field.EMAIL, memberRepository::streamAllEmails, rebuildRedis);
+            rebuild(Field.NICKNAME, memberRepository::streamAllNicknames, rebuildRedis);
+            rebuild(Field.BUSINESS_NUMBER, businessInfoRepository::streamAllBusinessNumbers, rebuildRedis);
+        } finally {
+            if (rebuildRedis) {
+                unlockRedisRebuild();
+            }
+        }
+    }
+
+    private void rebuild(Field field, Supplier<Stream<String>> source, boolean rebuildRedis) {
+        long start = System.currentTimeMillis();
+        addedDuringRebuild.get(field).clear();
+        removedDuringRebuild.get(field).clear();
+
+        String tempKey = setKey(field) + ":rebuild";
+        BloomFilter<CharSequence> rebuilt = newFilter();
+        List<String> chunk = new ArrayList<>(REDIS_CHUNK_SIZE);
+
+        try {
+            if (rebuildRedis) {
+                redisTemplate.delete(tempKey);
+            }
+
+            long count = transactionTemplate.execute(status -> {
+                long loaded = 0;
+                try (Stream<String> values = source.get()) {
+                    for (String value : (Iterable<String>) values::iterator) {
+                        String hashed = hash(field, value);
+                        rebuilt.put(hashed);
+                        loaded++;
+                        if (rebuildRedis) {
+                            chunk.add(hashed);
+                            if (chunk.size() == REDIS_CHUNK_SIZE) {
+                                flushChunk(tempKey, chunk);
+                            }
+                        }
+                    }
+                }
+                return loaded;
+            });
+
+            // 재생성 중에 들어온 추가는 새 필터에도 반영
+            addedDuringRebuild.get(field).forEach(rebuilt::put);
+            filters.put(field, rebuilt);
+
+            if (rebuildRedis) {
+                chunk.addAll(addedDuringRebuild.get(field));
+                flushChunk(tempKey, chunk);
+                // 빈 집합은 키가 없으므로 RENAME 대신 기존 키 삭제
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(tempKey))) {
+                    redisTemplate.rename(tempKey, setKey(field));
+                } else {
+                    redisTemplate.delete(setKey(field));
+                }
+                Set<String> removed = removedDuringRebuild.get(field);
+                if (!removed.isEmpty()) {
+                    redisTemplate.opsForSet().remove(setKey(field), removed.toArray());
+                }
+                redisTemplate.opsForValue().set(readyKey(field), String.valueOf(System.currentTimeMillis()));
+            }
+
+            log.info("중복 확인 필터 재생성 완료 - field: {}, 값: {}건, redis: {}, {}ms",
+                    field, count, rebuildRedis, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 기존 필터 유지 (처음이면 필터 없이 DB로 판단)
+            log.warn("중복 확인 필터 재생성 실패 - field: {}, reason: {}", field, e.getMessage());
+        }
+    }
+
+    private void flushChunk(String tempKey, List<String> chunk) {
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForSet().add(tempKey, chunk.toArray(String[]::new));
+            chunk.clear();
+        }
+    }
+
+    private boolean tryLockRedisRebuild() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(REBUILD_LOCK_KEY, "1", Duration.ofMinutes(10)));
+        } catch (Exception e) {
+            log.debug("중복 확인 Redis 재생성 락 실패 - reason: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlockRedisRebuild() {
+        try {
+            redisTemplate.delete(REBUILD_LOCK_KEY);
+        } catch (Exception e) {
+            log.debug("중복 확인 Redis 재생성 락 해제 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void addLocal(Field field, String hashed) {
+        addedDuringRebuild.get(field).add(hashed);
+        // Guava BloomFilter는 동시 put/mightContain에 안전
+        BloomFilter<CharSequence> filter = filters.get(field);
+        if (filter != null) {
+            filter.put(hashed);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 정규화 + 해시 (MySQL 기본 정렬 규칙처럼 대소문자 무시)
+     */
+    private static String hash(Field field, String value) {
+        Function<String, String> normalize = field == Field.BUSINESS_NUMBER
+                ? String::trim
+                : v -> v.trim().toLowerCase(Locale.ROOT);
+        return Hashing.murmur3_128().hashString(normalize.apply(value), StandardCharsets.UTF_8).toString();
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+
+    private void count(Field field, String result) {
+        meterRegistry.counter(METRIC_NAME, "field", field.getKey(), "result", result).increment();
+    }
+
+    private static String setKey(Field field) {
+        return KEY_PREFIX + field.getKey();
+    }
+
+    private static String readyKey(Field field) {
+        return KEY_PREFIX + field.getKey() + READY_SUFFIX;
+    }
+}
@@ -0,0 +1,171 @@
+package com.stay.global.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 노드 ID 임대 (Redis)
+ *
+ * 왜 필요한가?
+ * - 두 인스턴스가 같은 노드 ID를 쓰면 같은 밀리초에 같은 ID가 나올 수 있음
+ * - 서버마다 설정으로 나눠 주면 오토스케일/재배포 때 겹치기 쉬움 → Redis에서 빈 번호를 빌려 씀
+ *
+ * 동작:
+ * - 시작 시 id:node:{0~31} 중 빈 키를 SET NX PX로 차지 (값 = 이 인스턴스의 UUID)
+ * - renew-interval마다 내 키일 때만 TTL 연장 (Lua로 비교 + 연장)
+ * - 연장에 실패하면(키를 잃음) 새 번호를 다시 빌림
+ * - Redis 장애로 연장을 못 한 채 TTL이 지나면 ID 발급을 거부
+ *   (그 사이 다른 인스턴스가 같은 번호를 가져갔을 수 있음)
+ * - 종료 시 내 키면 삭제
+ *
+ * 유효 기한은 SET/PEXPIRE를 보내기 전 시각 + TTL로 계산 → Redis의 실제 만료보다 항상 이르다.
+ *
+ * id.node-id를 0 이상으로 주면 Redis 없이 그 번호를 고정으로 씀 (단일 인스턴스 로컬 개발용)
+ */
+@Slf4j
+@Component
+public class NodeIdLease {
+
+    private static final String KEY_PREFIX = "id:node:";
+
+    /**
+     * 내 키일 때만 TTL 연장
+     * KEYS[1] = 노드 키, ARGV[1] = 인스턴스 UUID, ARGV[2] = TTL(ms)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 내 키일 때만 삭제
+     * KEYS[1] = 노드 키, ARGV[1] = 인스턴스 UUID
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int fixedNodeId;
+    private final Duration ttl;
+    private final LongSupplier clock;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile int nodeId = -1;
+    private volatile long validUntil;
+
+    @Autowired
+    public NodeIdLease(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${id.node-id:-1}") int fixedNodeId,
+            @Value("${id.node-lease.ttl:30000}") long ttlMillis
+    ) {
+        this(redisTemplate, fixedNodeId, Duration.ofMillis(ttlMillis), System::currentTimeMillis);
+    }
+
+    NodeIdLease(RedisTemplate<String, String> redisTemplate, int fixedNodeId, Duration ttl, LongSupplier clock) {
+        if (fixedNodeId > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("id.node-id는 0~" + SnowflakeIdGenerator.MAX_NODE_ID + " 사이여야 합니다");
+        }
+        this.redisTemplate = redisTemplate;
+        this.fixedNodeId = fixedNodeId;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void start() {
+        if (fixedNodeId >= 0) {
+            nodeId = fixedNodeId;
+            log.info("고정 노드 ID 사용 - nodeId: {}", nodeId);
+            return;
+        }
+        acquire();
+    }
+
+    /**
+     * 현재 노드 ID
+     *
+     * @throws IllegalStateException 임대가 만료된 경우 (연장이 계속 실패)
+     */
+    public int nodeId() {
+        if (fixedNodeId < 0 && clock.getAsLong() >= validUntil) {
+            throw new IllegalStateException("노드 ID 임대가 만료되어 ID를 발급할 수 없습니다");
+        }
+        return nodeId;
+    }
+
+    /**
+     * TTL의 1/3 간격으로 연장 (연장 두 번을 놓쳐도 만료 전)
+     */
+    @Scheduled(fixedDelayString = "${id.node-lease.renew-interval:10000}")
+    public void renew() {
+        if (fixedNodeId >= 0 || nodeId < 0) {
+            return;
+        }
+        long sentAt = clock.getAsLong();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + nodeId),
+                    owner, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1) {
+                validUntil = sentAt + ttl.toMillis();
+                return;
+            }
+            log.warn("노드 ID 임대를 잃음 - nodeId: {}, 새로 임대", nodeId);
+            acquire();
+        } catch (RuntimeException e) {
+            log.error("노드 ID 임대 연장 실패 - nodeId: {}, 남은 시간: {}ms",
+                    nodeId, validUntil - clock.getAsLong(), e);
+        }
+    }
+
+    @PreDestroy
+    void release() {
+        if (fixedNodeId >= 0 || nodeId < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + nodeId), owner);
+        } catch (RuntimeException e) {
+            log.warn("노드 ID 반납 실패 (TTL 후 자동 만료) - nodeId: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 빈 번호 차지 (무작위 위치부터 한 바퀴, 재시작한 인스턴스가 매번 0번을 두고 경합하지 않도록)
+     */
+    private void acquire() {
+        int nodes = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        int start = ThreadLocalRandom.current().nextInt(nodes);
+        for (int i = 0; i < nodes; i++) {
+            int candidate = (start + i) % nodes;
+            long sentAt = clock.getAsLong();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + candidate, owner, ttl))) {
+                nodeId = candidate;
+                validUntil = sentAt + ttl.toMillis();
+                log.info("노드 ID 임대 - nodeId: {}", candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException("남은 노드 ID가 없습니다 (최대 " + nodes + "개 인스턴스)");
+    }
+}
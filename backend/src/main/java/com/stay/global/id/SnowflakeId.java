@@ -0,0 +1,27 @@
+package com.stay.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 SnowflakeIdGenerator로 발급 (@GeneratedValue(IDENTITY) 대신)
+ *
+ * ID를 persist 시점에 정하므로 INSERT는 flush 때 모아서 JDBC 배치로 나감.
+ * 사용:
+ * <pre>
+ * &#64;Id
+ * &#64;SnowflakeId
+ * private Long id;
+ * </pre>
+ */
+@Documented
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnowflakeId {
+}
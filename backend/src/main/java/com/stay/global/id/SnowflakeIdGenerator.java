@@ -0,0 +1,129 @@
+package com.stay.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬되는 분산 ID 생성기 (Snowflake 방식)
+ *
+ * 왜 필요한가?
+ * - IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어서
+ *   Hibernate가 엔티티마다 즉시 INSERT → JDBC 배치가 꺼짐 (행마다 DB 왕복)
+ * - 애플리케이션에서 ID를 먼저 정하면 INSERT를 모아서 한 번에 보낼 수 있음
+ *
+ * 비트 구성 (53비트, 자바스크립트 Number로도 정확히 표현됨):
+ * - 41비트: EPOCH 이후 밀리초 (약 69년)
+ * - 5비트 : 노드 ID (0~31, Redis 임대로 인스턴스마다 다르게 배정 → NodeIdLease)
+ * - 7비트 : 같은 밀리초 안의 순번 (노드당 밀리초에 128개, 넘치면 다음 밀리초까지 대기)
+ *
+ * 왜 64비트를 다 안 쓰는가?
+ * - 프론트엔드가 memberId를 숫자로 받음 → 2^53을 넘으면 반올림돼서 다른 회원 ID가 됨
+ *
+ * 기존 AUTO_INCREMENT ID보다 항상 크고 시간순으로 증가하므로
+ * member_id 기준 키셋 페이지네이션/정렬은 그대로 동작함.
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    /**
+     * 2025-01-01T00:00:00Z
+     */
+    public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int TIMESTAMP_BITS = 41;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    /**
+     * 이 정도까지 시계가 뒤로 가면 따라잡을 때까지 기다림 (NTP 보정 등)
+     * 더 크면 중복 위험이 있으므로 발급 거부
+     */
+    private static final long MAX_BACKWARD_WAIT_MILLIS = 5;
+
+    private final IntSupplier nodeIdSource;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1;
+    private int sequence;
+
+    @Autowired
+    public SnowflakeIdGenerator(NodeIdLease nodeIdLease) {
+        this(nodeIdLease::nodeId, System::currentTimeMillis);
+        SnowflakeIdentifierGenerator.use(this);  // Hibernate가 만드는 생성기는 Spring 빈을 주입받지 못함
+    }
+
+    SnowflakeIdGenerator(IntSupplier nodeIdSource, LongSupplier clock) {
+        this.nodeIdSource = nodeIdSource;
+        this.clock = clock;
+    }
+
+    /**
+     * 새 ID 발급
+     *
+     * @throws IllegalStateException 노드 ID 임대가 만료됐거나 시계가 크게 뒤로 간 경우
+     */
+    public synchronized long nextId() {
+        int nodeId = nodeIdSource.getAsInt();
+        long now = clock.getAsLong();
+
+        if (now < lastTimestamp) {
+            long backward = lastTimestamp - now;
+            if (backward > MAX_BACKWARD_WAIT_MILLIS) {
+                throw new IllegalStateException("시계가 " + backward + "ms 뒤로 가서 ID를 발급할 수 없습니다");
+            }
+            log.warn("시계가 뒤로 감 - {}ms 대기", backward);
+            now = waitUntilAfter(lastTimestamp - 1);
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                now = waitUntilAfter(lastTimestamp);  // 이번 밀리초 순번 소진
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = now;
+
+        long elapsed = now - EPOCH_MILLIS;
+        if (elapsed < 0 || elapsed > MAX_TIMESTAMP) {
+            throw new IllegalStateException("ID 타임스탬프 범위를 벗어났습니다: " + Instant.ofEpochMilli(now));
+        }
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /**
+     * ID가 발급된 시각 (로그/디버깅용)
+     */
+    public static Instant createdAt(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID를 발급한 노드
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    private long waitUntilAfter(long timestamp) {
+        long now = clock.getAsLong();
+        while (now <= timestamp) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
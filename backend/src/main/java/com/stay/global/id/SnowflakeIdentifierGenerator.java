@@ -0,0 +1,28 @@
+package com.stay.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @SnowflakeId를 Hibernate 식별자 생성기로 연결
+ *
+ * Hibernate가 직접 생성하는 객체라서 Spring 빈을 주입받지 못함
+ * → Spring의 SnowflakeIdGenerator가 생성될 때 use()로 등록해 둔 것을 사용
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile SnowflakeIdGenerator delegate;
+
+    static void use(SnowflakeIdGenerator generator) {
+        delegate = generator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object entity) {
+        SnowflakeIdGenerator generator = delegate;
+        if (generator == null) {
+            throw new IllegalStateException("SnowflakeIdGenerator가 아직 초기화되지 않았습니다");
+        }
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,51 @@
+package com.stay.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답
+ *
+ * 사용 예시:
+ * ```json
+ * {
+ *   "items": [ ... ],
+ *   "nextCursor": "MjAyNS0wMS0wMVQxMDowMHw0Mg",
+ *   "hasNext": true
+ * }
+ * ```
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 그대로 넘기면 된다 (없으면 마지막 페이지).
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청한 페이지 크기를 1~100으로 제한 (없으면 20)
+     */
+    public static int clampSize(Integer size) {
+        return size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 페이지 크기보다 한 건 더 읽은 결과로 페이지 생성
+     *
+     * @param fetched 최대 size + 1건 (size보다 많으면 다음 페이지 있음)
+     * @param size    페이지 크기
+     * @param keyOf   행 → 키셋 위치 (마지막 행으로 nextCursor 생성)
+     * @param mapper  행 → 응답 DTO
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size,
+                                          Function<E, KeysetCursor> keyOf, Function<E, T> mapper) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched.stream().map(mapper).toList(), null, false);
+        }
+        List<E> page = fetched.subList(0, size);
+        return new CursorPage<>(page.stream().map(mapper).toList(),
+                keyOf.apply(page.get(size - 1)).encode(), true);
+    }
+}
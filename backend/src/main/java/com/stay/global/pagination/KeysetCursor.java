@@ -0,0 +1,51 @@
+package com.stay.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 위치 (정렬 시각 + ID)
+ *
+ * 왜 필요한가?
+ * - OFFSET 페이지는 뒤로 갈수록 앞의 행을 모두 읽고 버림
+ * - 마지막으로 본 (시각, ID) 다음부터 읽으면 몇 번째 페이지든 인덱스에서 바로 시작
+ * - 같은 시각의 행은 ID로 순서를 정해서 페이지 사이에 빠지거나 겹치는 행이 없음
+ *
+ * 쿼리 조건 (최신순):
+ * (시각 < :at) OR (시각 = :at AND id < :id) ORDER BY 시각 DESC, id DESC
+ *
+ * 클라이언트에는 "{시각}|{id}"를 Base64URL로 감싼 불투명 문자열로 내려준다.
+ */
+public record KeysetCursor(LocalDateTime at, long id) {
+
+    /**
+     * 첫 페이지 (모든 행보다 뒤의 위치)
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * 클라이언트가 보낸 커서 해석 (없으면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String value = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.stay.global.querybudget;
+
+import java.lang.annotation.*;
+
+/**
+ * 요청 한 번에 실행할 수 있는 SQL 문 수 (컨트롤러 메서드)
+ *
+ * 왜 필요한가?
+ * - 지연 로딩, 반복문 안 조회(N+1), 중복 존재 확인이 조용히 늘어나도 기능 테스트는 통과함
+ * - 엔드포인트마다 상한을 적어 두면 늘어난 순간 테스트(EndpointQueryBudgetTest)가 실패함
+ *
+ * 세는 기준 (QueryBudgetFilter):
+ * - JDBC execute* 호출 수 (배치는 한 번, commit/rollback은 세지 않음)
+ * - 필터/이벤트 리스너/비동기 이어 처리(StatementScope.callWithin)까지 요청에 딸린 것 전부
+ * - 캐시가 비어 있을 때(가장 많이 실행될 때) 기준으로 적음
+ *
+ * 운영에서는 초과해도 응답은 그대로, WARN 로그와 http.query.budget.exceeded 카운터만 남김.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * 최대 SQL 문 수
+     */
+    int value();
+}
@@ -0,0 +1,109 @@
+package com.stay.global.querybudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 문 수를 세고 @QueryBudget과 비교
+ *
+ * 왜 필터인가?
+ * - 인터셉터는 Spring Security 필터(JWT 인증 등) 뒤라서 그 앞의 SQL을 못 셈
+ * - 가장 바깥에서 범위를 열고, 어느 컨트롤러 메서드였는지는 끝난 뒤 요청 속성에서 확인
+ *
+ * 비동기 응답(CompletableFuture):
+ * - 첫 디스패치가 끝나도 범위를 닫지 않고 요청 속성에 보관 → 비동기 디스패치에서 마저 세고 닫음
+ *
+ * 결과는 요청 속성 STATEMENTS_ATTRIBUTE / BUDGET_ATTRIBUTE에 남김 (테스트가 MockMvc 결과에서 확인)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".statements";
+    public static final String BUDGET_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".budget";
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".scope";
+    private static final String METRIC_EXCEEDED = "http.query.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 비동기 디스패치에서도 실행 (남은 SQL을 세고 범위를 닫아야 함)
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        StatementScope scope = (StatementScope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) {
+            scope = StatementScope.open();
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+        } else {
+            StatementScope.attach(scope);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementScope.attach(null);
+            if (!isAsyncStarted(request)) {
+                finish(request, scope);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, StatementScope scope) {
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        int statements = scope.count();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            return;
+        }
+        request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+
+        if (statements > budget.value()) {
+            String endpoint = endpoint(handler);
+            log.warn("SQL 예산 초과 - endpoint: {}, statements: {}, budget: {}", endpoint, statements, budget.value());
+            Counter.builder(METRIC_EXCEEDED)
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * MemberController.getMyInfo 형식
+     */
+    static String endpoint(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+}
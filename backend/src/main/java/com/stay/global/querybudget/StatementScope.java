@@ -0,0 +1,66 @@
+package com.stay.global.querybudget;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수
+ *
+ * - QueryBudgetFilter가 요청 스레드에 열고, JdbcMetricsDataSource가 SQL마다 increment()
+ * - 다른 스레드로 넘어가는 작업(OAuth 로그인의 boundedElastic 등)은 current()를 잡아 두고
+ *   callWithin()으로 실행하면 같은 요청으로 셈
+ */
+public final class StatementScope {
+
+    private static final ThreadLocal<StatementScope> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    /**
+     * 이 스레드에 열린 범위 (없으면 null)
+     */
+    public static StatementScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * SQL 한 번 실행 (범위 밖이면 무시)
+     */
+    public static void increment() {
+        StatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements.incrementAndGet();
+        }
+    }
+
+    /**
+     * 다른 스레드에서 이 요청의 범위로 실행 (scope가 null이면 그냥 실행)
+     */
+    public static <T> T callWithin(StatementScope scope, Supplier<T> work) {
+        StatementScope previous = CURRENT.get();
+        attach(scope);
+        try {
+            return work.get();
+        } finally {
+            attach(previous);
+        }
+    }
+
+    static StatementScope open() {
+        StatementScope scope = new StatementScope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void attach(StatementScope scope) {
+        if (scope == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope);
+        }
+    }
+
+    public int count() {
+        return statements.get();
+    }
+}
@@ -0,0 +1,41 @@
+package com.stay.global.ratelimit;
+
+/**
+ * 서버 메모리 토큰 버킷 (빠른 경로)
+ *
+ * - 이 서버로 들어온 호출만 셈 → 한 서버만으로도 한도를 넘는 폭주는 Redis 왕복 없이 바로 거절
+ * - 시간은 호출하는 쪽에서 넘겨줌 (System.nanoTime, 테스트에서 고정 가능)
+ */
+class LocalTokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(int capacity, long periodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / periodNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @return 0이면 통과, 아니면 다음 토큰까지 기다려야 하는 시간 (나노초)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+}
@@ -0,0 +1,69 @@
+package com.stay.global.ratelimit;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드 호출 제한 (토큰 버킷)
+ *
+ * 왜 필요한가?
+ * - 로그인/메일 발송/중복 확인 API는 인증 없이 열려 있음 (permitAll)
+ * - 호출마다 SMTP 발송, 소셜 제공자 호출, DB 조회가 일어나서 한 클라이언트의 폭주가 전체 풀을 막을 수 있음
+ *
+ * 사용 예 (IP당 1분에 20번, 전체 1초에 100번):
+ * <pre>
+ * &#64;RateLimit(name = "oauth-login", key = RateLimit.Key.IP, capacity = 20, period = 1, unit = TimeUnit.MINUTES)
+ * &#64;RateLimit(name = "oauth-login", key = RateLimit.Key.ENDPOINT, capacity = 100, period = 1, unit = TimeUnit.SECONDS)
+ * </pre>
+ *
+ * 버킷은 capacity개로 시작하고 period마다 capacity개가 채워진다 (순간 최대 capacity번).
+ * 여러 개를 붙이면 모두 통과해야 호출된다. 처리는 RateLimitAspect 참고.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    /**
+     * 정책 이름 (메트릭 태그, Redis 키에 사용)
+     */
+    String name();
+
+    /**
+     * 버킷을 나누는 기준
+     */
+    Key key() default Key.IP;
+
+    /**
+     * 버킷 크기 (period 동안 허용되는 호출 수)
+     */
+    int capacity();
+
+    /**
+     * 버킷이 가득 차는 데 걸리는 시간
+     */
+    long period();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 버킷 기준
+     */
+    enum Key {
+        /**
+         * 클라이언트 IP별
+         */
+        IP,
+
+        /**
+         * 요청의 이메일별 (email 파라미터 또는 getEmail()이 있는 요청 객체)
+         */
+        EMAIL,
+
+        /**
+         * 엔드포인트 전체 (모든 클라이언트 합산)
+         */
+        ENDPOINT
+    }
+}
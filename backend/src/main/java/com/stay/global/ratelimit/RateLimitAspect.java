@@ -0,0 +1,137 @@
+package com.stay.global.ratelimit;
+
+import com.google.common.hash.Hashing;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@link RateLimit}이 붙은 컨트롤러 메서드 앞에서 호출 제한 확인
+ *
+ * 키 결정:
+ * - IP: 요청의 원격 주소 (프록시 뒤라면 server.forward-headers-strategy로 실제 IP 반영)
+ * - EMAIL: "email" 파라미터 또는 getEmail()이 있는 요청 객체의 값 (소문자, 해시해서 Redis 키에 평문 이메일을 남기지 않음)
+ * - ENDPOINT: 모든 요청이 한 버킷 공유
+ *
+ * 이메일을 찾을 수 없으면 EMAIL 정책은 건너뛴다 (다른 정책이 걸러냄).
+ * ratelimit.enabled=false면 전부 통과 (로컬 부하 테스트 등).
+ */
+@Slf4j
+@Aspect
+@Component
+public class RateLimitAspect {
+
+    private static final String EMAIL = "email";
+    private static final String ENDPOINT_KEY = "all";
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitAspect(RateLimiter rateLimiter, @Value("${ratelimit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(com.stay.global.ratelimit.RateLimit) || @annotation(com.stay.global.ratelimit.RateLimits)")
+    public Object checkRateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Set<RateLimit> limits = AnnotatedElementUtils.findMergedRepeatableAnnotations(
+                signature.getMethod(), RateLimit.class);
+
+        for (RateLimit limit : limits) {
+            String key = resolveKey(limit, signature, joinPoint.getArgs());
+            if (key == null) {
+                continue;
+            }
+
+            Duration retryAfter = rateLimiter.tryAcquire(limit, key);
+            if (!retryAfter.isZero()) {
+                log.warn("호출 제한 초과 - policy: {}, key: {}, retryAfter: {}ms",
+                        limit.name(), limit.key(), retryAfter.toMillis());
+                throw new RateLimitExceededException(limit.name(), retryAfter);
+            }
+        }
+
+        return joinPoint.proceed();
+    }
+
+    private String resolveKey(RateLimit limit, MethodSignature signature, Object[] args) {
+        return switch (limit.key()) {
+            case IP -> currentRequest().getRemoteAddr();
+            case ENDPOINT -> ENDPOINT_KEY;
+            case EMAIL -> {
+                String email = findEmail(signature, args);
+                yield email != null
+                        ? Hashing.sha256().hashString(email.trim().toLowerCase(Locale.ROOT), StandardCharsets.UTF_8)
+                        .toString().substring(0, 32)
+                        : null;
+            }
+        };
+    }
+
+    /**
+     * 메서드 인자에서 이메일 찾기 (email 파라미터 → 요청 객체의 getEmail()/email())
+     */
+    private String findEmail(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        Annotation[][] annotations = signature.getMethod().getParameterAnnotations();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof String value && isEmailParameter(names != null ? names[i] : null, annotations[i])) {
+                return value.isBlank() ? null : value;
+            }
+        }
+
+        for (Object arg : args) {
+            if (arg == null || arg instanceof String) {
+                continue;
+            }
+            Method getter = ReflectionUtils.findMethod(arg.getClass(), "getEmail");
+            if (getter == null) {
+                getter = ReflectionUtils.findMethod(arg.getClass(), EMAIL);
+            }
+            if (getter != null && getter.getReturnType() == String.class) {
+                Object value = ReflectionUtils.invokeMethod(getter, arg);
+                if (value instanceof String email && !email.isBlank()) {
+                    return email;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isEmailParameter(String name, Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof RequestParam requestParam
+                    && (EMAIL.equals(requestParam.value()) || EMAIL.equals(requestParam.name()))) {
+                return true;
+            }
+        }
+        return EMAIL.equals(name);
+    }
+
+    private HttpServletRequest currentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    }
+}
@@ -0,0 +1,23 @@
+package com.stay.global.ratelimit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 호출 제한 초과 예외 (429 Too Many Requests)
+ *
+ * RateLimitExceptionHandler가 Retry-After 헤더와 함께 응답한다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String policy;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String policy, Duration retryAfter) {
+        super("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.policy = policy;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,33 @@
+package com.stay.global.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * 호출 제한 초과 응답 (429 + Retry-After)
+ *
+ * 제한은 컨트롤러 메서드 실행 전에 걸리므로 컨트롤러의 try-catch를 거치지 않는다.
+ */
+@RestControllerAdvice
+public class RateLimitExceptionHandler {
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException e) {
+        // Retry-After는 초 단위 (올림)
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of(
+                        "error", "TOO_MANY_REQUESTS",
+                        "message", e.getMessage(),
+                        "retryAfter", retryAfterSeconds
+                ));
+    }
+}
@@ -0,0 +1,123 @@
+package com.stay.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토큰 버킷 호출 제한기 (서버 메모리 → Redis 순)
+ *
+ * 왜 두 단계인가?
+ * - 서버 메모리 버킷: 한 서버로 몰리는 폭주는 Redis 왕복 없이 바로 거절 (빠른 경로)
+ * - Redis 버킷(Lua로 원자적 처리): 서버가 여러 대여도 클러스터 전체 한도를 지킴
+ *
+ * Redis 장애 시에는 서버 메모리 버킷만으로 판단한다 (로그인/메일 API 전체를 막지 않기 위해).
+ * Redis 버킷의 시각은 Redis TIME을 써서 서버 간 시계 차이의 영향을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final String METRIC_REJECTED = "ratelimit.rejected";
+    private static final String METRIC_REDIS_ERRORS = "ratelimit.redis.errors";
+
+    /**
+     * 토큰 버킷 (KEYS[1] = 버킷 키, ARGV[1] = capacity, ARGV[2] = 가득 차는 시간 ms)
+     * 반환: {통과 여부(1/0), 다음 토큰까지 대기 ms}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            local rate = capacity / period
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local allowed, retry = 0, 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], period)
+            return {tostring(allowed), tostring(retry)}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 정책+키별 서버 메모리 버킷 (오래 안 쓰인 버킷은 자동 정리, 다시 만들면 가득 찬 상태)
+     */
+    private final Cache<String, LocalTokenBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @param limit 정책
+     * @param key   버킷 키 (IP, 이메일 해시 등)
+     * @return 통과하면 Duration.ZERO, 거절이면 다시 시도할 수 있을 때까지 남은 시간
+     */
+    @SuppressWarnings("unchecked")
+    public Duration tryAcquire(RateLimit limit, String key) {
+        String bucketKey = KEY_PREFIX + limit.name() + ":" + limit.key().name().toLowerCase() + ":" + key;
+        long periodNanos = limit.unit().toNanos(limit.period());
+
+        // 1. 서버 메모리 버킷
+        long now = System.nanoTime();
+        long localWait = localBuckets
+                .get(bucketKey, k -> new LocalTokenBucket(limit.capacity(), periodNanos, now))
+                .tryConsume(now);
+        if (localWait > 0) {
+            rejected(limit, "local");
+            return Duration.ofNanos(localWait);
+        }
+
+        // 2. Redis 버킷 (클러스터 전체)
+        try {
+            List<String> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                    String.valueOf(limit.capacity()),
+                    String.valueOf(Math.max(1, periodNanos / 1_000_000)));
+
+            if (result != null && result.size() == 2 && "0".equals(result.get(0))) {
+                rejected(limit, "redis");
+                return Duration.ofMillis(Long.parseLong(result.get(1)));
+            }
+        } catch (Exception e) {
+            meterRegistry.counter(METRIC_REDIS_ERRORS, "policy", limit.name()).increment();
+            log.debug("Redis 호출 제한 확인 실패, 서버 메모리 기준으로 통과 - policy: {}, reason: {}",
+                    limit.name(), e.getMessage());
+        }
+        return Duration.ZERO;
+    }
+
+    private void rejected(RateLimit limit, String scope) {
+        meterRegistry.counter(METRIC_REJECTED,
+                "policy", limit.name(),
+                "key", limit.key().name().toLowerCase(),
+                "scope", scope
+        ).increment();
+    }
+}
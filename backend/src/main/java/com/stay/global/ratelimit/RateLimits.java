@@ -0,0 +1,14 @@
+package com.stay.global.ratelimit;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link RateLimit} 여러 개를 붙이기 위한 컨테이너
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimits {
+
+    RateLimit[] value();
+}
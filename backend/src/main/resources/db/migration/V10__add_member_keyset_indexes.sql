@@ -0,0 +1,10 @@
+-- 관리자 목록/배치 조회용 키셋 페이지 인덱스
+-- (필터 컬럼, 정렬 시각) 순서 + InnoDB 보조 인덱스에 붙는 PK로 (시각, id) 정렬을 인덱스에서 바로 읽음
+ALTER TABLE members
+    ADD INDEX idx_members_role_created (role, created_at),
+    ADD INDEX idx_members_grade_created (grade, created_at),
+    ADD INDEX idx_members_active_updated (is_active, updated_at),
+    ADD INDEX idx_members_deleted_at (deleted_at);
+
+ALTER TABLE business_info
+    ADD INDEX idx_business_status_created (approval_status, created_at);
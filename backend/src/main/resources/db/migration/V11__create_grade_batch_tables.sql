@@ -0,0 +1,24 @@
+-- 등급 재계산 배치 체크포인트
+-- 파티션(회원 ID 범위)마다 어디까지 처리했는지 기록 → 중단돼도 같은 run_key로 이어서 실행
+CREATE TABLE grade_batch_checkpoints (
+    run_key VARCHAR(20) NOT NULL COMMENT '실행 키 (예: 2025-03)',
+    partition_no INT NOT NULL COMMENT '파티션 번호',
+    start_id BIGINT NOT NULL COMMENT '시작 회원 ID (포함)',
+    end_id BIGINT NOT NULL COMMENT '끝 회원 ID (제외)',
+    next_id BIGINT NOT NULL COMMENT '다음에 처리할 회원 ID',
+    completed_at DATETIME COMMENT '파티션 완료 일시',
+    updated_at DATETIME NOT NULL COMMENT '마지막 진행 일시',
+
+    PRIMARY KEY (run_key, partition_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='등급 배치 체크포인트';
+
+-- 등급 이동 집계 (청크 UPDATE와 같은 트랜잭션에서 누적 → 재시작해도 중복 집계 없음)
+CREATE TABLE grade_batch_moves (
+    run_key VARCHAR(20) NOT NULL COMMENT '실행 키',
+    partition_no INT NOT NULL COMMENT '파티션 번호 (파티션끼리 같은 행을 잠그지 않도록)',
+    from_grade VARCHAR(20) NOT NULL COMMENT '이전 등급',
+    to_grade VARCHAR(20) NOT NULL COMMENT '새 등급',
+    moved BIGINT NOT NULL DEFAULT 0 COMMENT '이동한 회원 수',
+
+    PRIMARY KEY (run_key, partition_no, from_grade, to_grade)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='등급 배치 이동 집계';
@@ -0,0 +1,27 @@
+-- 포인트 원장 (추가만 하고 수정/삭제하지 않음)
+-- members.points는 원장 합계를 캐시한 값 (PointLedgerService.reconcile로 다시 맞출 수 있음)
+CREATE TABLE point_transactions (
+    point_transaction_id BIGINT NOT NULL AUTO_INCREMENT COMMENT '원장 ID',
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    type VARCHAR(20) NOT NULL COMMENT '종류 (EARN, USE, EXPIRE, ADJUST)',
+    amount INT NOT NULL COMMENT '변동량 (적립 +, 사용 -)',
+    balance_after INT NOT NULL COMMENT '반영 후 잔액',
+    idempotency_key VARCHAR(64) NOT NULL COMMENT '중복 요청 방지 키 (회원별 유일)',
+    reason VARCHAR(100) COMMENT '사유',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 일시',
+
+    PRIMARY KEY (point_transaction_id),
+    UNIQUE KEY uk_point_tx_idempotency (member_id, idempotency_key),
+    INDEX idx_point_tx_member (member_id),
+
+    CONSTRAINT fk_point_tx_member
+        FOREIGN KEY (member_id)
+        REFERENCES members(member_id)
+        ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='포인트 원장';
+
+-- 원장 도입 전 잔액을 시작 잔액으로 기록 (원장 합계 = members.points)
+INSERT INTO point_transactions (member_id, type, amount, balance_after, idempotency_key, reason, created_at)
+SELECT member_id, 'ADJUST', points, points, 'opening-balance', '원장 도입 시 잔액', NOW(6)
+FROM members
+WHERE points <> 0;
@@ -0,0 +1,33 @@
+-- 포인트 적립 묶음 (유효기간이 있는 남은 포인트)
+-- 남은 포인트가 0이 된 묶음은 삭제 (이력은 point_transactions에 남음)
+-- → 아래 인덱스 범위 조회가 남은 묶음 수에만 비례
+CREATE TABLE point_lots (
+    point_lot_id BIGINT NOT NULL AUTO_INCREMENT COMMENT '적립 묶음 ID',
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    earn_transaction_id BIGINT COMMENT '적립 원장 ID',
+    amount INT NOT NULL COMMENT '적립 포인트',
+    remaining INT NOT NULL COMMENT '남은 포인트',
+    expires_on DATE NOT NULL COMMENT '소멸일 (이 날짜가 되면 소멸)',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 일시',
+
+    PRIMARY KEY (point_lot_id),
+    INDEX idx_point_lots_expiry (expires_on, point_lot_id),               -- 소멸 배치 (날짜 버킷 단위)
+    INDEX idx_point_lots_member (member_id, expires_on, point_lot_id),    -- 사용 순서 (먼저 소멸할 것부터) / 소멸 예정 조회
+
+    CONSTRAINT fk_point_lots_member
+        FOREIGN KEY (member_id)
+        REFERENCES members(member_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_point_lots_earn_tx
+        FOREIGN KEY (earn_transaction_id)
+        REFERENCES point_transactions(point_transaction_id)
+        ON DELETE SET NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='포인트 적립 묶음';
+
+-- 기존 잔액은 도입일 기준 1년 뒤 소멸하는 묶음 하나로 시작
+INSERT INTO point_lots (member_id, earn_transaction_id, amount, remaining, expires_on, created_at)
+SELECT m.member_id, t.point_transaction_id, m.points, m.points, DATE_ADD(CURRENT_DATE, INTERVAL 365 DAY), NOW(6)
+FROM members m
+LEFT JOIN point_transactions t
+    ON t.member_id = m.member_id AND t.idempotency_key = 'opening-balance'
+WHERE m.points > 0;
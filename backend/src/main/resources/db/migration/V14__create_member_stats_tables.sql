@@ -0,0 +1,50 @@
+-- 회원 통계 카운터 (회원 변경과 같은 트랜잭션에서 증감)
+-- 키:
+--   active, role:{역할}, grade:{등급}   → 현재 활성 회원 수
+--   day:{yyyy-MM-dd}:{signups|deactivations|reactivations|deletions} → 아직 롤업 전인 날짜별 이벤트 수
+-- 키마다 slot 여러 개로 나눠서 쓰기 (한 행에 가입이 몰려 잠금 대기하지 않도록), 읽을 때 SUM
+CREATE TABLE member_stat_counters (
+    stat_key VARCHAR(50) NOT NULL COMMENT '통계 키',
+    slot TINYINT NOT NULL COMMENT '분산 슬롯',
+    value BIGINT NOT NULL DEFAULT 0 COMMENT '값 (슬롯 합계가 실제 값)',
+
+    PRIMARY KEY (stat_key, slot)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='회원 통계 카운터';
+
+-- 날짜별 회원 통계 (매일 전날 카운터를 롤업)
+CREATE TABLE member_daily_stats (
+    stat_date DATE NOT NULL COMMENT '날짜',
+    signups BIGINT NOT NULL DEFAULT 0 COMMENT '가입',
+    deactivations BIGINT NOT NULL DEFAULT 0 COMMENT '비활성화',
+    reactivations BIGINT NOT NULL DEFAULT 0 COMMENT '재활성화',
+    deletions BIGINT NOT NULL DEFAULT 0 COMMENT '탈퇴',
+    active_members BIGINT COMMENT '롤업 시점 활성 회원 수',
+    rolled_up_at DATETIME NOT NULL COMMENT '롤업 일시',
+
+    PRIMARY KEY (stat_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='날짜별 회원 통계';
+
+-- 현재 활성 회원 수로 시작
+INSERT INTO member_stat_counters (stat_key, slot, value)
+SELECT 'active', 0, COUNT(*) FROM members WHERE is_active = TRUE AND deleted_at IS NULL;
+
+INSERT INTO member_stat_counters (stat_key, slot, value)
+SELECT CONCAT('role:', role), 0, COUNT(*) FROM members WHERE is_active = TRUE AND deleted_at IS NULL GROUP BY role;
+
+INSERT INTO member_stat_counters (stat_key, slot, value)
+SELECT CONCAT('grade:', grade), 0, COUNT(*) FROM members WHERE is_active = TRUE AND deleted_at IS NULL GROUP BY grade;
+
+-- 지난 날짜는 남아 있는 데이터로 알 수 있는 가입/탈퇴만 채움 (비활성화/재활성화 이력은 없음)
+INSERT INTO member_daily_stats (stat_date, signups, rolled_up_at)
+SELECT DATE(created_at), COUNT(*), NOW() FROM members WHERE created_at < CURRENT_DATE GROUP BY DATE(created_at);
+
+INSERT INTO member_daily_stats (stat_date, deletions, rolled_up_at)
+SELECT DATE(deleted_at), COUNT(*), NOW() FROM members WHERE deleted_at < CURRENT_DATE GROUP BY DATE(deleted_at)
+ON DUPLICATE KEY UPDATE deletions = VALUES(deletions);
+
+-- 오늘 것은 카운터로 (내일 롤업)
+INSERT INTO member_stat_counters (stat_key, slot, value)
+SELECT CONCAT('day:', CURRENT_DATE, ':signups'), 0, COUNT(*) FROM members WHERE created_at >= CURRENT_DATE;
+
+INSERT INTO member_stat_counters (stat_key, slot, value)
+SELECT CONCAT('day:', CURRENT_DATE, ':deletions'), 0, COUNT(*) FROM members WHERE deleted_at >= CURRENT_DATE;
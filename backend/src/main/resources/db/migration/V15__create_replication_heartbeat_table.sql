@@ -0,0 +1,10 @@
+-- 복제 지연 측정용 하트비트 (ReplicaLagMonitor)
+-- primary에서 beat_at을 주기적으로 갱신하고, replica에서 NOW(6) - beat_at으로 지연을 계산
+CREATE TABLE replication_heartbeat (
+    id TINYINT NOT NULL COMMENT '항상 1',
+    beat_at DATETIME(6) NOT NULL COMMENT 'primary에서 마지막으로 갱신한 시각',
+
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='복제 지연 하트비트';
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(6));
@@ -0,0 +1,28 @@
+-- 회원/소셜 로그인/사업자 정보/이메일 인증 토큰 PK를 애플리케이션 발급 ID(SnowflakeIdGenerator)로 전환
+--
+-- 왜 AUTO_INCREMENT를 제거하는가?
+-- - ID를 애플리케이션이 정해서 넣으면 AUTO_INCREMENT 카운터가 가장 큰 값 + 1로 따라 올라감
+--   → 이후 ID 없이 INSERT하면 Snowflake ID와 겹칠 수 있음. 아예 ID 없는 INSERT를 실패하게 만듦
+--
+-- 기존 행:
+-- - ID는 그대로 유지 (FK 변경 없음)
+-- - Snowflake ID는 (2025-01-01 이후 밀리초 << 12)라서 기존 AUTO_INCREMENT 값보다 항상 큼
+--   → member_id 순서 = 가입 순서가 유지되어 키셋 페이지네이션도 그대로 동작
+--
+-- 다른 테이블의 FK가 참조하는 컬럼이라 FK 검사를 잠시 끄고 속성만 변경 (타입은 BIGINT 그대로)
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE members
+    MODIFY member_id BIGINT NOT NULL COMMENT '회원 ID (PK, Snowflake)';
+
+ALTER TABLE social_logins
+    MODIFY social_login_id BIGINT NOT NULL COMMENT '소셜 로그인 ID (PK, Snowflake)';
+
+ALTER TABLE business_info
+    MODIFY business_info_id BIGINT NOT NULL COMMENT '사업자 정보 ID (PK, Snowflake)';
+
+ALTER TABLE email_verification_tokens
+    MODIFY token_id BIGINT NOT NULL COMMENT '토큰 ID (PK, Snowflake)';
+
+SET FOREIGN_KEY_CHECKS = 1;
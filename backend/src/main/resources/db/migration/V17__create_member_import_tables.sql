@@ -0,0 +1,25 @@
+-- 회원 대량 가져오기 작업 (MemberImportService)
+-- 청크 INSERT와 같은 트랜잭션에서 processed를 올림 → 중단돼도 같은 job_key로 다시 보내면 남은 레코드부터 이어서 처리
+CREATE TABLE member_import_jobs (
+    job_key VARCHAR(50) NOT NULL COMMENT '작업 키 (요청자가 지정)',
+    format VARCHAR(10) NOT NULL COMMENT '입력 형식 (CSV, NDJSON)',
+    processed BIGINT NOT NULL DEFAULT 0 COMMENT '처리한 레코드 수 (이어서 할 위치)',
+    imported BIGINT NOT NULL DEFAULT 0 COMMENT '가져온 회원 수',
+    duplicates BIGINT NOT NULL DEFAULT 0 COMMENT '이미 있는 회원이라 건너뛴 수 (이메일/소셜 ID)',
+    rejected BIGINT NOT NULL DEFAULT 0 COMMENT '검증 실패로 건너뛴 수',
+    completed_at DATETIME COMMENT '입력 끝까지 처리한 일시',
+    created_at DATETIME NOT NULL COMMENT '생성 일시',
+    updated_at DATETIME NOT NULL COMMENT '마지막 진행 일시',
+
+    PRIMARY KEY (job_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='회원 가져오기 작업';
+
+-- 건너뛴 레코드와 사유 (진행 조회 API에서 확인)
+CREATE TABLE member_import_skips (
+    job_key VARCHAR(50) NOT NULL COMMENT '작업 키',
+    record_no BIGINT NOT NULL COMMENT '레코드 번호 (1부터, CSV 헤더 제외)',
+    duplicate BOOLEAN NOT NULL COMMENT 'TRUE면 중복, FALSE면 검증 실패',
+    reason VARCHAR(200) NOT NULL COMMENT '사유 (오류 코드 + 메시지)',
+
+    PRIMARY KEY (job_key, record_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='회원 가져오기에서 건너뛴 레코드';
@@ -0,0 +1,4 @@
+-- 권한 관련 정보(역할/등급/상태)가 바뀔 때마다 1씩 증가
+-- Access Token의 ver 클레임과 비교해서 이전에 발급된 토큰을 무효화
+ALTER TABLE members
+    ADD COLUMN auth_version INT NOT NULL DEFAULT 0;
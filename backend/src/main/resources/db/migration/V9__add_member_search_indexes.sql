@@ -0,0 +1,6 @@
+-- 관리자 회원 검색용 인덱스
+-- LIKE '%키워드%'는 인덱스를 못 타서 전체 테이블을 읽음
+-- 이름: ngram FULLTEXT (한글 이름도 2글자 단위로 검색)
+-- 이메일: 앞부분 검색은 기존 이메일 인덱스(idx_email)로 범위 검색
+ALTER TABLE members
+    ADD FULLTEXT INDEX ft_members_name (name) WITH PARSER ngram;
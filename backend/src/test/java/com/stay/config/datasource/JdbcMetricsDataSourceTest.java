@@ -0,0 +1,105 @@
+package com.stay.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcMetricsDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final DataSource dataSource =
+            new JdbcMetricsDataSource(target, new JdbcStatementMetrics(registry, 200, 1000));
+
+    @Test
+    void recordsLatencyAndRowsReadPerCaller() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement("SELECT * FROM members WHERE email = ?");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                // 읽기만
+            }
+        }
+
+        String caller = "JdbcMetricsDataSourceTest.recordsLatencyAndRowsReadPerCaller";
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_STATEMENT)
+                .tags("caller", caller, "kind", "select", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_ROWS)
+                .tags("caller", caller, "kind", "select").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void batchRowsIgnoreUnknownCountsAndFailuresAreTagged() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[]{1, PreparedStatement.SUCCESS_NO_INFO, 1});
+        when(statement.executeUpdate()).thenThrow(new SQLException("deadlock"));
+
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement("UPDATE members SET grade = ? WHERE member_id = ?")) {
+            ps.addBatch();
+            ps.executeBatch();
+            assertThatThrownBy(ps::executeUpdate).isInstanceOf(SQLException.class);
+        }
+
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_ROWS).tag("kind", "update").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_STATEMENT).tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void slowStatementsAreCountedByLevel() {
+        JdbcStatementMetrics metrics = new JdbcStatementMetrics(registry, 200, 1000);
+        metrics.recordExecution("MemberRepository.search", "SELECT 1", 100_000_000L, true, 1);
+        metrics.recordExecution("MemberRepository.search", "SELECT 1", 300_000_000L, true, 1);
+        metrics.recordExecution("MemberRepository.search", "SELECT 1", 1_500_000_000L, true, 1);
+
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_SLOW).tag("level", "warn").counter().count()).isEqualTo(1);
+        assertThat(registry.get(JdbcStatementMetrics.METRIC_SLOW).tag("level", "error").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void callerPrefersRepositoryInterfaceOfProxies() {
+        Object repository = Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Supplier.class, ProbeRepository.class}, (proxy, method, args) -> null);
+
+        assertThat(JdbcStatementMetrics.describe(repository.getClass(), "findByEmail")).contains("ProbeRepository.findByEmail");
+        assertThat(JdbcStatementMetrics.describe(getClass(), "lambda$addLot$3")).contains("JdbcMetricsDataSourceTest.addLot");
+        assertThat(JdbcStatementMetrics.describe(String.class, "valueOf")).isEmpty();
+        assertThat(JdbcStatementMetrics.describe(JdbcStatementMetrics.class, "caller")).isEmpty();
+    }
+
+    @Test
+    void classifiesStatementKinds() {
+        assertThat(JdbcStatementMetrics.kind("  select 1")).isEqualTo("select");
+        assertThat(JdbcStatementMetrics.kind("WITH t AS (SELECT 1) SELECT * FROM t")).isEqualTo("select");
+        assertThat(JdbcStatementMetrics.kind("insert into members values (?)")).isEqualTo("insert");
+        assertThat(JdbcStatementMetrics.kind("DELETE FROM point_lots")).isEqualTo("delete");
+        assertThat(JdbcStatementMetrics.kind("SET autocommit = 0")).isEqualTo("other");
+    }
+
+    interface ProbeRepository {
+    }
+}
@@ -0,0 +1,182 @@
+package com.stay.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG = 3000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWritesPins pins = new ReadYourWritesPins(MAX_LAG, clock::get);
+    private final DataSource primary = mock(DataSource.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary, replicas("replica-1", "replica-2"), pins, MAX_LAG);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        routing.markLag("replica-1", 0L);
+        routing.markLag("replica-2", 0L);
+    }
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverHealthyReplicasOnly() {
+        routing.markLag("replica-1", 10L);
+        routing.markLag("replica-2", 20L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(lookup(), lookup(), lookup(), lookup()))
+                .containsExactlyInAnyOrder("replica-1", "replica-2", "replica-1", "replica-2");
+
+        // 지연이 허용치를 넘거나 측정에 실패하면 빠짐
+        routing.markLag("replica-1", MAX_LAG + 1);
+        assertThat(List.of(lookup(), lookup())).containsOnly("replica-2");
+
+        routing.markLag("replica-2", null);
+        assertThat(lookup()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void unmeasuredReplicasAndWritesUsePrimary() {
+        ReplicaRoutingDataSource unmeasured = new ReplicaRoutingDataSource(
+                primary, replicas("replica-1"), pins, MAX_LAG);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(unmeasured.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(lookup()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void committedWritePinsMemberReadsToPrimaryUntilWindowPasses() throws Exception {
+        signIn(7L);
+
+        // 쓰기 트랜잭션: 롤백이면 고정하지 않고, 커밋 후에만 고정
+        writeInTransaction(1, false);
+        assertThat(pins.isPinned(7L)).isFalse();
+        writeInTransaction(1, true);
+
+        // 같은 회원의 다음 요청(다른 스레드)도 primary
+        assertThat(readOnlyLookupOnOtherThread(7L)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(readOnlyLookupOnOtherThread(8L)).startsWith("replica-");
+
+        clock.addAndGet(MAX_LAG * 1_000_000L);
+        assertThat(readOnlyLookupOnOtherThread(7L)).startsWith("replica-");
+        pins.evictExpired();
+        assertThat(pins.pinnedMembers()).isZero();
+    }
+
+    @Test
+    void writeTransactionsThatChangeNoRowsDoNotPin() throws Exception {
+        signIn(7L);
+
+        // 조회만 한 쓰기 트랜잭션, 0건 UPDATE
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection().prepareStatement("SELECT 1").executeQuery();
+        commit();
+        writeInTransaction(0, true);
+
+        assertThat(pins.isPinned(7L)).isFalse();
+        assertThat(readOnlyLookupOnOtherThread(7L)).startsWith("replica-");
+    }
+
+    @Test
+    void anonymousWritePinsOnlyTheRestOfItsRequest() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // 회원을 모르는 자동 커밋 쓰기 (가입 등) → 같은 요청의 읽기는 primary
+        when(statement.executeUpdate()).thenReturn(1);
+        routing.getConnection().prepareStatement("INSERT").executeUpdate();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(lookup()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        // 같은 스레드가 다음 요청을 받아도 고정이 따라가지 않음
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(lookup()).startsWith("replica-");
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(lookup()).startsWith("replica-");
+    }
+
+    private void writeInTransaction(int changedRows, boolean committed) throws SQLException {
+        when(statement.executeUpdate()).thenReturn(changedRows);
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection().prepareStatement("UPDATE").executeUpdate();
+        if (committed) {
+            commit();
+        } else {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private String lookup() {
+        return (String) routing.determineCurrentLookupKey();
+    }
+
+    private String readOnlyLookupOnOtherThread(Long memberId) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                signIn(memberId);
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                return lookup();
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                SecurityContextHolder.clearContext();
+            }
+        }).get();
+    }
+
+    private static void signIn(Long memberId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(memberId, null, List.of()));
+    }
+
+    private static Map<String, DataSource> replicas(String... names) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : names) {
+            replicas.put(name, mock(DataSource.class));
+        }
+        return replicas;
+    }
+}
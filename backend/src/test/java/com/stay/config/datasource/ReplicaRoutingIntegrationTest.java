@@ -0,0 +1,138 @@
+package com.stay.config.datasource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 라우팅 DataSource를 실제 MySQL 두 개(primary 역할, replica 역할)로 확인
+ *
+ * MySQL이 필요해서 평소에는 건너뜀. 실행 방법 (같은 서버의 다른 스키마여도 됨):
+ * ROUTING_PRIMARY_URL='jdbc:mysql://localhost:3306/stay_primary?user=root&password=...' \
+ * ROUTING_REPLICA_URL='jdbc:mysql://localhost:3306/stay_replica?user=root&password=...' \
+ *   gradle test --tests '*ReplicaRoutingIntegrationTest'
+ *
+ * - 실제 복제 대신 양쪽에 출처가 다른 행을 넣어서 어느 쪽에서 읽었는지 구분
+ * - replica 하트비트를 직접 갱신해서 최신/지연 상태를 흉내
+ */
+@EnabledIfEnvironmentVariable(named = "ROUTING_REPLICA_URL", matches = ".+")
+class ReplicaRoutingIntegrationTest {
+
+    private static final long MAX_LAG = 3000;
+
+    private static DataSource primary;
+    private static DataSource replica;
+    private static ReplicaRoutingDataSource routing;
+    private static ReplicaLagMonitor monitor;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate writeTx;
+    private static TransactionTemplate readTx;
+
+    @BeforeAll
+    static void setUp() {
+        primary = new DriverManagerDataSource(System.getenv("ROUTING_PRIMARY_URL"));
+        replica = new DriverManagerDataSource(System.getenv("ROUTING_REPLICA_URL"));
+        prepare(primary, "primary");
+        prepare(replica, "replica");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        for (DataSource dataSource : new DataSource[]{primary, replica}) {
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            template.execute("DROP TABLE IF EXISTS routing_probe");
+            template.execute("DROP TABLE IF EXISTS replication_heartbeat");
+        }
+    }
+
+    @BeforeEach
+    void freshReplica() {
+        // 테스트마다 새 인스턴스 (이전 테스트의 쓰기 고정이 남지 않도록)
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                new ReadYourWritesPins(MAX_LAG), MAX_LAG);
+        monitor = new ReplicaLagMonitor(routing);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+
+        setReplicaBeatSecondsAgo(0);
+        monitor.check();
+    }
+
+    @Test
+    void readOnlyTransactionReadsReplicaAndWritesGoToPrimary() {
+        assertThat(readOrigin()).isEqualTo("replica");
+        assertThat(routing.replicaLags().get("replica-1")).isBetween(0L, MAX_LAG);
+        String written = writeTx.execute(status -> origin());
+        assertThat(written).isEqualTo("primary");
+    }
+
+    @Test
+    void readsRightAfterWriteStayOnPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            writeTx.executeWithoutResult(status ->
+                    jdbcTemplate.update("UPDATE routing_probe SET touched = touched + 1"));
+
+            assertThat(readOrigin()).isEqualTo("primary");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // 요청이 끝나면 고정도 끝
+        assertThat(readOrigin()).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        setReplicaBeatSecondsAgo(10);
+        monitor.check();
+
+        assertThat(readOrigin()).isEqualTo("primary");
+
+        setReplicaBeatSecondsAgo(0);
+        monitor.check();
+        assertThat(readOrigin()).isEqualTo("replica");
+    }
+
+    private static String readOrigin() {
+        return readTx.execute(status -> origin());
+    }
+
+    private static String origin() {
+        return jdbcTemplate.queryForObject("SELECT origin FROM routing_probe", String.class);
+    }
+
+    private static void setReplicaBeatSecondsAgo(int seconds) {
+        new JdbcTemplate(replica).update(
+                "UPDATE replication_heartbeat SET beat_at = NOW(6) - INTERVAL ? SECOND WHERE id = 1", seconds);
+    }
+
+    private static void prepare(DataSource dataSource, String origin) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS routing_probe");
+        template.execute("CREATE TABLE routing_probe (origin VARCHAR(20) NOT NULL, touched INT NOT NULL DEFAULT 0)");
+        template.update("INSERT INTO routing_probe (origin) VALUES (?)", origin);
+        template.execute("DROP TABLE IF EXISTS replication_heartbeat");
+        template.execute("CREATE TABLE replication_heartbeat (id TINYINT PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+        template.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(6))");
+    }
+}
@@ -0,0 +1,30 @@
+package com.stay.config.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityRoutesTest {
+
+    @Test
+    void classifiesPublicAdminAndAuthenticatedPaths() {
+        assertThat(SecurityRoutes.classify("/api/members/check-nickname")).isEqualTo(SecurityRoutes.Access.PUBLIC);
+        assertThat(SecurityRoutes.classify("/api/auth/oauth/login")).isEqualTo(SecurityRoutes.Access.PUBLIC);
+        assertThat(SecurityRoutes.classify("/api/email-verification")).isEqualTo(SecurityRoutes.Access.PUBLIC);
+        assertThat(SecurityRoutes.classify("/api/admin/members")).isEqualTo(SecurityRoutes.Access.ADMIN);
+        assertThat(SecurityRoutes.classify("/actuator/metrics")).isEqualTo(SecurityRoutes.Access.ADMIN);
+
+        assertThat(SecurityRoutes.classify("/api/members/me")).isEqualTo(SecurityRoutes.Access.AUTHENTICATED);
+        assertThat(SecurityRoutes.classify("/api/authx")).isEqualTo(SecurityRoutes.Access.AUTHENTICATED);
+        assertThat(SecurityRoutes.classify("/health/detail")).isEqualTo(SecurityRoutes.Access.AUTHENTICATED);
+    }
+
+    @Test
+    void publicRequestIgnoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stay/api/members/check-nickname");
+        request.setContextPath("/stay");
+
+        assertThat(SecurityRoutes.isPublic(request)).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.auth.util.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class AccessTokenRevocationListTest {
+
+    private AccessTokenRevocationList revocationList;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenValidity(3_600_000L);
+
+        revocationList = new AccessTokenRevocationList(
+                mock(RedisTemplate.class, RETURNS_DEEP_STUBS),
+                mock(RedisMessageListenerContainer.class),
+                properties
+        );
+        revocationList.init();
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersPass() {
+        Instant now = Instant.now();
+        revocationList.revokeToken("jti-1", now.plusSeconds(600));
+
+        assertThat(revocationList.isRevoked(token(1L, "jti-1", now))).isTrue();
+        assertThat(revocationList.isRevoked(token(1L, "jti-2", now))).isFalse();
+    }
+
+    @Test
+    void revokedMemberRejectsTokensIssuedBefore() {
+        Instant issuedBefore = Instant.now().minusSeconds(5);
+        revocationList.revokeMember(7L);
+
+        assertThat(revocationList.isRevoked(token(7L, "old", issuedBefore))).isTrue();
+        assertThat(revocationList.isRevoked(token(7L, "new", Instant.now().plusSeconds(2)))).isFalse();
+        assertThat(revocationList.isRevoked(token(8L, "other", issuedBefore))).isFalse();
+    }
+
+    @Test
+    void expiredEntriesArePruned() {
+        Instant now = Instant.now();
+        revocationList.revokeToken("short", now.plusMillis(50));
+
+        assertThat(revocationList.isRevoked(token(1L, "short", now))).isTrue();
+
+        // 만료 시각이 지난 항목 정리
+        sleep(100);
+        revocationList.prune();
+
+        assertThat(revocationList.isRevoked(token(1L, "short", now))).isFalse();
+    }
+
+    private static VerifiedToken token(Long memberId, String tokenId, Instant issuedAt) {
+        return new VerifiedToken(memberId, null, VerifiedToken.TYPE_ACCESS, issuedAt, issuedAt.plusSeconds(3600),
+                null, null, true, 0, tokenId, null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.stay.domain.auth.service;
+
+import com.stay.config.OAuthProperties;
+import com.stay.domain.auth.exception.OAuthProviderUnavailableException;
+import com.stay.domain.member.entity.SocialProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthCallGuardTest {
+
+    private OAuthProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OAuthProperties();
+        properties.getResilience().setMaxConcurrentCalls(1);
+        properties.getResilience().setMinimumCalls(4);
+        properties.getResilience().setSlidingWindowSize(4);
+        properties.getResilience().setFailureRateThreshold(50);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void bulkheadIsIsolatedPerProvider() {
+        OAuthCallGuard guard = new OAuthCallGuard(properties, meterRegistry);
+        Sinks.One<String> slowKakao = Sinks.one();
+
+        // 카카오 자리 하나를 계속 차지
+        guard.execute(SocialProvider.KAKAO, OAuthCallGuard.Phase.TOKEN, slowKakao::asMono).subscribe();
+
+        assertThatThrownBy(() -> guard.execute(SocialProvider.KAKAO, OAuthCallGuard.Phase.TOKEN,
+                () -> Mono.just("x")).block())
+                .isInstanceOf(OAuthProviderUnavailableException.class);
+        assertThat(guard.execute(SocialProvider.GOOGLE, OAuthCallGuard.Phase.TOKEN,
+                () -> Mono.just("ok")).block()).isEqualTo("ok");
+
+        // 끝나면 자리 반환
+        slowKakao.tryEmitValue("done");
+        assertThat(guard.execute(SocialProvider.KAKAO, OAuthCallGuard.Phase.TOKEN,
+                () -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    void circuitOpensOnProviderFailuresButNotOnClientErrors() {
+        OAuthCallGuard guard = new OAuthCallGuard(properties, meterRegistry);
+
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError(guard, responseError(HttpStatus.BAD_REQUEST));
+        }
+        assertThat(guard.circuitState(SocialProvider.NAVER)).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError(guard, responseError(HttpStatus.BAD_GATEWAY));
+        }
+        assertThat(guard.circuitState(SocialProvider.NAVER)).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> guard.execute(SocialProvider.NAVER, OAuthCallGuard.Phase.USER_INFO,
+                () -> Mono.fromCallable(calls::incrementAndGet)).block())
+                .isInstanceOf(OAuthProviderUnavailableException.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void hedgedCallUsesFasterAttempt() {
+        properties.getResilience().setMaxConcurrentCalls(2);
+        properties.getResilience().setHedgeEnabled(true);
+        properties.getResilience().setHedgeDelay(20);
+        OAuthCallGuard guard = new OAuthCallGuard(properties, meterRegistry);
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = guard.executeHedged(SocialProvider.GOOGLE, OAuthCallGuard.Phase.USER_INFO, () ->
+                        attempts.incrementAndGet() == 1
+                                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("slow")
+                                : Mono.just("fast"))
+                .block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts).hasValue(2);
+        assertThat(meterRegistry.get("oauth.provider.requests")
+                .tag("provider", "google").tag("attempt", "hedge").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private void callIgnoringError(OAuthCallGuard guard, Throwable error) {
+        guard.execute(SocialProvider.NAVER, OAuthCallGuard.Phase.USER_INFO, () -> Mono.error(error))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+    }
+
+    private WebClientResponseException responseError(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(),
+                HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.stay.domain.auth.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.stay.config.JwtProperties;
+import com.stay.domain.auth.service.RefreshSessionStore.Rotation;
+import com.stay.domain.auth.service.RefreshSessionStore.Status;
+import com.stay.domain.auth.util.AccessTokenSubject;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberChangedEvent;
+import com.stay.domain.member.event.MemberChangedEvent.ChangeType;
+import com.stay.global.config.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 패밀리 Lua 스크립트 (인메모리 Redis 서버)
+ */
+class RefreshSessionStoreTest {
+
+    private static final AccessTokenSubject SUBJECT =
+            new AccessTokenSubject(7L, "a@stay.com", MemberRole.CUSTOMER, MemberGrade.BASIC, true, 0);
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private RefreshSessionStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        server = RedisServer.newRedisServer().start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenValidity(Duration.ofDays(14).toMillis());
+        store = new RefreshSessionStore(redisTemplate, jwtProperties);
+    }
+
+    @Test
+    void rotationReplacesTokenAndToleratesThePreviousOneBriefly() {
+        String family = store.create(SUBJECT, "t1");
+
+        Rotation rotated = store.rotate(family, "t1", "t2");
+        assertThat(rotated.status()).isEqualTo(Status.ROTATED);
+        assertThat(rotated.tokenId()).isEqualTo("t2");
+        assertThat(rotated.subject()).isEqualTo(SUBJECT);
+
+        // 동시에 재발급한 다른 탭: 교체하지 않고 현재 jti를 받음
+        Rotation grace = store.rotate(family, "t1", "t3");
+        assertThat(grace.status()).isEqualTo(Status.ROTATED);
+        assertThat(grace.tokenId()).isEqualTo("t2");
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        String family = store.create(SUBJECT, "t1");
+        store.rotate(family, "t1", "t2");
+        store.rotate(family, "t2", "t3");
+
+        // 두 번 전 토큰 → 탈취로 보고 패밀리 폐기
+        assertThat(store.rotate(family, "t1", "t4").status()).isEqualTo(Status.REUSED);
+        assertThat(store.rotate(family, "t3", "t4").status()).isEqualTo(Status.MISSING);
+    }
+
+    @Test
+    void logoutRevokesOnlyThatFamily() {
+        String family = store.create(SUBJECT, "t1");
+        String otherDevice = store.create(SUBJECT, "u1");
+
+        store.revoke(SUBJECT.memberId(), family);
+
+        assertThat(store.rotate(family, "t1", "t2").status()).isEqualTo(Status.MISSING);
+        assertThat(store.rotate(otherDevice, "u1", "u2").status()).isEqualTo(Status.ROTATED);
+        assertThat(redisTemplate.opsForSet().members("auth:refresh:member:7")).containsExactly(otherDevice);
+    }
+
+    @Test
+    void memberChangesMarkEverySessionStaleOrRevokeThemAll() {
+        String first = store.create(SUBJECT, "t1");
+        String second = store.create(SUBJECT, "u1");
+
+        store.onMemberChanged(new MemberChangedEvent(7L, ChangeType.GRADE_CHANGED, 1));
+        assertThat(store.rotate(first, "t1", "t2").stale()).isTrue();
+        assertThat(store.rotate(second, "u1", "u2").stale()).isTrue();
+
+        // DB에서 다시 읽은 스냅샷으로 갱신하면 stale 해제
+        AccessTokenSubject promoted = new AccessTokenSubject(7L, "a@stay.com", MemberRole.CUSTOMER, MemberGrade.ELITE, true, 1);
+        store.updateSnapshot(first, promoted);
+        Rotation refreshed = store.rotate(first, "t2", "t3");
+        assertThat(refreshed.stale()).isFalse();
+        assertThat(refreshed.subject()).isEqualTo(promoted);
+
+        store.onMemberChanged(new MemberChangedEvent(7L, ChangeType.DEACTIVATED, 2));
+        assertThat(store.rotate(first, "t3", "t4").status()).isEqualTo(Status.MISSING);
+        assertThat(store.rotate(second, "u2", "u3").status()).isEqualTo(Status.MISSING);
+        assertThat(redisTemplate.hasKey("auth:refresh:member:7")).isFalse();
+    }
+
+    @Test
+    void snapshotReadBeforeAnotherChangeKeepsTheFamilyStale() {
+        String family = store.create(SUBJECT, "t1");
+        store.onMemberChanged(new MemberChangedEvent(7L, ChangeType.GRADE_CHANGED, 1));
+        AccessTokenSubject readFromDb = new AccessTokenSubject(7L, "a@stay.com", MemberRole.CUSTOMER, MemberGrade.ELITE, true, 1);
+
+        // DB에서 읽은 뒤 스냅샷을 쓰기 전에 또 변경됨
+        store.onMemberChanged(new MemberChangedEvent(7L, ChangeType.ROLE_CHANGED, 2));
+        store.updateSnapshot(family, readFromDb);
+
+        Rotation rotated = store.rotate(family, "t1", "t2");
+        assertThat(rotated.stale()).isTrue();
+        assertThat(rotated.subject()).isEqualTo(readFromDb);
+
+        // 최신 버전을 쓰면 해제되고, 늦게 도착한 예전 스냅샷은 덮어쓰지 않음
+        AccessTokenSubject latest = new AccessTokenSubject(7L, "a@stay.com", MemberRole.BUSINESS_OWNER, MemberGrade.ELITE, true, 2);
+        store.updateSnapshot(family, latest);
+        store.updateSnapshot(family, readFromDb);
+
+        Rotation refreshed = store.rotate(family, "t2", "t3");
+        assertThat(refreshed.stale()).isFalse();
+        assertThat(refreshed.subject()).isEqualTo(latest);
+    }
+
+    @Test
+    void snapshotUpdateDoesNotRecreateARevokedFamily() {
+        String family = store.create(SUBJECT, "t1");
+        store.revoke(SUBJECT.memberId(), family);
+
+        store.updateSnapshot(family, SUBJECT);
+
+        assertThat(redisTemplate.hasKey("auth:refresh:" + family)).isFalse();
+    }
+
+    @Test
+    void legacyTokenIsConvertedOnlyOnce() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+        Instant expiresAt = issuedAt.plus(Duration.ofDays(14));
+
+        assertThat(store.consumeLegacy(7L, issuedAt, expiresAt)).isTrue();
+        assertThat(store.consumeLegacy(7L, issuedAt, expiresAt)).isFalse();
+        // 다른 토큰(발급 시각이 다름)은 별개
+        assertThat(store.consumeLegacy(7L, issuedAt.plusSeconds(1), expiresAt)).isTrue();
+    }
+}
@@ -0,0 +1,103 @@
+package com.stay.domain.auth.util;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 1회 처리 비용 비교 벤치마크
+ *
+ * 실행 시간을 비교해서 평소에는 건너뜀 (CI 장비 부하에 따라 흔들림). 실행 방법:
+ * BENCHMARK=true gradle test --tests '*JwtUtilBenchmarkTest'
+ *
+ * - legacy: validateToken + getMemberIdFromToken + getEmailFromToken
+ *           (호출마다 키/파서 재생성, 총 3회 검증)
+ * - verify: 미리 만든 파서로 1회 검증
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class JwtUtilBenchmarkTest {
+
+    private static final String SECRET =
+            "stay-secret-key-for-jwt-token-generation-at-least-256-bits-long-for-hs256-algorithm";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenValidity(3_600_000L);
+        properties.setRefreshTokenValidity(604_800_000L);
+
+        jwtUtil = new JwtUtil(properties);
+        accessToken = jwtUtil.generateAccessToken(new AccessTokenSubject(
+                42L, "bench@stay.com", MemberRole.BUSINESS_OWNER, MemberGrade.ELITE, true, 3));
+    }
+
+    @Test
+    void parseOnceIsCheaperThanLegacyTripleParse() {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += legacyFilterPath(accessToken);
+            sink += parseOnceFilterPath(accessToken);
+        }
+
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += legacyFilterPath(accessToken);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long verifyStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += parseOnceFilterPath(accessToken);
+        }
+        long verifyNanos = System.nanoTime() - verifyStart;
+
+        System.out.printf("[JWT benchmark] legacy: %,d ns/op, parse-once: %,d ns/op (%.1fx)%n",
+                legacyNanos / ITERATIONS,
+                verifyNanos / ITERATIONS,
+                (double) legacyNanos / verifyNanos);
+
+        assertThat(sink).isPositive();
+        assertThat(verifyNanos).isLessThan(legacyNanos);
+    }
+
+    /**
+     * 변경 전 필터 동작 재현 (호출마다 키와 파서를 새로 만들고 3번 파싱)
+     */
+    private long legacyFilterPath(String token) {
+        legacyParse(token);                                              // validateToken
+        long memberId = Long.parseLong(legacyParse(token).getSubject()); // getMemberIdFromToken
+        String email = legacyParse(token).get("email", String.class);    // getEmailFromToken
+        return memberId + email.length();
+    }
+
+    private Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private long parseOnceFilterPath(String token) {
+        VerifiedToken verified = jwtUtil.tryVerify(token).orElseThrow();
+        return verified.memberId() + verified.email().length();
+    }
+}
@@ -0,0 +1,48 @@
+package com.stay.domain.auth.util;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("stay-secret-key-for-jwt-token-generation-at-least-256-bits-long-for-hs256-algorithm");
+        properties.setAccessTokenValidity(3_600_000L);
+        properties.setRefreshTokenValidity(604_800_000L);
+
+        jwtUtil = new JwtUtil(properties);
+        accessToken = jwtUtil.generateAccessToken(new AccessTokenSubject(
+                42L, "member@stay.com", MemberRole.BUSINESS_OWNER, MemberGrade.ELITE, true, 3));
+    }
+
+    @Test
+    void verifyReturnsAllClaimsAtOnce() {
+        VerifiedToken verified = jwtUtil.verify(accessToken);
+
+        assertThat(verified.memberId()).isEqualTo(42L);
+        assertThat(verified.email()).isEqualTo("member@stay.com");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(verified.role()).isEqualTo(MemberRole.BUSINESS_OWNER);
+        assertThat(verified.grade()).isEqualTo(MemberGrade.ELITE);
+        assertThat(verified.active()).isTrue();
+        assertThat(verified.authVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void tryVerifyRejectsTamperedToken() {
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        assertThat(jwtUtil.tryVerify(tampered)).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.stay.domain.auth.util;
+
+import com.stay.config.JwtProperties;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private JwtProperties properties;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("stay-secret-key-for-jwt-token-generation-at-least-256-bits-long-for-hs256-algorithm");
+        properties.setAccessTokenValidity(3_600_000L);
+        properties.setRefreshTokenValidity(604_800_000L);
+        jwtUtil = new JwtUtil(properties);
+    }
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, properties);
+        String token = jwtUtil.generateAccessToken(subject(1L, "a@stay.com"));
+
+        assertThat(cache.getOrVerify(token)).isPresent();
+        assertThat(cache.getOrVerify(token)).isPresent();
+        assertThat(cache.getOrVerify(token)).isPresent();
+
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidTokenIsNeverCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, properties);
+        String token = jwtUtil.generateAccessToken(subject(1L, "a@stay.com"));
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThat(cache.getOrVerify(tampered)).isEmpty();
+        assertThat(cache.getOrVerify(tampered)).isEmpty();
+
+        assertThat(cache.stats().hitCount()).isZero();
+    }
+
+    @Test
+    void expiredTokenIsRejectedEvenIfCached() throws InterruptedException {
+        properties.setAccessTokenValidity(1_000L);  // exp 정밀도가 초 단위
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, properties);
+        String token = new JwtUtil(properties).generateAccessToken(subject(1L, "a@stay.com"));
+
+        assertThat(cache.getOrVerify(token)).isPresent();
+        Thread.sleep(1_100);
+
+        assertThat(cache.getOrVerify(token)).isEmpty();
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryTime() {
+        properties.getCache().setEnabled(false);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, properties);
+        String token = jwtUtil.generateAccessToken(subject(1L, "a@stay.com"));
+
+        assertThat(cache.getOrVerify(token)).isPresent();
+        assertThat(cache.getOrVerify(token)).isPresent();
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.stats().requestCount()).isZero();
+    }
+
+    private static AccessTokenSubject subject(Long memberId, String email) {
+        return new AccessTokenSubject(memberId, email, MemberRole.CUSTOMER, MemberGrade.BASIC, true, 0);
+    }
+}
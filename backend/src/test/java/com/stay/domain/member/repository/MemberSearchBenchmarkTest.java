@@ -0,0 +1,156 @@
+package com.stay.domain.member.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 검색 벤치마크: 기존 LIKE '%키워드%' vs ngram FULLTEXT / 이메일 앞부분 키셋
+ *
+ * MySQL이 필요해서 평소에는 건너뜀. 실행 방법:
+ * BENCHMARK_MYSQL_URL='jdbc:mysql://localhost:3306/stay_bench?user=root&password=...' \
+ *   gradle test --tests '*MemberSearchBenchmarkTest'
+ *
+ * - members와 같은 검색 인덱스를 가진 임시 테이블에 가짜 회원 BENCHMARK_ROWS(기본 200,000)명 생성
+ * - 쿼리마다 워밍업 후 평균 시간을 출력하고, 첫 페이지 결과가 기존 쿼리와 같은지 확인
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+class MemberSearchBenchmarkTest {
+
+    private static final String TABLE = "members_search_bench";
+    private static final int PAGE_SIZE = 20;
+    private static final int RUNS = 20;
+
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final char[] GIVEN_SYLLABLES = "민서준지현우도윤하은수아영호예진성훈유나태연".toCharArray();
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createDataset() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_MYSQL_URL"));
+        int rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "200000"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "member_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "email VARCHAR(100) NOT NULL UNIQUE, " +
+                    "name VARCHAR(50) NOT NULL, " +
+                    "created_at DATETIME(6) NOT NULL, " +
+                    "deleted_at DATETIME(6) NULL, " +
+                    "INDEX idx_email (email), " +
+                    "FULLTEXT INDEX ft_members_name (name) WITH PARSER ngram)");
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (email, name, created_at) VALUES (?, ?, NOW(6))")) {
+            for (int i = 0; i < rows; i++) {
+                String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                        + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                        + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)];
+                insert.setString(1, "user" + i + "@example" + (i % 50) + ".com");
+                insert.setString(2, name);
+                insert.addBatch();
+                if (i % 5_000 == 4_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @AfterAll
+    static void dropDataset() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void nameSearch() throws SQLException {
+        String keyword = "서준";
+
+        List<Long> like = measure("name LIKE (기존)",
+                "SELECT member_id FROM " + TABLE +
+                        " WHERE (name LIKE ? OR email LIKE ?) AND deleted_at IS NULL" +
+                        " ORDER BY member_id DESC",
+                "%" + keyword + "%", "%" + keyword + "%");
+        List<Long> fulltext = measure("name FULLTEXT ngram",
+                "SELECT member_id FROM " + TABLE +
+                        " WHERE MATCH(name) AGAINST(? IN BOOLEAN MODE) AND deleted_at IS NULL" +
+                        " AND member_id < ? ORDER BY member_id DESC LIMIT " + (PAGE_SIZE + 1),
+                "\"" + keyword + "\"", Long.MAX_VALUE);
+
+        assertThat(fulltext.subList(0, PAGE_SIZE)).isEqualTo(like.subList(0, PAGE_SIZE));
+    }
+
+    @Test
+    void emailPrefixSearch() throws SQLException {
+        String prefix = "user1234";
+
+        List<Long> like = measure("email LIKE (기존)",
+                "SELECT member_id FROM " + TABLE +
+                        " WHERE (name LIKE ? OR email LIKE ?) AND deleted_at IS NULL" +
+                        " ORDER BY email",
+                "%" + prefix + "%", "%" + prefix + "%");
+        List<Long> keyset = measure("email 앞부분 키셋",
+                "SELECT member_id FROM " + TABLE +
+                        " WHERE email LIKE ? AND email > ? AND deleted_at IS NULL" +
+                        " ORDER BY email LIMIT " + (PAGE_SIZE + 1),
+                prefix + "%", "");
+
+        // 기존 쿼리는 중간 일치도 포함하므로 앞부분 일치 결과만 비교
+        assertThat(keyset).isNotEmpty();
+        assertThat(like).containsAll(keyset);
+    }
+
+    /**
+     * 워밍업 후 RUNS번 실행한 평균 시간 출력 (마지막 실행 결과 반환)
+     */
+    private List<Long> measure(String label, String sql, Object... params) throws SQLException {
+        List<Long> ids = run(sql, params);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            ids = run(sql, params);
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+        System.out.printf("[member-search-benchmark] %-22s 평균 %8.2fms, 결과 %d건%n", label, averageMillis, ids.size());
+        return ids;
+    }
+
+    private List<Long> run(String sql, Object... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+}
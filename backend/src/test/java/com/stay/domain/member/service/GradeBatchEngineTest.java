@@ -0,0 +1,100 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.entity.MemberGrade;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+
+class GradeBatchEngineTest {
+
+    @Test
+    void gradeCaseIsDerivedFromEnumThresholds() {
+        assertThat(GradeBatchEngine.GRADE_CASE).isEqualTo(
+                "(CASE WHEN reservation_count >= 7 THEN 'ELITE_PLUS' "
+                        + "WHEN reservation_count >= 3 THEN 'ELITE' ELSE 'BASIC' END)");
+
+        // SQL과 같은 규칙
+        assertThat(MemberGrade.determineGrade(2)).isEqualTo(MemberGrade.BASIC);
+        assertThat(MemberGrade.determineGrade(3)).isEqualTo(MemberGrade.ELITE);
+        assertThat(MemberGrade.determineGrade(7)).isEqualTo(MemberGrade.ELITE_PLUS);
+    }
+
+    @Test
+    void partitionOffsetsSplitMembersEvenly() {
+        assertThat(GradeBatchEngine.partitionOffsets(10_000_000, 4))
+                .containsExactly(2_500_000L, 5_000_000L, 7_500_000L);
+
+        // 회원 수보다 파티션이 많으면 줄임
+        assertThat(GradeBatchEngine.partitionOffsets(2, 4)).containsExactly(1L);
+        assertThat(GradeBatchEngine.partitionOffsets(1, 4)).isEmpty();
+    }
+
+    /**
+     * Snowflake ID(밀리초 << 12)처럼 값 사이가 넓게 벌어진 회원도 회원 수만큼의 청크로 끝나는지 (H2, MySQL 모드)
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    void snowflakeSizedIdsAreChunkedByMemberCount() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:grade-batch;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        createTables(jdbcTemplate);
+
+        // 2025-01-01 기준 약 1년 9개월 뒤부터 회원마다 몇 초씩 간격 → member_id ≈ 2.3e14
+        long elapsedMillis = Duration.between(Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2026-10-17T00:00:00Z")).toMillis();
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            long memberId = (elapsedMillis + i * 3_000L) << 12 | (i % 128);
+            members.add(new Object[]{memberId, i % 10});  // 예약 0~9회 → 3회 이상은 등급 이동
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO members (member_id, reservation_count) VALUES (?, ?)", members);
+
+        GradeBatchEngine engine = new GradeBatchEngine(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                mock(ApplicationEventPublisher.class), mock(MemberSnapshotCache.class), mock(RedisTemplate.class),
+                4, 200);
+
+        GradeBatchEngine.Report report = engine.run("2026-10");
+
+        // 파티션 4개 × 625명 → 파티션마다 200 + 200 + 200 + 25명 청크
+        long chunks = mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("update")
+                        && invocation.getMethod().isVarArgs()  // 내부 위임 호출 제외
+                        && GradeBatchEngine.ADVANCE_CHECKPOINT_SQL.equals(invocation.getArgument(0)))
+                .count();
+        assertThat(chunks).isEqualTo(16);
+        assertThat(report.movedInto().get(MemberGrade.ELITE)).isEqualTo(1_000);      // 3~6회
+        assertThat(report.movedInto().get(MemberGrade.ELITE_PLUS)).isEqualTo(750);   // 7~9회
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members WHERE grade <> " + GradeBatchEngine.GRADE_CASE, Long.class))
+                .isZero();
+    }
+
+    private static void createTables(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE members (member_id BIGINT PRIMARY KEY, "
+                + "role VARCHAR(20) NOT NULL DEFAULT 'CUSTOMER', grade VARCHAR(20) NOT NULL DEFAULT 'BASIC', "
+                + "reservation_count INT NOT NULL, is_active BOOLEAN NOT NULL DEFAULT TRUE, deleted_at DATETIME, "
+                + "auth_version INT NOT NULL DEFAULT 0, last_grade_updated_at DATETIME)");
+        jdbcTemplate.execute("CREATE TABLE grade_batch_checkpoints (run_key VARCHAR(20) NOT NULL, "
+                + "partition_no INT NOT NULL, start_id BIGINT NOT NULL, end_id BIGINT NOT NULL, next_id BIGINT NOT NULL, "
+                + "completed_at DATETIME, updated_at DATETIME NOT NULL, PRIMARY KEY (run_key, partition_no))");
+        jdbcTemplate.execute("CREATE TABLE grade_batch_moves (run_key VARCHAR(20) NOT NULL, partition_no INT NOT NULL, "
+                + "from_grade VARCHAR(20) NOT NULL, to_grade VARCHAR(20) NOT NULL, moved BIGINT NOT NULL DEFAULT 0, "
+                + "PRIMARY KEY (run_key, partition_no, from_grade, to_grade))");
+    }
+}
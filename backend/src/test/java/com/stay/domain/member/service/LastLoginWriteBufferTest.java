@@ -0,0 +1,78 @@
+package com.stay.domain.member.service;
+
+import com.stay.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LastLoginWriteBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LastLoginWriteBuffer buffer = new LastLoginWriteBuffer(jdbcTemplate);
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void coalescesLoginsIntoOneBatch() {
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime later = first.plusMinutes(5);
+
+        buffer.record(1L, later);
+        buffer.record(1L, first);
+        buffer.record(2L, first);
+
+        assertThat(buffer.flush()).isEqualTo(2);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue())
+                .filteredOn(row -> row[1].equals(1L))
+                .singleElement()
+                .satisfies(row -> assertThat(row[0]).isEqualTo(Timestamp.valueOf(later)));
+        assertThat(buffer.pendingCount()).isZero();
+
+        // 비어 있으면 DB를 건드리지 않음
+        assertThat(buffer.flush()).isZero();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void keepsEntriesWhenFlushFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        buffer.record(1L, LocalDateTime.now());
+
+        assertThat(buffer.flush()).isZero();
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flushWritesLastLoginAtToMembers() {
+        JdbcTemplate mariaDb = new JdbcTemplate(EmbeddedMariaDb.migratedDataSource("stay_last_login"));
+        mariaDb.update("INSERT INTO members (member_id, email, name, role, grade, created_at, updated_at) "
+                + "VALUES (1, 'login@stay.com', '로그인', 'CUSTOMER', 'BASIC', NOW(), NOW())");
+        LastLoginWriteBuffer realBuffer = new LastLoginWriteBuffer(mariaDb);
+        LocalDateTime loginAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        realBuffer.record(1L, loginAt);
+
+        assertThat(realBuffer.flush()).isEqualTo(1);
+        assertThat(realBuffer.pendingCount()).isZero();
+        assertThat(mariaDb.queryForObject("SELECT last_login_at FROM members WHERE member_id = 1", LocalDateTime.class))
+                .isEqualTo(loginAt);
+
+        // 더 이른 시각은 덮어쓰지 않음
+        realBuffer.record(1L, loginAt.minusHours(1));
+        realBuffer.flush();
+        assertThat(mariaDb.queryForObject("SELECT last_login_at FROM members WHERE member_id = 1", LocalDateTime.class))
+                .isEqualTo(loginAt);
+    }
+}
@@ -0,0 +1,78 @@
+package com.stay.domain.member.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MemberActivityTrackerTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    @Test
+    void recordsAreDedupedPerDayAndBounded() {
+        MemberActivityTracker tracker = new MemberActivityTracker(redisTemplate, 3);
+
+        tracker.recordActive(1L);
+        tracker.recordActive(1L);
+        tracker.recordSignup(2L);   // 가입 + 그날 활동
+        tracker.recordActive(3L);   // 대기 한도 초과 → 버림
+        tracker.recordActive(null);
+
+        assertThat(tracker.flush()).isEqualTo(3);
+        assertThat(tracker.flush()).isZero();
+    }
+
+    @Test
+    void signupIsRecordedOnlyAfterCommit() {
+        MemberActivityTracker tracker = new MemberActivityTracker(redisTemplate, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.recordSignup(1L);
+            assertThat(tracker.flush()).isZero();  // 커밋 전
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(tracker.flush()).isZero();  // 롤백된 가입은 세지 않음
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.recordSignup(2L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(tracker.flush()).isEqualTo(2);  // 가입 + 그날 활동
+    }
+
+    @Test
+    void keysFollowIsoWeeksAndMonths() {
+        LocalDate sunday = LocalDate.of(2025, 3, 2);
+
+        assertThat(MemberActivityTracker.dayKey(sunday)).isEqualTo("member:activity:day:2025-03-02");
+        assertThat(MemberActivityTracker.weekKey(sunday)).isEqualTo("member:activity:week:2025-W09");
+        assertThat(MemberActivityTracker.weekKey(sunday.plusDays(1))).isEqualTo("member:activity:week:2025-W10");
+        assertThat(MemberActivityTracker.monthKey(YearMonth.of(2025, 3))).isEqualTo("member:activity:month:2025-03");
+        // 연말 주는 다음 해 1주차일 수 있음
+        assertThat(MemberActivityTracker.signupWeekKey(LocalDate.of(2024, 12, 30)))
+                .isEqualTo("member:activity:signup-week:2025-W01");
+    }
+
+    @Test
+    void intersectionIsClampedToPossibleRange() {
+        assertThat(MemberActivityTracker.intersection(100, 80, 130)).isEqualTo(50);
+        assertThat(MemberActivityTracker.intersection(100, 80, 200)).isZero();    // 추정 오차로 음수
+        assertThat(MemberActivityTracker.intersection(100, 80, 90)).isEqualTo(80); // min(|A|, |B|) 초과
+    }
+}
@@ -0,0 +1,111 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.service.MemberBulkCodec.Format;
+import com.stay.domain.member.service.MemberBulkCodec.ParsedRecord;
+import com.stay.domain.member.service.MemberBulkCodec.RecordReader;
+import com.stay.domain.member.service.MemberBulkCodec.RecordWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberBulkCodecTest {
+
+    @Test
+    void csvHandlesBomQuotesEmbeddedNewlinesAndBlankLines() throws IOException {
+        String csv = "\uFEFFemail,name,nickname\r\n"
+                + "a@stay.com,\"홍, 길동\",\"say \"\"hi\"\"\"\r\n"
+                + "\r\n"
+                + "b@stay.com,\"두\n줄\",\n";
+
+        List<ParsedRecord> records = readAll(Format.CSV, csv);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).number()).isEqualTo(1);
+        assertThat(records.get(0).fields())
+                .containsEntry("email", "a@stay.com")
+                .containsEntry("name", "홍, 길동")
+                .containsEntry("nickname", "say \"hi\"");
+        assertThat(records.get(1).number()).isEqualTo(2);
+        assertThat(records.get(1).fields().get("name")).isEqualTo("두\n줄");
+        assertThat(records.get(1).fields().get("nickname")).isNull();  // 빈 값 → null
+    }
+
+    @Test
+    void malformedRecordsAreReportedWithoutStoppingTheStream() throws IOException {
+        String csv = "email,name\n"
+                + "a@stay.com\n"                                    // 열 개수 불일치
+                + "b@stay.com," + "x".repeat(MemberBulkCodec.MAX_RECORD_CHARS) + "\n"  // 너무 김
+                + "c@stay.com,셋째\n";
+
+        List<ParsedRecord> records = readAll(Format.CSV, csv);
+
+        assertThat(records).extracting(ParsedRecord::number).containsExactly(1L, 2L, 3L);
+        assertThat(records.get(0).error()).startsWith("MALFORMED");
+        assertThat(records.get(1).error()).startsWith("MALFORMED");
+        assertThat(records.get(2).error()).isNull();
+        assertThat(records.get(2).fields()).containsEntry("name", "셋째");
+    }
+
+    @Test
+    void ndjsonReportsBadLinesAndReadsValuesAsText() throws IOException {
+        String ndjson = "{\"email\":\"a@stay.com\",\"points\":10,\"phoneNumber\":null}\n"
+                + "\n"
+                + "not json\n"
+                + "[1,2]\n";
+
+        List<ParsedRecord> records = readAll(Format.NDJSON, ndjson);
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).fields())
+                .containsEntry("email", "a@stay.com")
+                .containsEntry("points", "10")
+                .containsEntry("phoneNumber", null);
+        assertThat(records.get(1).error()).startsWith("MALFORMED");
+        assertThat(records.get(2).error()).startsWith("MALFORMED");
+    }
+
+    @Test
+    void writtenRecordsReadBackUnchanged() throws IOException {
+        List<String> fields = List.of("email", "name", "memberId");
+        Map<String, Object> record = new HashMap<>();
+        record.put("email", "a@stay.com");
+        record.put("name", "쉼표, \"따옴표\"\r\n줄바꿈");
+        record.put("memberId", 123456789012345L);
+
+        for (Format format : Format.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            RecordWriter writer = MemberBulkCodec.writer(format, out, fields);
+            writer.write(record);
+            writer.close();
+
+            List<ParsedRecord> records = readAll(format, out.toString(StandardCharsets.UTF_8));
+
+            assertThat(records).as(format.name()).hasSize(1);
+            assertThat(records.get(0).fields())
+                    .containsEntry("email", "a@stay.com")
+                    .containsEntry("name", "쉼표, \"따옴표\"\r\n줄바꿈")
+                    .containsEntry("memberId", "123456789012345");
+        }
+    }
+
+    private static List<ParsedRecord> readAll(Format format, String content) throws IOException {
+        List<ParsedRecord> records = new ArrayList<>();
+        try (RecordReader reader = MemberBulkCodec.reader(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            ParsedRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,114 @@
+package com.stay.domain.member.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.repository.MemberRepository;
+import com.stay.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 회원 변경과 포인트 원장이 서로의 값을 덮어쓰지 않는지 (내장 MariaDB + 실제 Hibernate)
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class MemberPointsIntegrationTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws Exception {
+        String url = EmbeddedMariaDb.createDatabase("stay_member_points");
+        RedisServer redis = RedisServer.newRedisServer().start();
+
+        registry.add("DB_URL", () -> url);
+        registry.add("DB_USERNAME", () -> EmbeddedMariaDb.USERNAME);
+        registry.add("DB_PASSWORD", () -> EmbeddedMariaDb.PASSWORD);
+        registry.add("spring.flyway.locations", EmbeddedMariaDb::migrationLocation);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getBindPort);
+        registry.add("SMTP_NAME", () -> "points@stay.com");
+        registry.add("SMTP_PWD", () -> "unused");
+    }
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void memberUpdateKeepsPointsEarnedMeanwhile() {
+        Member member = newMember();
+        pointLedgerService.earn(member.getId(), 100, null, null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Member loaded = memberRepository.findById(member.getId()).orElseThrow();
+            assertThat(loaded.getPoints()).isEqualTo(100);
+
+            // 엔티티를 읽은 뒤 다른 트랜잭션에서 적립 커밋
+            CompletableFuture.runAsync(() -> pointLedgerService.earn(member.getId(), 50, null, null)).join();
+
+            loaded.updateNickname("바뀐" + suffix(4));
+        });
+
+        assertThat(points(member.getId())).isEqualTo(150);
+        assertThat(pointLedgerService.reconcile(member.getId())).isZero();
+    }
+
+    @Test
+    void deleteMemberForfeitsPointsThroughTheLedger() {
+        Member member = newMember();
+        pointLedgerService.earn(member.getId(), 100, null, null);
+        pointLedgerService.use(member.getId(), 30, null, null);
+
+        memberService.deleteMember(member.getId());
+
+        assertThat(points(member.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_lots WHERE member_id = ?", Integer.class, member.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT amount FROM point_transactions WHERE member_id = ? AND type = 'EXPIRE'",
+                Integer.class, member.getId())).isEqualTo(-70);
+
+        // 원장 합계도 0 → 대사가 잔액을 되살리지 않음
+        assertThat(pointLedgerService.reconcile(member.getId())).isZero();
+        assertThat(points(member.getId())).isZero();
+    }
+
+    private int points(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT points FROM members WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private Member newMember() {
+        return memberRepository.save(Member.builder()
+                .email("points-" + System.nanoTime() + "@stay.com")
+                .name("포인트테스트")
+                .nickname("포인트" + suffix(4))
+                .role(MemberRole.CUSTOMER)
+                .build());
+    }
+
+    private static String suffix(int length) {
+        String digits = Long.toString(System.nanoTime());
+        return digits.substring(digits.length() - length);
+    }
+}
@@ -0,0 +1,89 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.MemberResponse;
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.exception.MemberException;
+import com.stay.domain.member.repository.MemberRepository;
+import com.stay.global.pagination.CursorPage;
+import com.stay.global.pagination.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MemberSearchServiceTest {
+
+    private static final LocalDateTime JOINED_AT = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberSearchService service = new MemberSearchService(memberRepository);
+
+    @Test
+    void nameSearchUsesPhraseAndSharedKeysetCursor() {
+        when(memberRepository.searchByName(anyString(), any(), anyLong(), anyInt()))
+                .thenReturn(members(30, 29, 28));
+
+        CursorPage<MemberResponse> first = service.search("길동*", null, null, 2);
+
+        verify(memberRepository).searchByName("\"길동\"", KeysetCursor.FIRST.at(), Long.MAX_VALUE, 3);
+        assertThat(first.items()).extracting("id").containsExactly(30L, 29L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(first.nextCursor())).isEqualTo(new KeysetCursor(JOINED_AT, 29L));
+
+        when(memberRepository.searchByName(anyString(), any(), anyLong(), anyInt())).thenReturn(members(28));
+        CursorPage<MemberResponse> second = service.search("길동", null, first.nextCursor(), 2);
+
+        verify(memberRepository).searchByName("\"길동\"", JOINED_AT, 29L, 3);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void emailSearchEscapesWildcardsAndSeeksFromCursorMember() {
+        when(memberRepository.searchByEmailPrefix(anyString(), any(), eq(Limit.of(101))))
+                .thenReturn(List.of());
+
+        service.search("hong_1@", null, null, 10_000);
+        service.search("hong_1@", null, new KeysetCursor(JOINED_AT, 42L).encode(), 10_000);
+
+        verify(memberRepository).searchByEmailPrefix("hong!_1@%", null, Limit.of(101));
+        verify(memberRepository).searchByEmailPrefix("hong!_1@%", 42L, Limit.of(101));
+    }
+
+    @Test
+    void rejectsShortKeywordsAndBrokenCursors() {
+        assertThatThrownBy(() -> service.search("김", null, null, null)).isInstanceOf(MemberException.class);
+        assertThatThrownBy(() -> service.search("\"김\"", MemberSearchService.SearchType.NAME, null, null))
+                .isInstanceOf(MemberException.class);
+        assertThatThrownBy(() -> service.search("길동", null, "not-a-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(memberRepository);
+    }
+
+    private static List<Member> members(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            Member member = Member.builder()
+                    .email("member" + id + "@stay.com")
+                    .name("홍길동")
+                    .build();
+            ReflectionTestUtils.setField(member, "id", id);
+            ReflectionTestUtils.setField(member, "createdAt", JOINED_AT);
+            return member;
+        }).toList();
+    }
+}
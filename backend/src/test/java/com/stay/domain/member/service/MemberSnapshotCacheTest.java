@@ -0,0 +1,80 @@
+package com.stay.domain.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stay.domain.member.dto.MemberSnapshot;
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberSnapshotCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValueOperations<String, String> valueOperations;
+    private MemberSnapshotCache cache;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        cache = new MemberSnapshotCache(redisTemplate, mock(RedisMessageListenerContainer.class), objectMapper);
+    }
+
+    @Test
+    void loadsFromDatabaseOnceThenServesLocally() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, id -> {
+                loads.incrementAndGet();
+                return snapshot(id, 100);
+            });
+        }
+
+        assertThat(loads).hasValue(1);
+        verify(valueOperations).set(eq("member:snapshot:1"), anyString(), any());
+    }
+
+    @Test
+    void evictForcesReload() {
+        cache.get(1L, id -> snapshot(id, 100));
+        cache.evict(1L);
+
+        MemberSnapshot reloaded = cache.get(1L, id -> snapshot(id, 200));
+
+        assertThat(reloaded.points()).isEqualTo(200);
+    }
+
+    @Test
+    void redisSnapshotIsUsedBeforeDatabase() throws Exception {
+        when(valueOperations.get("member:snapshot:2"))
+                .thenReturn(objectMapper.writeValueAsString(snapshot(2L, 300)));
+
+        MemberSnapshot snapshot = cache.get(2L, id -> {
+            throw new AssertionError("DB를 조회하면 안 됨");
+        });
+
+        assertThat(snapshot).isEqualTo(snapshot(2L, 300));
+    }
+
+    private static MemberSnapshot snapshot(Long id, int points) {
+        return new MemberSnapshot(id, "m" + id + "@stay.com", "회원", "닉네임", null,
+                MemberRole.CUSTOMER, MemberGrade.BASIC, points, 0, null, true, false, 0);
+    }
+}
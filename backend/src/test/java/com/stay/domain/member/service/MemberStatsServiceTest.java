@@ -0,0 +1,50 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.entity.MemberGrade;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.event.MemberLifecycleEvent;
+import com.stay.domain.member.event.MemberLifecycleEvent.Standing;
+import com.stay.domain.member.event.MemberLifecycleEvent.Type;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberStatsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+    private static final Standing BASIC_CUSTOMER = new Standing(MemberRole.CUSTOMER, MemberGrade.BASIC);
+    private static final Standing ELITE_CUSTOMER = new Standing(MemberRole.CUSTOMER, MemberGrade.ELITE);
+
+    @Test
+    void registrationAndDeletionMoveGaugesAndDailyCounters() {
+        assertThat(deltas(Type.REGISTERED, null, BASIC_CUSTOMER)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "active", 1L, "role:CUSTOMER", 1L, "grade:BASIC", 1L, "day:2025-03-01:signups", 1L));
+
+        assertThat(deltas(Type.DELETED, ELITE_CUSTOMER, null)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "active", -1L, "role:CUSTOMER", -1L, "grade:ELITE", -1L, "day:2025-03-01:deletions", 1L));
+
+        // 비활성 회원 탈퇴: 활성 카운터는 그대로, 탈퇴 수만 증가
+        assertThat(deltas(Type.DELETED, null, null))
+                .containsExactly(Map.entry("day:2025-03-01:deletions", 1L));
+    }
+
+    @Test
+    void gradeChangeOnlyMovesBetweenGrades() {
+        assertThat(deltas(Type.GRADE_CHANGED, BASIC_CUSTOMER, ELITE_CUSTOMER))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("grade:BASIC", -1L, "grade:ELITE", 1L));
+    }
+
+    @Test
+    void noOpStateChangesAreNotCounted() {
+        assertThat(deltas(Type.DEACTIVATED, null, null)).isEmpty();
+        assertThat(deltas(Type.ACTIVATED, BASIC_CUSTOMER, BASIC_CUSTOMER)).isEmpty();
+        assertThat(deltas(Type.ACTIVATED, null, BASIC_CUSTOMER)).containsEntry("day:2025-03-01:reactivations", 1L);
+    }
+
+    private static Map<String, Long> deltas(Type type, Standing before, Standing after) {
+        return MemberStatsService.deltas(new MemberLifecycleEvent(1L, type, before, after, DAY));
+    }
+}
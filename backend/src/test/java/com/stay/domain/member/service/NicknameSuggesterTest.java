@@ -0,0 +1,85 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NicknameSuggesterTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    private NicknameSuggester suggester;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.streamAllNicknames())
+                .thenReturn(Stream.of("멋진닉네임", "멋진닉네임짱", "멋진닉네임1", "Stay"));
+
+        suggester = new NicknameSuggester(
+                memberRepository,
+                mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                3
+        );
+    }
+
+    @Test
+    void trieSplitsAndMergesSharedPrefixes() {
+        NicknameTrie trie = new NicknameTrie();
+        trie.add("멋진닉네임");
+        trie.add("멋진닉");
+        trie.add("멋진사람");
+
+        assertThat(trie.contains("멋진닉")).isTrue();
+        assertThat(trie.contains("멋진")).isFalse();
+        assertThat(trie.add("멋진닉")).isFalse();
+
+        assertThat(trie.remove("멋진닉")).isTrue();
+        assertThat(trie.contains("멋진닉")).isFalse();
+        assertThat(trie.contains("멋진닉네임")).isTrue();
+        assertThat(trie.remove("멋진")).isFalse();
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void suggestsOnlyFreeCandidatesInRankOrder() {
+        assertThat(suggester.suggest("멋진닉네임")).isEmpty();  // 트라이 만들기 전
+
+        suggester.rebuild();
+
+        assertThat(suggester.suggest("멋진닉네임"))
+                .containsExactly("멋진닉네임님", "멋진닉네임왕", "멋진닉네임이");
+        // 대소문자 무시 ("Stay"가 있으면 "stay"도 사용 중)
+        assertThat(suggester.suggest("stay")).doesNotContain("stay", "Stay")
+                .containsExactly("stay1", "stay2", "stay3");
+    }
+
+    @Test
+    void candidatesFollowNicknameRules() {
+        assertThat(NicknameSuggester.candidates("여덟글자닉네임임"))
+                .allMatch(candidate -> candidate.length() <= 8)
+                .contains("여덟글자닉네임1", "여덟글자닉네임_", "여덟글자닉네임이", "여덟글자닉네99");
+        assertThat(NicknameSuggester.candidates("stay")).contains("st4y", "5tay");
+    }
+
+    @Test
+    void appliesChangesFromOtherNodesAndAfterRebuild() {
+        suggester.rebuild();
+        suggester.apply("멋진닉네임짱", "멋진닉네임님");
+
+        assertThat(suggester.suggest("멋진닉네임"))
+                .containsExactly("멋진닉네임짱", "멋진닉네임왕", "멋진닉네임이");
+    }
+}
@@ -0,0 +1,84 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.dto.PointTransaction;
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 적립/사용 규칙 (H2, MySQL 모드)
+ */
+class PointLedgerServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PointLedgerService pointLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:point-ledger-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        jdbcTemplate.execute("CREATE TABLE members (member_id BIGINT PRIMARY KEY, points INT NOT NULL, "
+                + "is_active BOOLEAN NOT NULL DEFAULT TRUE, deleted_at DATETIME)");
+        jdbcTemplate.execute("CREATE TABLE point_transactions (point_transaction_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT NOT NULL, type VARCHAR(20) NOT NULL, amount INT NOT NULL, balance_after INT NOT NULL, "
+                + "idempotency_key VARCHAR(64) NOT NULL, reason VARCHAR(100), created_at DATETIME(6) NOT NULL, "
+                + "UNIQUE (member_id, idempotency_key))");
+        jdbcTemplate.execute("CREATE TABLE point_lots (point_lot_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT NOT NULL, earn_transaction_id BIGINT, amount INT NOT NULL, remaining INT NOT NULL, "
+                + "expires_on DATE NOT NULL, created_at DATETIME(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO members (member_id, points) VALUES (1, 0)");
+
+        pointLedgerService = new PointLedgerService(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                mock(MemberSnapshotCache.class), 365);
+    }
+
+    @Test
+    void zeroAmountIsAcceptedAndNegativeIsRejected() {
+        PointTransaction earned = pointLedgerService.earn(1L, 0, null, null);
+        PointTransaction used = pointLedgerService.use(1L, 0, null, null);
+
+        assertThat(earned.amount()).isZero();
+        assertThat(used.balanceAfter()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_lots", Integer.class)).isZero();
+
+        assertThatThrownBy(() -> pointLedgerService.earn(1L, -1, null, null))
+                .isInstanceOf(MemberException.class)
+                .extracting(e -> ((MemberException) e).getErrorCode())
+                .isEqualTo(MemberErrorCode.INVALID_POINT_AMOUNT);
+    }
+
+    @Test
+    void idempotencyKeyIsLookedUpOnlyWhenSupplied() {
+        pointLedgerService.earn(1L, 100, null, null);
+        assertThat(keyLookups()).isZero();
+
+        PointTransaction first = pointLedgerService.earn(1L, 50, "order-1", null);
+        PointTransaction retried = pointLedgerService.earn(1L, 50, "order-1", null);
+
+        assertThat(keyLookups()).isEqualTo(2);
+        assertThat(retried.id()).isEqualTo(first.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT points FROM members WHERE member_id = 1", Integer.class))
+                .isEqualTo(150);
+    }
+
+    private long keyLookups() {
+        return mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("query")
+                        && invocation.getMethod().isVarArgs()
+                        && invocation.getArgument(0).toString().contains("idempotency_key = ?"))
+                .count();
+    }
+}
@@ -0,0 +1,132 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.exception.MemberErrorCode;
+import com.stay.domain.member.exception.MemberException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 한 회원에게 적립/사용이 몰릴 때 잔액 유실이 없는지 확인하는 부하 테스트
+ *
+ * MySQL이 필요해서 평소에는 건너뜀. 실행 방법 (버려도 되는 스키마에 Flyway 마이그레이션 적용):
+ * BENCHMARK_MYSQL_URL='jdbc:mysql://localhost:3306/stay_bench?user=root&password=...' \
+ *   gradle test --tests '*PointLedgerStressTest'
+ *
+ * 스레드 32개가 같은 회원에게 적립 1P / 사용 1P를 섞어서 보내고
+ * 최종 잔액 = 시작 잔액 + 성공한 적립 - 성공한 사용 = 원장 합계인지 확인한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+class PointLedgerStressTest {
+
+    private static final int THREADS = 32;
+    private static final int OPS_PER_THREAD = 500;
+    private static final int STARTING_BALANCE = 1_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private PointLedgerService ledger;
+    private long memberId;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("BENCHMARK_MYSQL_URL"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        ledger = new PointLedgerService(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                mock(MemberSnapshotCache.class), 365);
+
+        // member_id는 애플리케이션 발급이라(V16) 버려도 되는 스키마에서 최댓값 + 1을 사용
+        memberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM members", Long.class);
+        jdbcTemplate.update("INSERT INTO members (member_id, email, name, role, grade, points, created_at, updated_at) "
+                + "VALUES (?, ?, '부하테스트', 'CUSTOMER', 'BASIC', 0, NOW(), NOW())",
+                memberId, "ledger-stress-" + System.nanoTime() + "@stay.com");
+        ledger.earn(memberId, STARTING_BALANCE, "stress-opening", "부하 테스트 시작 잔액");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM members WHERE member_id = ?", memberId);
+    }
+
+    @Test
+    void concurrentEarnAndUseOnHotMemberLoseNothing() throws InterruptedException, ExecutionException {
+        AtomicLong earned = new AtomicLong();
+        AtomicLong used = new AtomicLong();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    String key = "stress-" + thread + "-" + i;
+                    if ((thread + i) % 2 == 0) {
+                        ledger.earn(memberId, 1, key, null);
+                        earned.incrementAndGet();
+                    } else {
+                        try {
+                            ledger.use(memberId, 1, key, null);
+                            used.incrementAndGet();
+                        } catch (MemberException e) {
+                            assertThat(e.getErrorCode()).isEqualTo(MemberErrorCode.INSUFFICIENT_POINTS);
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    // 같은 키 재시도는 잔액을 바꾸지 않음
+                    if (i % 100 == 0 && (thread + i) % 2 == 0) {
+                        ledger.earn(memberId, 1, key, null);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get();  // 스레드 안의 예외/단언 실패를 여기서 드러냄
+        }
+        executor.shutdown();
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        int balance = jdbcTemplate.queryForObject("SELECT points FROM members WHERE member_id = ?", Integer.class, memberId);
+        int ledgerSum = jdbcTemplate.queryForObject(
+                "SELECT SUM(amount) FROM point_transactions WHERE member_id = ?", Integer.class, memberId);
+
+        System.out.printf("[point-ledger-stress] %d ops in %.2fs (%.0f ops/s), earned %d, used %d, rejected %d%n",
+                THREADS * OPS_PER_THREAD, seconds, THREADS * OPS_PER_THREAD / seconds,
+                earned.get(), used.get(), rejected.get());
+
+        assertThat(balance).isEqualTo(STARTING_BALANCE + earned.get() - used.get());
+        assertThat(ledgerSum).isEqualTo(balance);
+        // 사용은 적립 묶음에서 FIFO로 차감 → 남은 묶음 합계도 잔액과 같음
+        int lotSum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remaining), 0) FROM point_lots WHERE member_id = ?", Integer.class, memberId);
+        assertThat(lotSum).isEqualTo(balance);
+        assertThat(ledger.reconcile(memberId)).isZero();
+    }
+}
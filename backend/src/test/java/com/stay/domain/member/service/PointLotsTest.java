@@ -0,0 +1,43 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.service.PointExpiryEngine.ExpiringLot;
+import com.stay.domain.member.service.PointLedgerService.Lot;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLotsTest {
+
+    @Test
+    void useConsumesEarliestExpiringLotsFirst() {
+        List<Lot> lots = List.of(new Lot(1, 100), new Lot(2, 50), new Lot(3, 200));
+
+        assertThat(PointLedgerService.consumeFifo(lots, 120))
+                .containsExactly(new Lot(1, 0), new Lot(2, 30));
+        assertThat(PointLedgerService.consumeFifo(lots, 100))
+                .containsExactly(new Lot(1, 0));
+        // 묶음 합계보다 많이 쓰면 있는 만큼만 차감
+        assertThat(PointLedgerService.consumeFifo(lots, 999))
+                .containsExactly(new Lot(1, 0), new Lot(2, 0), new Lot(3, 0));
+    }
+
+    @Test
+    void expiryNeverTakesMoreThanBalance() {
+        List<ExpiringLot> lots = List.of(
+                new ExpiringLot(1, 10, 300),
+                new ExpiringLot(2, 10, 300),
+                new ExpiringLot(3, 20, 100),
+                new ExpiringLot(4, 30, 100));
+        Map<Long, Integer> balances = new HashMap<>(Map.of(10L, 500, 20L, 1_000, 30L, 0));
+
+        assertThat(PointExpiryEngine.settle(lots, balances)).containsExactly(
+                new ExpiringLot(1, 10, 300),
+                new ExpiringLot(2, 10, 200),
+                new ExpiringLot(3, 20, 100));
+        assertThat(balances).containsEntry(10L, 0).containsEntry(20L, 900).containsEntry(30L, 0);
+    }
+}
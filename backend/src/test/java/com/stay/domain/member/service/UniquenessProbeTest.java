@@ -0,0 +1,84 @@
+package com.stay.domain.member.service;
+
+import com.stay.domain.member.repository.BusinessInfoRepository;
+import com.stay.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UniquenessProbeTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final BusinessInfoRepository businessInfoRepository = mock(BusinessInfoRepository.class);
+    private final AtomicInteger databaseCalls = new AtomicInteger();
+
+    private UniquenessProbe probe;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.streamAllEmails()).thenReturn(Stream.of("taken@stay.com"));
+        when(memberRepository.streamAllNicknames()).thenReturn(Stream.of("멋진닉네임"));
+        when(businessInfoRepository.streamAllBusinessNumbers()).thenReturn(Stream.empty());
+
+        probe = new UniquenessProbe(
+                memberRepository,
+                businessInfoRepository,
+                mock(RedisTemplate.class, RETURNS_DEEP_STUBS),
+                mock(RedisMessageListenerContainer.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(),
+                1_000,
+                0.001
+        );
+    }
+
+    @Test
+    void beforeRebuildEveryProbeGoesToDatabase() {
+        assertThat(probe.exists(UniquenessProbe.Field.NICKNAME, "새닉네임", this::database)).isFalse();
+        assertThat(databaseCalls).hasValue(1);
+    }
+
+    @Test
+    void unknownValuesAreAnsweredFromMemory() {
+        probe.rebuildAll();
+
+        assertThat(probe.exists(UniquenessProbe.Field.NICKNAME, "새닉네임", this::database)).isFalse();
+        assertThat(probe.exists(UniquenessProbe.Field.EMAIL, "new@stay.com", this::database)).isFalse();
+        assertThat(databaseCalls).hasValue(0);
+
+        // 있을 수도 있는 값은 확인 (Redis 집합이 준비 안 됐으면 DB), 대소문자 무시
+        assertThat(probe.exists(UniquenessProbe.Field.EMAIL, "Taken@Stay.com", () -> {
+            databaseCalls.incrementAndGet();
+            return true;
+        })).isTrue();
+        assertThat(databaseCalls).hasValue(1);
+    }
+
+    @Test
+    void addedValuesBecomeProbablyTaken() {
+        probe.rebuildAll();
+        probe.recordAdded(UniquenessProbe.Field.BUSINESS_NUMBER, "123-45-67890");
+
+        probe.exists(UniquenessProbe.Field.BUSINESS_NUMBER, "123-45-67890", this::database);
+
+        assertThat(databaseCalls).hasValue(1);
+    }
+
+    private Boolean database() {
+        databaseCalls.incrementAndGet();
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.stay.global.id;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT 처리량 벤치마크: IDENTITY(행마다 INSERT 후 생성 키 조회) vs Snowflake ID + JDBC 배치
+ *
+ * MySQL이 필요해서 평소에는 건너뜀. 실행 방법:
+ * BENCHMARK_MYSQL_URL='jdbc:mysql://localhost:3306/stay_bench?user=root&password=...' \
+ *   gradle test --tests '*BatchInsertBenchmarkTest'
+ *
+ * - Hibernate가 두 전략에서 보내는 JDBC 호출을 그대로 재현 (한 트랜잭션에 BENCHMARK_ROWS(기본 20,000)행)
+ *   IDENTITY: executeUpdate + getGeneratedKeys를 행마다 / Snowflake: batch_size(50)개씩 executeBatch
+ * - 운영과 같이 rewriteBatchedStatements=true (배치를 다중 VALUES INSERT 한 번으로 전송)
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+class BatchInsertBenchmarkTest {
+
+    private static final String IDENTITY_TABLE = "insert_bench_identity";
+    private static final String SNOWFLAKE_TABLE = "insert_bench_snowflake";
+    private static final int BATCH_SIZE = 50;
+
+    private static Connection connection;
+    private static int rows;
+
+    @BeforeAll
+    static void createTables() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("rewriteBatchedStatements", "true");
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_MYSQL_URL"), properties);
+        rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "20000"));
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{IDENTITY_TABLE, SNOWFLAKE_TABLE}) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (" +
+                        "member_id BIGINT NOT NULL" + (table.equals(IDENTITY_TABLE) ? " AUTO_INCREMENT" : "") + ", " +
+                        "email VARCHAR(100) NOT NULL, " +
+                        "name VARCHAR(50) NOT NULL, " +
+                        "created_at DATETIME NOT NULL, " +
+                        "PRIMARY KEY (member_id), " +
+                        "UNIQUE KEY uk_email (email))");
+            }
+        }
+    }
+
+    @AfterAll
+    static void dropTables() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+                statement.execute("DROP TABLE IF EXISTS " + SNOWFLAKE_TABLE);
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void batchedSnowflakeInsertsBeatIdentity() throws SQLException {
+        double identity = measure("IDENTITY (행마다)", () -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + IDENTITY_TABLE + " (email, name, created_at) VALUES (?, ?, NOW())",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < rows; i++) {
+                    insert.setString(1, "identity" + i + "@stay.com");
+                    insert.setString(2, "벤치" + i);
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+        });
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0, System::currentTimeMillis);
+        double snowflake = measure("Snowflake + 배치 " + BATCH_SIZE, () -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + SNOWFLAKE_TABLE + " (member_id, email, name, created_at) VALUES (?, ?, ?, NOW())")) {
+                for (int i = 0; i < rows; i++) {
+                    insert.setLong(1, generator.nextId());
+                    insert.setString(2, "snowflake" + i + "@stay.com");
+                    insert.setString(3, "벤치" + i);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        });
+
+        assertThat(count(IDENTITY_TABLE)).isEqualTo(rows);
+        assertThat(count(SNOWFLAKE_TABLE)).isEqualTo(rows);
+        assertThat(snowflake).isGreaterThan(identity);
+    }
+
+    /**
+     * 한 트랜잭션으로 실행하고 초당 행 수 출력
+     */
+    private double measure(String label, SqlWork work) throws SQLException {
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        work.run();
+        connection.commit();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        connection.setAutoCommit(true);
+
+        double rowsPerSecond = rows / seconds;
+        System.out.printf("[insert-benchmark] %-22s %8.0f rows/s (%d행, %.2fs)%n", label, rowsPerSecond, rows, seconds);
+        return rowsPerSecond;
+    }
+
+    private int count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
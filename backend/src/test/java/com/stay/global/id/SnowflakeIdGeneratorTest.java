@@ -0,0 +1,125 @@
+package com.stay.global.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+
+    @Test
+    void idsEncodeTimeAndNodeAndStayJavaScriptSafe() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 7, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.createdAt(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+        // 프론트엔드(Number)에서 반올림되지 않는 범위
+        int totalBits = SnowflakeIdGenerator.TIMESTAMP_BITS + SnowflakeIdGenerator.NODE_BITS
+                + SnowflakeIdGenerator.SEQUENCE_BITS;
+        assertThat((1L << totalBits) - 1).isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    void exhaustedSequenceWaitsForNextMillisecond() {
+        // 시계를 200번 읽은 뒤에야 다음 밀리초로 넘어감 → 129번째 ID는 대기 후 발급
+        AtomicLong reads = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0,
+                () -> reads.incrementAndGet() > 200 ? NOW + 1 : NOW);
+
+        long previous = -1;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_SEQUENCE; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        long next = generator.nextId();
+
+        assertThat(next).isGreaterThan(previous);
+        assertThat(SnowflakeIdGenerator.createdAt(previous)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(SnowflakeIdGenerator.createdAt(next)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    void smallClockRollbackWaitsButLargeOneIsRefused() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0, () -> clock.getAndIncrement());
+
+        long first = generator.nextId();
+        clock.set(NOW - 2);  // 2ms 뒤로 → 따라잡을 때까지 기다린 뒤 발급
+        assertThat(generator.nextId()).isGreaterThan(first);
+
+        clock.set(NOW - 60_000);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void concurrentCallersNeverShareAnId() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 3, System::currentTimeMillis);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        Set<Long> unique = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            unique.addAll(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(unique).hasSize(8 * 20_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void expiredLeaseStopsIssuingIds() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicLong clock = new AtomicLong(NOW);
+
+        NodeIdLease lease = new NodeIdLease(redisTemplate, -1, Duration.ofSeconds(30), clock::get);
+        lease.start();
+        int nodeId = lease.nodeId();
+
+        // Redis 장애로 연장 실패 → TTL이 지나면 거부 (다른 인스턴스가 같은 번호를 가져갔을 수 있음)
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("id:node:" + nodeId)), any(), any()))
+                .thenThrow(new IllegalStateException("redis down"));
+        clock.addAndGet(20_000);
+        lease.renew();
+        assertThat(lease.nodeId()).isEqualTo(nodeId);
+
+        clock.addAndGet(10_000);
+        assertThatThrownBy(lease::nodeId).isInstanceOf(IllegalStateException.class);
+    }
+}
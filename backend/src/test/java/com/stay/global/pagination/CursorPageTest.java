@@ -0,0 +1,47 @@
+package com.stay.global.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Test
+    void cursorRoundTripsAndDefaultsToFirstPage() {
+        KeysetCursor cursor = new KeysetCursor(AT, 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void extraRowMeansNextPageFromLastItem() {
+        List<Long> fetched = List.of(5L, 4L, 3L);
+
+        CursorPage<Long> page = CursorPage.of(fetched, 2, id -> new KeysetCursor(AT, id), Function.identity());
+
+        assertThat(page.items()).containsExactly(5L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(AT, 4L));
+
+        CursorPage<Long> last = CursorPage.of(List.of(3L), 2, id -> new KeysetCursor(AT, id), Function.identity());
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsBounded() {
+        assertThat(CursorPage.clampSize(null)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.clampSize(0)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+}
@@ -0,0 +1,309 @@
+package com.stay.global.querybudget;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import com.stay.domain.auth.util.AccessTokenSubject;
+import com.stay.domain.auth.util.JwtUtil;
+import com.stay.domain.member.entity.Member;
+import com.stay.domain.member.entity.MemberRole;
+import com.stay.domain.member.repository.MemberRepository;
+import com.stay.domain.member.service.EmailService;
+import com.stay.domain.member.service.LastLoginWriteBuffer;
+import com.stay.domain.member.service.PointLedgerService;
+import com.stay.support.EmbeddedMariaDb;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static com.stay.support.QueryBudgetAssertions.assertWithinBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 회원/인증 엔드포인트가 @QueryBudget 안에서 끝나는지 실제 SQL로 확인 (기본 test 태스크에서 실행 → 초과하면 빌드 실패)
+ *
+ * - DB: 내장 MariaDB (EmbeddedMariaDb, Flyway가 운영과 같은 마이그레이션 적용)
+ * - Redis: 인메모리 Redis 서버 (jedis-mock)
+ * - 소셜 제공자: oauth-stub 프로필의 OAuthStubController (이 테스트가 띄운 서버 포트로 호출)
+ * - 메일 발송은 목으로 대체
+ *
+ * 쓰기 엔드포인트는 매번 새 회원으로 호출 (앞 테스트의 캐시 영향 없이 최악 경로를 셈).
+ * 소셜 로그인 뒤에는 마지막 로그인 시간 버퍼를 직접 비워서 members에 반영됐는지도 확인.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "oauth-stub"})
+class EndpointQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws Exception {
+        String url = EmbeddedMariaDb.createDatabase("stay_budget");
+        RedisServer redis = RedisServer.newRedisServer().start();
+
+        int port = freePort();
+        registry.add("server.port", () -> port);
+        registry.add("DB_URL", () -> url);
+        registry.add("DB_USERNAME", () -> EmbeddedMariaDb.USERNAME);
+        registry.add("DB_PASSWORD", () -> EmbeddedMariaDb.PASSWORD);
+        registry.add("spring.flyway.locations", EmbeddedMariaDb::migrationLocation);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getBindPort);
+        registry.add("SMTP_NAME", () -> "budget@stay.com");
+        registry.add("SMTP_PWD", () -> "unused");
+        for (String provider : new String[]{"google", "naver", "kakao"}) {
+            String stub = "http://localhost:" + port + "/oauth-stub/" + provider;
+            registry.add("oauth." + provider + ".token-uri", () -> stub + "/token");
+            registry.add("oauth." + provider + ".user-info-uri", () -> stub + "/userinfo");
+            registry.add("oauth.stub." + provider + ".latency-ms", () -> 0);
+        }
+        registry.add("oauth.stub.jitter-ms", () -> 0);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private LastLoginWriteBuffer lastLoginWriteBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    void memberReads() throws Exception {
+        Member member = newMember();
+        Cookie token = accessToken(member);
+
+        perform(get("/api/members/me").cookie(token));
+        perform(get("/api/members/me/points").cookie(token));
+        perform(get("/api/members/" + member.getId()).cookie(token));
+        perform(get("/api/members/check-nickname").param("nickname", "없는닉" + suffix(4)));
+    }
+
+    @Test
+    void memberWrites() throws Exception {
+        Member renamed = newMember();
+        perform(patch("/api/members/" + renamed.getId() + "/nickname")
+                .cookie(accessToken(renamed))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nickname\":\"새닉" + suffix(4) + "\"}"));
+
+        Member withdrawn = newMember();
+        perform(delete("/api/members/me").cookie(accessToken(withdrawn)));
+
+        // 남은 포인트가 있어야 소멸 경로까지 셈
+        Member deleted = newMember();
+        pointLedgerService.earn(deleted.getId(), 100, null, null);
+        perform(delete("/api/members/me/permanent").cookie(accessToken(deleted)));
+    }
+
+    @Test
+    void businessRegistration() throws Exception {
+        String email = "budget-biz-" + System.nanoTime() + "@stay.com";
+        String businessNumber = "%03d-%02d-%05d".formatted(
+                System.nanoTime() % 1000, System.nanoTime() % 100, System.nanoTime() % 100000);
+        redisTemplate.opsForValue().set("email:verify:done:" + email, "true", Duration.ofMinutes(5));
+
+        perform(get("/api/business/check-email").param("email", email));
+        perform(get("/api/business/check-business-number").param("businessNumber", businessNumber));
+        perform(post("/api/business/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"budget1234","name":"예산테스트","phoneNumber":"010-1234-5678",
+                         "businessNumber":"%s","companyName":"예산상사","nickname":"사장%s"}
+                        """.formatted(email, businessNumber, suffix(4))));
+    }
+
+    @Test
+    void emailResend() throws Exception {
+        Member member = newMember();
+        perform(post("/api/email-verification/resend")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + member.getEmail() + "\"}"));
+    }
+
+    @Test
+    void oauthSignupLoginRefreshLogout() throws Exception {
+        // 처음 로그인: 연동된 소셜 계정도, 같은 이메일 회원도 없음 → 가입 필요
+        String code = "budget-" + System.nanoTime();
+        JsonNode oauthData = json(login(code)).path("oauthData");
+        String email = oauthData.path("email").asText();
+
+        perform(post("/api/auth/oauth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "provider", oauthData.path("provider").asText(),
+                        "socialId", oauthData.path("providerId").asText(),
+                        "email", oauthData.path("email").asText(),
+                        "name", oauthData.path("name").asText(),
+                        "nickname", "소셜" + suffix(5)))));
+
+        // 연동된 소셜 계정으로 다시 로그인 → 토큰 쿠키 + 마지막 로그인 시간(버퍼)
+        LocalDateTime loginStarted = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        MvcResult returning = login(code);
+        assertLastLoginRecorded(email, loginStarted);
+        Cookie refreshToken = cookie(returning, "refreshToken");
+        Cookie accessToken = cookie(returning, "accessToken");
+
+        // 재발급: 세션 스냅샷 그대로 / stale이면 회원 조회
+        MvcResult refreshed = perform(post("/api/auth/oauth/refresh").cookie(refreshToken));
+        refreshToken = cookie(refreshed, "refreshToken");
+        String familyId = jwtUtil.tryVerify(refreshToken.getValue()).orElseThrow().familyId();
+        redisTemplate.opsForHash().put("auth:refresh:" + familyId, "stale", "1");
+        refreshed = perform(post("/api/auth/oauth/refresh").cookie(refreshToken));
+
+        perform(post("/api/auth/oauth/logout").cookie(cookie(refreshed, "refreshToken"), cookie(refreshed, "accessToken")));
+
+        // 탈퇴한 회원이 같은 소셜 계정으로 다시 로그인 → 재활성화
+        perform(delete("/api/members/me/permanent").cookie(accessToken));
+        jdbcTemplate.update("UPDATE members SET last_login_at = NULL WHERE email = ?", email);
+        loginStarted = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        login(code);
+        assertLastLoginRecorded(email, loginStarted);
+    }
+
+    @Test
+    void oauthLoginWithEmailOfAnotherAccount() throws Exception {
+        // 다른 경로로 이미 가입한 이메일 → 소셜 계정 조회 + 이메일 확인 뒤 거절
+        String code = "budget-" + System.nanoTime();
+        String email = json(login(code)).path("oauthData").path("email").asText();
+        memberRepository.save(Member.builder()
+                .email(email)
+                .name("예산테스트")
+                .nickname("예산" + suffix(5))
+                .role(MemberRole.CUSTOMER)
+                .build());
+
+        login(code);
+    }
+
+    @Test
+    void credentialLoginAndLogout() throws Exception {
+        perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"budget@stay.com\",\"password\":\"wrong\"}"));
+        perform(post("/api/auth/logout"));
+    }
+
+    /**
+     * 소셜 로그인 (비동기 응답 → asyncDispatch까지 끝낸 뒤 확인)
+     */
+    private MvcResult login(String code) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/auth/oauth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"provider\":\"kakao\",\"code\":\"" + code + "\"}"))
+                .andReturn();
+        started.getAsyncResult(10_000);
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andReturn();
+        assertWithinBudget(result);
+        return result;
+    }
+
+    /**
+     * 마지막 로그인 시간이 members에 반영됐는지 (버퍼를 직접 비움 → 반영 SQL이 실패하면 여기서 드러남)
+     */
+    private void assertLastLoginRecorded(String email, LocalDateTime notBefore) {
+        lastLoginWriteBuffer.flush();
+        LocalDateTime lastLoginAt = jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM members WHERE email = ?", LocalDateTime.class, email);
+        assertThat(lastLoginAt).isNotNull().isAfterOrEqualTo(notBefore);
+    }
+
+    /**
+     * 응답 코드는 보지 않음 (실패 응답도 예산 안이어야 함)
+     */
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertWithinBudget(result);
+        return result;
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    /**
+     * Set-Cookie 헤더(ResponseCookie)와 Cookie 객체 모두에서 찾음
+     */
+    private static Cookie cookie(MvcResult result, String name) {
+        Cookie cookie = result.getResponse().getCookie(name);
+        if (cookie != null) {
+            return cookie;
+        }
+        for (String header : result.getResponse().getHeaders(HttpHeaders.SET_COOKIE)) {
+            if (header.startsWith(name + "=")) {
+                return new Cookie(name, header.substring(name.length() + 1, header.indexOf(';')));
+            }
+        }
+        throw new AssertionError(name + " 쿠키가 없음 - status: " + result.getResponse().getStatus());
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Member newMember() {
+        return memberRepository.save(Member.builder()
+                .email("budget-" + System.nanoTime() + "@stay.com")
+                .name("예산테스트")
+                .nickname("예산" + suffix(5))
+                .role(MemberRole.CUSTOMER)
+                .build());
+    }
+
+    private Cookie accessToken(Member member) {
+        return new Cookie("accessToken", jwtUtil.generateAccessToken(AccessTokenSubject.from(member)));
+    }
+
+    private static String suffix(int length) {
+        String digits = Long.toString(System.nanoTime());
+        return digits.substring(digits.length() - length);
+    }
+}
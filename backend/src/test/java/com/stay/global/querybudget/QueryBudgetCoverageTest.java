@@ -0,0 +1,48 @@
+package com.stay.global.querybudget;
+
+import com.stay.domain.auth.controller.AuthController;
+import com.stay.domain.auth.controller.OAuthController;
+import com.stay.domain.member.controller.BusinessMemberController;
+import com.stay.domain.member.controller.EmailVerificationController;
+import com.stay.domain.member.controller.MemberController;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원/인증 컨트롤러의 모든 엔드포인트에 @QueryBudget이 있는지 (DB 없이 항상 실행)
+ *
+ * 새 엔드포인트를 추가하면서 예산을 빠뜨리면 여기서 실패한다.
+ * 예산 자체는 EndpointQueryBudgetTest가 실제 MySQL로 확인.
+ */
+class QueryBudgetCoverageTest {
+
+    private static final List<Class<?>> COVERED_CONTROLLERS = List.of(
+            MemberController.class,
+            BusinessMemberController.class,
+            EmailVerificationController.class,
+            AuthController.class,
+            OAuthController.class
+    );
+
+    @Test
+    void everyMemberAndAuthEndpointDeclaresABudget() {
+        List<String> missing = new ArrayList<>();
+        for (Class<?> controller : COVERED_CONTROLLERS) {
+            for (Method method : controller.getDeclaredMethods()) {
+                if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)
+                        && !method.isAnnotationPresent(QueryBudget.class)) {
+                    missing.add(controller.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        assertThat(missing).as("@QueryBudget이 없는 엔드포인트").isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package com.stay.global.querybudget;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryBudgetFilter filter = new QueryBudgetFilter(registry);
+
+    @Test
+    void countsStatementsAndFlagsEndpointsOverBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+
+        filter.doFilter(request, new MockHttpServletResponse(), handledBy("twoStatements", 3));
+
+        assertThat(request.getAttribute(QueryBudgetFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(3);
+        assertThat(request.getAttribute(QueryBudgetFilter.BUDGET_ATTRIBUTE)).isEqualTo(2);
+        assertThat(registry.get("http.query.budget.exceeded")
+                .tag("endpoint", "Endpoints.twoStatements").counter().count()).isEqualTo(1);
+
+        // 요청이 끝나면 스레드에 범위가 남지 않음
+        StatementScope.increment();
+        assertThat(StatementScope.current()).isNull();
+    }
+
+    @Test
+    void endpointsWithoutBudgetAreOnlyCounted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/health");
+
+        filter.doFilter(request, new MockHttpServletResponse(), handledBy("unbudgeted", 1));
+
+        assertThat(request.getAttribute(QueryBudgetFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(1);
+        assertThat(request.getAttribute(QueryBudgetFilter.BUDGET_ATTRIBUTE)).isNull();
+        assertThat(registry.find("http.query.budget.exceeded").counter()).isNull();
+    }
+
+    @Test
+    void workHandedToAnotherThreadCountsTowardTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/oauth/login");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler("twoStatements"));
+            StatementScope scope = StatementScope.current();
+            CompletableFuture.runAsync(() -> StatementScope.callWithin(scope, () -> {
+                StatementScope.increment();
+                return null;
+            })).join();
+        });
+
+        assertThat(request.getAttribute(QueryBudgetFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(1);
+    }
+
+    private static FilterChain handledBy(String method, int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                StatementScope.increment();
+            }
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler(method));
+        };
+    }
+
+    private static HandlerMethod handler(String method) {
+        try {
+            return new HandlerMethod(new Endpoints(), Endpoints.class.getDeclaredMethod(method));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Endpoints {
+
+        @QueryBudget(2)
+        void twoStatements() {
+        }
+
+        void unbudgeted() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.stay.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimiterTest {
+
+    @Test
+    void localBucketRefillsAtConfiguredRate() {
+        long period = TimeUnit.SECONDS.toNanos(10);
+        LocalTokenBucket bucket = new LocalTokenBucket(2, period, 0);
+
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        // 10초에 2개 → 다음 토큰까지 5초
+        assertThat(bucket.tryConsume(0)).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+        assertThat(bucket.tryConsume(TimeUnit.SECONDS.toNanos(5))).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void rejectsLocallyWithRetryAfterAndCountsMetric() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Redis 응답이 없으면(장애) 서버 메모리 버킷만으로 판단
+        RateLimiter rateLimiter = new RateLimiter(mock(RedisTemplate.class), meterRegistry);
+        RateLimit limit = Limited.class.getDeclaredMethod("call").getAnnotation(RateLimit.class);
+
+        assertThat(rateLimiter.tryAcquire(limit, "1.2.3.4")).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.tryAcquire(limit, "1.2.3.4")).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.tryAcquire(limit, "1.2.3.4")).isPositive();
+        assertThat(rateLimiter.tryAcquire(limit, "5.6.7.8")).isEqualTo(Duration.ZERO);
+
+        assertThat(meterRegistry.get("ratelimit.rejected")
+                .tag("policy", "test").tag("scope", "local").counter().count()).isEqualTo(1);
+    }
+
+    static class Limited {
+        @RateLimit(name = "test", key = RateLimit.Key.IP, capacity = 2, period = 1, unit = TimeUnit.MINUTES)
+        void call() {
+        }
+    }
+}
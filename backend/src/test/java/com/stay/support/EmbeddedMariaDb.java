@@ -0,0 +1,94 @@
+package com.stay.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 테스트용 내장 MariaDB (MariaDB4j, JVM당 한 번만 띄움)
+ *
+ * - 스키마는 운영과 같은 Flyway 마이그레이션 (MariaDB에 없는 ngram 파서만 기본 파서로)
+ * - 테스트 클래스마다 데이터베이스를 따로 만들어 서로 영향 없음
+ * - JVM 종료 시 같이 종료
+ */
+public final class EmbeddedMariaDb {
+
+    public static final String USERNAME = "root";
+    public static final String PASSWORD = "";
+
+    private static DB database;
+    private static int port;
+    private static Path migrations;
+
+    private EmbeddedMariaDb() {
+    }
+
+    /**
+     * 빈 데이터베이스를 만들고 JDBC URL 반환 (마이그레이션은 호출한 쪽에서, 예: Spring Boot Flyway)
+     */
+    public static synchronized String createDatabase(String name) {
+        try {
+            if (database == null) {
+                DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder().setPort(0);
+                config.addArg("--user=root");
+                database = DB.newEmbeddedDB(config.build());
+                database.start();
+                port = config.getPort();
+                migrations = copyMigrations();
+            }
+            database.createDB(name);
+        } catch (Exception e) {
+            throw new IllegalStateException("내장 MariaDB 시작 실패", e);
+        }
+        return "jdbc:mysql://localhost:" + port + "/" + name;
+    }
+
+    /**
+     * 마이그레이션까지 적용한 데이터베이스
+     */
+    public static DataSource migratedDataSource(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(createDatabase(name), USERNAME, PASSWORD);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(migrationLocation())
+                .load()
+                .migrate();
+        return dataSource;
+    }
+
+    /**
+     * spring.flyway.locations / Flyway.locations 값
+     */
+    public static synchronized String migrationLocation() {
+        if (migrations == null) {
+            throw new IllegalStateException("createDatabase() 먼저 호출");
+        }
+        return "filesystem:" + migrations;
+    }
+
+    /**
+     * 마이그레이션 복사본 (MariaDB는 FULLTEXT ngram 파서가 없어서 그 부분만 뺌)
+     */
+    private static Path copyMigrations() {
+        try {
+            Path dir = Files.createTempDirectory("mariadb-migrations");
+            for (Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+                String sql = migration.getContentAsString(StandardCharsets.UTF_8);
+                Files.writeString(dir.resolve(migration.getFilename()), sql.replace(" WITH PARSER ngram", ""));
+            }
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.stay.support;
+
+import com.stay.global.querybudget.QueryBudgetFilter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc 결과로 @QueryBudget 확인
+ *
+ * QueryBudgetFilter가 요청 속성에 남긴 SQL 문 수와 예산을 비교한다.
+ * 비동기 응답은 asyncDispatch까지 끝낸 결과를 넘겨야 함 (비동기 디스패치에서 집계가 끝남).
+ */
+public final class QueryBudgetAssertions {
+
+    private QueryBudgetAssertions() {
+    }
+
+    /**
+     * 예산 안에서 실행됐는지 (예산이 없는 엔드포인트면 실패)
+     *
+     * @return 실행한 SQL 문 수
+     */
+    public static int assertWithinBudget(MvcResult result) {
+        MockHttpServletRequest request = result.getRequest();
+        Integer budget = (Integer) request.getAttribute(QueryBudgetFilter.BUDGET_ATTRIBUTE);
+        Integer statements = (Integer) request.getAttribute(QueryBudgetFilter.STATEMENTS_ATTRIBUTE);
+
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        assertThat(statements).as("%s: SQL 문 수가 집계되지 않음 (QueryBudgetFilter 미적용)", endpoint).isNotNull();
+        assertThat(budget).as("%s: @QueryBudget이 없음", endpoint).isNotNull();
+        assertThat(statements)
+                .as("%s: SQL %d문 실행, 예산 %d문", endpoint, statements, budget)
+                .isLessThanOrEqualTo(budget);
+        return statements;
+    }
+}